@@ -1,11 +1,18 @@
 package com.enviro.assessment.grad001.amosmaganyane;
 
+import com.enviro.assessment.grad001.amosmaganyane.services.CsvExportRunner;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 @SpringBootApplication
 public class WasteManagementApplication {
     public static void main(String[] args) {
-        SpringApplication.run(WasteManagementApplication.class, args);
+        SpringApplication application = new SpringApplication(WasteManagementApplication.class);
+        if (CsvExportRunner.isRequested(args)) {
+            // Export from the command line without serving requests
+            application.setWebApplicationType(WebApplicationType.NONE);
+        }
+        application.run(args);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,23 @@
+package com.enviro.assessment.grad001.amosmaganyane.config;
+
+import com.enviro.assessment.grad001.amosmaganyane.search.analysis.Analyzer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class which provides the text analyzer shared by the
+ * search indexes, so indexed text and queries are analyzed alike.
+ */
+@Configuration
+public class AnalysisConfig {
+
+    /**
+     * Creates the English analyzer with the bundled synonym rules.
+     *
+     * @return an Analyzer instance
+     */
+    @Bean
+    public Analyzer analyzer() {
+        return Analyzer.english();
+    }
+}
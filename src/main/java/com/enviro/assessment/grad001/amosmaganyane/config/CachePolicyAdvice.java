@@ -0,0 +1,45 @@
+package com.enviro.assessment.grad001.amosmaganyane.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Applies the cache policy chosen by {@link ConditionalGetInterceptor} once
+ * the handler has answered. Only 2xx responses get it, and a response that
+ * already set its own {@code Cache-Control} keeps that one, so a 404 or a
+ * validation error is never cached under a read's policy.
+ */
+@ControllerAdvice
+public class CachePolicyAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType contentType,
+                                  Class<? extends HttpMessageConverter<?>> converterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && response instanceof ServletServerHttpResponse servletResponse) {
+            Object policy = servletRequest.getServletRequest()
+                    .getAttribute(ConditionalGetInterceptor.POLICY_ATTRIBUTE);
+            int status = servletResponse.getServletResponse().getStatus();
+            if (policy != null && status >= 200 && status < 300
+                    && !response.getHeaders().containsKey(HttpHeaders.CACHE_CONTROL)) {
+                response.getHeaders().setCacheControl(policy.toString());
+            }
+        }
+        return body;
+    }
+}
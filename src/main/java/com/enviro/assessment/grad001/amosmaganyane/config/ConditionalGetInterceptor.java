@@ -0,0 +1,159 @@
+package com.enviro.assessment.grad001.amosmaganyane.config;
+
+import com.enviro.assessment.grad001.amosmaganyane.services.DataVersionService;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Answers conditional reads from the data version alone. Before a GET
+ * reaches its controller, the interceptor works out the entity tag and
+ * modification time the response would carry: the category's for a path
+ * under {@code /categories/{id}}, the global ones for anything else. A
+ * request whose {@code If-None-Match} already holds that tag, or, without
+ * one, whose {@code If-Modified-Since} is no older than that time, gets 304
+ * Not Modified without touching the repositories or the DTO mapping; any
+ * other request proceeds with both validators set on its response.
+ *
+ * <p>The same data is sent in several {@link WireFormat}s, chosen by the
+ * Accept header, so every format other than JSON gets an entity tag of
+ * its own and responses carry {@code Vary: Accept}.
+ *
+ * <p>Every successful read is also given the {@code Cache-Control} policy of
+ * its kind (single entity, list or search), so browsers and proxies can
+ * serve it themselves for {@code max-age} and then keep serving it for
+ * {@code stale-while-revalidate} while they revalidate in the background.
+ * A 304 gets the policy here; any other read carries it to
+ * {@link CachePolicyAdvice} as the {@link #POLICY_ATTRIBUTE} request
+ * attribute, so it is only applied once the handler has answered 2xx.
+ *
+ * <p>The validators are taken before the data is read, so a write landing
+ * in between can only make them older than the body, which costs the client
+ * one extra full response later and never hides a change. HTTP dates only
+ * have whole seconds, so {@code Last-Modified} is left out until the second
+ * after the last change has passed; otherwise a later write in that same
+ * second could not be told apart.
+ */
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    /**
+     * The kinds of read that have their own cache policy.
+     */
+    public enum ReadType {
+        /** A single category, tip or guideline. */
+        ITEM,
+        /** A list or count. */
+        LIST,
+        /** A keyword search. */
+        SEARCH
+    }
+
+    /**
+     * The request attribute holding the {@code Cache-Control} value for a read.
+     */
+    public static final String POLICY_ATTRIBUTE = ConditionalGetInterceptor.class.getName() + ".policy";
+
+    private static final Pattern CATEGORY_PATH =
+            Pattern.compile("^/wastemanagementapi/categories/(\\d+)(/.*)?$");
+    private static final Pattern ITEM_PATH =
+            Pattern.compile("^/wastemanagementapi/(categories|tips|guidelines)/\\d+$");
+
+    private final DataVersionService dataVersions;
+    private final Map<ReadType, CacheControl> policies;
+
+    public ConditionalGetInterceptor(DataVersionService dataVersions,
+                                     Map<ReadType, CacheControl> policies) {
+        this.dataVersions = dataVersions;
+        this.policies = new EnumMap<>(policies);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+        CacheControl policy = policies.get(readType(path(request)));
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        boolean notModified = new ServletWebRequest(request, response).checkNotModified(
+                eTag(request), announcedLastModified(lastModified(request), System.currentTimeMillis()));
+        if (policy != null) {
+            if (notModified) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, policy.getHeaderValue());
+            } else {
+                request.setAttribute(POLICY_ATTRIBUTE, policy.getHeaderValue());
+            }
+        }
+        return !notModified;
+    }
+
+    /**
+     * Returns the entity tag for a read, scoped to the category in its path
+     * if any, in the format the Accept header selects.
+     */
+    String eTag(HttpServletRequest request) {
+        Matcher category = CATEGORY_PATH.matcher(path(request));
+        String eTag = category.matches()
+                ? dataVersions.categoryETag(Long.valueOf(category.group(1)))
+                : dataVersions.globalETag();
+        return formatETag(eTag, WireFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT)));
+    }
+
+    /**
+     * Returns the entity tag of a response in a format; JSON keeps the tag
+     * as it is, other formats add their name inside the quotes.
+     *
+     * @param eTag the entity tag of the data
+     * @param format the format of the response
+     */
+    static String formatETag(String eTag, WireFormat format) {
+        if (format == WireFormat.JSON) {
+            return eTag;
+        }
+        return eTag.substring(0, eTag.length() - 1) + "-" + format.name().toLowerCase(Locale.ROOT) + "\"";
+    }
+
+    /**
+     * Returns the modification time for a read, scoped like its entity tag.
+     */
+    long lastModified(HttpServletRequest request) {
+        Matcher category = CATEGORY_PATH.matcher(path(request));
+        return category.matches()
+                ? dataVersions.categoryLastModified(Long.valueOf(category.group(1)))
+                : dataVersions.globalLastModified();
+    }
+
+    /**
+     * Returns the kind of read a path is.
+     */
+    static ReadType readType(String path) {
+        if (path.endsWith("/search")) {
+            return ReadType.SEARCH;
+        }
+        return ITEM_PATH.matcher(path).matches() ? ReadType.ITEM : ReadType.LIST;
+    }
+
+    /**
+     * Returns the modification time to announce, or -1 for none while the
+     * second after it has not yet passed.
+     *
+     * @param lastModified the modification time in epoch milliseconds
+     * @param now the current time in epoch milliseconds
+     */
+    static long announcedLastModified(long lastModified, long now) {
+        return now / 1000 > lastModified / 1000 + 1 ? lastModified : -1;
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,52 @@
+package com.enviro.assessment.grad001.amosmaganyane.config;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.WasteCategoryDTO;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormat;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatCodec;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Reads and writes single DTOs as {@code application/x-protobuf}, against
+ * the schema generated from the DTO class. Only non-generic classes of the
+ * DTO package are handled, as a generic one has no schema of its own;
+ * anything else, error bodies included, is left to the other converters.
+ * CBOR and Smile need no converter of their own, as Spring MVC registers
+ * its Jackson ones for them.
+ */
+public class JacksonProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private static final String DTO_PACKAGE = WasteCategoryDTO.class.getPackageName();
+
+    private final WireFormatCodec codec;
+
+    public JacksonProtobufHttpMessageConverter(WireFormatCodec codec) {
+        super(MediaType.APPLICATION_PROTOBUF);
+        this.codec = codec;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return DTO_PACKAGE.equals(clazz.getPackageName()) && clazz.getTypeParameters().length == 0;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return codec.read(WireFormat.PROTOBUF, inputMessage.getBody(), clazz);
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException("Could not read protobuf message: " + e.getMessage(),
+                    e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        outputMessage.getBody().write(codec.write(WireFormat.PROTOBUF, body));
+    }
+}
@@ -0,0 +1,31 @@
+package com.enviro.assessment.grad001.amosmaganyane.config;
+
+import com.enviro.assessment.grad001.amosmaganyane.search.SegmentedIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Configuration class which provides the segmented index behind ranked
+ * search, kept on disk between restarts unless no directory is configured.
+ */
+@Configuration
+public class SearchIndexConfig {
+
+    /**
+     * Opens the index in the configured directory, or creates one held only
+     * in memory when the directory is blank.
+     *
+     * @param directory where segment files and their manifest are kept
+     * @return a SegmentedIndex instance
+     * @throws IOException if the directory cannot be created or listed
+     */
+    @Bean
+    public SegmentedIndex segmentedIndex(@Value("${search.segments.directory:}") String directory)
+            throws IOException {
+        return directory.isBlank() ? SegmentedIndex.inMemory() : SegmentedIndex.open(Path.of(directory));
+    }
+}
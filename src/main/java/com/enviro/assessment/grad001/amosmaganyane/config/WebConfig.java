@@ -0,0 +1,79 @@
+package com.enviro.assessment.grad001.amosmaganyane.config;
+
+import com.enviro.assessment.grad001.amosmaganyane.config.ConditionalGetInterceptor.ReadType;
+import com.enviro.assessment.grad001.amosmaganyane.services.DataVersionService;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration class which registers the conditional GET handling and the
+ * HTTP cache policies on the category, tip and guideline endpoints, and the
+ * protobuf encoding of DTOs.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final DataVersionService dataVersions;
+    private final Map<ReadType, CacheControl> policies;
+    private final WireFormatCodec wireFormats;
+
+    public WebConfig(DataVersionService dataVersions,
+                     WireFormatCodec wireFormats,
+                     @Value("${http-cache.item.max-age:60s}") Duration itemMaxAge,
+                     @Value("${http-cache.item.stale-while-revalidate:5m}") Duration itemStale,
+                     @Value("${http-cache.list.max-age:30s}") Duration listMaxAge,
+                     @Value("${http-cache.list.stale-while-revalidate:2m}") Duration listStale,
+                     @Value("${http-cache.search.max-age:10s}") Duration searchMaxAge,
+                     @Value("${http-cache.search.stale-while-revalidate:1m}") Duration searchStale) {
+        this.dataVersions = dataVersions;
+        this.wireFormats = wireFormats;
+        this.policies = Map.of(
+                ReadType.ITEM, policy(itemMaxAge, itemStale),
+                ReadType.LIST, policy(listMaxAge, listStale),
+                ReadType.SEARCH, policy(searchMaxAge, searchStale));
+    }
+
+    /**
+     * Registers the interceptor answering If-None-Match and If-Modified-Since
+     * from the data version and setting Cache-Control.
+     *
+     * @param registry the registry of handler interceptors
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConditionalGetInterceptor(dataVersions, policies))
+                .addPathPatterns("/wastemanagementapi/categories/**",
+                        "/wastemanagementapi/tips/**",
+                        "/wastemanagementapi/guidelines/**");
+    }
+
+    /**
+     * Adds the protobuf converter after the default ones, so that JSON
+     * stays the format sent to clients that accept anything.
+     *
+     * @param converters the configured message converters
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new JacksonProtobufHttpMessageConverter(wireFormats));
+    }
+
+    /**
+     * Builds a public policy; a zero max-age makes caches revalidate every time.
+     */
+    private static CacheControl policy(Duration maxAge, Duration staleWhileRevalidate) {
+        CacheControl policy = maxAge.isZero() ? CacheControl.noCache() : CacheControl.maxAge(maxAge);
+        return staleWhileRevalidate.isZero()
+                ? policy.cachePublic()
+                : policy.cachePublic().staleWhileRevalidate(staleWhileRevalidate);
+    }
+}
@@ -0,0 +1,121 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.BatchGetRequestDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.BatchGetResponseDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.DisposalGuidelineDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.WasteCategoryDTO;
+import com.enviro.assessment.grad001.amosmaganyane.services.BatchGetService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.function.Function;
+
+@RestController
+@RequestMapping("/wastemanagementapi")
+@Tag(name = "Batch Reads", description = "APIs for reading many categories, tips or guidelines by ID at once")
+public class BatchGetController {
+
+    private final BatchGetService batchGetService;
+
+    public BatchGetController(BatchGetService batchGetService) {
+        this.batchGetService = batchGetService;
+    }
+
+    @Operation(summary = "Get waste categories by ID",
+            description = "Returns the categories with the given IDs in the order requested, " +
+                    "and the IDs that were not found")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "No IDs, or more than the batch size cap")
+    })
+    @GetMapping(value = "/categories", params = "ids")
+    public ResponseEntity<BatchGetResponseDTO<WasteCategoryDTO>> getCategories(
+            @Parameter(description = "Comma-separated category IDs")
+            @RequestParam List<Long> ids) {
+        return batchGet(ids, batchGetService::categories);
+    }
+
+    @Operation(summary = "Get waste categories by ID",
+            description = "Same as GET /categories?ids=, for ID lists too long for a URL")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "No IDs, or more than the batch size cap")
+    })
+    @PostMapping("/categories:batchGet")
+    public ResponseEntity<BatchGetResponseDTO<WasteCategoryDTO>> batchGetCategories(
+            @Parameter(description = "Category IDs")
+            @RequestBody BatchGetRequestDTO request) {
+        return batchGet(request.getIds(), batchGetService::categories);
+    }
+
+    @Operation(summary = "Get recycling tips by ID",
+            description = "Returns the tips with the given IDs in the order requested, " +
+                    "and the IDs that were not found")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tips retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "No IDs, or more than the batch size cap")
+    })
+    @GetMapping(value = "/tips", params = "ids")
+    public ResponseEntity<BatchGetResponseDTO<RecyclingTipDTO>> getTips(
+            @Parameter(description = "Comma-separated tip IDs")
+            @RequestParam List<Long> ids) {
+        return batchGet(ids, batchGetService::tips);
+    }
+
+    @Operation(summary = "Get recycling tips by ID",
+            description = "Same as GET /tips?ids=, for ID lists too long for a URL")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tips retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "No IDs, or more than the batch size cap")
+    })
+    @PostMapping("/tips:batchGet")
+    public ResponseEntity<BatchGetResponseDTO<RecyclingTipDTO>> batchGetTips(
+            @Parameter(description = "Tip IDs")
+            @RequestBody BatchGetRequestDTO request) {
+        return batchGet(request.getIds(), batchGetService::tips);
+    }
+
+    @Operation(summary = "Get disposal guidelines by ID",
+            description = "Returns the guidelines with the given IDs in the order requested, " +
+                    "and the IDs that were not found")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Guidelines retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "No IDs, or more than the batch size cap")
+    })
+    @GetMapping(value = "/guidelines", params = "ids")
+    public ResponseEntity<BatchGetResponseDTO<DisposalGuidelineDTO>> getGuidelines(
+            @Parameter(description = "Comma-separated guideline IDs")
+            @RequestParam List<Long> ids) {
+        return batchGet(ids, batchGetService::guidelines);
+    }
+
+    @Operation(summary = "Get disposal guidelines by ID",
+            description = "Same as GET /guidelines?ids=, for ID lists too long for a URL")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Guidelines retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "No IDs, or more than the batch size cap")
+    })
+    @PostMapping("/guidelines:batchGet")
+    public ResponseEntity<BatchGetResponseDTO<DisposalGuidelineDTO>> batchGetGuidelines(
+            @Parameter(description = "Guideline IDs")
+            @RequestBody BatchGetRequestDTO request) {
+        return batchGet(request.getIds(), batchGetService::guidelines);
+    }
+
+    private static <D> ResponseEntity<BatchGetResponseDTO<D>> batchGet(
+            List<Long> ids, Function<List<Long>, BatchGetResponseDTO<D>> lookup) {
+        try {
+            return new ResponseEntity<>(lookup.apply(ids), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.BulkUpsertResponseDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.DisposalGuidelineDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.services.BulkUpsertService;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+@RestController
+@RequestMapping("/wastemanagementapi")
+@Tag(name = "Bulk Writes", description = "APIs for creating or updating many tips or guidelines at once")
+public class BulkUpsertController {
+
+    private final BulkUpsertService bulkUpsertService;
+    private final ObjectMapper objectMapper;
+
+    public BulkUpsertController(BulkUpsertService bulkUpsertService, ObjectMapper objectMapper) {
+        this.bulkUpsertService = bulkUpsertService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Operation(summary = "Create or update recycling tips in bulk",
+            description = "Takes a JSON array or NDJSON of tips across categories, each naming its category " +
+                    "by categoryId or categoryName. A tip with the category and title of an existing one " +
+                    "replaces its content; any other is created. Returns one result per tip, in order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tips written; invalid ones are reported per item"),
+            @ApiResponse(responseCode = "400", description = "Malformed body, no tips, or more than the cap")
+    })
+    @PostMapping(value = "/tips:bulkUpsert",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkUpsertResponseDTO> bulkUpsertTips(InputStream body) {
+        return bulkUpsert(body, RecyclingTipDTO.class, bulkUpsertService::upsertTips);
+    }
+
+    @Operation(summary = "Create or update disposal guidelines in bulk",
+            description = "Takes a JSON array or NDJSON of guidelines across categories, each naming its " +
+                    "category by categoryId or categoryName. A guideline with the category and title of an " +
+                    "existing one replaces its instructions; any other is created. Returns one result per " +
+                    "guideline, in order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Guidelines written; invalid ones are reported per item"),
+            @ApiResponse(responseCode = "400", description = "Malformed body, no guidelines, or more than the cap")
+    })
+    @PostMapping(value = "/guidelines:bulkUpsert",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkUpsertResponseDTO> bulkUpsertGuidelines(InputStream body) {
+        return bulkUpsert(body, DisposalGuidelineDTO.class, bulkUpsertService::upsertGuidelines);
+    }
+
+    /**
+     * Reads the items and upserts them. Jackson reads a sequence of
+     * root-level values and the elements of a root-level array alike, so
+     * one reader serves both formats. Items are read one at a time, and
+     * reading stops at the first item past the cap, so an oversized body
+     * is rejected without being read to its end.
+     */
+    private <D> ResponseEntity<BulkUpsertResponseDTO> bulkUpsert(
+            InputStream body, Class<D> itemType, Function<List<D>, BulkUpsertResponseDTO> upsert) {
+        int maxItems = bulkUpsertService.getMaxItems();
+        List<D> items = new ArrayList<>();
+        try (MappingIterator<D> values = objectMapper.readerFor(itemType).readValues(body)) {
+            while (values.hasNextValue()) {
+                if (items.size() == maxItems) {
+                    return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+                }
+                items.add(values.nextValue());
+            }
+        } catch (IOException | RuntimeJsonMappingException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        try {
+            return new ResponseEntity<>(upsert.apply(items), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -1,13 +1,25 @@
 package com.enviro.assessment.grad001.amosmaganyane.controllers;
 
 import com.enviro.assessment.grad001.amosmaganyane.dto.DisposalGuidelineDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
 import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
+import com.enviro.assessment.grad001.amosmaganyane.services.CatalogReadModel;
 import com.enviro.assessment.grad001.amosmaganyane.services.DisposalGuidelineService;
+import com.enviro.assessment.grad001.amosmaganyane.services.DuplicateDetectionService;
+import com.enviro.assessment.grad001.amosmaganyane.services.SearchResultCache;
+import com.enviro.assessment.grad001.amosmaganyane.services.SerializedResponseCache;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormat;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,15 +34,31 @@ import java.util.stream.Collectors;
 public class DisposalGuidelineController {
 
     private final DisposalGuidelineService guidelineService;
+    private final SearchResultCache searchCache;
+    private final DuplicateDetectionService duplicateDetection;
+    private final SerializedResponseCache responseCache;
+    private final CatalogReadModel readModel;
+    private final WireFormatCodec wireFormats;
 
-    public DisposalGuidelineController(DisposalGuidelineService guidelineService) {
+    public DisposalGuidelineController(DisposalGuidelineService guidelineService,
+                                       SearchResultCache searchCache,
+                                       DuplicateDetectionService duplicateDetection,
+                                       SerializedResponseCache responseCache,
+                                       CatalogReadModel readModel,
+                                       WireFormatCodec wireFormats) {
         this.guidelineService = guidelineService;
+        this.searchCache = searchCache;
+        this.duplicateDetection = duplicateDetection;
+        this.responseCache = responseCache;
+        this.readModel = readModel;
+        this.wireFormats = wireFormats;
     }
 
     @Operation(summary = "Create a new disposal guideline",
             description = "Creates a new disposal guideline for a specific waste category")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "Guideline created successfully"),
+            @ApiResponse(responseCode = "201", description = "Guideline created successfully; " +
+                    "X-Near-Duplicates lists existing guidelines with nearly the same text"),
             @ApiResponse(responseCode = "400", description = "Invalid input data"),
             @ApiResponse(responseCode = "404", description = "Category not found")
     })
@@ -49,6 +77,8 @@ public class DisposalGuidelineController {
             DisposalGuideline created = guidelineService.createGuideline(categoryId, guideline);
             return new ResponseEntity<>(
                     DisposalGuidelineDTO.fromEntity(created),
+                    DuplicateController.nearDuplicateHeaders(
+                            duplicateDetection.findNearDuplicates(EntityType.GUIDELINE, created.getId())),
                     HttpStatus.CREATED
             );
         } catch (IllegalArgumentException e) {
@@ -63,49 +93,59 @@ public class DisposalGuidelineController {
             @ApiResponse(responseCode = "404", description = "Guideline not found")
     })
     @GetMapping("/guidelines/{id}")
-    public ResponseEntity<DisposalGuidelineDTO> getGuidelineById(
+    public ResponseEntity<?> getGuidelineById(
             @Parameter(description = "ID of the guideline to retrieve")
-            @PathVariable Long id) {
-        return guidelineService.getGuidelineById(id)
-                .map(guideline -> new ResponseEntity<>(
-                        DisposalGuidelineDTO.fromEntity(guideline),
-                        HttpStatus.OK
-                ))
-                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+            @PathVariable Long id,
+            @Parameter(description = "Comma-separated properties to include; all by default")
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        FieldSet fieldSet = FieldSets.parse(fields, DisposalGuidelineDTO.class);
+        return readModel.snapshot().guideline(id)
+                .<ResponseEntity<?>>map(guideline -> new ResponseEntity<>(
+                        wireFormats.project(guideline, fieldSet, WireFormat.negotiate(accept)), HttpStatus.OK))
+                .orElse(UncachedResponses.notFound());
     }
 
     @Operation(summary = "Get all disposal guidelines for a category",
             description = "Returns all disposal guidelines associated with a specific category")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Guidelines retrieved successfully"),
+            @ApiResponse(responseCode = "200", description = "Guidelines retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = DisposalGuidelineDTO.class)))),
             @ApiResponse(responseCode = "404", description = "Category not found")
     })
     @GetMapping("/categories/{categoryId}/guidelines")
-    public ResponseEntity<List<DisposalGuidelineDTO>> getGuidelinesByCategory(
+    public ResponseEntity<byte[]> getGuidelinesByCategory(
             @Parameter(description = "ID of the category")
-            @PathVariable Long categoryId) {
+            @PathVariable Long categoryId,
+            @Parameter(description = "Comma-separated properties to include; all by default")
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        FieldSet fieldSet = FieldSets.parse(fields, DisposalGuidelineDTO.class);
         try {
-            List<DisposalGuidelineDTO> guidelineDTOs = guidelineService
-                    .getGuidelinesByCategory(categoryId)
-                    .stream()
-                    .map(DisposalGuidelineDTO::fromEntity)
-                    .collect(Collectors.toList());
-            return new ResponseEntity<>(guidelineDTOs, HttpStatus.OK);
+            return SerializedResponses.ok(responseCache.category(
+                    "categories/" + categoryId + "/guidelines", categoryId, WireFormat.negotiate(accept), fieldSet,
+                    () -> readModel.snapshot().guidelinesInCategory(categoryId)), acceptEncoding);
         } catch (IllegalArgumentException e) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            return UncachedResponses.notFound();
         }
     }
 
     @Operation(summary = "Get all disposal guidelines",
             description = "Returns a list of all disposal guidelines across all categories")
-    @ApiResponse(responseCode = "200", description = "List of guidelines retrieved successfully")
+    @ApiResponse(responseCode = "200", description = "List of guidelines retrieved successfully",
+            content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = DisposalGuidelineDTO.class))))
     @GetMapping("/guidelines")
-    public ResponseEntity<List<DisposalGuidelineDTO>> getAllGuidelines() {
-        List<DisposalGuidelineDTO> guidelineDTOs = guidelineService.getAllGuidelines()
-                .stream()
-                .map(DisposalGuidelineDTO::fromEntity)
-                .collect(Collectors.toList());
-        return new ResponseEntity<>(guidelineDTOs, HttpStatus.OK);
+    public ResponseEntity<byte[]> getAllGuidelines(
+            @Parameter(description = "Comma-separated properties to include; all by default")
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        FieldSet fieldSet = FieldSets.parse(fields, DisposalGuidelineDTO.class);
+        return SerializedResponses.ok(responseCache.global("guidelines", WireFormat.negotiate(accept), fieldSet,
+                () -> readModel.snapshot().guidelines()), acceptEncoding);
     }
 
     @Operation(summary = "Update a disposal guideline",
@@ -163,16 +203,39 @@ public class DisposalGuidelineController {
     }
 
     @Operation(summary = "Search disposal guidelines",
-            description = "Search for disposal guidelines based on a keyword in their titles")
+            description = "Search for disposal guidelines based on a keyword in their titles, " +
+                    "optionally tolerating typos")
     @ApiResponse(responseCode = "200", description = "Search results retrieved successfully")
     @GetMapping("/guidelines/search")
-    public ResponseEntity<List<DisposalGuidelineDTO>> searchGuidelines(
+    public ResponseEntity<List<?>> searchGuidelines(
             @Parameter(description = "Keyword to search for in guideline titles")
-            @RequestParam(required = false) String keyword) {
-        List<DisposalGuidelineDTO> guidelineDTOs = guidelineService.searchGuidelines(keyword)
+            @RequestParam(required = false) String keyword,
+            @Parameter(description = "Whether to match titles within a small edit distance")
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @Parameter(description = "Comma-separated properties to include; all by default")
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        FieldSet fieldSet = FieldSets.parse(fields, DisposalGuidelineDTO.class);
+        List<DisposalGuidelineDTO> guidelineDTOs;
+        if (fieldSet.isAll()) {
+            guidelineDTOs = fuzzy
+                    ? toDTOs(guidelineService.fuzzySearchGuidelines(keyword))
+                    : searchCache.guidelines(keyword,
+                            () -> toDTOs(guidelineService.searchGuidelines(keyword)));
+        } else {
+            guidelineDTOs = fuzzy
+                    ? guidelineService.searchGuidelines(keyword, true, fieldSet)
+                    : searchCache.guidelines(keyword, fieldSet,
+                            () -> guidelineService.searchGuidelines(keyword, false, fieldSet));
+        }
+        return new ResponseEntity<>(
+                (List<?>) wireFormats.project(guidelineDTOs, fieldSet, WireFormat.negotiate(accept)), HttpStatus.OK);
+    }
+
+    private static List<DisposalGuidelineDTO> toDTOs(List<DisposalGuideline> guidelines) {
+        return guidelines
                 .stream()
                 .map(DisposalGuidelineDTO::fromEntity)
                 .collect(Collectors.toList());
-        return new ResponseEntity<>(guidelineDTOs, HttpStatus.OK);
     }
-}
\ No newline at end of file
+}
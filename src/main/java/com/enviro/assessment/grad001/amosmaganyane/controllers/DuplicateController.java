@@ -0,0 +1,74 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.DuplicatePairDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.services.DuplicateDetectionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/wastemanagementapi")
+@Tag(name = "Duplicate Detection", description = "APIs for finding tips and guidelines that repeat each other")
+public class DuplicateController {
+
+    /**
+     * Response header listing the IDs of existing entities that a newly
+     * created tip or guideline nearly repeats.
+     */
+    static final String NEAR_DUPLICATES_HEADER = "X-Near-Duplicates";
+
+    private final DuplicateDetectionService duplicateDetection;
+
+    public DuplicateController(DuplicateDetectionService duplicateDetection) {
+        this.duplicateDetection = duplicateDetection;
+    }
+
+    @Operation(summary = "Scan for near-duplicates",
+            description = "Returns every pair of tips or guidelines whose texts are at least " +
+                    "as similar as the threshold, most similar first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Scan completed successfully"),
+            @ApiResponse(responseCode = "400", description = "Type is not TIP or GUIDELINE, or threshold is out of range")
+    })
+    @GetMapping("/duplicates")
+    public ResponseEntity<List<DuplicatePairDTO>> scanDuplicates(
+            @Parameter(description = "Kind of entity to scan: TIP or GUIDELINE")
+            @RequestParam EntityType type,
+            @Parameter(description = "Smallest estimated Jaccard similarity to report, above 0 and at most 1")
+            @RequestParam(required = false) Double threshold) {
+        try {
+            return new ResponseEntity<>(duplicateDetection.scan(type, threshold), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Builds the headers flagging near-duplicates of a created entity.
+     *
+     * @param duplicates the near-duplicates found for it
+     * @return headers with {@value #NEAR_DUPLICATES_HEADER} set, or none if there are no duplicates
+     */
+    static HttpHeaders nearDuplicateHeaders(List<DuplicatePairDTO> duplicates) {
+        HttpHeaders headers = new HttpHeaders();
+        if (!duplicates.isEmpty()) {
+            headers.add(NEAR_DUPLICATES_HEADER, duplicates.stream()
+                    .map(duplicate -> String.valueOf(duplicate.getSecondId()))
+                    .collect(Collectors.joining(",")));
+        }
+        return headers;
+    }
+}
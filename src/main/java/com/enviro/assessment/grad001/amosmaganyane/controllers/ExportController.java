@@ -0,0 +1,101 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.services.CatalogCsv;
+import com.enviro.assessment.grad001.amosmaganyane.services.CatalogExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/wastemanagementapi")
+@Tag(name = "Export", description = "APIs for streaming whole tables of categories, tips and guidelines")
+public class ExportController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv;charset=UTF-8";
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+
+    private final CatalogExportService exportService;
+
+    public ExportController(CatalogExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @Operation(summary = "Export all recycling tips as NDJSON",
+            description = "Streams every recycling tip, one JSON object per line, by ascending ID")
+    @ApiResponse(responseCode = "200", description = "Tips streamed successfully")
+    @GetMapping(value = "/tips/export.ndjson", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTipsNdjson() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(exportService::writeTipsNdjson);
+    }
+
+    @Operation(summary = "Export all disposal guidelines as NDJSON",
+            description = "Streams every disposal guideline, one JSON object per line, by ascending ID")
+    @ApiResponse(responseCode = "200", description = "Guidelines streamed successfully")
+    @GetMapping(value = "/guidelines/export.ndjson", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportGuidelinesNdjson() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(exportService::writeGuidelinesNdjson);
+    }
+
+    @Operation(summary = "Export all waste categories as CSV",
+            description = "Streams every waste category as categories.csv, in the format the data loader reads")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories streamed successfully"),
+            @ApiResponse(responseCode = "409", description = "Two categories share a name")
+    })
+    @GetMapping(value = "/categories/export.csv", produces = TEXT_CSV_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportCategoriesCsv() {
+        return csvAttachment(CatalogCsv.CATEGORIES_FILE, exportService::writeCategoriesCsv);
+    }
+
+    @Operation(summary = "Export all recycling tips as CSV",
+            description = "Streams every recycling tip as recycling_tips.csv, in the format the data loader reads")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tips streamed successfully"),
+            @ApiResponse(responseCode = "409", description = "Two categories share a name")
+    })
+    @GetMapping(value = "/tips/export.csv", produces = TEXT_CSV_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTipsCsv() {
+        return csvAttachment(CatalogCsv.TIPS_FILE, exportService::writeTipsCsv);
+    }
+
+    @Operation(summary = "Export all disposal guidelines as CSV",
+            description = "Streams every disposal guideline as disposal_guidelines.csv, in the format the data loader reads")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Guidelines streamed successfully"),
+            @ApiResponse(responseCode = "409", description = "Two categories share a name")
+    })
+    @GetMapping(value = "/guidelines/export.csv", produces = TEXT_CSV_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportGuidelinesCsv() {
+        return csvAttachment(CatalogCsv.GUIDELINES_FILE, exportService::writeGuidelinesCsv);
+    }
+
+    /**
+     * Streams a CSV file, once it is known the rows can name their
+     * categories; the check is made first, as a failure once streaming
+     * has begun could no longer change the status.
+     */
+    private ResponseEntity<StreamingResponseBody> csvAttachment(String fileName, StreamingResponseBody body) {
+        try {
+            exportService.requireUniqueCategoryNames();
+        } catch (IllegalStateException e) {
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        }
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+}
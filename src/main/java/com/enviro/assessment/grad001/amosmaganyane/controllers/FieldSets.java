@@ -0,0 +1,30 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Reads the {@code fields} parameter of read endpoints.
+ */
+final class FieldSets {
+
+    private FieldSets() {
+    }
+
+    /**
+     * Parses a {@code fields} parameter against the DTO an endpoint returns.
+     *
+     * @param fields the parameter value, or null
+     * @param dtoType the DTO class
+     * @return the field set
+     * @throws ResponseStatusException with 400 Bad Request if a field is not a property of the DTO
+     */
+    static FieldSet parse(String fields, Class<?> dtoType) {
+        try {
+            return FieldSet.parse(fields, dtoType);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
@@ -1,13 +1,25 @@
 package com.enviro.assessment.grad001.amosmaganyane.controllers;
 
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
 import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
 import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.services.CatalogReadModel;
+import com.enviro.assessment.grad001.amosmaganyane.services.DuplicateDetectionService;
 import com.enviro.assessment.grad001.amosmaganyane.services.RecyclingTipService;
+import com.enviro.assessment.grad001.amosmaganyane.services.SearchResultCache;
+import com.enviro.assessment.grad001.amosmaganyane.services.SerializedResponseCache;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormat;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,16 +34,32 @@ import java.util.stream.Collectors;
 public class RecyclingTipController {
 
     private final RecyclingTipService tipService;
+    private final SearchResultCache searchCache;
+    private final DuplicateDetectionService duplicateDetection;
+    private final SerializedResponseCache responseCache;
+    private final CatalogReadModel readModel;
+    private final WireFormatCodec wireFormats;
 
-    public RecyclingTipController(RecyclingTipService tipService) {
+    public RecyclingTipController(RecyclingTipService tipService,
+                                  SearchResultCache searchCache,
+                                  DuplicateDetectionService duplicateDetection,
+                                  SerializedResponseCache responseCache,
+                                  CatalogReadModel readModel,
+                                  WireFormatCodec wireFormats) {
         this.tipService = tipService;
+        this.searchCache = searchCache;
+        this.duplicateDetection = duplicateDetection;
+        this.responseCache = responseCache;
+        this.readModel = readModel;
+        this.wireFormats = wireFormats;
     }
 
     @PostMapping("/categories/{categoryId}/tips")
     @Operation(summary = "Create a new recycling tip",
             description = "Creates a new recycling tip for a specific waste category")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "Tip created successfully"),
+            @ApiResponse(responseCode = "201", description = "Tip created successfully; " +
+                    "X-Near-Duplicates lists existing tips with nearly the same text"),
             @ApiResponse(responseCode = "400", description = "Invalid input data"),
             @ApiResponse(responseCode = "404", description = "Category not found")
     })
@@ -51,6 +79,8 @@ public class RecyclingTipController {
             RecyclingTip created = tipService.createTip(categoryId, tip);
             return new ResponseEntity<>(
                     RecyclingTipDTO.fromEntity(created),
+                    DuplicateController.nearDuplicateHeaders(
+                            duplicateDetection.findNearDuplicates(EntityType.TIP, created.getId())),
                     HttpStatus.CREATED
             );
         } catch (IllegalArgumentException e) {
@@ -65,48 +95,59 @@ public class RecyclingTipController {
             @ApiResponse(responseCode = "404", description = "Tip not found")
     })
     @GetMapping("/tips/{id}")
-    public ResponseEntity<RecyclingTipDTO> getTipById(
+    public ResponseEntity<?> getTipById(
             @Parameter(description = "ID of the tip to retrieve")
-            @PathVariable Long id) {
-        return tipService.getTipById(id)
-                .map(tip -> new ResponseEntity<>(
-                        RecyclingTipDTO.fromEntity(tip),
-                        HttpStatus.OK
-                ))
-                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+            @PathVariable Long id,
+            @Parameter(description = "Comma-separated properties to include; all by default")
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        FieldSet fieldSet = FieldSets.parse(fields, RecyclingTipDTO.class);
+        return readModel.snapshot().tip(id)
+                .<ResponseEntity<?>>map(tip -> new ResponseEntity<>(
+                        wireFormats.project(tip, fieldSet, WireFormat.negotiate(accept)), HttpStatus.OK))
+                .orElse(UncachedResponses.notFound());
     }
 
     @Operation(summary = "Get all recycling tips for a category",
             description = "Returns all recycling tips associated with a specific category")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Tips retrieved successfully"),
+            @ApiResponse(responseCode = "200", description = "Tips retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = RecyclingTipDTO.class)))),
             @ApiResponse(responseCode = "404", description = "Category not found")
     })
     @GetMapping("/categories/{categoryId}/tips")
-    public ResponseEntity<List<RecyclingTipDTO>> getTipsByCategory(
+    public ResponseEntity<byte[]> getTipsByCategory(
             @Parameter(description = "ID of the category")
-            @PathVariable Long categoryId) {
+            @PathVariable Long categoryId,
+            @Parameter(description = "Comma-separated properties to include; all by default")
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        FieldSet fieldSet = FieldSets.parse(fields, RecyclingTipDTO.class);
         try {
-            List<RecyclingTipDTO> tipDTOs = tipService.getTipsByCategory(categoryId)
-                    .stream()
-                    .map(RecyclingTipDTO::fromEntity)
-                    .collect(Collectors.toList());
-            return new ResponseEntity<>(tipDTOs, HttpStatus.OK);
+            return SerializedResponses.ok(responseCache.category(
+                    "categories/" + categoryId + "/tips", categoryId, WireFormat.negotiate(accept), fieldSet,
+                    () -> readModel.snapshot().tipsInCategory(categoryId)), acceptEncoding);
         } catch (IllegalArgumentException e) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            return UncachedResponses.notFound();
         }
     }
 
     @Operation(summary = "Get all recycling tips",
             description = "Returns a list of all recycling tips across all categories")
-    @ApiResponse(responseCode = "200", description = "List of tips retrieved successfully")
+    @ApiResponse(responseCode = "200", description = "List of tips retrieved successfully",
+            content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = RecyclingTipDTO.class))))
     @GetMapping("/tips")
-    public ResponseEntity<List<RecyclingTipDTO>> getAllTips() {
-        List<RecyclingTipDTO> tipDTOs = tipService.getAllTips()
-                .stream()
-                .map(RecyclingTipDTO::fromEntity)
-                .collect(Collectors.toList());
-        return new ResponseEntity<>(tipDTOs, HttpStatus.OK);
+    public ResponseEntity<byte[]> getAllTips(
+            @Parameter(description = "Comma-separated properties to include; all by default")
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        FieldSet fieldSet = FieldSets.parse(fields, RecyclingTipDTO.class);
+        return SerializedResponses.ok(responseCache.global("tips", WireFormat.negotiate(accept), fieldSet,
+                () -> readModel.snapshot().tips()), acceptEncoding);
     }
 
     @Operation(summary = "Update a recycling tip",
@@ -162,16 +203,39 @@ public class RecyclingTipController {
     }
 
     @Operation(summary = "Search recycling tips",
-            description = "Search for recycling tips based on a keyword in their titles")
+            description = "Search for recycling tips based on a keyword in their titles, " +
+                    "optionally tolerating typos")
     @ApiResponse(responseCode = "200", description = "Search results retrieved successfully")
     @GetMapping("/tips/search")
-    public ResponseEntity<List<RecyclingTipDTO>> searchTips(
+    public ResponseEntity<List<?>> searchTips(
             @Parameter(description = "Keyword to search for in tip titles")
-            @RequestParam(required = false) String keyword) {
-        List<RecyclingTipDTO> tipDTOs = tipService.searchTips(keyword)
+            @RequestParam(required = false) String keyword,
+            @Parameter(description = "Whether to match titles within a small edit distance")
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @Parameter(description = "Comma-separated properties to include; all by default")
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        FieldSet fieldSet = FieldSets.parse(fields, RecyclingTipDTO.class);
+        List<RecyclingTipDTO> tipDTOs;
+        if (fieldSet.isAll()) {
+            tipDTOs = fuzzy
+                    ? toDTOs(tipService.fuzzySearchTips(keyword))
+                    : searchCache.tips(keyword,
+                            () -> toDTOs(tipService.searchTips(keyword)));
+        } else {
+            tipDTOs = fuzzy
+                    ? tipService.searchTips(keyword, true, fieldSet)
+                    : searchCache.tips(keyword, fieldSet,
+                            () -> tipService.searchTips(keyword, false, fieldSet));
+        }
+        return new ResponseEntity<>(
+                (List<?>) wireFormats.project(tipDTOs, fieldSet, WireFormat.negotiate(accept)), HttpStatus.OK);
+    }
+
+    private static List<RecyclingTipDTO> toDTOs(List<RecyclingTip> tips) {
+        return tips
                 .stream()
                 .map(RecyclingTipDTO::fromEntity)
                 .collect(Collectors.toList());
-        return new ResponseEntity<>(tipDTOs, HttpStatus.OK);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.CacheStatsDTO;
+import com.enviro.assessment.grad001.amosmaganyane.services.SerializedResponseCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/wastemanagementapi")
+@Tag(name = "Response Cache", description = "APIs for inspecting the serialized list response cache")
+public class ResponseCacheController {
+
+    private final SerializedResponseCache responseCache;
+
+    public ResponseCacheController(SerializedResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Operation(summary = "Get list response cache statistics",
+            description = "Returns hit ratio, invalidations and coalesced misses of the cache " +
+                    "behind the category, tip and guideline list endpoints")
+    @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully")
+    @GetMapping("/response-cache/stats")
+    public ResponseEntity<CacheStatsDTO> getCacheStats() {
+        return new ResponseEntity<>(responseCache.stats(), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,52 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.CacheStatsDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.SearchResponseDTO;
+import com.enviro.assessment.grad001.amosmaganyane.services.RankedSearchService;
+import com.enviro.assessment.grad001.amosmaganyane.services.SearchResultCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/wastemanagementapi")
+@Tag(name = "Search", description = "APIs for ranked search across categories, tips and guidelines")
+public class SearchController {
+
+    private final RankedSearchService rankedSearchService;
+    private final SearchResultCache searchCache;
+
+    public SearchController(RankedSearchService rankedSearchService,
+                            SearchResultCache searchCache) {
+        this.rankedSearchService = rankedSearchService;
+        this.searchCache = searchCache;
+    }
+
+    @Operation(summary = "Search everything by relevance",
+            description = "Scores categories, tips and guidelines together with BM25 and returns the best matches")
+    @ApiResponse(responseCode = "200", description = "Search completed successfully")
+    @GetMapping("/search")
+    public ResponseEntity<SearchResponseDTO> search(
+            @Parameter(description = "Free-text query")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results (at most 50)")
+            @RequestParam(defaultValue = "10") int limit) {
+        return new ResponseEntity<>(rankedSearchService.search(q, limit), HttpStatus.OK);
+    }
+
+    @Operation(summary = "Get keyword search cache statistics",
+            description = "Returns hit ratio, evictions and invalidations of the cache " +
+                    "behind the category, tip and guideline keyword searches")
+    @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully")
+    @GetMapping("/search/cache-stats")
+    public ResponseEntity<CacheStatsDTO> getCacheStats() {
+        return new ResponseEntity<>(searchCache.stats(), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,109 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.services.ContentCoding;
+import com.enviro.assessment.grad001.amosmaganyane.services.SerializedResponseCache.SerializedResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Sends cached serialized responses. The bytes go to the response output
+ * stream as they are, in the format and precompressed coding the client
+ * prefers.
+ */
+final class SerializedResponses {
+
+    private static final String IDENTITY = "identity";
+    private static final String ANY = "*";
+
+    private SerializedResponses() {
+    }
+
+    /**
+     * Wraps a serialized response in a 200 response. It varies by
+     * Accept-Encoding; {@link ConditionalGetInterceptor} has already added
+     * Accept to the response's Vary header.
+     *
+     * @param response the cached response, serialized in the format negotiated from the Accept header
+     * @param acceptEncoding the request's Accept-Encoding header, or null
+     * @return the body in the coding chosen by {@link #negotiate}, or uncompressed
+     */
+    static ResponseEntity<byte[]> ok(SerializedResponse response, String acceptEncoding) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_TYPE, response.getFormat().mediaType());
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        ContentCoding coding = negotiate(acceptEncoding, response.getEncodings());
+        byte[] body = coding == null ? response.getBody() : response.getEncoded(coding);
+        if (coding != null) {
+            headers.add(HttpHeaders.CONTENT_ENCODING, coding.token());
+        }
+        headers.setContentLength(body.length);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Picks the coding to send. Among the available codings the client
+     * accepts, the one with the highest quality wins, the smaller body
+     * breaking ties; it is used unless the client rates the uncompressed
+     * body higher. Without an Accept-Encoding header the body is sent
+     * uncompressed.
+     *
+     * @param acceptEncoding the request's Accept-Encoding header, or null
+     * @param available the compressed bodies by coding
+     * @return the coding, or null to send the body uncompressed
+     */
+    static ContentCoding negotiate(String acceptEncoding, Map<ContentCoding, byte[]> available) {
+        if (acceptEncoding == null || available.isEmpty()) {
+            return null;
+        }
+        Map<String, Double> qualities = qualities(acceptEncoding);
+        ContentCoding best = null;
+        double bestQuality = 0;
+        for (Map.Entry<ContentCoding, byte[]> variant : available.entrySet()) {
+            double quality = qualities.getOrDefault(variant.getKey().token(),
+                    qualities.getOrDefault(ANY, 0.0));
+            if (quality <= 0) {
+                continue;
+            }
+            if (best == null || quality > bestQuality
+                    || (quality == bestQuality && variant.getValue().length < available.get(best).length)) {
+                best = variant.getKey();
+                bestQuality = quality;
+            }
+        }
+        double identity = qualities.getOrDefault(IDENTITY, qualities.getOrDefault(ANY, 1.0));
+        return best != null && bestQuality >= identity ? best : null;
+    }
+
+    /**
+     * Parses an Accept-Encoding header into lower-case codings and their
+     * quality values; a coding listed without one has quality 1.
+     */
+    private static Map<String, Double> qualities(String acceptEncoding) {
+        Map<String, Double> qualities = new HashMap<>();
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (name.isEmpty()) {
+                continue;
+            }
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            qualities.put(name, quality);
+        }
+        return qualities;
+    }
+}
@@ -0,0 +1,41 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.SuggestionDTO;
+import com.enviro.assessment.grad001.amosmaganyane.services.SuggestionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/wastemanagementapi")
+@Tag(name = "Search Suggestions",
+        description = "APIs for autocompleting category names and tip and guideline titles")
+public class SuggestionController {
+
+    private final SuggestionService suggestionService;
+
+    public SuggestionController(SuggestionService suggestionService) {
+        this.suggestionService = suggestionService;
+    }
+
+    @Operation(summary = "Autocomplete names and titles",
+            description = "Returns categories, tips and guidelines with a word starting with the prefix")
+    @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully")
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDTO>> suggest(
+            @Parameter(description = "Text typed so far")
+            @RequestParam String prefix,
+            @Parameter(description = "Maximum number of suggestions (at most 10)")
+            @RequestParam(defaultValue = "10") int limit) {
+        return new ResponseEntity<>(suggestionService.suggest(prefix, limit), HttpStatus.OK);
+    }
+}
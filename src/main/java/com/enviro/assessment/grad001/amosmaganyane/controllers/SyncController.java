@@ -0,0 +1,73 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.SyncResponseDTO;
+import com.enviro.assessment.grad001.amosmaganyane.services.ChangeStreamService;
+import com.enviro.assessment.grad001.amosmaganyane.services.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/wastemanagementapi")
+@Tag(name = "Sync", description = "APIs for keeping an offline copy of the catalogue up to date")
+public class SyncController {
+
+    private final SyncService syncService;
+    private final ChangeStreamService changeStreamService;
+
+    public SyncController(SyncService syncService, ChangeStreamService changeStreamService) {
+        this.syncService = syncService;
+        this.changeStreamService = changeStreamService;
+    }
+
+    @Operation(summary = "Get catalogue changes since a sync position",
+            description = "Returns the categories, tips and guidelines created or updated since the " +
+                    "position, as they are now, the IDs of those deleted, and the position to sync from " +
+                    "next. Without a usable position the whole catalogue is returned, flagged as full")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Malformed sync position")
+    })
+    @GetMapping("/sync")
+    public ResponseEntity<SyncResponseDTO> sync(
+            @Parameter(description = "Version returned by the previous sync; omit for the whole catalogue")
+            @RequestParam(required = false) String since) {
+        try {
+            return new ResponseEntity<>(syncService.changesSince(since), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Operation(summary = "Stream catalogue changes as they are made",
+            description = "Opens a Server-Sent Events stream with a change event for each write, giving the " +
+                    "entity type, ID, operation and sync version; the version is also the event ID. " +
+                    "Reconnecting with Last-Event-ID first sends the changes missed. A reset event means " +
+                    "the missed changes must be fetched from /sync instead. Clients that fall too far " +
+                    "behind are disconnected and should reconnect")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "400", description = "Malformed Last-Event-ID")
+    })
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(
+            @Parameter(description = "ID of the last event received, to resume after it")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        try {
+            return new ResponseEntity<>(changeStreamService.subscribe(lastEventId), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Builds read responses that caches must not keep. Only successful reads
+ * are given a cache policy; a 404 is marked {@code no-store} instead, so
+ * an entity created afterwards is seen at once.
+ */
+final class UncachedResponses {
+
+    private UncachedResponses() {
+    }
+
+    /**
+     * Returns an empty 404 response that must not be stored.
+     */
+    static <T> ResponseEntity<T> notFound() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl(CacheControl.noStore());
+        return new ResponseEntity<>(headers, HttpStatus.NOT_FOUND);
+    }
+}
@@ -1,14 +1,25 @@
 package com.enviro.assessment.grad001.amosmaganyane.controllers;
 
+import com.enviro.assessment.grad001.amosmaganyane.dto.CategoryDetailDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
 import com.enviro.assessment.grad001.amosmaganyane.dto.WasteCategoryDTO;
 import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.services.CatalogReadModel;
+import com.enviro.assessment.grad001.amosmaganyane.services.SearchResultCache;
+import com.enviro.assessment.grad001.amosmaganyane.services.SerializedResponseCache;
 import com.enviro.assessment.grad001.amosmaganyane.services.WasteCategoryService;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormat;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,9 +33,21 @@ import java.util.stream.Collectors;
 public class WasteCategoryController {
 
     private final WasteCategoryService categoryService;
-
-    public WasteCategoryController(WasteCategoryService categoryService) {
+    private final SearchResultCache searchCache;
+    private final SerializedResponseCache responseCache;
+    private final CatalogReadModel readModel;
+    private final WireFormatCodec wireFormats;
+
+    public WasteCategoryController(WasteCategoryService categoryService,
+                                   SearchResultCache searchCache,
+                                   SerializedResponseCache responseCache,
+                                   CatalogReadModel readModel,
+                                   WireFormatCodec wireFormats) {
         this.categoryService = categoryService;
+        this.searchCache = searchCache;
+        this.responseCache = responseCache;
+        this.readModel = readModel;
+        this.wireFormats = wireFormats;
     }
 
     @Operation(summary = "Create a new waste category",
@@ -60,27 +83,59 @@ public class WasteCategoryController {
             @ApiResponse(responseCode = "404", description = "Category not found")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<WasteCategoryDTO> getCategoryById(
+    public ResponseEntity<?> getCategoryById(
+            @Parameter(description = "ID of the category to retrieve")
+            @PathVariable Long id,
+            @Parameter(description = "Comma-separated properties to include; all by default")
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        FieldSet fieldSet = FieldSets.parse(fields, WasteCategoryDTO.class);
+        return readModel.snapshot().category(id)
+                .<ResponseEntity<?>>map(category -> new ResponseEntity<>(
+                        wireFormats.project(category, fieldSet, WireFormat.negotiate(accept)), HttpStatus.OK))
+                .orElse(UncachedResponses.notFound());
+    }
+
+    @Operation(summary = "Get a waste category with its tips and guidelines",
+            description = "Returns a single waste category with its recycling tips and disposal " +
+                    "guidelines embedded, replacing three separate reads")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Category found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CategoryDetailDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Category not found")
+    })
+    @GetMapping("/{id}/full")
+    public ResponseEntity<byte[]> getCategoryDetail(
             @Parameter(description = "ID of the category to retrieve")
-            @PathVariable Long id) {
-        return categoryService.getCategoryById(id)
-                .map(category -> new ResponseEntity<>(
-                        WasteCategoryDTO.fromEntity(category),
-                        HttpStatus.OK
-                ))
-                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        try {
+            return SerializedResponses.ok(responseCache.category(
+                    "categories/" + id + "/full", id, WireFormat.negotiate(accept),
+                    () -> readModel.snapshot().categoryDetail(id)
+                            .orElseThrow(() -> new IllegalArgumentException("Category not found"))),
+                    acceptEncoding);
+        } catch (IllegalArgumentException e) {
+            return UncachedResponses.notFound();
+        }
     }
 
     @Operation(summary = "Get all waste categories",
             description = "Returns a list of all waste categories")
-    @ApiResponse(responseCode = "200", description = "List of categories retrieved successfully")
+    @ApiResponse(responseCode = "200", description = "List of categories retrieved successfully",
+            content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = WasteCategoryDTO.class))))
     @GetMapping
-    public ResponseEntity<List<WasteCategoryDTO>> getAllCategories() {
-        List<WasteCategoryDTO> categoryDTOS = categoryService.getAllCategories()
-                .stream()
-                .map(WasteCategoryDTO::fromEntity)
-                .toList();
-        return new ResponseEntity<>(categoryDTOS, HttpStatus.OK);
+    public ResponseEntity<byte[]> getAllCategories(
+            @Parameter(description = "Comma-separated properties to include; all by default")
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        FieldSet fieldSet = FieldSets.parse(fields, WasteCategoryDTO.class);
+        return SerializedResponses.ok(responseCache.global("categories", WireFormat.negotiate(accept), fieldSet,
+                () -> readModel.snapshot().categories()), acceptEncoding);
     }
 
     @Operation(summary = "Update a waste category",
@@ -133,18 +188,32 @@ public class WasteCategoryController {
     }
 
     @Operation(summary = "Search waste categories",
-            description = "Search for waste categories based on a keyword")
+            description = "Search for waste categories based on a keyword, optionally tolerating typos")
     @ApiResponse(responseCode = "200", description = "Search results retrieved successfully")
     @GetMapping("/search")
-    public ResponseEntity<List<WasteCategoryDTO>> searchCategories(
+    public ResponseEntity<List<?>> searchCategories(
             @Parameter(description = "Keyword to search for in category names")
-            @RequestParam(required = false) String keyword) {
-
-        List<WasteCategoryDTO> categoryDTOs = categoryService.searchCategories(keyword)
-                .stream()
-                .map(WasteCategoryDTO::fromEntity)
-                .collect(Collectors.toList());
-        return new ResponseEntity<>(categoryDTOs, HttpStatus.OK);
+            @RequestParam(required = false) String keyword,
+            @Parameter(description = "Whether to match names within a small edit distance")
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @Parameter(description = "Comma-separated properties to include; all by default")
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        FieldSet fieldSet = FieldSets.parse(fields, WasteCategoryDTO.class);
+        List<WasteCategoryDTO> categoryDTOs;
+        if (fieldSet.isAll()) {
+            categoryDTOs = fuzzy
+                    ? toDTOs(categoryService.fuzzySearchCategories(keyword))
+                    : searchCache.categories(keyword,
+                            () -> toDTOs(categoryService.searchCategories(keyword)));
+        } else {
+            categoryDTOs = fuzzy
+                    ? categoryService.searchCategories(keyword, true, fieldSet)
+                    : searchCache.categories(keyword, fieldSet,
+                            () -> categoryService.searchCategories(keyword, false, fieldSet));
+        }
+        return new ResponseEntity<>(
+                (List<?>) wireFormats.project(categoryDTOs, fieldSet, WireFormat.negotiate(accept)), HttpStatus.OK);
     }
 
     @Operation(summary = "Get guidelines count for a category",
@@ -156,12 +225,9 @@ public class WasteCategoryController {
     @GetMapping("/{id}/guidelines/count")
     public ResponseEntity<Integer> getGuidelinesCount(
             @Parameter(description = "ID of the category") @PathVariable Long id) {
-        try {
-            int count = categoryService.countGuidelinesInCategory(id);
-            return new ResponseEntity<>(count, HttpStatus.OK);
-        } catch (IllegalArgumentException e) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-        }
+        return readModel.snapshot().category(id)
+                .map(category -> new ResponseEntity<>(category.getGuidelinesCount(), HttpStatus.OK))
+                .orElse(UncachedResponses.notFound());
     }
 
     @Operation(summary = "Get tips count for a category",
@@ -173,12 +239,15 @@ public class WasteCategoryController {
     @GetMapping("/{id}/tips/count")
     public ResponseEntity<Integer> getTipsCount(
             @Parameter(description = "ID of the category") @PathVariable Long id) {
-        try {
-            int count = categoryService.countRecyclingTipsInCategory(id);
-            return new ResponseEntity<>(count, HttpStatus.OK);
-        } catch (IllegalArgumentException e) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-        }
+        return readModel.snapshot().category(id)
+                .map(category -> new ResponseEntity<>(category.getTipsCount(), HttpStatus.OK))
+                .orElse(UncachedResponses.notFound());
     }
 
-}
\ No newline at end of file
+    private static List<WasteCategoryDTO> toDTOs(List<WasteCategory> categories) {
+        return categories
+                .stream()
+                .map(WasteCategoryDTO::fromEntity)
+                .collect(Collectors.toList());
+    }
+}
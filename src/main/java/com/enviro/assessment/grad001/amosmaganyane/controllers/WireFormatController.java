@@ -0,0 +1,62 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.WireFormatStatsDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatBenchmark;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatCodec;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/wastemanagementapi")
+@Tag(name = "Wire Formats", description = "APIs for describing and comparing the binary response formats")
+public class WireFormatController {
+
+    private final WireFormatCodec codec;
+    private final WireFormatBenchmark benchmark;
+
+    public WireFormatController(WireFormatCodec codec, WireFormatBenchmark benchmark) {
+        this.codec = codec;
+        this.benchmark = benchmark;
+    }
+
+    @Operation(summary = "Compare wire formats with JSON",
+            description = "Returns each format's size and throughput relative to JSON, as measured on the " +
+                    "list of categories, tips or guidelines by the comparison run after startup")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Comparison retrieved successfully"),
+            @ApiResponse(responseCode = "503", description = "Comparison has not run yet")
+    })
+    @GetMapping("/wire-formats/comparison")
+    public ResponseEntity<List<WireFormatStatsDTO>> compareWireFormats(
+            @Parameter(description = "Kind of entity the lists were of: CATEGORY, TIP or GUIDELINE")
+            @RequestParam(defaultValue = "TIP") EntityType type) {
+        return benchmark.results(type)
+                .map(stats -> new ResponseEntity<>(stats, HttpStatus.OK))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    @Operation(summary = "Get the protobuf schema of a DTO",
+            description = "Returns the .proto source generated from the DTO class, declaring the " +
+                    "message of a single entity and the message lists are sent as")
+    @ApiResponse(responseCode = "200", description = "Schema generated successfully")
+    @GetMapping(value = "/wire-formats/schemas/{type}.proto", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> getProtoSchema(
+            @Parameter(description = "Kind of entity: CATEGORY, TIP or GUIDELINE")
+            @PathVariable EntityType type) {
+        return new ResponseEntity<>(codec.protoSchema(WireFormatCodec.dtoClass(type)), HttpStatus.OK);
+    }
+}
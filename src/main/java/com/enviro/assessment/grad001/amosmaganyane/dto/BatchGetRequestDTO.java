@@ -0,0 +1,27 @@
+package com.enviro.assessment.grad001.amosmaganyane.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "IDs of the entities to read in one request")
+public class BatchGetRequestDTO {
+
+    @Schema(example = "[3, 1, 2]",
+            description = "IDs to read; results follow this order")
+    private List<Long> ids;
+
+    public BatchGetRequestDTO() {}
+
+    public BatchGetRequestDTO(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
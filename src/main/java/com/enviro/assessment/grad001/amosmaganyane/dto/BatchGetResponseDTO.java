@@ -0,0 +1,39 @@
+package com.enviro.assessment.grad001.amosmaganyane.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Entities read by ID in one request, and the IDs that were not found")
+public class BatchGetResponseDTO<T> {
+
+    @Schema(description = "Entities found, in the order their IDs were requested")
+    private List<T> items;
+
+    @Schema(example = "[42]",
+            description = "Requested IDs with no entity, in the order they were requested")
+    private List<Long> missing;
+
+    public BatchGetResponseDTO() {}
+
+    public BatchGetResponseDTO(List<T> items, List<Long> missing) {
+        this.items = items;
+        this.missing = missing;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public List<Long> getMissing() {
+        return missing;
+    }
+
+    public void setMissing(List<Long> missing) {
+        this.missing = missing;
+    }
+}
@@ -0,0 +1,88 @@
+package com.enviro.assessment.grad001.amosmaganyane.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "What a bulk upsert did with one item of the request")
+public class BulkItemResultDTO {
+
+    /**
+     * Outcomes of a bulk upsert item.
+     */
+    public enum Status {
+        /** No entity had the item's key, so one was created. */
+        CREATED,
+        /** An entity had the item's key and its text was replaced. */
+        UPDATED,
+        /** An entity had the item's key and the same text already. */
+        UNCHANGED,
+        /** The item failed validation and was not written. */
+        INVALID
+    }
+
+    @Schema(example = "0",
+            description = "Position of the item in the request, from zero")
+    private int index;
+
+    @Schema(example = "CREATED",
+            description = "What was done with the item")
+    private Status status;
+
+    @Schema(example = "12",
+            description = "ID of the entity written or matched; absent for invalid items")
+    private Long id;
+
+    @Schema(example = "Category not found",
+            description = "Why the item is invalid; absent otherwise")
+    private String error;
+
+    public BulkItemResultDTO() {}
+
+    public BulkItemResultDTO(int index, Status status, Long id, String error) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.error = error;
+    }
+
+    @Schema(hidden = true)
+    public static BulkItemResultDTO written(int index, Status status, Long id) {
+        return new BulkItemResultDTO(index, status, id, null);
+    }
+
+    @Schema(hidden = true)
+    public static BulkItemResultDTO invalid(int index, String error) {
+        return new BulkItemResultDTO(index, Status.INVALID, null, error);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
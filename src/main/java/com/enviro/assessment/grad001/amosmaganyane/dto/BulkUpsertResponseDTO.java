@@ -0,0 +1,78 @@
+package com.enviro.assessment.grad001.amosmaganyane.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Outcome of a bulk upsert: counts per status and one result per item")
+public class BulkUpsertResponseDTO {
+
+    @Schema(example = "10", description = "Number of entities created")
+    private int created;
+
+    @Schema(example = "3", description = "Number of entities updated")
+    private int updated;
+
+    @Schema(example = "1", description = "Number of items that matched an entity with the same text")
+    private int unchanged;
+
+    @Schema(example = "2", description = "Number of items that failed validation")
+    private int invalid;
+
+    @Schema(description = "One result per item, in request order")
+    private List<BulkItemResultDTO> results;
+
+    public BulkUpsertResponseDTO() {}
+
+    public BulkUpsertResponseDTO(List<BulkItemResultDTO> results) {
+        this.results = results;
+        for (BulkItemResultDTO result : results) {
+            switch (result.getStatus()) {
+                case CREATED -> created++;
+                case UPDATED -> updated++;
+                case UNCHANGED -> unchanged++;
+                case INVALID -> invalid++;
+            }
+        }
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public void setUnchanged(int unchanged) {
+        this.unchanged = unchanged;
+    }
+
+    public int getInvalid() {
+        return invalid;
+    }
+
+    public void setInvalid(int invalid) {
+        this.invalid = invalid;
+    }
+
+    public List<BulkItemResultDTO> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BulkItemResultDTO> results) {
+        this.results = results;
+    }
+}
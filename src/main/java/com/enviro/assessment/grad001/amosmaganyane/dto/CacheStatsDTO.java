@@ -0,0 +1,134 @@
+package com.enviro.assessment.grad001.amosmaganyane.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Data Transfer Object for response and search result cache statistics")
+public class CacheStatsDTO {
+
+    @Schema(example = "940", description = "Lookups answered from the cache")
+    private long hits;
+
+    @Schema(example = "60", description = "Lookups that had to run the search")
+    private long misses;
+
+    @Schema(example = "0.94", description = "Share of lookups answered from the cache, from 0 to 1")
+    private double hitRatio;
+
+    @Schema(example = "12", description = "Entries displaced by more frequently searched keywords")
+    private long evictions;
+
+    @Schema(example = "30", description = "Results not cached because their keyword was searched too rarely")
+    private long rejections;
+
+    @Schema(example = "8", description = "Entries dropped because a write changed their results")
+    private long invalidations;
+
+    @Schema(example = "25", description = "Misses that waited for an identical lookup already running instead of running their own")
+    private long coalesced;
+
+    @Schema(example = "0", description = "Coalesced misses that stopped waiting and ran their own lookup")
+    private long coalesceTimeouts;
+
+    @Schema(example = "48", description = "Entries currently cached")
+    private int size;
+
+    @Schema(example = "256", description = "Maximum number of entries cached at once")
+    private int capacity;
+
+    public CacheStatsDTO() {}
+
+    public CacheStatsDTO(long hits, long misses, long evictions, long rejections,
+                         long invalidations, long coalesced, long coalesceTimeouts,
+                         int size, int capacity) {
+        this.hits = hits;
+        this.misses = misses;
+        this.hitRatio = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+        this.evictions = evictions;
+        this.rejections = rejections;
+        this.invalidations = invalidations;
+        this.coalesced = coalesced;
+        this.coalesceTimeouts = coalesceTimeouts;
+        this.size = size;
+        this.capacity = capacity;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public void setMisses(long misses) {
+        this.misses = misses;
+    }
+
+    public double getHitRatio() {
+        return hitRatio;
+    }
+
+    public void setHitRatio(double hitRatio) {
+        this.hitRatio = hitRatio;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public void setEvictions(long evictions) {
+        this.evictions = evictions;
+    }
+
+    public long getRejections() {
+        return rejections;
+    }
+
+    public void setRejections(long rejections) {
+        this.rejections = rejections;
+    }
+
+    public long getInvalidations() {
+        return invalidations;
+    }
+
+    public void setInvalidations(long invalidations) {
+        this.invalidations = invalidations;
+    }
+
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    public void setCoalesced(long coalesced) {
+        this.coalesced = coalesced;
+    }
+
+    public long getCoalesceTimeouts() {
+        return coalesceTimeouts;
+    }
+
+    public void setCoalesceTimeouts(long coalesceTimeouts) {
+        this.coalesceTimeouts = coalesceTimeouts;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+}
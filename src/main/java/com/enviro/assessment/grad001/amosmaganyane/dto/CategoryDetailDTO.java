@@ -0,0 +1,90 @@
+package com.enviro.assessment.grad001.amosmaganyane.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "A waste category with its recycling tips and disposal guidelines embedded")
+public class CategoryDetailDTO {
+
+    @Schema(example = "1",
+            description = "Unique identifier of the waste category")
+    private Long id;
+
+    @Schema(example = "Recyclable Materials",
+            description = "Name of the waste category")
+    private String name;
+
+    @Schema(example = "Materials that can be processed and reused, including paper, glass, and plastics",
+            description = "Detailed description of the waste category")
+    private String description;
+
+    @Schema(description = "Recycling tips of the category, ordered by ID")
+    private List<RecyclingTipDTO> tips;
+
+    @Schema(description = "Disposal guidelines of the category, ordered by ID")
+    private List<DisposalGuidelineDTO> guidelines;
+
+    public CategoryDetailDTO() {}
+
+    public CategoryDetailDTO(Long id, String name, String description,
+                             List<RecyclingTipDTO> tips, List<DisposalGuidelineDTO> guidelines) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.tips = tips;
+        this.guidelines = guidelines;
+    }
+
+    @Schema(hidden = true)
+    public static CategoryDetailDTO of(WasteCategoryDTO category, List<RecyclingTipDTO> tips,
+                                       List<DisposalGuidelineDTO> guidelines) {
+        return new CategoryDetailDTO(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                tips,
+                guidelines
+        );
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public List<RecyclingTipDTO> getTips() {
+        return tips;
+    }
+
+    public void setTips(List<RecyclingTipDTO> tips) {
+        this.tips = tips;
+    }
+
+    public List<DisposalGuidelineDTO> getGuidelines() {
+        return guidelines;
+    }
+
+    public void setGuidelines(List<DisposalGuidelineDTO> guidelines) {
+        this.guidelines = guidelines;
+    }
+}
@@ -0,0 +1,63 @@
+package com.enviro.assessment.grad001.amosmaganyane.dto;
+
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One write to a category, tip or guideline, as pushed on the change stream")
+public class ChangeEventDTO {
+
+    @Schema(example = "TIP", description = "Kind of entity written")
+    private EntityType entityType;
+
+    @Schema(example = "17", description = "ID of the entity written")
+    private Long id;
+
+    @Schema(example = "UPDATED", description = "Whether the entity was created, updated or deleted")
+    private ChangeOperation operation;
+
+    @Schema(example = "m2k8x1c0-1042",
+            description = "Sync position just after this write; also the event ID to resume the stream from")
+    private String version;
+
+    public ChangeEventDTO() {}
+
+    public ChangeEventDTO(EntityType entityType, Long id, ChangeOperation operation, String version) {
+        this.entityType = entityType;
+        this.id = id;
+        this.operation = operation;
+        this.version = version;
+    }
+
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(EntityType entityType) {
+        this.entityType = entityType;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ChangeOperation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(ChangeOperation operation) {
+        this.operation = operation;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+}
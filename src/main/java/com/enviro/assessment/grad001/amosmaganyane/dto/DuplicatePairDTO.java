@@ -0,0 +1,92 @@
+package com.enviro.assessment.grad001.amosmaganyane.dto;
+
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Data Transfer Object for two tips or two guidelines that say nearly the same thing")
+public class DuplicatePairDTO {
+
+    @Schema(example = "TIP",
+            description = "Kind of entity both sides of the pair are")
+    private EntityType type;
+
+    @Schema(example = "3",
+            description = "ID of the first entity")
+    private Long firstId;
+
+    @Schema(example = "Glass Recycling",
+            description = "Title of the first entity")
+    private String firstTitle;
+
+    @Schema(example = "9",
+            description = "ID of the second entity")
+    private Long secondId;
+
+    @Schema(example = "Glass Disposal",
+            description = "Title of the second entity")
+    private String secondTitle;
+
+    @Schema(example = "0.84",
+            description = "Estimated Jaccard similarity of the two texts, from 0 to 1")
+    private double similarity;
+
+    public DuplicatePairDTO() {}
+
+    public DuplicatePairDTO(EntityType type, Long firstId, String firstTitle,
+                            Long secondId, String secondTitle, double similarity) {
+        this.type = type;
+        this.firstId = firstId;
+        this.firstTitle = firstTitle;
+        this.secondId = secondId;
+        this.secondTitle = secondTitle;
+        this.similarity = similarity;
+    }
+
+    public EntityType getType() {
+        return type;
+    }
+
+    public void setType(EntityType type) {
+        this.type = type;
+    }
+
+    public Long getFirstId() {
+        return firstId;
+    }
+
+    public void setFirstId(Long firstId) {
+        this.firstId = firstId;
+    }
+
+    public String getFirstTitle() {
+        return firstTitle;
+    }
+
+    public void setFirstTitle(String firstTitle) {
+        this.firstTitle = firstTitle;
+    }
+
+    public Long getSecondId() {
+        return secondId;
+    }
+
+    public void setSecondId(Long secondId) {
+        this.secondId = secondId;
+    }
+
+    public String getSecondTitle() {
+        return secondTitle;
+    }
+
+    public void setSecondTitle(String secondTitle) {
+        this.secondTitle = secondTitle;
+    }
+
+    public double getSimilarity() {
+        return similarity;
+    }
+
+    public void setSimilarity(double similarity) {
+        this.similarity = similarity;
+    }
+}
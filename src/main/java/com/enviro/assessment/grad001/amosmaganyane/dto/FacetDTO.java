@@ -0,0 +1,51 @@
+package com.enviro.assessment.grad001.amosmaganyane.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Data Transfer Object for the number of search matches in one category")
+public class FacetDTO {
+
+    @Schema(example = "2",
+            description = "ID of the category")
+    private Long categoryId;
+
+    @Schema(example = "Hazardous Waste",
+            description = "Name of the category")
+    private String categoryName;
+
+    @Schema(example = "4",
+            description = "Number of matches in the category, before the limit")
+    private int count;
+
+    public FacetDTO() {}
+
+    public FacetDTO(Long categoryId, String categoryName, int count) {
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.count = count;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public void setCategoryName(String categoryName) {
+        this.categoryName = categoryName;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,120 @@
+package com.enviro.assessment.grad001.amosmaganyane.dto;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The properties of a DTO a client asked for with {@code ?fields=}, a
+ * comma-separated list of property names. Without the parameter every
+ * property is included. Names are kept in the order the DTO declares them,
+ * so the same properties listed in any order make equal field sets.
+ */
+public final class FieldSet {
+
+    private static final FieldSet ALL = new FieldSet(null);
+
+    private final Set<String> names;
+
+    private FieldSet(Set<String> names) {
+        this.names = names;
+    }
+
+    /**
+     * Returns the field set including every property.
+     */
+    public static FieldSet all() {
+        return ALL;
+    }
+
+    /**
+     * Parses the value of a {@code fields} parameter.
+     *
+     * @param fields the comma-separated property names, or null or blank for all
+     * @param dtoType the DTO class the names refer to
+     * @return the field set
+     * @throws IllegalArgumentException if a name is not a property of the DTO
+     */
+    public static FieldSet parse(String fields, Class<?> dtoType) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        List<String> declared = properties(dtoType);
+        Set<String> requested = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!declared.contains(name)) {
+                throw new IllegalArgumentException("Unknown field: " + name);
+            }
+            requested.add(name);
+        }
+        if (requested.isEmpty()) {
+            return ALL;
+        }
+        Set<String> names = new LinkedHashSet<>(declared);
+        names.retainAll(requested);
+        return new FieldSet(Collections.unmodifiableSet(names));
+    }
+
+    /**
+     * Returns whether every property is included.
+     */
+    public boolean isAll() {
+        return names == null;
+    }
+
+    /**
+     * Returns whether a property is included.
+     *
+     * @param name the property name
+     */
+    public boolean includes(String name) {
+        return names == null || names.contains(name);
+    }
+
+    /**
+     * Returns the included property names in declaration order, or null
+     * when every property is included.
+     */
+    public Set<String> names() {
+        return names;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FieldSet that = (FieldSet) o;
+        return names == null ? that.names == null : names.equals(that.names);
+    }
+
+    @Override
+    public int hashCode() {
+        return names == null ? 0 : names.hashCode();
+    }
+
+    /**
+     * Returns the included names joined by commas, or {@code *} for all.
+     */
+    @Override
+    public String toString() {
+        return names == null ? "*" : String.join(",", names);
+    }
+
+    private static List<String> properties(Class<?> dtoType) {
+        List<String> properties = new ArrayList<>();
+        for (Field field : dtoType.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                properties.add(field.getName());
+            }
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,80 @@
+package com.enviro.assessment.grad001.amosmaganyane.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Data Transfer Object for ranked search results")
+public class SearchResponseDTO {
+
+    @Schema(example = "battery recycling",
+            description = "The query as received")
+    private String query;
+
+    @Schema(example = "12",
+            description = "Number of entities matching at least one query term, before the limit")
+    private int totalMatches;
+
+    @Schema(description = "Best matches across categories, tips and guidelines, most relevant first")
+    private List<SearchResultDTO> results;
+
+    @Schema(description = "Number of matches per category, largest first")
+    private List<FacetDTO> facets;
+
+    @Schema(example = "{\"analyze\": 4, \"score\": 31, \"select\": 6, \"assemble\": 2, \"facets\": 3}",
+            description = "Time spent in each phase of the search, in microseconds")
+    private Map<String, Long> timings;
+
+    public SearchResponseDTO() {}
+
+    public SearchResponseDTO(String query, int totalMatches,
+                             List<SearchResultDTO> results, List<FacetDTO> facets,
+                             Map<String, Long> timings) {
+        this.query = query;
+        this.totalMatches = totalMatches;
+        this.results = results;
+        this.facets = facets;
+        this.timings = timings;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public int getTotalMatches() {
+        return totalMatches;
+    }
+
+    public void setTotalMatches(int totalMatches) {
+        this.totalMatches = totalMatches;
+    }
+
+    public List<SearchResultDTO> getResults() {
+        return results;
+    }
+
+    public void setResults(List<SearchResultDTO> results) {
+        this.results = results;
+    }
+
+    public List<FacetDTO> getFacets() {
+        return facets;
+    }
+
+    public void setFacets(List<FacetDTO> facets) {
+        this.facets = facets;
+    }
+
+    public Map<String, Long> getTimings() {
+        return timings;
+    }
+
+    public void setTimings(Map<String, Long> timings) {
+        this.timings = timings;
+    }
+}
@@ -0,0 +1,78 @@
+package com.enviro.assessment.grad001.amosmaganyane.dto;
+
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Data Transfer Object for a single ranked search hit")
+public class SearchResultDTO {
+
+    @Schema(example = "TIP",
+            description = "Kind of entity the hit refers to")
+    private EntityType type;
+
+    @Schema(example = "1",
+            description = "Unique identifier of the matching entity")
+    private Long id;
+
+    @Schema(example = "Battery Recycling",
+            description = "Category name or tip/guideline title")
+    private String title;
+
+    @Schema(example = "2",
+            description = "ID of the category the entity belongs to; the category's own ID for categories")
+    private Long categoryId;
+
+    @Schema(example = "3.1416",
+            description = "BM25 relevance score; higher is more relevant")
+    private double score;
+
+    public SearchResultDTO() {}
+
+    public SearchResultDTO(EntityType type, Long id, String title, Long categoryId, double score) {
+        this.type = type;
+        this.id = id;
+        this.title = title;
+        this.categoryId = categoryId;
+        this.score = score;
+    }
+
+    public EntityType getType() {
+        return type;
+    }
+
+    public void setType(EntityType type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
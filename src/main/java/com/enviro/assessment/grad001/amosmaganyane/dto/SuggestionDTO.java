@@ -0,0 +1,52 @@
+package com.enviro.assessment.grad001.amosmaganyane.dto;
+
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Data Transfer Object for autocomplete suggestions")
+public class SuggestionDTO {
+
+    @Schema(example = "TIP",
+            description = "Kind of entity the suggestion refers to")
+    private EntityType type;
+
+    @Schema(example = "1",
+            description = "Unique identifier of the suggested entity")
+    private Long id;
+
+    @Schema(example = "Battery Recycling",
+            description = "Category name or tip/guideline title being suggested")
+    private String text;
+
+    public SuggestionDTO() {}
+
+    public SuggestionDTO(EntityType type, Long id, String text) {
+        this.type = type;
+        this.id = id;
+        this.text = text;
+    }
+
+    public EntityType getType() {
+        return type;
+    }
+
+    public void setType(EntityType type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+}
@@ -0,0 +1,128 @@
+package com.enviro.assessment.grad001.amosmaganyane.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Catalogue changes since a sync position, and the position to sync from next")
+public class SyncResponseDTO {
+
+    @Schema(example = "m2k8x1c0-1042",
+            description = "Position to pass as since on the next sync")
+    private String version;
+
+    @Schema(example = "false",
+            description = "True if this is the whole catalogue, which replaces everything held before")
+    private boolean full;
+
+    @Schema(example = "false",
+            description = "True if more changes follow; sync again from version to get them")
+    private boolean hasMore;
+
+    @Schema(description = "Categories created or updated, as they are now")
+    private List<WasteCategoryDTO> categories;
+
+    @Schema(description = "Recycling tips created or updated, as they are now")
+    private List<RecyclingTipDTO> tips;
+
+    @Schema(description = "Disposal guidelines created or updated, as they are now")
+    private List<DisposalGuidelineDTO> guidelines;
+
+    @Schema(example = "[4]", description = "IDs of categories deleted")
+    private List<Long> deletedCategoryIds;
+
+    @Schema(example = "[17, 18]", description = "IDs of recycling tips deleted")
+    private List<Long> deletedTipIds;
+
+    @Schema(example = "[]", description = "IDs of disposal guidelines deleted")
+    private List<Long> deletedGuidelineIds;
+
+    public SyncResponseDTO() {}
+
+    public SyncResponseDTO(String version, boolean full, boolean hasMore,
+                           List<WasteCategoryDTO> categories, List<RecyclingTipDTO> tips,
+                           List<DisposalGuidelineDTO> guidelines, List<Long> deletedCategoryIds,
+                           List<Long> deletedTipIds, List<Long> deletedGuidelineIds) {
+        this.version = version;
+        this.full = full;
+        this.hasMore = hasMore;
+        this.categories = categories;
+        this.tips = tips;
+        this.guidelines = guidelines;
+        this.deletedCategoryIds = deletedCategoryIds;
+        this.deletedTipIds = deletedTipIds;
+        this.deletedGuidelineIds = deletedGuidelineIds;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public void setFull(boolean full) {
+        this.full = full;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public List<WasteCategoryDTO> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(List<WasteCategoryDTO> categories) {
+        this.categories = categories;
+    }
+
+    public List<RecyclingTipDTO> getTips() {
+        return tips;
+    }
+
+    public void setTips(List<RecyclingTipDTO> tips) {
+        this.tips = tips;
+    }
+
+    public List<DisposalGuidelineDTO> getGuidelines() {
+        return guidelines;
+    }
+
+    public void setGuidelines(List<DisposalGuidelineDTO> guidelines) {
+        this.guidelines = guidelines;
+    }
+
+    public List<Long> getDeletedCategoryIds() {
+        return deletedCategoryIds;
+    }
+
+    public void setDeletedCategoryIds(List<Long> deletedCategoryIds) {
+        this.deletedCategoryIds = deletedCategoryIds;
+    }
+
+    public List<Long> getDeletedTipIds() {
+        return deletedTipIds;
+    }
+
+    public void setDeletedTipIds(List<Long> deletedTipIds) {
+        this.deletedTipIds = deletedTipIds;
+    }
+
+    public List<Long> getDeletedGuidelineIds() {
+        return deletedGuidelineIds;
+    }
+
+    public void setDeletedGuidelineIds(List<Long> deletedGuidelineIds) {
+        this.deletedGuidelineIds = deletedGuidelineIds;
+    }
+}
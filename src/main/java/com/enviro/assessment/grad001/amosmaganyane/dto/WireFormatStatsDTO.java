@@ -0,0 +1,110 @@
+package com.enviro.assessment.grad001.amosmaganyane.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Data Transfer Object comparing a wire format with JSON on the same list")
+public class WireFormatStatsDTO {
+
+    @Schema(example = "CBOR", description = "Name of the wire format")
+    private String format;
+
+    @Schema(example = "application/cbor", description = "Media type to request the format with in the Accept header")
+    private String mediaType;
+
+    @Schema(example = "8412", description = "Size of the encoded list in bytes")
+    private int bytes;
+
+    @Schema(example = "0.82", description = "Encoded size as a share of the JSON size")
+    private double relativeSize;
+
+    @Schema(example = "5400.0", description = "Times the list was encoded per second")
+    private double encodesPerSecond;
+
+    @Schema(example = "4100.0", description = "Times the list was decoded per second")
+    private double decodesPerSecond;
+
+    @Schema(example = "1.3", description = "Encode rate divided by the JSON encode rate")
+    private double encodeSpeedup;
+
+    @Schema(example = "1.6", description = "Decode rate divided by the JSON decode rate")
+    private double decodeSpeedup;
+
+    public WireFormatStatsDTO() {}
+
+    public WireFormatStatsDTO(String format, String mediaType, int bytes, double relativeSize,
+                              double encodesPerSecond, double decodesPerSecond,
+                              double encodeSpeedup, double decodeSpeedup) {
+        this.format = format;
+        this.mediaType = mediaType;
+        this.bytes = bytes;
+        this.relativeSize = relativeSize;
+        this.encodesPerSecond = encodesPerSecond;
+        this.decodesPerSecond = decodesPerSecond;
+        this.encodeSpeedup = encodeSpeedup;
+        this.decodeSpeedup = decodeSpeedup;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public void setMediaType(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public int getBytes() {
+        return bytes;
+    }
+
+    public void setBytes(int bytes) {
+        this.bytes = bytes;
+    }
+
+    public double getRelativeSize() {
+        return relativeSize;
+    }
+
+    public void setRelativeSize(double relativeSize) {
+        this.relativeSize = relativeSize;
+    }
+
+    public double getEncodesPerSecond() {
+        return encodesPerSecond;
+    }
+
+    public void setEncodesPerSecond(double encodesPerSecond) {
+        this.encodesPerSecond = encodesPerSecond;
+    }
+
+    public double getDecodesPerSecond() {
+        return decodesPerSecond;
+    }
+
+    public void setDecodesPerSecond(double decodesPerSecond) {
+        this.decodesPerSecond = decodesPerSecond;
+    }
+
+    public double getEncodeSpeedup() {
+        return encodeSpeedup;
+    }
+
+    public void setEncodeSpeedup(double encodeSpeedup) {
+        this.encodeSpeedup = encodeSpeedup;
+    }
+
+    public double getDecodeSpeedup() {
+        return decodeSpeedup;
+    }
+
+    public void setDecodeSpeedup(double decodeSpeedup) {
+        this.decodeSpeedup = decodeSpeedup;
+    }
+}
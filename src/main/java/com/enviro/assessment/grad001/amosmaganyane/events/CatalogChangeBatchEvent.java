@@ -0,0 +1,40 @@
+package com.enviro.assessment.grad001.amosmaganyane.events;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * Event published by the service layer after one or more writes have been
+ * saved, carrying the {@link CatalogChangeEvent} of each. A single write is
+ * published as a batch of one; writes saved together, like a bulk upsert
+ * or a category deleted with its tips and guidelines, are published as one
+ * batch, so that listeners which can take the whole batch at once do.
+ */
+public class CatalogChangeBatchEvent extends ApplicationEvent {
+
+    private final List<CatalogChangeEvent> changes;
+
+    /**
+     * @param source the publishing service
+     * @param changes the change event of every write, in the order written
+     */
+    public CatalogChangeBatchEvent(Object source, List<CatalogChangeEvent> changes) {
+        super(source);
+        this.changes = List.copyOf(changes);
+    }
+
+    /**
+     * Creates the event for a single write.
+     *
+     * @param change the change event of the write
+     * @return a batch holding only that write, from the same source
+     */
+    public static CatalogChangeBatchEvent of(CatalogChangeEvent change) {
+        return new CatalogChangeBatchEvent(change.getSource(), List.of(change));
+    }
+
+    public List<CatalogChangeEvent> getChanges() {
+        return changes;
+    }
+}
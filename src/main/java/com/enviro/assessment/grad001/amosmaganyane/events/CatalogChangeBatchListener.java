@@ -0,0 +1,19 @@
+package com.enviro.assessment.grad001.amosmaganyane.events;
+
+import org.springframework.context.ApplicationListener;
+
+import java.util.List;
+
+/**
+ * A listener of change events that can take a batch of writes in one go,
+ * for less than taking them one by one.
+ */
+public interface CatalogChangeBatchListener extends ApplicationListener<CatalogChangeEvent> {
+
+    /**
+     * Handles every write of a batch.
+     *
+     * @param changes the change events, in the order written
+     */
+    void onBatch(List<CatalogChangeEvent> changes);
+}
@@ -0,0 +1,141 @@
+package com.enviro.assessment.grad001.amosmaganyane.events;
+
+import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.Instant;
+
+/**
+ * Describes a write to a waste category, recycling tip or disposal
+ * guideline. The service layer publishes it inside a
+ * {@link CatalogChangeBatchEvent}, and listeners receive it from
+ * {@link com.enviro.assessment.grad001.amosmaganyane.services.CatalogChangeBatchDispatcher},
+ * which keeps one failing listener from affecting the others.
+ * It carries a copy of the fields that in-memory read structures need, so
+ * listeners can update themselves without going back to the database.
+ * The modification time is the entity's own timestamp, or the time of the
+ * event for deletes and for entities that have never been saved.
+ */
+public class CatalogChangeEvent extends ApplicationEvent {
+
+    private final EntityType entityType;
+    private final ChangeOperation operation;
+    private final Long entityId;
+    private final Long categoryId;
+    private final String title;
+    private final String body;
+    private final Instant modifiedAt;
+
+    public CatalogChangeEvent(Object source, EntityType entityType, ChangeOperation operation,
+                              Long entityId, Long categoryId, String title, String body) {
+        this(source, entityType, operation, entityId, categoryId, title, body, null);
+    }
+
+    public CatalogChangeEvent(Object source, EntityType entityType, ChangeOperation operation,
+                              Long entityId, Long categoryId, String title, String body,
+                              Instant modifiedAt) {
+        super(source);
+        this.entityType = entityType;
+        this.operation = operation;
+        this.entityId = entityId;
+        this.categoryId = categoryId;
+        this.title = title;
+        this.body = body;
+        this.modifiedAt = modifiedAt == null || operation == ChangeOperation.DELETED
+                ? Instant.ofEpochMilli(getTimestamp())
+                : modifiedAt;
+    }
+
+    /**
+     * Creates an event for a category write. The category's name is used as
+     * the title and its description as the body.
+     *
+     * @param source the publishing service
+     * @param operation the write that was applied
+     * @param category the category after the write
+     * @return the event describing the write
+     */
+    public static CatalogChangeEvent of(Object source, ChangeOperation operation,
+                                        WasteCategory category) {
+        return new CatalogChangeEvent(source, EntityType.CATEGORY, operation,
+                category.getId(), category.getId(),
+                category.getName(), category.getDescription(), category.getUpdatedAt());
+    }
+
+    /**
+     * Creates an event for a recycling tip write.
+     *
+     * @param source the publishing service
+     * @param operation the write that was applied
+     * @param tip the tip after the write
+     * @return the event describing the write
+     */
+    public static CatalogChangeEvent of(Object source, ChangeOperation operation,
+                                        RecyclingTip tip) {
+        return new CatalogChangeEvent(source, EntityType.TIP, operation,
+                tip.getId(), categoryIdOf(tip.getCategory()),
+                tip.getTitle(), tip.getContent(), tip.getUpdatedAt());
+    }
+
+    /**
+     * Creates an event for a disposal guideline write.
+     *
+     * @param source the publishing service
+     * @param operation the write that was applied
+     * @param guideline the guideline after the write
+     * @return the event describing the write
+     */
+    public static CatalogChangeEvent of(Object source, ChangeOperation operation,
+                                        DisposalGuideline guideline) {
+        return new CatalogChangeEvent(source, EntityType.GUIDELINE, operation,
+                guideline.getId(), categoryIdOf(guideline.getCategory()),
+                guideline.getTitle(), guideline.getInstructions(), guideline.getUpdatedAt());
+    }
+
+    private static Long categoryIdOf(WasteCategory category) {
+        return category == null ? null : category.getId();
+    }
+
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    public ChangeOperation getOperation() {
+        return operation;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Returns when the entity was last modified, or deleted.
+     */
+    public Instant getModifiedAt() {
+        return modifiedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogChangeEvent{" +
+                "entityType=" + entityType +
+                ", operation=" + operation +
+                ", entityId=" + entityId +
+                ", categoryId=" + categoryId +
+                '}';
+    }
+}
@@ -0,0 +1,10 @@
+package com.enviro.assessment.grad001.amosmaganyane.events;
+
+/**
+ * The write operations that can be applied to a catalog entity.
+ */
+public enum ChangeOperation {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,10 @@
+package com.enviro.assessment.grad001.amosmaganyane.events;
+
+/**
+ * The kinds of catalog entities that take part in change notifications.
+ */
+public enum EntityType {
+    CATEGORY,
+    TIP,
+    GUIDELINE
+}
@@ -0,0 +1,81 @@
+package com.enviro.assessment.grad001.amosmaganyane.models;
+
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import jakarta.persistence.*;
+import java.time.Instant;
+
+// One write to a category, tip or guideline, in the order writes were made
+@Entity
+@Table(name = "change_log")
+public class ChangeLogEntry {
+    // The primary key doubles as the version, so reading the changes after a version is an index range scan
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeOperation operation;
+
+    // The category of a tip or guideline, or the category itself
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    public ChangeLogEntry() {
+    }
+
+    public ChangeLogEntry(Long version, EntityType entityType, Long entityId, ChangeOperation operation,
+                          Long categoryId, Instant changedAt) {
+        this.version = version;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.operation = operation;
+        this.categoryId = categoryId;
+        this.changedAt = changedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public ChangeOperation getOperation() {
+        return operation;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeLogEntry{" +
+                "version=" + version +
+                ", entityType=" + entityType +
+                ", entityId=" + entityId +
+                ", operation=" + operation +
+                '}';
+    }
+}
@@ -1,6 +1,7 @@
 package com.enviro.assessment.grad001.amosmaganyane.models;
 
 import jakarta.persistence.*;
+import java.time.Instant;
 import java.util.Objects;
 
 // Represents a disposal guideline entity with many-to-one relationship to WasteCategory
@@ -24,6 +25,10 @@ public class DisposalGuideline {
     @JoinColumn(name = "category_id", nullable = false)
     private WasteCategory category;
 
+    // Set on every insert and update; drives Last-Modified on reads
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
     public DisposalGuideline(){
     }
 
@@ -62,6 +67,16 @@ public class DisposalGuideline {
         this.category = category;
     }
 
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void markUpdated() {
+        updatedAt = Instant.now();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,6 +1,7 @@
 package com.enviro.assessment.grad001.amosmaganyane.models;
 
 import jakarta.persistence.*;
+import java.time.Instant;
 import java.util.Objects;
 
 // Represents a recycling tip entity with many-to-one relationship to WasteCategory
@@ -23,6 +24,10 @@ public class RecyclingTip {
     @JoinColumn(name = "category_id", nullable = false)
     private WasteCategory category;
 
+    // Set on every insert and update; drives Last-Modified on reads
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
     public RecyclingTip() {
     }
 
@@ -61,6 +66,16 @@ public class RecyclingTip {
         this.category = category;
     }
 
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void markUpdated() {
+        updatedAt = Instant.now();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,6 +1,7 @@
 package com.enviro.assessment.grad001.amosmaganyane.models;
 
 import jakarta.persistence.*;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -27,6 +28,10 @@ public class WasteCategory {
     @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<DisposalGuideline> guidelines;
 
+    // Set on every insert and update; drives Last-Modified on reads
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
     public WasteCategory() {
         this.recyclingTips = new ArrayList<>();
         this.guidelines = new ArrayList<>();
@@ -76,6 +81,16 @@ public class WasteCategory {
         guidelines.add(guideline);
     }
 
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void markUpdated() {
+        updatedAt = Instant.now();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
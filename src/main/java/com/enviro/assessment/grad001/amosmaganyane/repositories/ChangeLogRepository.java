@@ -0,0 +1,63 @@
+package com.enviro.assessment.grad001.amosmaganyane.repositories;
+
+import com.enviro.assessment.grad001.amosmaganyane.models.ChangeLogEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    /**
+     * Lists the changes made after a version, oldest first. The version is
+     * the primary key, so this reads a range of its index.
+     *
+     * @param since the version to read after
+     * @param limit the most entries to return
+     * @return the entries
+     */
+    @Query("SELECT c FROM ChangeLogEntry c WHERE c.version > :since ORDER BY c.version LIMIT :limit")
+    List<ChangeLogEntry> findChangesSince(@Param("since") long since, @Param("limit") int limit);
+
+    /**
+     * Returns the version of the latest change.
+     *
+     * @return the version, or null if nothing has changed
+     */
+    @Query("SELECT MAX(c.version) FROM ChangeLogEntry c")
+    Long findLatestVersion();
+
+    /**
+     * Returns the version of the oldest change still in the log.
+     *
+     * @return the version, or null if the log is empty
+     */
+    @Query("SELECT MIN(c.version) FROM ChangeLogEntry c")
+    Long findOldestVersion();
+
+    /**
+     * Returns the version of the oldest change made at or after a time.
+     *
+     * @param cutoff the earliest change time to look for
+     * @return the version, or null if every change is older
+     */
+    @Query("SELECT MIN(c.version) FROM ChangeLogEntry c WHERE c.changedAt >= :cutoff")
+    Long findOldestVersionChangedSince(@Param("cutoff") Instant cutoff);
+
+    /**
+     * Deletes the changes made before a version.
+     *
+     * @param version the oldest version to keep
+     * @return the number of entries deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ChangeLogEntry c WHERE c.version < :version")
+    int deleteOlderThan(@Param("version") long version);
+}
@@ -1,14 +1,56 @@
 package com.enviro.assessment.grad001.amosmaganyane.repositories;
 
 import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface DisposalGuidelineRepository extends JpaRepository<DisposalGuideline, Long> {
     // Basic CRUD operations inherited from JpaRepository
     List<DisposalGuideline> findByTitleContainingIgnoreCase(String keyword);
 
+    /**
+     * Lists the IDs of every guideline without loading the entities.
+     *
+     * @return all IDs
+     */
+    @Query("SELECT g.id FROM DisposalGuideline g")
+    List<Long> findAllIds();
+
+    /**
+     * Streams every guideline with its category, by ascending ID. Rows are
+     * fetched from the database in batches as the stream is consumed and
+     * loaded read-only, so the persistence context keeps no snapshots of
+     * them. The stream must be consumed inside a transaction and closed.
+     *
+     * @return the guidelines
+     */
+    @Query("SELECT g FROM DisposalGuideline g JOIN FETCH g.category ORDER BY g.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<DisposalGuideline> streamAllWithCategory();
+
+    /**
+     * Finds the guidelines in any of the given categories whose title is any of
+     * the given titles, by ascending ID, in a single query.
+     *
+     * @param categoryIds the category IDs
+     * @param titles the exact titles
+     * @return the matching guidelines
+     */
+    @Query("SELECT g FROM DisposalGuideline g WHERE g.category.id IN :categoryIds " +
+            "AND g.title IN :titles ORDER BY g.id")
+    List<DisposalGuideline> findByCategoryIdsAndTitles(@Param("categoryIds") Collection<Long> categoryIds,
+                                                 @Param("titles") Collection<String> titles);
 }
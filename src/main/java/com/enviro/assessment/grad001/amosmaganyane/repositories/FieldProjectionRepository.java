@@ -0,0 +1,161 @@
+package com.enviro.assessment.grad001.amosmaganyane.repositories;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.DisposalGuidelineDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.WasteCategoryDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Loads categories, tips and guidelines straight into DTOs, selecting only
+ * the columns behind the requested fields. Unrequested text columns are
+ * never read, the category of a tip or guideline is only joined for its
+ * name, and a category's tip and guideline counts are counted in the query
+ * rather than by loading both collections. Fields left out stay null, or
+ * zero for counts.
+ *
+ * <p>The ID, and a tip's or guideline's category ID, are always loaded, as
+ * they come from the row itself and callers need them to track results.
+ */
+@Repository
+public class FieldProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    public FieldProjectionRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Loads the given fields of categories.
+     *
+     * @param ids the category IDs, or null for every category
+     * @param fields the fields to load
+     * @return the categories found, by ascending ID
+     */
+    public List<WasteCategoryDTO> findCategories(Collection<Long> ids, FieldSet fields) {
+        List<String> columns = new ArrayList<>(List.of("w.id"));
+        addIf(fields, "name", "w.name", columns);
+        addIf(fields, "description", "w.description", columns);
+        addIf(fields, "guidelinesCount",
+                "(SELECT COUNT(g) FROM DisposalGuideline g WHERE g.category = w)", columns);
+        addIf(fields, "tipsCount",
+                "(SELECT COUNT(t) FROM RecyclingTip t WHERE t.category = w)", columns);
+
+        List<WasteCategoryDTO> categories = new ArrayList<>();
+        for (Object[] row : rows(columns, "WasteCategory w", "w", ids)) {
+            WasteCategoryDTO category = new WasteCategoryDTO();
+            int column = 0;
+            category.setId((Long) row[column++]);
+            if (fields.includes("name")) {
+                category.setName((String) row[column++]);
+            }
+            if (fields.includes("description")) {
+                category.setDescription((String) row[column++]);
+            }
+            if (fields.includes("guidelinesCount")) {
+                category.setGuidelinesCount(((Number) row[column++]).intValue());
+            }
+            if (fields.includes("tipsCount")) {
+                category.setTipsCount(((Number) row[column]).intValue());
+            }
+            categories.add(category);
+        }
+        return categories;
+    }
+
+    /**
+     * Loads the given fields of tips.
+     *
+     * @param ids the tip IDs, or null for every tip
+     * @param fields the fields to load
+     * @return the tips found, by ascending ID
+     */
+    public List<RecyclingTipDTO> findTips(Collection<Long> ids, FieldSet fields) {
+        List<String> columns = new ArrayList<>(List.of("t.id", "t.category.id"));
+        addIf(fields, "title", "t.title", columns);
+        addIf(fields, "content", "t.content", columns);
+        addIf(fields, "categoryName", "c.name", columns);
+        String from = fields.includes("categoryName") ? "RecyclingTip t JOIN t.category c" : "RecyclingTip t";
+
+        List<RecyclingTipDTO> tips = new ArrayList<>();
+        for (Object[] row : rows(columns, from, "t", ids)) {
+            RecyclingTipDTO tip = new RecyclingTipDTO();
+            int column = 0;
+            tip.setId((Long) row[column++]);
+            tip.setCategoryId((Long) row[column++]);
+            if (fields.includes("title")) {
+                tip.setTitle((String) row[column++]);
+            }
+            if (fields.includes("content")) {
+                tip.setContent((String) row[column++]);
+            }
+            if (fields.includes("categoryName")) {
+                tip.setCategoryName((String) row[column]);
+            }
+            tips.add(tip);
+        }
+        return tips;
+    }
+
+    /**
+     * Loads the given fields of guidelines.
+     *
+     * @param ids the guideline IDs, or null for every guideline
+     * @param fields the fields to load
+     * @return the guidelines found, by ascending ID
+     */
+    public List<DisposalGuidelineDTO> findGuidelines(Collection<Long> ids, FieldSet fields) {
+        List<String> columns = new ArrayList<>(List.of("g.id", "g.category.id"));
+        addIf(fields, "title", "g.title", columns);
+        addIf(fields, "instructions", "g.instructions", columns);
+        addIf(fields, "categoryName", "c.name", columns);
+        String from = fields.includes("categoryName")
+                ? "DisposalGuideline g JOIN g.category c" : "DisposalGuideline g";
+
+        List<DisposalGuidelineDTO> guidelines = new ArrayList<>();
+        for (Object[] row : rows(columns, from, "g", ids)) {
+            DisposalGuidelineDTO guideline = new DisposalGuidelineDTO();
+            int column = 0;
+            guideline.setId((Long) row[column++]);
+            guideline.setCategoryId((Long) row[column++]);
+            if (fields.includes("title")) {
+                guideline.setTitle((String) row[column++]);
+            }
+            if (fields.includes("instructions")) {
+                guideline.setInstructions((String) row[column++]);
+            }
+            if (fields.includes("categoryName")) {
+                guideline.setCategoryName((String) row[column]);
+            }
+            guidelines.add(guideline);
+        }
+        return guidelines;
+    }
+
+    private List<Object[]> rows(List<String> columns, String from, String alias, Collection<Long> ids) {
+        if (ids != null && ids.isEmpty()) {
+            return List.of();
+        }
+        String jpql = "SELECT " + String.join(", ", columns) + " FROM " + from
+                + (ids == null ? "" : " WHERE " + alias + ".id IN :ids")
+                + " ORDER BY " + alias + ".id";
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql, Object[].class);
+        if (ids != null) {
+            query.setParameter("ids", ids);
+        }
+        return query.getResultList();
+    }
+
+    private static void addIf(FieldSet fields, String field, String column, List<String> columns) {
+        if (fields.includes(field)) {
+            columns.add(column);
+        }
+    }
+}
@@ -1,14 +1,56 @@
 package com.enviro.assessment.grad001.amosmaganyane.repositories;
 
 import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface RecyclingTipRepository extends JpaRepository<RecyclingTip, Long> {
     // Basic CRUD operations inherited from JpaRepository
     List<RecyclingTip> findByTitleContainingIgnoreCase(String keyword);
 
+    /**
+     * Lists the IDs of every tip without loading the entities.
+     *
+     * @return all IDs
+     */
+    @Query("SELECT t.id FROM RecyclingTip t")
+    List<Long> findAllIds();
+
+    /**
+     * Streams every tip with its category, by ascending ID. Rows are
+     * fetched from the database in batches as the stream is consumed and
+     * loaded read-only, so the persistence context keeps no snapshots of
+     * them. The stream must be consumed inside a transaction and closed.
+     *
+     * @return the tips
+     */
+    @Query("SELECT t FROM RecyclingTip t JOIN FETCH t.category ORDER BY t.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<RecyclingTip> streamAllWithCategory();
+
+    /**
+     * Finds the tips in any of the given categories whose title is any of
+     * the given titles, by ascending ID, in a single query.
+     *
+     * @param categoryIds the category IDs
+     * @param titles the exact titles
+     * @return the matching tips
+     */
+    @Query("SELECT t FROM RecyclingTip t WHERE t.category.id IN :categoryIds " +
+            "AND t.title IN :titles ORDER BY t.id")
+    List<RecyclingTip> findByCategoryIdsAndTitles(@Param("categoryIds") Collection<Long> categoryIds,
+                                            @Param("titles") Collection<String> titles);
 }
@@ -1,12 +1,17 @@
 package com.enviro.assessment.grad001.amosmaganyane.repositories;
 
 import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface WasteCategoryRepository extends JpaRepository<WasteCategory, Long> {
@@ -30,7 +35,46 @@ public interface WasteCategoryRepository extends JpaRepository<WasteCategory, Lo
      */
     List<WasteCategory> findByNameContainingIgnoreCase(String keyword);
 
+    /**
+     * Finds the categories with any of the given names, matched exactly.
+     *
+     * @param names the names to look for
+     * @return the matching categories
+     */
+    List<WasteCategory> findByNameIn(Collection<String> names);
+
     @Query("SELECT w FROM WasteCategory w LEFT JOIN w.guidelines g " +
             "GROUP BY w ORDER BY COUNT(g) DESC LIMIT :limit")
     List<WasteCategory> findTopCategoriesByGuidelineCount(@Param("limit") int limit);
+
+    /**
+     * Lists the names held by more than one category.
+     *
+     * @return the shared names, each once
+     */
+    @Query("SELECT w.name FROM WasteCategory w GROUP BY w.name HAVING COUNT(w) > 1 ORDER BY w.name")
+    List<String> findDuplicateNames();
+
+    /**
+     * Lists the IDs of every category without loading the entities.
+     *
+     * @return all IDs
+     */
+    @Query("SELECT w.id FROM WasteCategory w")
+    List<Long> findAllIds();
+
+    /**
+     * Streams every category, by ascending ID. Rows are fetched from the
+     * database in batches as the stream is consumed and loaded read-only,
+     * so the persistence context keeps no snapshots of them. The stream
+     * must be consumed inside a transaction and closed.
+     *
+     * @return the categories
+     */
+    @Query("SELECT w FROM WasteCategory w ORDER BY w.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<WasteCategory> streamAll();
 }
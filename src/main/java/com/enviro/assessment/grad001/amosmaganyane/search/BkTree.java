@@ -0,0 +1,133 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Burkhard-Keller tree over a set of terms using Levenshtein distance.
+ * Each child edge is labelled with the distance between the child and its
+ * parent, so by the triangle inequality a search within distance {@code k}
+ * of a node at distance {@code d} only needs the edges in {@code [d - k, d + k]}.
+ * Not thread-safe; callers guard concurrent access.
+ */
+public class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds a term to the tree.
+     *
+     * @param term the term to add
+     * @return true if the term was new, false if it was already present
+     */
+    public boolean add(String term) {
+        if (root == null) {
+            root = new Node(term);
+            size++;
+            return true;
+        }
+        int[] previous = new int[term.length() + 1];
+        int[] current = new int[term.length() + 1];
+        Node node = root;
+        while (true) {
+            int distance = distance(node.term, term, previous, current);
+            if (distance == 0) {
+                return false;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(term));
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Finds every term within the given edit distance of the query.
+     *
+     * @param query the term to look for
+     * @param maxDistance the largest edit distance accepted
+     * @return the matching terms, in no particular order
+     */
+    public List<String> search(String query, int maxDistance) {
+        List<String> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        int[] previous = new int[query.length() + 1];
+        int[] current = new int[query.length() + 1];
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(node.term, query, previous, current);
+            if (distance <= maxDistance) {
+                matches.add(node.term);
+            }
+            for (Map.Entry<Integer, Node> edge : node.children.entrySet()) {
+                if (Math.abs(edge.getKey() - distance) <= maxDistance) {
+                    pending.push(edge.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of terms in the tree.
+     *
+     * @return the term count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Computes the Levenshtein distance between two strings.
+     *
+     * @param a the first string
+     * @param b the second string
+     * @return the number of single-character edits turning one into the other
+     */
+    public static int distance(String a, String b) {
+        return distance(a, b, new int[b.length() + 1], new int[b.length() + 1]);
+    }
+
+    /**
+     * Two-row Levenshtein computation reusing caller-supplied rows sized
+     * {@code b.length() + 1}, so a search allocates them once per query.
+     */
+    private static int distance(String a, String b, int[] previous, int[] current) {
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (ca == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static final class Node {
+        private final String term;
+        private final Map<Integer, Node> children = new HashMap<>(4);
+
+        private Node(String term) {
+            this.term = term;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Answers whether a key may have been added, in a fixed number of bits
+ * regardless of the keys' size. "No" is always right; "maybe" is wrong
+ * with a small probability that is chosen up front and holds while no
+ * more keys than expected are added. Keys cannot be removed.
+ *
+ * <p>Each key sets {@code k} of {@code m} bits, picked by double hashing a
+ * well-mixed 64-bit hash. Adds and lookups are lock-free and may run
+ * concurrently; a lookup that races an add of the same key may miss it.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+    private final int expectedKeys;
+    private final AtomicInteger added = new AtomicInteger();
+
+    /**
+     * Creates an empty filter sized for the given load.
+     *
+     * @param expectedKeys the number of keys the filter is sized for
+     * @param falsePositiveRate the chance that a key never added is reported as present, once full
+     */
+    public BloomFilter(int expectedKeys, double falsePositiveRate) {
+        if (expectedKeys <= 0) {
+            throw new IllegalArgumentException("Expected keys must be positive");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.bits = Math.max(64, (optimalBits + 63) / 64 * 64);
+        this.hashes = Math.max(1, (int) Math.round((double) bits / expectedKeys * ln2));
+        this.words = new AtomicLongArray((int) (bits / 64));
+        this.expectedKeys = expectedKeys;
+    }
+
+    /**
+     * Adds a key.
+     *
+     * @param key the key
+     */
+    public void add(long key) {
+        long hash = mix(key);
+        long first = hash;
+        long second = (hash >>> 32) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = ((first + i * second) & Long.MAX_VALUE) % bits;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+        added.incrementAndGet();
+    }
+
+    /**
+     * Checks whether a key may have been added.
+     *
+     * @param key the key
+     * @return false if the key was certainly never added
+     */
+    public boolean mightContain(long key) {
+        long hash = mix(key);
+        long first = hash;
+        long second = (hash >>> 32) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = ((first + i * second) & Long.MAX_VALUE) % bits;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of adds, counting repeated keys each time.
+     */
+    public int added() {
+        return added.get();
+    }
+
+    /**
+     * Returns whether more keys have been added than the filter was sized
+     * for, so that the false positive rate is higher than asked for.
+     */
+    public boolean isSaturated() {
+        return added.get() > expectedKeys;
+    }
+
+    /**
+     * Returns the number of bits in the filter.
+     */
+    public long bitSize() {
+        return bits;
+    }
+
+    /**
+     * Returns the number of bits set per key.
+     */
+    public int hashCount() {
+        return hashes;
+    }
+
+    /**
+     * Spreads sequential IDs across the whole hash range (the SplitMix64 finalizer).
+     */
+    private static long mix(long key) {
+        long z = key + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,63 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Parameters and helpers of Okapi BM25 ranking, shared by the indexes that
+ * score with it.
+ */
+public final class Bm25 {
+
+    /** How quickly repeated terms stop adding to the score. */
+    public static final double DEFAULT_K1 = 1.2;
+
+    /** How strongly scores are normalized by document length, from 0 to 1. */
+    public static final double DEFAULT_B = 0.75;
+
+    private Bm25() {
+    }
+
+    /**
+     * Picks the {@code k} highest scores with a min-heap bounded at {@code k}
+     * entries, so selecting from {@code n} matches costs {@code O(n log k)}
+     * rather than sorting all of them.
+     *
+     * @param scores the scores to select from
+     * @param k the number of entries to keep
+     * @param <K> the type of document key; its natural order breaks score ties
+     * @return up to {@code k} entries, best score first, ties by ascending key
+     */
+    public static <K extends Comparable<K>> List<Map.Entry<K, Double>> topK(
+            Map<K, Double> scores, int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+        Comparator<Map.Entry<K, Double>> ranking = Map.Entry.<K, Double>comparingByValue()
+                .reversed()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<K, Double>> heap = new PriorityQueue<>(k + 1, ranking.reversed());
+        for (Map.Entry<K, Double> entry : scores.entrySet()) {
+            if (heap.size() < k) {
+                heap.offer(entry);
+            } else if (ranking.compare(entry, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(entry);
+            }
+        }
+        List<Map.Entry<K, Double>> best = new ArrayList<>(heap);
+        best.sort(ranking);
+        return best;
+    }
+
+    /**
+     * Inverse document frequency in the form used by Lucene, which stays
+     * positive even for terms found in most documents.
+     */
+    static double idf(int documentCount, int documentFrequency) {
+        return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+}
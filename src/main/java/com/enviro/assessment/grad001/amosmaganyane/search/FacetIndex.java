@@ -0,0 +1,115 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Groups documents by category so that the matches in every category can be
+ * counted in one pass over a result set. Each document gets a dense ordinal,
+ * each category keeps the ordinals of its documents in a
+ * {@link RoaringBitmap}, and a count intersects the bitmap of the matches
+ * with each category's bitmap. Ordinals of removed documents are reused, so
+ * the bitmaps stay dense however often documents come and go.
+ *
+ * @param <K> the type of document key
+ */
+public class FacetIndex<K> {
+
+    private final Map<K, Integer> ordinals = new HashMap<>();
+    private final Map<K, Long> categories = new HashMap<>();
+    private final Map<Long, RoaringBitmap> members = new HashMap<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int nextOrdinal;
+
+    /**
+     * Files a document under a category, moving it out of any previous one.
+     *
+     * @param key the document key
+     * @param categoryId the document's category; null leaves it out of every facet
+     */
+    public void put(K key, Long categoryId) {
+        lock.writeLock().lock();
+        try {
+            if (ordinals.containsKey(key) && Objects.equals(categories.get(key), categoryId)) {
+                return;
+            }
+            unlink(key);
+            if (categoryId == null) {
+                return;
+            }
+            int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+            ordinals.put(key, ordinal);
+            categories.put(key, categoryId);
+            members.computeIfAbsent(categoryId, id -> new RoaringBitmap()).add(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a document from its category. Unknown keys are ignored.
+     *
+     * @param key the document key
+     */
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            unlink(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the matching documents in each category.
+     *
+     * @param matches the keys of the matching documents
+     * @return the number of matches per category, leaving out categories without any
+     */
+    public Map<Long, Integer> count(Collection<K> matches) {
+        Map<Long, Integer> counts = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = new RoaringBitmap();
+            for (K key : matches) {
+                Integer ordinal = ordinals.get(key);
+                if (ordinal != null) {
+                    matched.add(ordinal);
+                }
+            }
+            if (matched.isEmpty()) {
+                return counts;
+            }
+            members.forEach((categoryId, bitmap) -> {
+                int count = bitmap.andCardinality(matched);
+                if (count > 0) {
+                    counts.put(categoryId, count);
+                }
+            });
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unlink(K key) {
+        Integer ordinal = ordinals.remove(key);
+        if (ordinal == null) {
+            return;
+        }
+        Long categoryId = categories.remove(key);
+        RoaringBitmap bitmap = members.get(categoryId);
+        bitmap.remove(ordinal);
+        if (bitmap.isEmpty()) {
+            members.remove(categoryId);
+        }
+        freeOrdinals.push(ordinal);
+    }
+}
@@ -0,0 +1,192 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+/**
+ * Bounded cache that admits new entries by access frequency. Every lookup,
+ * hit or miss, is counted in a small count-min sketch. When the cache is
+ * full, a new key only displaces the least recently used entry if it has
+ * been asked for more often, so a burst of one-off keys cannot flush the
+ * popular ones. The counters are halved periodically so that frequencies
+ * follow changes in traffic.
+ *
+ * @param <K> the type of key
+ * @param <V> the type of cached value
+ */
+public class FrequencyCache<K, V> {
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    private final int capacity;
+    private final LinkedHashMap<K, V> entries;
+    private final int[][] sketch;
+    private final int sketchMask;
+    private final int sampleSize;
+    private int samples;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long rejections;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param capacity the maximum number of entries held at once
+     */
+    public FrequencyCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        int width = Integer.highestOneBit(Math.max(16, capacity * 4) - 1) << 1;
+        this.sketch = new int[SKETCH_DEPTH][width];
+        this.sketchMask = width - 1;
+        this.sampleSize = capacity * 10;
+    }
+
+    /**
+     * Looks up a key and counts the access towards its frequency.
+     *
+     * @param key the key to look up
+     * @return the cached value, or null if absent
+     */
+    public synchronized V get(K key) {
+        record(key);
+        V value = entries.get(key);
+        if (value == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return value;
+    }
+
+    /**
+     * Stores a value if there is room or if the key is used more often than
+     * the entry it would evict.
+     *
+     * @param key the key to store the value under
+     * @param value the value to store
+     * @return true if the value was stored
+     */
+    public synchronized boolean put(K key, V value) {
+        if (entries.containsKey(key) || entries.size() < capacity) {
+            entries.put(key, value);
+            return true;
+        }
+        Iterator<Map.Entry<K, V>> eldest = entries.entrySet().iterator();
+        K victim = eldest.next().getKey();
+        if (frequency(key) <= frequency(victim)) {
+            rejections++;
+            return false;
+        }
+        eldest.remove();
+        evictions++;
+        entries.put(key, value);
+        return true;
+    }
+
+    /**
+     * Removes every entry matching the condition.
+     *
+     * @param condition tested against each key and value
+     * @return the number of entries removed
+     */
+    public synchronized int invalidateIf(BiPredicate<? super K, ? super V> condition) {
+        int removed = 0;
+        Iterator<Map.Entry<K, V>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, V> entry = iterator.next();
+            if (condition.test(entry.getKey(), entry.getValue())) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the number of cached entries.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the maximum number of entries held at once.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of lookups that found a value.
+     */
+    public synchronized long hits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that found nothing.
+     */
+    public synchronized long misses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries displaced by more frequently used keys.
+     */
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the number of values not stored because their key was used too rarely.
+     */
+    public synchronized long rejections() {
+        return rejections;
+    }
+
+    /**
+     * Estimates how often a key has been looked up recently.
+     * Count-min sketches only overestimate, never underestimate.
+     */
+    synchronized int frequency(K key) {
+        int hash = spread(key);
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            estimate = Math.min(estimate, sketch[row][index(hash, row)]);
+        }
+        return estimate;
+    }
+
+    private void record(K key) {
+        int hash = spread(key);
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            sketch[row][index(hash, row)]++;
+        }
+        if (++samples >= sampleSize) {
+            for (int[] counters : sketch) {
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] >>>= 1;
+                }
+            }
+            samples /= 2;
+        }
+    }
+
+    private int index(int hash, int row) {
+        int mixed = (hash ^ SEEDS[row]) * SEEDS[(row + 1) % SKETCH_DEPTH];
+        return (mixed ^ (mixed >>> 16)) & sketchMask;
+    }
+
+    private static int spread(Object key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+}
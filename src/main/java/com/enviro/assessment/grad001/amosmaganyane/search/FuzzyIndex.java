@@ -0,0 +1,162 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typo-tolerant index over analyzed words. The vocabulary of all indexed
+ * words is held in BK-trees bucketed by word length, so a query word only
+ * visits the buckets whose lengths are within the allowed edit distance.
+ * A document matches when every query word is within that distance of one
+ * of its words.
+ * <p>
+ * BK-trees do not support removal, so words that no longer occur in any
+ * document stay in the trees until they make up half of the vocabulary,
+ * at which point the trees are rebuilt from the live words.
+ */
+public class FuzzyIndex {
+
+    private final Map<Integer, BkTree> vocabulary = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int vocabularySize;
+
+    /**
+     * Indexes a document, replacing any words previously stored under the same ID.
+     *
+     * @param id the document ID
+     * @param terms the document's analyzed words
+     */
+    public void put(Long id, List<String> terms) {
+        Set<String> words = new LinkedHashSet<>(terms);
+        lock.writeLock().lock();
+        try {
+            unlink(id);
+            documents.put(id, words);
+            for (String word : words) {
+                postings.computeIfAbsent(word, this::addToVocabulary).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a document from the index. Unknown IDs are ignored.
+     *
+     * @param id the document ID
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            unlink(id);
+            if (vocabularySize > 2 * postings.size() + 64) {
+                rebuildVocabulary();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the documents containing, for every query word, a word within
+     * the allowed edit distance of it. A distance of zero asks for exact matches.
+     *
+     * @param queryWords the analyzed, possibly misspelled query
+     * @param maxDistance the largest edit distance accepted for long words
+     * @return the matching document IDs in ascending order
+     */
+    public List<Long> search(List<String> queryWords, int maxDistance) {
+        if (queryWords.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Set<Long> matches = null;
+            for (String queryWord : queryWords) {
+                Set<Long> wordMatches = new HashSet<>();
+                int allowed = Math.min(maxDistance, distanceBudget(queryWord));
+                for (String word : similarWords(queryWord, allowed)) {
+                    Set<Long> posting = postings.get(word);
+                    if (posting != null) {
+                        wordMatches.addAll(posting);
+                    }
+                }
+                if (matches == null) {
+                    matches = wordMatches;
+                } else {
+                    matches.retainAll(wordMatches);
+                }
+                if (matches.isEmpty()) {
+                    return List.of();
+                }
+            }
+            List<Long> ids = new ArrayList<>(matches);
+            Collections.sort(ids);
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Short words tolerate fewer edits, otherwise "tin" would match "bin" and "can".
+     */
+    static int distanceBudget(String word) {
+        if (word.length() <= 3) {
+            return 0;
+        }
+        return word.length() <= 5 ? 1 : 2;
+    }
+
+    private List<String> similarWords(String queryWord, int allowed) {
+        if (allowed == 0) {
+            return List.of(queryWord);
+        }
+        List<String> similar = new ArrayList<>();
+        for (int length = queryWord.length() - allowed;
+             length <= queryWord.length() + allowed; length++) {
+            BkTree bucket = vocabulary.get(length);
+            if (bucket != null) {
+                similar.addAll(bucket.search(queryWord, allowed));
+            }
+        }
+        return similar;
+    }
+
+    private Set<Long> addToVocabulary(String word) {
+        if (vocabulary.computeIfAbsent(word.length(), length -> new BkTree()).add(word)) {
+            vocabularySize++;
+        }
+        return new HashSet<>();
+    }
+
+    private void unlink(Long id) {
+        Set<String> previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String word : previous) {
+            Set<Long> posting = postings.get(word);
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    private void rebuildVocabulary() {
+        vocabulary.clear();
+        vocabularySize = 0;
+        postings.keySet().forEach(this::addToVocabulary);
+    }
+}
@@ -0,0 +1,101 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A document as held by a {@link SegmentedIndex}: the fields returned with
+ * a hit, how often each analyzed term occurs, and a fingerprint of both so
+ * re-indexing unchanged content can be skipped.
+ */
+public final class IndexedDocument {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long key;
+    private final String title;
+    private final Long categoryId;
+    private final Map<String, Integer> frequencies;
+    private final int length;
+    private final long fingerprint;
+
+    /**
+     * Creates a document from its analyzed terms.
+     *
+     * @param key the document key
+     * @param title the title returned with a hit
+     * @param categoryId the owning category, or null
+     * @param terms the document's terms, repeated as often as they occur
+     */
+    public IndexedDocument(long key, String title, Long categoryId, List<String> terms) {
+        this(key, title, categoryId, count(terms), terms.size(), fingerprint(title, categoryId, terms));
+    }
+
+    IndexedDocument(long key, String title, Long categoryId, Map<String, Integer> frequencies,
+                    int length, long fingerprint) {
+        this.key = key;
+        this.title = title == null ? "" : title;
+        this.categoryId = categoryId;
+        this.frequencies = Collections.unmodifiableMap(frequencies);
+        this.length = length;
+        this.fingerprint = fingerprint;
+    }
+
+    public long getKey() {
+        return key;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    /**
+     * Returns how often each distinct term occurs.
+     */
+    public Map<String, Integer> getFrequencies() {
+        return frequencies;
+    }
+
+    /**
+     * Returns the number of terms, counting repeats.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Returns a 64-bit FNV-1a hash of the title, category and terms.
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    private static Map<String, Integer> count(List<String> terms) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        terms.forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        return frequencies;
+    }
+
+    private static long fingerprint(String title, Long categoryId, List<String> terms) {
+        long hash = mix(FNV_OFFSET, title == null ? "" : title);
+        hash = (hash ^ (categoryId == null ? -1 : categoryId)) * FNV_PRIME;
+        for (String term : terms) {
+            hash = mix((hash ^ ' ') * FNV_PRIME, term);
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            hash = (hash ^ text.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,247 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only view of a segment file written by {@link SegmentWriter}. The
+ * file is memory-mapped, so opening a segment costs a header check rather
+ * than a load, and only the pages a query touches are ever read.
+ *
+ * <p>Layout, big-endian, all offsets absolute:
+ * <pre>
+ * header     magic, version, docCount, termCount, totalLength,
+ *            docTable, strings, termTable, postings, fileLength
+ * docTable   per document, ascending key: key, categoryId, fingerprint,
+ *            length, titleOffset, titleLength
+ * strings    UTF-8 titles and terms
+ * termTable  per term, ascending unsigned UTF-8 bytes: termOffset,
+ *            termLength, postingsOffset, docFreq
+ * postings   per term: varint (ordinal delta, frequency) pairs
+ * </pre>
+ * Documents are addressed by ordinal, their position in the doc table.
+ * Only absolute reads are used, so one instance can serve many threads.
+ */
+public final class MappedSegment {
+
+    static final int MAGIC = 0x53454731;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 48;
+    static final int DOC_ENTRY_SIZE = 36;
+    static final int TERM_ENTRY_SIZE = 16;
+    static final long NO_CATEGORY = Long.MIN_VALUE;
+
+    private final Path file;
+    private final ByteBuffer buffer;
+    private final int documentCount;
+    private final int termCount;
+    private final long totalLength;
+    private final int docTable;
+    private final int termTable;
+
+    private MappedSegment(Path file, ByteBuffer buffer) throws IOException {
+        this.file = file;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                || buffer.getLong(40) != buffer.capacity()) {
+            throw new IOException("Not a complete search segment: " + file);
+        }
+        this.documentCount = buffer.getInt(8);
+        this.termCount = buffer.getInt(12);
+        this.totalLength = buffer.getLong(16);
+        this.docTable = buffer.getInt(24);
+        this.termTable = buffer.getInt(32);
+    }
+
+    /**
+     * Maps a segment file into memory.
+     *
+     * @param file the segment file
+     * @return the mapped segment
+     * @throws IOException if the file cannot be read or is not a complete segment
+     */
+    public static MappedSegment open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new MappedSegment(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the number of documents written to the segment, deleted or not.
+     */
+    public int documentCount() {
+        return documentCount;
+    }
+
+    /**
+     * Returns the number of distinct terms.
+     */
+    public int termCount() {
+        return termCount;
+    }
+
+    /**
+     * Returns the summed length of all documents in the segment.
+     */
+    public long totalLength() {
+        return totalLength;
+    }
+
+    public long key(int ordinal) {
+        return buffer.getLong(document(ordinal));
+    }
+
+    public Long categoryId(int ordinal) {
+        long categoryId = buffer.getLong(document(ordinal) + 8);
+        return categoryId == NO_CATEGORY ? null : categoryId;
+    }
+
+    public long fingerprint(int ordinal) {
+        return buffer.getLong(document(ordinal) + 16);
+    }
+
+    public int length(int ordinal) {
+        return buffer.getInt(document(ordinal) + 24);
+    }
+
+    public String title(int ordinal) {
+        int entry = document(ordinal);
+        return string(buffer.getInt(entry + 28), buffer.getInt(entry + 32));
+    }
+
+    /**
+     * Finds a document by key with a binary search over the doc table.
+     *
+     * @param key the document key
+     * @return the document's ordinal, or -1 if the segment does not hold it
+     */
+    public int ordinal(long key) {
+        int low = 0;
+        int high = documentCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long found = key(mid);
+            if (found < key) {
+                low = mid + 1;
+            } else if (found > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds a term with a binary search over the term table, comparing the
+     * mapped bytes in place.
+     *
+     * @param term the term as UTF-8
+     * @return the term's ordinal, or -1 if no document in the segment has it
+     */
+    public int findTerm(byte[] term) {
+        int low = 0;
+        int high = termCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int compared = compareTerm(mid, term);
+            if (compared < 0) {
+                low = mid + 1;
+            } else if (compared > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    public String term(int termOrdinal) {
+        int entry = termEntry(termOrdinal);
+        return string(buffer.getInt(entry), buffer.getInt(entry + 4));
+    }
+
+    /**
+     * Returns the number of documents in the segment containing a term,
+     * including deleted ones.
+     */
+    public int documentFrequency(int termOrdinal) {
+        return buffer.getInt(termEntry(termOrdinal) + 12);
+    }
+
+    /**
+     * Decodes a term's postings in ascending ordinal order.
+     *
+     * @param termOrdinal the term, as returned by {@link #findTerm(byte[])}
+     * @param consumer receives each document ordinal with the term's frequency in it
+     */
+    public void forEachPosting(int termOrdinal, PostingConsumer consumer) {
+        int entry = termEntry(termOrdinal);
+        int position = buffer.getInt(entry + 8);
+        int count = buffer.getInt(entry + 12);
+        int ordinal = 0;
+        for (int i = 0; i < count; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte next;
+            do {
+                next = buffer.get(position++);
+                delta |= (next & 0x7F) << shift;
+                shift += 7;
+            } while (next < 0);
+            int frequency = 0;
+            shift = 0;
+            do {
+                next = buffer.get(position++);
+                frequency |= (next & 0x7F) << shift;
+                shift += 7;
+            } while (next < 0);
+            ordinal += delta;
+            consumer.accept(ordinal, frequency);
+        }
+    }
+
+    private int compareTerm(int termOrdinal, byte[] term) {
+        int entry = termEntry(termOrdinal);
+        int offset = buffer.getInt(entry);
+        int length = buffer.getInt(entry + 4);
+        int common = Math.min(length, term.length);
+        for (int i = 0; i < common; i++) {
+            int compared = Integer.compare(buffer.get(offset + i) & 0xFF, term[i] & 0xFF);
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return Integer.compare(length, term.length);
+    }
+
+    private String string(int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int document(int ordinal) {
+        return docTable + ordinal * DOC_ENTRY_SIZE;
+    }
+
+    private int termEntry(int termOrdinal) {
+        return termTable + termOrdinal * TERM_ENTRY_SIZE;
+    }
+
+    /**
+     * Receives the postings of a single term.
+     */
+    @FunctionalInterface
+    public interface PostingConsumer {
+        void accept(int ordinal, int frequency);
+    }
+}
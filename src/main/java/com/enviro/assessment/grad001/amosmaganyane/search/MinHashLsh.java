@@ -0,0 +1,315 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Finds documents whose shingle sets are similar, without comparing every
+ * pair. Each document is reduced to a MinHash signature: for each of
+ * {@code bands * rows} hash functions, the smallest hash of any of its
+ * shingles. Two signatures agree in a position with probability equal to
+ * the Jaccard similarity of the sets, so the fraction of agreeing positions
+ * estimates it.
+ *
+ * <p>Signatures are cut into bands of {@code rows} values, and documents
+ * whose band is identical share a bucket. Only documents sharing at least
+ * one bucket are compared, so a lookup costs the size of its buckets rather
+ * than the size of the corpus. Pairs with similarity {@code s} become
+ * candidates with probability {@code 1 - (1 - s^rows)^bands}.
+ *
+ * @param <K> the type of document key; its natural order orders pairs
+ */
+public class MinHashLsh<K extends Comparable<K>> {
+
+    private final int bands;
+    private final int rows;
+    private final Map<K, int[]> signatures = new HashMap<>();
+    private final List<Map<Long, Set<K>>> buckets = new ArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates an empty index.
+     *
+     * @param bands the number of bands; more bands find less similar pairs
+     * @param rows the number of signature values per band; more rows reject dissimilar pairs sooner
+     */
+    public MinHashLsh(int bands, int rows) {
+        if (bands <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("Bands and rows must be positive");
+        }
+        this.bands = bands;
+        this.rows = rows;
+        for (int band = 0; band < bands; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Splits a sequence of terms into overlapping runs of {@code size} terms.
+     * A sequence shorter than {@code size} becomes a single shingle.
+     *
+     * @param terms the analyzed terms
+     * @param size the number of terms per shingle
+     * @return the distinct shingles, terms separated by spaces
+     */
+    public static Set<String> shingles(List<String> terms, int size) {
+        Set<String> shingles = new LinkedHashSet<>();
+        if (terms.isEmpty()) {
+            return shingles;
+        }
+        for (int start = 0; start + size <= Math.max(size, terms.size()); start++) {
+            shingles.add(String.join(" ", terms.subList(start, Math.min(start + size, terms.size()))));
+        }
+        return shingles;
+    }
+
+    /**
+     * Computes the MinHash signature of a shingle set.
+     *
+     * @param shingles the shingles
+     * @return {@code bands * rows} minimum hashes; all {@link Integer#MAX_VALUE} for no shingles
+     */
+    public int[] signature(Collection<String> shingles) {
+        int[] signature = new int[bands * rows];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String shingle : shingles) {
+            long hash = mix(fnv(shingle));
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+            for (int i = 0; i < signature.length; i++) {
+                int value = avalanche(h1 + i * h2);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Stores a document's signature, replacing any stored under the same key.
+     *
+     * @param key the document key
+     * @param signature a signature from {@link #signature(Collection)}
+     */
+    public void put(K key, int[] signature) {
+        lock.writeLock().lock();
+        try {
+            unlink(key);
+            signatures.put(key, signature);
+            for (int band = 0; band < bands; band++) {
+                buckets.get(band).computeIfAbsent(bandHash(signature, band), h -> new HashSet<>()).add(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a document. Unknown keys are ignored.
+     *
+     * @param key the document key
+     */
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            unlink(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds stored documents similar to a signature. Candidates come from
+     * the signature's buckets and are kept if their estimated similarity
+     * reaches the threshold.
+     *
+     * @param signature the signature to look up
+     * @param threshold the smallest estimated Jaccard similarity to report
+     * @return the similar documents with their estimated similarity
+     */
+    public Map<K, Double> similar(int[] signature, double threshold) {
+        Map<K, Double> similar = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (int band = 0; band < bands; band++) {
+                Set<K> bucket = buckets.get(band).get(bandHash(signature, band));
+                if (bucket == null) {
+                    continue;
+                }
+                for (K candidate : bucket) {
+                    if (!similar.containsKey(candidate)) {
+                        double estimate = similarity(signature, signatures.get(candidate));
+                        if (estimate >= threshold) {
+                            similar.put(candidate, estimate);
+                        }
+                    }
+                }
+            }
+            return similar;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the stored signature of a document.
+     *
+     * @param key the document key
+     * @return the signature, or null if the document is not stored
+     */
+    public int[] get(K key) {
+        lock.readLock().lock();
+        try {
+            return signatures.get(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds every pair of stored documents whose estimated similarity
+     * reaches the threshold, comparing only documents that share a bucket.
+     *
+     * @param threshold the smallest estimated Jaccard similarity to report
+     * @return each similar pair once, with the smaller key first
+     */
+    public List<Pair<K>> pairs(double threshold) {
+        Map<K, Set<K>> compared = new HashMap<>();
+        List<Pair<K>> pairs = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Map<Long, Set<K>> band : buckets) {
+                for (Set<K> bucket : band.values()) {
+                    if (bucket.size() < 2) {
+                        continue;
+                    }
+                    for (K first : bucket) {
+                        for (K second : bucket) {
+                            if (first.compareTo(second) >= 0
+                                    || !compared.computeIfAbsent(first, k -> new HashSet<>()).add(second)) {
+                                continue;
+                            }
+                            double estimate = similarity(signatures.get(first), signatures.get(second));
+                            if (estimate >= threshold) {
+                                pairs.add(new Pair<>(first, second, estimate));
+                            }
+                        }
+                    }
+                }
+            }
+            return pairs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of stored documents.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return signatures.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimates the Jaccard similarity of two sets from their signatures.
+     *
+     * @return the fraction of positions in which the signatures agree
+     */
+    public static double similarity(int[] first, int[] second) {
+        int agreeing = 0;
+        for (int i = 0; i < first.length; i++) {
+            if (first[i] == second[i]) {
+                agreeing++;
+            }
+        }
+        return (double) agreeing / first.length;
+    }
+
+    private void unlink(K key) {
+        int[] previous = signatures.remove(key);
+        if (previous == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            Map<Long, Set<K>> bandBuckets = buckets.get(band);
+            long hash = bandHash(previous, band);
+            Set<K> bucket = bandBuckets.get(hash);
+            bucket.remove(key);
+            if (bucket.isEmpty()) {
+                bandBuckets.remove(hash);
+            }
+        }
+    }
+
+    private long bandHash(int[] signature, int band) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            hash = (hash ^ signature[i]) * 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long fnv(String text) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            hash = (hash ^ text.charAt(i)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static int avalanche(int hash) {
+        hash = (hash ^ (hash >>> 16)) * 0x85EBCA6B;
+        hash = (hash ^ (hash >>> 13)) * 0xC2B2AE35;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Two documents found to be similar.
+     *
+     * @param <K> the type of document key
+     */
+    public static final class Pair<K> {
+        private final K first;
+        private final K second;
+        private final double similarity;
+
+        private Pair(K first, K second, double similarity) {
+            this.first = first;
+            this.second = second;
+            this.similarity = similarity;
+        }
+
+        public K getFirst() {
+            return first;
+        }
+
+        public K getSecond() {
+            return second;
+        }
+
+        public double getSimilarity() {
+            return similarity;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compressed prefix tree whose nodes keep their best completions precomputed.
+ * Edges carry whole label fragments rather than single characters, and every
+ * node holds the top values of its subtree in ranking order, so a prefix
+ * lookup costs one walk down the tree and no subtree traversal.
+ * Inserts and removals update the precomputed lists along the affected path only.
+ *
+ * @param <V> the type of value stored under each key
+ */
+public class RadixTrie<V> {
+
+    private final Comparator<? super V> ranking;
+    private final int completionsPerNode;
+    private final Node<V> root = new Node<>("");
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates an empty trie.
+     *
+     * @param ranking the order in which completions are returned; must be total
+     * @param completionsPerNode how many completions each node keeps
+     */
+    public RadixTrie(Comparator<? super V> ranking, int completionsPerNode) {
+        this.ranking = ranking;
+        this.completionsPerNode = completionsPerNode;
+    }
+
+    /**
+     * Stores a value under a key. A key may hold several values.
+     *
+     * @param key the key to store the value under
+     * @param value the value to store
+     */
+    public void insert(String key, V value) {
+        lock.writeLock().lock();
+        try {
+            List<Node<V>> path = new ArrayList<>();
+            path.add(root);
+            Node<V> node = root;
+            int offset = 0;
+            while (offset < key.length()) {
+                char next = key.charAt(offset);
+                Node<V> child = node.children.get(next);
+                if (child == null) {
+                    child = new Node<>(key.substring(offset));
+                    node.children.put(next, child);
+                } else {
+                    int common = commonPrefixLength(child.label, key, offset);
+                    if (common < child.label.length()) {
+                        child = split(node, child, common);
+                    }
+                }
+                node = child;
+                path.add(node);
+                offset += node.label.length();
+            }
+            if (node.values.add(value)) {
+                path.forEach(visited -> offer(visited, value));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a value from a key. Unknown keys and values are ignored.
+     *
+     * @param key the key the value was stored under
+     * @param value the value to remove
+     */
+    public void remove(String key, V value) {
+        lock.writeLock().lock();
+        try {
+            List<Node<V>> path = new ArrayList<>();
+            path.add(root);
+            Node<V> node = root;
+            int offset = 0;
+            while (offset < key.length()) {
+                Node<V> child = node.children.get(key.charAt(offset));
+                if (child == null || !key.startsWith(child.label, offset)) {
+                    return;
+                }
+                node = child;
+                path.add(node);
+                offset += node.label.length();
+            }
+            if (!node.values.remove(value)) {
+                return;
+            }
+            for (int i = path.size() - 1; i >= 0; i--) {
+                Node<V> visited = path.get(i);
+                if (visited.completions.contains(value)) {
+                    recompute(visited);
+                }
+            }
+            for (int i = path.size() - 1; i > 0; i--) {
+                compact(path.get(i - 1), path.get(i));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the best values stored under keys starting with the prefix.
+     *
+     * @param prefix the prefix to complete
+     * @param limit the maximum number of values to return
+     * @return up to {@code limit} values in ranking order
+     */
+    public List<V> complete(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            Node<V> node = root;
+            int offset = 0;
+            while (offset < prefix.length()) {
+                Node<V> child = node.children.get(prefix.charAt(offset));
+                if (child == null) {
+                    return List.of();
+                }
+                int common = commonPrefixLength(child.label, prefix, offset);
+                if (offset + common < prefix.length() && common < child.label.length()) {
+                    return List.of();
+                }
+                node = child;
+                offset += common;
+            }
+            int size = Math.min(limit, node.completions.size());
+            return List.copyOf(node.completions.subList(0, size));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Splits a child edge so that its first {@code length} characters
+     * become a node of their own.
+     */
+    private Node<V> split(Node<V> parent, Node<V> child, int length) {
+        Node<V> middle = new Node<>(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        middle.children.put(child.label.charAt(0), child);
+        middle.completions.addAll(child.completions);
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    /**
+     * Drops a node that no longer holds anything and folds a node with a
+     * single child into that child, keeping the tree compressed.
+     */
+    private void compact(Node<V> parent, Node<V> node) {
+        if (!node.values.isEmpty() || parent.children.get(node.label.charAt(0)) != node) {
+            return;
+        }
+        if (node.children.isEmpty()) {
+            parent.children.remove(node.label.charAt(0));
+        } else if (node.children.size() == 1) {
+            Node<V> only = node.children.values().iterator().next();
+            only.label = node.label + only.label;
+            parent.children.put(only.label.charAt(0), only);
+        }
+    }
+
+    /**
+     * Adds a value to a node's completions if it ranks high enough.
+     */
+    private void offer(Node<V> node, V value) {
+        List<V> completions = node.completions;
+        if (completions.contains(value)) {
+            return;
+        }
+        int position = Collections.binarySearch(completions, value, ranking);
+        int insertAt = position < 0 ? -position - 1 : position;
+        if (insertAt >= completionsPerNode) {
+            return;
+        }
+        completions.add(insertAt, value);
+        if (completions.size() > completionsPerNode) {
+            completions.remove(completions.size() - 1);
+        }
+    }
+
+    /**
+     * Rebuilds a node's completions from its own values and its children's
+     * completions, which are already correct when called bottom-up.
+     */
+    private void recompute(Node<V> node) {
+        Set<V> candidates = new LinkedHashSet<>(node.values);
+        node.children.values().forEach(child -> candidates.addAll(child.completions));
+        List<V> ranked = new ArrayList<>(candidates);
+        ranked.sort(ranking);
+        node.completions.clear();
+        node.completions.addAll(ranked.subList(0, Math.min(completionsPerNode, ranked.size())));
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = 0;
+        while (length < label.length()
+                && offset + length < key.length()
+                && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static final class Node<V> {
+        private String label;
+        private final Map<Character, Node<V>> children = new HashMap<>();
+        private final Set<V> values = new HashSet<>();
+        private final List<V> completions = new ArrayList<>();
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes documents to an immutable segment file in the layout read by
+ * {@link MappedSegment}. The file is written under a temporary name, forced
+ * to disk and then renamed, so a reader never sees a partial segment.
+ */
+final class SegmentWriter {
+
+    private SegmentWriter() {
+    }
+
+    /**
+     * Writes a segment holding the given documents.
+     *
+     * @param file where the segment is written
+     * @param documents the documents, whose keys must be distinct
+     * @throws IOException if the file cannot be written
+     */
+    static void write(Path file, Collection<IndexedDocument> documents) throws IOException {
+        List<IndexedDocument> sorted = new ArrayList<>(documents);
+        sorted.sort(Comparator.comparingLong(IndexedDocument::getKey));
+
+        Map<String, List<Integer>> ordinalsByTerm = new HashMap<>();
+        long totalLength = 0;
+        for (int ordinal = 0; ordinal < sorted.size(); ordinal++) {
+            IndexedDocument document = sorted.get(ordinal);
+            totalLength += document.getLength();
+            for (String term : document.getFrequencies().keySet()) {
+                ordinalsByTerm.computeIfAbsent(term, t -> new ArrayList<>()).add(ordinal);
+            }
+        }
+        List<String> terms = new ArrayList<>(ordinalsByTerm.keySet());
+        List<byte[]> termBytes = new ArrayList<>(terms.size());
+        terms.sort(Comparator.comparing(term -> term.getBytes(StandardCharsets.UTF_8), Arrays::compareUnsigned));
+        terms.forEach(term -> termBytes.add(term.getBytes(StandardCharsets.UTF_8)));
+
+        int docTable = MappedSegment.HEADER_SIZE;
+        int strings = docTable + sorted.size() * MappedSegment.DOC_ENTRY_SIZE;
+        ByteArrayOutputStream stringArea = new ByteArrayOutputStream();
+        ByteBuffer docEntries = ByteBuffer.allocate(sorted.size() * MappedSegment.DOC_ENTRY_SIZE);
+        for (IndexedDocument document : sorted) {
+            byte[] title = document.getTitle().getBytes(StandardCharsets.UTF_8);
+            docEntries.putLong(document.getKey())
+                    .putLong(document.getCategoryId() == null
+                            ? MappedSegment.NO_CATEGORY : document.getCategoryId())
+                    .putLong(document.getFingerprint())
+                    .putInt(document.getLength())
+                    .putInt(strings + stringArea.size())
+                    .putInt(title.length);
+            stringArea.writeBytes(title);
+        }
+        int[] termOffsets = new int[terms.size()];
+        for (int i = 0; i < terms.size(); i++) {
+            termOffsets[i] = strings + stringArea.size();
+            stringArea.writeBytes(termBytes.get(i));
+        }
+
+        int termTable = strings + stringArea.size();
+        int postings = termTable + terms.size() * MappedSegment.TERM_ENTRY_SIZE;
+        ByteArrayOutputStream postingArea = new ByteArrayOutputStream();
+        ByteBuffer termEntries = ByteBuffer.allocate(terms.size() * MappedSegment.TERM_ENTRY_SIZE);
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            List<Integer> ordinals = ordinalsByTerm.get(term);
+            termEntries.putInt(termOffsets[i])
+                    .putInt(termBytes.get(i).length)
+                    .putInt(postings + postingArea.size())
+                    .putInt(ordinals.size());
+            int previous = 0;
+            for (int ordinal : ordinals) {
+                writeVarInt(postingArea, ordinal - previous);
+                writeVarInt(postingArea, sorted.get(ordinal).getFrequencies().get(term));
+                previous = ordinal;
+            }
+        }
+
+        long fileLength = (long) postings + postingArea.size();
+        if (fileLength > Integer.MAX_VALUE) {
+            throw new IOException("Segment would exceed 2 GB: " + file);
+        }
+        ByteBuffer header = ByteBuffer.allocate(MappedSegment.HEADER_SIZE)
+                .putInt(MappedSegment.MAGIC)
+                .putInt(MappedSegment.VERSION)
+                .putInt(sorted.size())
+                .putInt(terms.size())
+                .putLong(totalLength)
+                .putInt(docTable)
+                .putInt(strings)
+                .putInt(termTable)
+                .putInt(postings)
+                .putLong(fileLength);
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (ByteBuffer section : new ByteBuffer[]{header.flip(), docEntries.flip(),
+                    ByteBuffer.wrap(stringArea.toByteArray()), termEntries.flip(),
+                    ByteBuffer.wrap(postingArea.toByteArray())}) {
+                while (section.hasRemaining()) {
+                    channel.write(section);
+                }
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+}
@@ -0,0 +1,637 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * BM25 index made of immutable on-disk segments plus one small in-memory
+ * segment that takes new writes. Segments listed in the manifest are
+ * memory-mapped when the index is opened, so a restarted application can
+ * search straight away instead of re-indexing the whole catalogue.
+ *
+ * <p>Segment files are never modified. Replacing or removing a document
+ * marks it deleted in a per-segment bit set, which the manifest records.
+ * {@link #flush()} writes the in-memory segment out as a new segment file
+ * and {@link #merge(int)} rewrites all segments into one, dropping deleted
+ * documents, once there are too many. Both run outside the index lock, so
+ * searches and writes carry on while files are written. Writes made since
+ * the last flush are lost if the process dies, so callers should treat the
+ * restored index as a starting point and reconcile it with their source.
+ *
+ * <p>Scores use the live document count and length across all segments,
+ * so results match a single BM25 index holding the same documents.
+ */
+public class SegmentedIndex {
+
+    private static final String MANIFEST = "segments.manifest";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final int MANIFEST_MAGIC = 0x534D4631;
+
+    private final Path directory;
+    private final double k1;
+    private final double b;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object maintenance = new Object();
+    private final List<Segment> segments = new ArrayList<>();
+    private MemorySegment active = new MemorySegment();
+    private MemorySegment frozen;
+    private long generation;
+    private int liveDocuments;
+    private long liveLength;
+    private boolean deletionsChanged;
+
+    private SegmentedIndex(Path directory) {
+        this.directory = directory;
+        this.k1 = Bm25.DEFAULT_K1;
+        this.b = Bm25.DEFAULT_B;
+    }
+
+    /**
+     * Creates an index that is never written to disk.
+     *
+     * @return an empty index
+     */
+    public static SegmentedIndex inMemory() {
+        return new SegmentedIndex(null);
+    }
+
+    /**
+     * Opens the index kept in a directory, mapping the segments its manifest
+     * lists. A missing or unreadable manifest yields an empty index, and
+     * files left behind by an interrupted flush or merge are removed.
+     *
+     * @param directory the index directory, created if absent
+     * @return the restored index
+     * @throws IOException if the directory cannot be created or listed
+     */
+    public static SegmentedIndex open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        SegmentedIndex index = new SegmentedIndex(directory);
+        try {
+            index.load();
+        } catch (IOException e) {
+            index.segments.clear();
+            index.liveDocuments = 0;
+            index.liveLength = 0;
+        }
+        index.removeUnreferencedFiles();
+        return index;
+    }
+
+    /**
+     * Indexes a document, replacing any document stored under the same key.
+     * A document identical to the live one is not indexed again.
+     *
+     * @param document the document to index
+     * @return true if the index changed
+     */
+    public boolean put(IndexedDocument document) {
+        lock.writeLock().lock();
+        try {
+            Long current = liveFingerprint(document.getKey());
+            if (current != null && current == document.getFingerprint()) {
+                return false;
+            }
+            unlink(document.getKey());
+            active.add(document);
+            liveDocuments++;
+            liveLength += document.getLength();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a document from the index. Unknown keys are ignored.
+     *
+     * @param key the document key
+     */
+    public void remove(long key) {
+        lock.writeLock().lock();
+        try {
+            unlink(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Scores every live document containing at least one of the query terms.
+     * A term repeated in the query counts once.
+     *
+     * @param queryTerms the analyzed query
+     * @return the BM25 score of each matching document
+     */
+    public Map<Long, Double> score(Collection<String> queryTerms) {
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            if (liveDocuments == 0) {
+                return scores;
+            }
+            double averageLength = Math.max(1.0, (double) liveLength / liveDocuments);
+            Matches matches = new Matches();
+            for (String term : new LinkedHashSet<>(queryTerms)) {
+                matches.clear();
+                collect(term, matches);
+                if (matches.size == 0) {
+                    continue;
+                }
+                double idf = Bm25.idf(liveDocuments, matches.size);
+                for (int i = 0; i < matches.size; i++) {
+                    int frequency = matches.frequencies[i];
+                    double norm = k1 * (1 - b + b * matches.lengths[i] / averageLength);
+                    double weight = idf * frequency * (k1 + 1) / (frequency + norm);
+                    scores.merge(matches.keys[i], weight, Double::sum);
+                }
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the stored fields of a live document. Term frequencies are
+     * not included.
+     *
+     * @param key the document key
+     * @return the document's title and category, or null if it is not indexed
+     */
+    public IndexedDocument stored(long key) {
+        lock.readLock().lock();
+        try {
+            IndexedDocument document = active.documents.get(key);
+            if (document == null && frozen != null) {
+                document = frozen.live(key);
+            }
+            if (document != null) {
+                return new IndexedDocument(key, document.getTitle(), document.getCategoryId(),
+                        Map.of(), document.getLength(), document.getFingerprint());
+            }
+            for (Segment segment : segments) {
+                int ordinal = segment.mapped.ordinal(key);
+                if (ordinal >= 0 && !segment.deleted.get(ordinal)) {
+                    MappedSegment mapped = segment.mapped;
+                    return new IndexedDocument(key, mapped.title(ordinal), mapped.categoryId(ordinal),
+                            Map.of(), mapped.length(ordinal), mapped.fingerprint(ordinal));
+                }
+            }
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the keys of all live documents.
+     */
+    public Set<Long> keys() {
+        lock.readLock().lock();
+        try {
+            Set<Long> keys = new HashSet<>(active.documents.keySet());
+            if (frozen != null) {
+                frozen.documents.keySet().stream()
+                        .filter(key -> !frozen.deleted.contains(key))
+                        .forEach(keys::add);
+            }
+            for (Segment segment : segments) {
+                for (int ordinal = 0; ordinal < segment.mapped.documentCount(); ordinal++) {
+                    if (!segment.deleted.get(ordinal)) {
+                        keys.add(segment.mapped.key(ordinal));
+                    }
+                }
+            }
+            return keys;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of live documents.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocuments;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of on-disk segments.
+     */
+    public int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns whether the index is kept on disk.
+     */
+    public boolean isPersistent() {
+        return directory != null;
+    }
+
+    /**
+     * Writes the in-memory segment out as a new segment file and records it,
+     * together with any new deletions, in the manifest. The in-memory
+     * segment stays searchable until the new file is mapped.
+     *
+     * @return true if anything was written
+     * @throws IOException if the segment or manifest cannot be written
+     */
+    public boolean flush() throws IOException {
+        if (directory == null) {
+            return false;
+        }
+        synchronized (maintenance) {
+            MemorySegment flushing;
+            Path file;
+            lock.writeLock().lock();
+            try {
+                if (active.documents.isEmpty()) {
+                    if (!deletionsChanged) {
+                        return false;
+                    }
+                    writeManifest();
+                    return true;
+                }
+                flushing = active;
+                frozen = active;
+                active = new MemorySegment();
+                file = nextSegmentFile();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            MappedSegment mapped;
+            try {
+                SegmentWriter.write(file, flushing.documents.values());
+                mapped = MappedSegment.open(file);
+            } catch (IOException e) {
+                lock.writeLock().lock();
+                try {
+                    thaw(flushing);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                BitSet deleted = new BitSet();
+                for (Long key : flushing.deleted) {
+                    deleted.set(mapped.ordinal(key));
+                }
+                segments.add(new Segment(mapped, deleted));
+                frozen = null;
+                writeManifest();
+                return true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Rewrites every segment into one once there are more than allowed,
+     * leaving deleted documents behind. The old files are removed once the
+     * manifest no longer lists them.
+     *
+     * @param maxSegments the number of segments tolerated without merging
+     * @return true if segments were merged
+     * @throws IOException if the merged segment or manifest cannot be written
+     */
+    public boolean merge(int maxSegments) throws IOException {
+        if (directory == null) {
+            return false;
+        }
+        synchronized (maintenance) {
+            List<Segment> sources;
+            List<BitSet> snapshots = new ArrayList<>();
+            Path file;
+            lock.writeLock().lock();
+            try {
+                if (segments.size() <= Math.max(1, maxSegments)) {
+                    return false;
+                }
+                sources = List.copyOf(segments);
+                sources.forEach(segment -> snapshots.add((BitSet) segment.deleted.clone()));
+                file = nextSegmentFile();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            List<IndexedDocument> documents = new ArrayList<>();
+            for (int i = 0; i < sources.size(); i++) {
+                documents.addAll(liveDocuments(sources.get(i).mapped, snapshots.get(i)));
+            }
+            SegmentWriter.write(file, documents);
+            MappedSegment merged = MappedSegment.open(file);
+
+            lock.writeLock().lock();
+            try {
+                BitSet deleted = new BitSet();
+                for (int i = 0; i < sources.size(); i++) {
+                    BitSet deletedSince = (BitSet) sources.get(i).deleted.clone();
+                    deletedSince.andNot(snapshots.get(i));
+                    MappedSegment source = sources.get(i).mapped;
+                    deletedSince.stream().forEach(ordinal ->
+                            deleted.set(merged.ordinal(source.key(ordinal))));
+                }
+                segments.clear();
+                segments.add(new Segment(merged, deleted));
+                writeManifest();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            for (Segment source : sources) {
+                Files.deleteIfExists(source.mapped.getFile());
+            }
+            return true;
+        }
+    }
+
+    private void collect(String term, Matches matches) {
+        byte[] bytes = term.getBytes(StandardCharsets.UTF_8);
+        for (Segment segment : segments) {
+            int termOrdinal = segment.mapped.findTerm(bytes);
+            if (termOrdinal >= 0) {
+                MappedSegment mapped = segment.mapped;
+                mapped.forEachPosting(termOrdinal, (ordinal, frequency) -> {
+                    if (!segment.deleted.get(ordinal)) {
+                        matches.add(mapped.key(ordinal), frequency, mapped.length(ordinal));
+                    }
+                });
+            }
+        }
+        for (MemorySegment memory : new MemorySegment[]{frozen, active}) {
+            Map<Long, Integer> posting = memory == null ? null : memory.postings.get(term);
+            if (posting != null) {
+                posting.forEach((key, frequency) -> {
+                    if (!memory.deleted.contains(key)) {
+                        matches.add(key, frequency, memory.documents.get(key).getLength());
+                    }
+                });
+            }
+        }
+    }
+
+    private Long liveFingerprint(long key) {
+        IndexedDocument document = active.documents.get(key);
+        if (document == null && frozen != null) {
+            document = frozen.live(key);
+        }
+        if (document != null) {
+            return document.getFingerprint();
+        }
+        for (Segment segment : segments) {
+            int ordinal = segment.mapped.ordinal(key);
+            if (ordinal >= 0 && !segment.deleted.get(ordinal)) {
+                return segment.mapped.fingerprint(ordinal);
+            }
+        }
+        return null;
+    }
+
+    private void unlink(long key) {
+        IndexedDocument removed = active.remove(key);
+        if (removed != null) {
+            discount(removed.getLength());
+        }
+        if (frozen != null) {
+            IndexedDocument hidden = frozen.live(key);
+            if (hidden != null) {
+                frozen.deleted.add(key);
+                discount(hidden.getLength());
+            }
+        }
+        for (Segment segment : segments) {
+            int ordinal = segment.mapped.ordinal(key);
+            if (ordinal >= 0 && !segment.deleted.get(ordinal)) {
+                segment.deleted.set(ordinal);
+                deletionsChanged = true;
+                discount(segment.mapped.length(ordinal));
+            }
+        }
+    }
+
+    private void discount(int length) {
+        liveDocuments--;
+        liveLength -= length;
+    }
+
+    /**
+     * Returns the documents of a segment that failed to flush to the active
+     * segment, unless they have been replaced or removed since.
+     */
+    private void thaw(MemorySegment flushing) {
+        flushing.documents.forEach((key, document) -> {
+            if (!flushing.deleted.contains(key) && !active.documents.containsKey(key)) {
+                active.add(document);
+            }
+        });
+        frozen = null;
+    }
+
+    private static List<IndexedDocument> liveDocuments(MappedSegment segment, BitSet deleted) {
+        List<Map<String, Integer>> frequencies = new ArrayList<>(segment.documentCount());
+        for (int ordinal = 0; ordinal < segment.documentCount(); ordinal++) {
+            frequencies.add(deleted.get(ordinal) ? null : new HashMap<>());
+        }
+        for (int termOrdinal = 0; termOrdinal < segment.termCount(); termOrdinal++) {
+            String term = segment.term(termOrdinal);
+            segment.forEachPosting(termOrdinal, (ordinal, frequency) -> {
+                Map<String, Integer> document = frequencies.get(ordinal);
+                if (document != null) {
+                    document.put(term, frequency);
+                }
+            });
+        }
+        List<IndexedDocument> documents = new ArrayList<>();
+        for (int ordinal = 0; ordinal < segment.documentCount(); ordinal++) {
+            if (frequencies.get(ordinal) != null) {
+                documents.add(new IndexedDocument(segment.key(ordinal), segment.title(ordinal),
+                        segment.categoryId(ordinal), frequencies.get(ordinal),
+                        segment.length(ordinal), segment.fingerprint(ordinal)));
+            }
+        }
+        return documents;
+    }
+
+    private Path nextSegmentFile() {
+        return directory.resolve(String.format("segment-%08d%s", generation++, SEGMENT_SUFFIX));
+    }
+
+    private void load() throws IOException {
+        Path manifest = directory.resolve(MANIFEST);
+        if (!Files.exists(manifest)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(manifest)))) {
+            if (in.readInt() != MANIFEST_MAGIC) {
+                throw new IOException("Not a segment manifest: " + manifest);
+            }
+            generation = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                MappedSegment mapped = MappedSegment.open(directory.resolve(in.readUTF()));
+                long[] words = new long[in.readInt()];
+                for (int w = 0; w < words.length; w++) {
+                    words[w] = in.readLong();
+                }
+                BitSet deleted = BitSet.valueOf(words);
+                for (int ordinal = 0; ordinal < mapped.documentCount(); ordinal++) {
+                    if (!deleted.get(ordinal)) {
+                        liveDocuments++;
+                        liveLength += mapped.length(ordinal);
+                    }
+                }
+                segments.add(new Segment(mapped, deleted));
+            }
+        }
+    }
+
+    /**
+     * Writes the manifest under a temporary name and renames it over the
+     * old one, so a crash leaves either the old or the new list of segments.
+     */
+    private void writeManifest() throws IOException {
+        Path temporary = directory.resolve(MANIFEST + TEMPORARY_SUFFIX);
+        try (FileOutputStream file = new FileOutputStream(temporary.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(MANIFEST_MAGIC);
+            out.writeLong(generation);
+            out.writeInt(segments.size());
+            for (Segment segment : segments) {
+                out.writeUTF(segment.mapped.getFile().getFileName().toString());
+                long[] words = segment.deleted.toLongArray();
+                out.writeInt(words.length);
+                for (long word : words) {
+                    out.writeLong(word);
+                }
+            }
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(temporary, directory.resolve(MANIFEST),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        deletionsChanged = false;
+    }
+
+    private void removeUnreferencedFiles() throws IOException {
+        Set<Path> referenced = new HashSet<>();
+        segments.forEach(segment -> referenced.add(segment.mapped.getFile()));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(TEMPORARY_SUFFIX)
+                        || (name.endsWith(SEGMENT_SUFFIX) && !referenced.contains(file))) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static final class Segment {
+        private final MappedSegment mapped;
+        private final BitSet deleted;
+
+        private Segment(MappedSegment mapped, BitSet deleted) {
+            this.mapped = mapped;
+            this.deleted = deleted;
+        }
+    }
+
+    /**
+     * Documents not yet written to disk. Once frozen for a flush its
+     * documents no longer change, and removals are recorded as deletions.
+     */
+    private static final class MemorySegment {
+        private final Map<Long, IndexedDocument> documents = new HashMap<>();
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Set<Long> deleted = new HashSet<>();
+
+        private void add(IndexedDocument document) {
+            documents.put(document.getKey(), document);
+            document.getFrequencies().forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(document.getKey(), frequency));
+        }
+
+        private IndexedDocument remove(long key) {
+            IndexedDocument removed = documents.remove(key);
+            if (removed != null) {
+                removed.getFrequencies().keySet().forEach(term -> {
+                    Map<Long, Integer> posting = postings.get(term);
+                    posting.remove(key);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                });
+            }
+            return removed;
+        }
+
+        private IndexedDocument live(long key) {
+            return deleted.contains(key) ? null : documents.get(key);
+        }
+    }
+
+    /**
+     * Postings of one query term gathered from every segment.
+     */
+    private static final class Matches {
+        private long[] keys = new long[16];
+        private int[] frequencies = new int[16];
+        private int[] lengths = new int[16];
+        private int size;
+
+        private void add(long key, int frequency, int length) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
+            keys[size] = key;
+            frequencies[size] = frequency;
+            lengths[size] = length;
+            size++;
+        }
+
+        private void clear() {
+            size = 0;
+        }
+    }
+}
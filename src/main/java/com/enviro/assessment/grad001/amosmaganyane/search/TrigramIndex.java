@@ -0,0 +1,170 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index answering case-insensitive substring queries.
+ * Every indexed text is split into its overlapping three-character windows,
+ * and each window keeps a posting set of the documents containing it.
+ * A query intersects the posting sets of its own trigrams, starting with
+ * the smallest, and verifies the surviving candidates against the stored text.
+ */
+public class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, String> documents = new HashMap<>();
+    private final Map<Long, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Indexes a document, replacing any text previously stored under the same ID.
+     *
+     * @param id the document ID
+     * @param text the text to index
+     */
+    public void put(Long id, String text) {
+        String normalized = normalize(text);
+        lock.writeLock().lock();
+        try {
+            String previous = documents.put(id, normalized);
+            if (previous != null) {
+                unlink(id, previous);
+            }
+            for (long gram : trigrams(normalized)) {
+                postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a document from the index. Unknown IDs are ignored.
+     *
+     * @param id the document ID
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            String previous = documents.remove(id);
+            if (previous != null) {
+                unlink(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the documents whose text contains the keyword, ignoring case.
+     * Keywords shorter than a trigram cannot use the postings and are
+     * checked against every stored text instead.
+     *
+     * @param keyword the substring to look for
+     * @return the matching document IDs in ascending order
+     */
+    public List<Long> search(String keyword) {
+        String needle = normalize(keyword);
+        lock.readLock().lock();
+        try {
+            List<Long> matches = new ArrayList<>();
+            if (needle.length() < GRAM_LENGTH) {
+                documents.forEach((id, text) -> {
+                    if (text.contains(needle)) {
+                        matches.add(id);
+                    }
+                });
+            } else {
+                List<Set<Long>> lists = new ArrayList<>();
+                for (long gram : trigrams(needle)) {
+                    Set<Long> posting = postings.get(gram);
+                    if (posting == null) {
+                        return List.of();
+                    }
+                    lists.add(posting);
+                }
+                lists.sort(Comparator.comparingInt(Set::size));
+                Set<Long> smallest = lists.get(0);
+                for (Long id : smallest) {
+                    if (containsInAll(lists, id) && documents.get(id).contains(needle)) {
+                        matches.add(id);
+                    }
+                }
+            }
+            Collections.sort(matches);
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed documents.
+     *
+     * @return the document count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Normalizes text the same way for indexing and querying.
+     *
+     * @param text the raw text, may be null
+     * @return the lower-cased text, or an empty string for null
+     */
+    public static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private void unlink(Long id, String text) {
+        for (long gram : trigrams(text)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static boolean containsInAll(List<Set<Long>> lists, Long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Packs every distinct three-character window of the text into a long,
+     * sixteen bits per character.
+     */
+    static Set<Long> trigrams(String text) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32)
+                    | ((long) text.charAt(i + 1) << 16)
+                    | text.charAt(i + 2));
+        }
+        return grams;
+    }
+}
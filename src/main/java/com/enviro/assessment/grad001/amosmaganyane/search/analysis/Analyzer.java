@@ -0,0 +1,180 @@
+package com.enviro.assessment.grad001.amosmaganyane.search.analysis;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Turns text into search terms by running it through a tokenizer and a
+ * chain of filters. Each thread keeps its own chain and reuses it for every
+ * text it analyzes, so steady-state analysis allocates nothing beyond what
+ * the caller does with the terms. Indexes and queries must go through the
+ * same analyzer for their terms to meet.
+ */
+public class Analyzer {
+
+    /**
+     * Classpath location of the default synonym rules.
+     */
+    public static final String DEFAULT_SYNONYMS = "/search/synonyms.txt";
+
+    /**
+     * Common English words too frequent to help ranking or matching.
+     */
+    public static final Set<String> ENGLISH_STOPWORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "do", "for", "from",
+            "how", "i", "if", "in", "into", "is", "it", "its", "my", "no", "not", "of",
+            "on", "or", "such", "that", "the", "their", "then", "there", "these", "they",
+            "this", "to", "was", "what", "when", "where", "will", "with", "your");
+
+    private final ThreadLocal<Pipeline> pipelines;
+
+    /**
+     * Creates an analyzer from a filter chain.
+     *
+     * @param filters wraps the tokenizer of each new pipeline in the filters to apply
+     */
+    public Analyzer(UnaryOperator<TokenStream> filters) {
+        this.pipelines = ThreadLocal.withInitial(() -> new Pipeline(filters));
+    }
+
+    /**
+     * Creates the English analyzer with the default stopwords and the
+     * synonym rules bundled on the classpath.
+     *
+     * @return the analyzer
+     */
+    public static Analyzer english() {
+        try (InputStream inputStream = Analyzer.class.getResourceAsStream(DEFAULT_SYNONYMS)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("File not found: " + DEFAULT_SYNONYMS);
+            }
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+            return english(parseSynonyms(reader), ENGLISH_STOPWORDS);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read synonyms: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates an English analyzer: tokenize, fold case and accents, stem
+     * plurals, apply synonyms, split remaining compounds, drop stopwords.
+     * Stemming comes before synonyms so one rule covers singular and plural.
+     *
+     * @param synonyms maps a word or hyphenated compound to its canonical form
+     * @param stopwords the words to drop
+     * @return the analyzer
+     */
+    public static Analyzer english(Map<String, String> synonyms, Set<String> stopwords) {
+        CharArrayMap<char[][]> rules = new CharArrayMap<>();
+        synonyms.forEach((word, canonical) -> {
+            String[] parts = FoldingFilter.fold(canonical.strip()).split("\\s+");
+            char[][] replacement = new char[parts.length][];
+            for (int i = 0; i < parts.length; i++) {
+                replacement[i] = parts[i].toCharArray();
+            }
+            char[] key = FoldingFilter.fold(word.strip()).toCharArray();
+            int length = EnglishStemFilter.stem(key, key.length);
+            rules.put(new String(key, 0, length), replacement);
+        });
+        CharArrayMap<Boolean> stopSet = new CharArrayMap<>();
+        stopwords.forEach(word -> stopSet.put(FoldingFilter.fold(word), Boolean.TRUE));
+        return new Analyzer(tokens -> new StopFilter(new CompoundSplitFilter(new SynonymFilter(
+                new EnglishStemFilter(new FoldingFilter(tokens)), rules)), stopSet));
+    }
+
+    /**
+     * Parses synonym rules, one per line in the form
+     * {@code word, other word => canonical form}. Blank lines and lines
+     * starting with {@code #} are skipped.
+     *
+     * @param reader the rules to parse
+     * @return each word mapped to its canonical form
+     * @throws IOException if the rules cannot be read
+     */
+    public static Map<String, String> parseSynonyms(BufferedReader reader) throws IOException {
+        Map<String, String> synonyms = new LinkedHashMap<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int arrow = line.indexOf("=>");
+            if (arrow < 0) {
+                throw new IllegalArgumentException("Invalid synonym rule: " + line);
+            }
+            String canonical = line.substring(arrow + 2).strip();
+            for (String word : line.substring(0, arrow).split(",")) {
+                if (!word.isBlank()) {
+                    synonyms.put(word.strip(), canonical);
+                }
+            }
+        }
+        return synonyms;
+    }
+
+    /**
+     * Analyzes text, handing each term to the consumer as it is produced.
+     * The buffer passed to the consumer is reused for the next term, and
+     * the consumer must not analyze other text on the same thread.
+     *
+     * @param text the text to analyze, may be null
+     * @param consumer receives each term
+     */
+    public void analyze(String text, TermConsumer consumer) {
+        Pipeline pipeline = pipelines.get();
+        pipeline.tokenizer.setText(text);
+        pipeline.stream.reset();
+        CharTerm term = pipeline.stream.term();
+        while (pipeline.stream.incrementToken()) {
+            consumer.accept(term.buffer(), term.length());
+        }
+    }
+
+    /**
+     * Analyzes text into a list of terms.
+     *
+     * @param text the text to analyze, may be null
+     * @return the terms in order, repeated as often as they occur
+     */
+    public List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        analyze(text, (buffer, length) -> terms.add(new String(buffer, 0, length)));
+        return terms;
+    }
+
+    /**
+     * Receives the terms produced by {@link #analyze(String, TermConsumer)}.
+     */
+    @FunctionalInterface
+    public interface TermConsumer {
+
+        /**
+         * Accepts one term.
+         *
+         * @param buffer holds the term in its first {@code length} characters
+         * @param length the term length
+         */
+        void accept(char[] buffer, int length);
+    }
+
+    private static final class Pipeline {
+        private final WordTokenizer tokenizer = new WordTokenizer();
+        private final TokenStream stream;
+
+        private Pipeline(UnaryOperator<TokenStream> filters) {
+            this.stream = filters.apply(tokenizer);
+        }
+    }
+}
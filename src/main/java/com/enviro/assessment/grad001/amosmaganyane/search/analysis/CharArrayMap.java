@@ -0,0 +1,97 @@
+package com.enviro.assessment.grad001.amosmaganyane.search.analysis;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map keyed by character sequences that can be probed
+ * with a slice of a {@code char[]}, so filters look up the current token
+ * without turning it into a String. Built once, then read-only.
+ *
+ * @param <V> the type of value
+ */
+public final class CharArrayMap<V> {
+
+    private char[][] keys = new char[16][];
+    private Object[] values = new Object[16];
+    private int size;
+
+    /**
+     * Adds or replaces a mapping.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public void put(String key, V value) {
+        if (2 * (size + 1) > keys.length) {
+            grow();
+        }
+        char[] chars = key.toCharArray();
+        int slot = slot(chars, 0, chars.length);
+        if (keys[slot] == null) {
+            keys[slot] = chars;
+            size++;
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * Looks up a slice of an array.
+     *
+     * @param buffer the array holding the key
+     * @param length the number of characters from the start of the array
+     * @return the value, or null if absent
+     */
+    @SuppressWarnings("unchecked")
+    public V get(char[] buffer, int length) {
+        int slot = slot(buffer, 0, length);
+        return keys[slot] == null ? null : (V) values[slot];
+    }
+
+    /**
+     * Checks whether a slice of an array is a key.
+     *
+     * @param buffer the array holding the key
+     * @param length the number of characters from the start of the array
+     * @return true if the key is present
+     */
+    public boolean containsKey(char[] buffer, int length) {
+        return keys[slot(buffer, 0, length)] != null;
+    }
+
+    /**
+     * Returns the number of mappings.
+     *
+     * @return the mapping count
+     */
+    public int size() {
+        return size;
+    }
+
+    private int slot(char[] buffer, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        int mask = keys.length - 1;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (keys[slot] != null && !Arrays.equals(keys[slot], 0, keys[slot].length,
+                buffer, offset, offset + length)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        char[][] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new char[oldKeys.length * 2][];
+        values = new Object[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = slot(oldKeys[i], 0, oldKeys[i].length);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
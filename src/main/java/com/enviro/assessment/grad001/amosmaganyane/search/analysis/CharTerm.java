@@ -0,0 +1,100 @@
+package com.enviro.assessment.grad001.amosmaganyane.search.analysis;
+
+import java.util.Arrays;
+
+/**
+ * Growable character buffer holding the current token of a token stream.
+ * Every stage of an analysis chain reads and rewrites the same buffer, and
+ * the buffer only grows, so a reused chain stops allocating once it has
+ * seen its longest token.
+ */
+public final class CharTerm {
+
+    private char[] buffer = new char[32];
+    private int length;
+
+    /**
+     * Returns the backing array; only the first {@link #length()} characters are valid.
+     *
+     * @return the backing array
+     */
+    public char[] buffer() {
+        return buffer;
+    }
+
+    /**
+     * Returns the number of valid characters.
+     *
+     * @return the token length
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Sets the number of valid characters, for example after stripping a suffix.
+     *
+     * @param length the new token length, at most the current capacity
+     */
+    public void setLength(int length) {
+        this.length = length;
+    }
+
+    /**
+     * Empties the term without releasing its buffer.
+     */
+    public void clear() {
+        length = 0;
+    }
+
+    /**
+     * Appends a character, growing the buffer if needed.
+     *
+     * @param c the character to append
+     */
+    public void append(char c) {
+        if (length == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        buffer[length++] = c;
+    }
+
+    /**
+     * Replaces the term with a range of another array.
+     *
+     * @param source the array to copy from
+     * @param offset the first character to copy
+     * @param count the number of characters to copy
+     */
+    public void copy(char[] source, int offset, int count) {
+        if (count > buffer.length) {
+            buffer = new char[Math.max(count, buffer.length * 2)];
+        }
+        System.arraycopy(source, offset, buffer, 0, count);
+        length = count;
+    }
+
+    /**
+     * Checks whether the term ends with the given ASCII suffix.
+     *
+     * @param suffix the suffix to test
+     * @return true if the term ends with it
+     */
+    public boolean endsWith(String suffix) {
+        int start = length - suffix.length();
+        if (start < 0) {
+            return false;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (buffer[start + i] != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, length);
+    }
+}
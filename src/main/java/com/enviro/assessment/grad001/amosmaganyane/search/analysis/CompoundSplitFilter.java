@@ -0,0 +1,59 @@
+package com.enviro.assessment.grad001.amosmaganyane.search.analysis;
+
+import java.util.Arrays;
+
+/**
+ * Splits hyphenated tokens that no synonym claimed into their parts, so
+ * "car-battery" still matches "battery". The compound is copied into a
+ * scratch buffer that is reused between tokens.
+ */
+public final class CompoundSplitFilter extends TokenFilter {
+
+    private char[] compound = new char[32];
+    private int compoundLength;
+    private int position = -1;
+
+    public CompoundSplitFilter(TokenStream input) {
+        super(input);
+    }
+
+    @Override
+    public boolean incrementToken() {
+        if (position < 0) {
+            if (!input.incrementToken()) {
+                return false;
+            }
+            if (indexOfHyphen(term.buffer(), term.length()) < 0) {
+                return true;
+            }
+            if (compound.length < term.length()) {
+                compound = Arrays.copyOf(compound, Math.max(term.length(), compound.length * 2));
+            }
+            System.arraycopy(term.buffer(), 0, compound, 0, term.length());
+            compoundLength = term.length();
+            position = 0;
+        }
+        int end = position;
+        while (end < compoundLength && compound[end] != '-') {
+            end++;
+        }
+        term.copy(compound, position, end - position);
+        position = end < compoundLength ? end + 1 : -1;
+        return true;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        position = -1;
+    }
+
+    private static int indexOfHyphen(char[] buffer, int length) {
+        for (int i = 0; i < length; i++) {
+            if (buffer[i] == '-') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,58 @@
+package com.enviro.assessment.grad001.amosmaganyane.search.analysis;
+
+/**
+ * Light English stemmer that only reduces plurals to their singular, in
+ * place: "bottles" to "bottle", "batteries" to "battery" and "boxes" to
+ * "box". Heavier stemmers conflate words like "recycling" and "recycle"
+ * at the cost of surprising matches, which a small catalogue does not need.
+ */
+public final class EnglishStemFilter extends TokenFilter {
+
+    public EnglishStemFilter(TokenStream input) {
+        super(input);
+    }
+
+    @Override
+    public boolean incrementToken() {
+        if (!input.incrementToken()) {
+            return false;
+        }
+        term.setLength(stem(term.buffer(), term.length()));
+        return true;
+    }
+
+    /**
+     * Strips a plural suffix from a lower-case word.
+     *
+     * @param s the buffer holding the word; may be rewritten
+     * @param length the length of the word
+     * @return the length of the stem
+     */
+    static int stem(char[] s, int length) {
+        if (length < 4 || s[length - 1] != 's') {
+            return length;
+        }
+        switch (s[length - 2]) {
+            case 'u':
+            case 's':
+            case 'i':
+                return length;
+            case 'e':
+                if (s[length - 3] == 'i' && s[length - 4] != 'a' && s[length - 4] != 'e') {
+                    s[length - 3] = 'y';
+                    return length - 2;
+                }
+                if (s[length - 3] == 'x' || s[length - 3] == 'z'
+                        || (s[length - 3] == 's' && s[length - 4] == 's')
+                        || (s[length - 3] == 'h' && (s[length - 4] == 'c' || s[length - 4] == 's'))) {
+                    return length - 2;
+                }
+                if (s[length - 3] == 'a' || s[length - 3] == 'e' || s[length - 3] == 'o') {
+                    return length;
+                }
+                return length - 1;
+            default:
+                return length - 1;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.enviro.assessment.grad001.amosmaganyane.search.analysis;
+
+import java.text.Normalizer;
+
+/**
+ * Lower-cases tokens and strips accents in place, so accented and plain
+ * spellings of a word index the same. Accented Latin letters are folded
+ * through a table built once from their Unicode decompositions; other
+ * characters are only lower-cased.
+ */
+public final class FoldingFilter extends TokenFilter {
+
+    private static final char TABLE_END = 0x250;
+    private static final char[] FOLDED = new char[TABLE_END];
+
+    static {
+        for (char c = 0; c < TABLE_END; c++) {
+            String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            FOLDED[c] = Character.toLowerCase(decomposed.charAt(0));
+        }
+        // Letters with a stroke have no decomposition
+        FOLDED['\u00D8'] = 'o';
+        FOLDED['\u00F8'] = 'o';
+        FOLDED['\u0110'] = 'd';
+        FOLDED['\u0111'] = 'd';
+        FOLDED['\u0141'] = 'l';
+        FOLDED['\u0142'] = 'l';
+    }
+
+    public FoldingFilter(TokenStream input) {
+        super(input);
+    }
+
+    @Override
+    public boolean incrementToken() {
+        if (!input.incrementToken()) {
+            return false;
+        }
+        char[] buffer = term.buffer();
+        for (int i = 0; i < term.length(); i++) {
+            buffer[i] = fold(buffer[i]);
+        }
+        return true;
+    }
+
+    /**
+     * Folds a single character.
+     *
+     * @param c the character to fold
+     * @return its lower-case, unaccented form
+     */
+    public static char fold(char c) {
+        return c < TABLE_END ? FOLDED[c] : Character.toLowerCase(c);
+    }
+
+    /**
+     * Folds every character of a string.
+     *
+     * @param text the text to fold
+     * @return the folded text
+     */
+    public static String fold(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(chars[i]);
+        }
+        return new String(chars);
+    }
+}
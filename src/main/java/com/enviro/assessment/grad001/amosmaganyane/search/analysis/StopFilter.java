@@ -0,0 +1,30 @@
+package com.enviro.assessment.grad001.amosmaganyane.search.analysis;
+
+/**
+ * Drops tokens found in a stopword set.
+ */
+public final class StopFilter extends TokenFilter {
+
+    private final CharArrayMap<Boolean> stopwords;
+
+    /**
+     * Creates the filter.
+     *
+     * @param input the stream to read from; its tokens must already be folded
+     * @param stopwords the folded words to drop
+     */
+    public StopFilter(TokenStream input, CharArrayMap<Boolean> stopwords) {
+        super(input);
+        this.stopwords = stopwords;
+    }
+
+    @Override
+    public boolean incrementToken() {
+        while (input.incrementToken()) {
+            if (!stopwords.containsKey(term.buffer(), term.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,51 @@
+package com.enviro.assessment.grad001.amosmaganyane.search.analysis;
+
+/**
+ * Replaces a token with the tokens of its canonical form, so "e-waste"
+ * becomes "electronic" and "waste". Running the same rules over indexed
+ * text and queries makes either spelling match the other without
+ * multiplying the terms of every document.
+ */
+public final class SynonymFilter extends TokenFilter {
+
+    private final CharArrayMap<char[][]> rules;
+    private char[][] pending;
+    private int next;
+
+    /**
+     * Creates the filter.
+     *
+     * @param input the stream to read from; its tokens must already be folded and stemmed
+     * @param rules maps a folded, stemmed token to the tokens that replace it
+     */
+    public SynonymFilter(TokenStream input, CharArrayMap<char[][]> rules) {
+        super(input);
+        this.rules = rules;
+    }
+
+    @Override
+    public boolean incrementToken() {
+        if (pending != null && next < pending.length) {
+            char[] replacement = pending[next++];
+            term.copy(replacement, 0, replacement.length);
+            return true;
+        }
+        pending = null;
+        if (!input.incrementToken()) {
+            return false;
+        }
+        char[][] replacement = rules.get(term.buffer(), term.length());
+        if (replacement != null) {
+            pending = replacement;
+            next = 1;
+            term.copy(replacement[0], 0, replacement[0].length);
+        }
+        return true;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        pending = null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.enviro.assessment.grad001.amosmaganyane.search.analysis;
+
+/**
+ * Stage of an analysis chain that reads tokens from another stream and
+ * rewrites, drops or adds to them. Filters share their input's term buffer.
+ */
+public abstract class TokenFilter extends TokenStream {
+
+    protected final TokenStream input;
+
+    protected TokenFilter(TokenStream input) {
+        super(input.term());
+        this.input = input;
+    }
+
+    @Override
+    public void reset() {
+        input.reset();
+    }
+}
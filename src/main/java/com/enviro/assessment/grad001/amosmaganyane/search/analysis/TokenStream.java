@@ -0,0 +1,38 @@
+package com.enviro.assessment.grad001.amosmaganyane.search.analysis;
+
+/**
+ * Source of tokens for one text at a time. Consumers call
+ * {@link #incrementToken()} until it returns false and read each token
+ * from {@link #term()} before advancing, since the term is overwritten.
+ */
+public abstract class TokenStream {
+
+    protected final CharTerm term;
+
+    protected TokenStream(CharTerm term) {
+        this.term = term;
+    }
+
+    /**
+     * Advances to the next token.
+     *
+     * @return true if {@link #term()} now holds a token, false at the end of the text
+     */
+    public abstract boolean incrementToken();
+
+    /**
+     * Discards any state left from the previous text.
+     */
+    public void reset() {
+        term.clear();
+    }
+
+    /**
+     * Returns the buffer holding the current token.
+     *
+     * @return the current term
+     */
+    public final CharTerm term() {
+        return term;
+    }
+}
@@ -0,0 +1,63 @@
+package com.enviro.assessment.grad001.amosmaganyane.search.analysis;
+
+/**
+ * Splits text into runs of letters and digits. A hyphen between two word
+ * characters stays inside the token so compounds like "e-waste" reach the
+ * synonym filter whole, and an apostrophe between letters is dropped so
+ * "children's" becomes "childrens".
+ */
+public final class WordTokenizer extends TokenStream {
+
+    private CharSequence text = "";
+    private int position;
+
+    public WordTokenizer() {
+        super(new CharTerm());
+    }
+
+    /**
+     * Starts tokenizing a new text.
+     *
+     * @param text the text to split, may be null
+     */
+    public void setText(CharSequence text) {
+        this.text = text == null ? "" : text;
+        reset();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        position = 0;
+    }
+
+    @Override
+    public boolean incrementToken() {
+        term.clear();
+        int end = text.length();
+        while (position < end && !Character.isLetterOrDigit(text.charAt(position))) {
+            position++;
+        }
+        while (position < end) {
+            char c = text.charAt(position);
+            if (Character.isLetterOrDigit(c)) {
+                term.append(c);
+            } else if (!joinsWord(c)) {
+                break;
+            } else if (c == '-') {
+                term.append(c);
+            }
+            position++;
+        }
+        return term.length() > 0;
+    }
+
+    private boolean joinsWord(char c) {
+        if (c != '-' && c != '\'' && c != '\u2019') {
+            return false;
+        }
+        return position + 1 < text.length()
+                && Character.isLetterOrDigit(text.charAt(position + 1))
+                && (c == '-' || Character.isLetter(text.charAt(position - 1)));
+    }
+}
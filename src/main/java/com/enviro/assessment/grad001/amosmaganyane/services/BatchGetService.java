@@ -0,0 +1,94 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.BatchGetResponseDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.DisposalGuidelineDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.WasteCategoryDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Reads many categories, tips or guidelines by ID at once. Every ID is
+ * looked up in one {@link CatalogSnapshot}, so a batch sees a single
+ * consistent state of the catalogue and never touches the database.
+ * Results keep the order the IDs were requested in; an ID listed twice is
+ * answered once, and IDs with no entity are reported rather than failing
+ * the batch.
+ */
+@Service
+public class BatchGetService {
+
+    private final CatalogReadModel readModel;
+    private final int maxIds;
+
+    public BatchGetService(CatalogReadModel readModel,
+                           @Value("${batch-get.max-ids:100}") int maxIds) {
+        this.readModel = readModel;
+        this.maxIds = maxIds;
+    }
+
+    /**
+     * Reads categories by ID.
+     *
+     * @param ids the IDs, in the order results should follow
+     * @return the categories found and the IDs that were not
+     * @throws IllegalArgumentException if no IDs are given, one is null, or there are more than the cap
+     */
+    public BatchGetResponseDTO<WasteCategoryDTO> categories(List<Long> ids) {
+        CatalogSnapshot snapshot = readModel.snapshot();
+        return get(ids, snapshot::category);
+    }
+
+    /**
+     * Reads tips by ID.
+     *
+     * @param ids the IDs, in the order results should follow
+     * @return the tips found and the IDs that were not
+     * @throws IllegalArgumentException if no IDs are given, one is null, or there are more than the cap
+     */
+    public BatchGetResponseDTO<RecyclingTipDTO> tips(List<Long> ids) {
+        CatalogSnapshot snapshot = readModel.snapshot();
+        return get(ids, snapshot::tip);
+    }
+
+    /**
+     * Reads guidelines by ID.
+     *
+     * @param ids the IDs, in the order results should follow
+     * @return the guidelines found and the IDs that were not
+     * @throws IllegalArgumentException if no IDs are given, one is null, or there are more than the cap
+     */
+    public BatchGetResponseDTO<DisposalGuidelineDTO> guidelines(List<Long> ids) {
+        CatalogSnapshot snapshot = readModel.snapshot();
+        return get(ids, snapshot::guideline);
+    }
+
+    private <D> BatchGetResponseDTO<D> get(List<Long> ids, Function<Long, Optional<D>> lookup) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("No IDs given");
+        }
+        if (ids.size() > maxIds) {
+            throw new IllegalArgumentException("At most " + maxIds + " IDs per request");
+        }
+        Set<Long> unique = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id == null) {
+                throw new IllegalArgumentException("IDs must not be null");
+            }
+            unique.add(id);
+        }
+        List<D> items = new ArrayList<>(unique.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : unique) {
+            lookup.apply(id).ifPresentOrElse(items::add, () -> missing.add(id));
+        }
+        return new BatchGetResponseDTO<>(items, missing);
+    }
+}
@@ -0,0 +1,472 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.BulkItemResultDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.BulkUpsertResponseDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.DisposalGuidelineDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeBatchEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.DisposalGuidelineRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.RecyclingTipRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates or updates many tips or guidelines in one request. An item is
+ * identified by its natural key, its category and exact title: an existing
+ * entity with that key gets the item's text, otherwise a new one is created.
+ * An item names its category by {@code categoryId}, or by
+ * {@code categoryName} when it has no ID, so files keyed by name load as
+ * they are.
+ *
+ * <p>Every item is validated before anything is written, with the same
+ * rules as a single create, and the categories of all items are resolved
+ * in one query for IDs and one for names. Invalid items, including repeats
+ * of a key already in the request, are reported and skipped; the rest are
+ * written in one transaction, in batches of {@code bulk.batch-size} items,
+ * each taking one query to find the existing entities and one flush, after
+ * which the persistence context is cleared. The change events of the
+ * written items are published together, as one
+ * {@link CatalogChangeBatchEvent}, once the transaction has committed, so
+ * in-memory read structures never see a write that is rolled back and
+ * take a large request in one update.
+ */
+@Service
+public class BulkUpsertService {
+
+    private final WasteCategoryRepository categoryRepository;
+    private final RecyclingTipRepository tipRepository;
+    private final DisposalGuidelineRepository guidelineRepository;
+    private final RecyclingTipService tipService;
+    private final DisposalGuidelineService guidelineService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactions;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxItems;
+
+    public BulkUpsertService(WasteCategoryRepository categoryRepository,
+                             RecyclingTipRepository tipRepository,
+                             DisposalGuidelineRepository guidelineRepository,
+                             RecyclingTipService tipService,
+                             DisposalGuidelineService guidelineService,
+                             EntityManager entityManager,
+                             TransactionTemplate transactions,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${bulk.batch-size:500}") int batchSize,
+                             @Value("${bulk.max-items:10000}") int maxItems) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least one item");
+        }
+        this.categoryRepository = categoryRepository;
+        this.tipRepository = tipRepository;
+        this.guidelineRepository = guidelineRepository;
+        this.tipService = tipService;
+        this.guidelineService = guidelineService;
+        this.entityManager = entityManager;
+        this.transactions = transactions;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * Returns the most items one request may contain, so a caller reading a
+     * request can stop as soon as it holds more.
+     *
+     * @return the item cap
+     */
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    /**
+     * Creates or updates tips by category and title.
+     *
+     * @param items the tips, each with a title, content and category
+     * @return one result per item, in request order
+     * @throws IllegalArgumentException if there are no items or more than the cap
+     */
+    public BulkUpsertResponseDTO upsertTips(List<RecyclingTipDTO> items) {
+        return upsert(items, new TipKind());
+    }
+
+    /**
+     * Creates or updates guidelines by category and title.
+     *
+     * @param items the guidelines, each with a title, instructions and category
+     * @return one result per item, in request order
+     * @throws IllegalArgumentException if there are no items or more than the cap
+     */
+    public BulkUpsertResponseDTO upsertGuidelines(List<DisposalGuidelineDTO> items) {
+        return upsert(items, new GuidelineKind());
+    }
+
+    private <D, E> BulkUpsertResponseDTO upsert(List<D> items, Kind<D, E> kind) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Bulk request must contain at least one item");
+        }
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("Bulk request cannot contain more than " + maxItems + " items");
+        }
+        BulkItemResultDTO[] results = new BulkItemResultDTO[items.size()];
+        List<Pending<D>> pending = validate(items, kind, results);
+        if (!pending.isEmpty()) {
+            List<CatalogChangeEvent> events = transactions.execute(status -> write(pending, kind, results));
+            if (!events.isEmpty()) {
+                eventPublisher.publishEvent(new CatalogChangeBatchEvent(this, events));
+            }
+        }
+        return new BulkUpsertResponseDTO(Arrays.asList(results));
+    }
+
+    /**
+     * Checks every item, recording a result for the invalid ones, and
+     * returns the rest with their categories resolved.
+     */
+    private <D> List<Pending<D>> validate(List<D> items, Kind<D, ?> kind, BulkItemResultDTO[] results) {
+        Categories categories = resolveCategories(items, kind);
+        Map<Key, Integer> firstIndex = new HashMap<>();
+        List<Pending<D>> pending = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            D item = items.get(i);
+            String error = null;
+            WasteCategory category = null;
+            if (item == null) {
+                error = "Item is missing";
+            } else if (kind.title(item) == null || kind.title(item).trim().isEmpty()) {
+                error = "Title is required";
+            } else if (!kind.isValidBody(kind.body(item))) {
+                error = kind.invalidBodyError();
+            } else if (kind.categoryId(item) == null && kind.categoryName(item) == null) {
+                error = "Category is required";
+            } else {
+                category = categories.find(kind.categoryId(item), kind.categoryName(item));
+                if (category == null) {
+                    error = "Category not found";
+                }
+            }
+            if (error == null) {
+                Key key = new Key(category.getId(), kind.title(item));
+                Integer first = firstIndex.putIfAbsent(key, i);
+                if (first != null) {
+                    error = "Duplicate of item " + first;
+                } else {
+                    pending.add(new Pending<>(i, item, key, category));
+                }
+            }
+            if (error != null) {
+                results[i] = BulkItemResultDTO.invalid(i, error);
+            }
+        }
+        return pending;
+    }
+
+    private <D> Categories resolveCategories(List<D> items, Kind<D, ?> kind) {
+        Set<Long> ids = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        for (D item : items) {
+            if (item == null) {
+                continue;
+            }
+            if (kind.categoryId(item) != null) {
+                ids.add(kind.categoryId(item));
+            } else if (kind.categoryName(item) != null) {
+                names.add(kind.categoryName(item));
+            }
+        }
+        Categories categories = new Categories();
+        if (!ids.isEmpty()) {
+            categoryRepository.findAllById(ids).forEach(category -> categories.byId.put(category.getId(), category));
+        }
+        if (!names.isEmpty()) {
+            categoryRepository.findByNameIn(names).forEach(category -> categories.byName.put(category.getName(), category));
+        }
+        return categories;
+    }
+
+    /**
+     * Writes the valid items batch by batch, recording their results, and
+     * returns the change events to publish after commit.
+     */
+    private <D, E> List<CatalogChangeEvent> write(List<Pending<D>> pending, Kind<D, E> kind,
+                                                  BulkItemResultDTO[] results) {
+        List<CatalogChangeEvent> events = new ArrayList<>();
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<Pending<D>> batch = pending.subList(from, Math.min(from + batchSize, pending.size()));
+            Map<Key, E> existing = findExisting(batch, kind);
+            List<E> changed = new ArrayList<>();
+            List<Pending<D>> changedItems = new ArrayList<>();
+            List<ChangeOperation> operations = new ArrayList<>();
+            for (Pending<D> item : batch) {
+                String body = kind.body(item.item());
+                E entity = existing.get(item.key());
+                if (entity == null) {
+                    entity = kind.create(kind.title(item.item()), body, item.category());
+                    operations.add(ChangeOperation.CREATED);
+                } else if (body.equals(kind.bodyOf(entity))) {
+                    results[item.index()] = BulkItemResultDTO.written(
+                            item.index(), BulkItemResultDTO.Status.UNCHANGED, kind.idOf(entity));
+                    continue;
+                } else {
+                    kind.setBody(entity, body);
+                    operations.add(ChangeOperation.UPDATED);
+                }
+                changed.add(entity);
+                changedItems.add(item);
+            }
+            kind.saveAll(changed);
+            entityManager.flush();
+            for (int i = 0; i < changed.size(); i++) {
+                E entity = changed.get(i);
+                int index = changedItems.get(i).index();
+                BulkItemResultDTO.Status status = operations.get(i) == ChangeOperation.CREATED
+                        ? BulkItemResultDTO.Status.CREATED
+                        : BulkItemResultDTO.Status.UPDATED;
+                results[index] = BulkItemResultDTO.written(index, status, kind.idOf(entity));
+                events.add(kind.event(operations.get(i), entity));
+            }
+            entityManager.clear();
+        }
+        return events;
+    }
+
+    /**
+     * Loads the entities with the keys of a batch in one query. Keys are not
+     * unique in the database; the oldest entity with a key is the one updated.
+     */
+    private <D, E> Map<Key, E> findExisting(List<Pending<D>> batch, Kind<D, E> kind) {
+        Set<Long> categoryIds = new HashSet<>();
+        Set<String> titles = new HashSet<>();
+        for (Pending<D> item : batch) {
+            categoryIds.add(item.key().categoryId());
+            titles.add(item.key().title());
+        }
+        Map<Key, E> existing = new HashMap<>();
+        for (E entity : kind.findExisting(categoryIds, titles)) {
+            existing.putIfAbsent(kind.keyOf(entity), entity);
+        }
+        return existing;
+    }
+
+    /**
+     * The natural key of a tip or guideline.
+     */
+    private record Key(Long categoryId, String title) {
+    }
+
+    /**
+     * A valid item waiting to be written.
+     */
+    private record Pending<D>(int index, D item, Key key, WasteCategory category) {
+    }
+
+    /**
+     * The categories named by a request, by ID and by name.
+     */
+    private static final class Categories {
+        private final Map<Long, WasteCategory> byId = new HashMap<>();
+        private final Map<String, WasteCategory> byName = new HashMap<>();
+
+        WasteCategory find(Long id, String name) {
+            return id != null ? byId.get(id) : byName.get(name);
+        }
+    }
+
+    /**
+     * How items of one type are read, validated and written.
+     *
+     * @param <D> the DTO of an item
+     * @param <E> the entity
+     */
+    private abstract static class Kind<D, E> {
+        abstract String title(D item);
+
+        abstract String body(D item);
+
+        abstract Long categoryId(D item);
+
+        abstract String categoryName(D item);
+
+        abstract boolean isValidBody(String body);
+
+        abstract String invalidBodyError();
+
+        abstract List<E> findExisting(Collection<Long> categoryIds, Collection<String> titles);
+
+        abstract Key keyOf(E entity);
+
+        abstract Long idOf(E entity);
+
+        abstract String bodyOf(E entity);
+
+        abstract E create(String title, String body, WasteCategory category);
+
+        abstract void setBody(E entity, String body);
+
+        abstract void saveAll(List<E> entities);
+
+        abstract CatalogChangeEvent event(ChangeOperation operation, E entity);
+    }
+
+    private final class TipKind extends Kind<RecyclingTipDTO, RecyclingTip> {
+        @Override
+        String title(RecyclingTipDTO item) {
+            return item.getTitle();
+        }
+
+        @Override
+        String body(RecyclingTipDTO item) {
+            return item.getContent();
+        }
+
+        @Override
+        Long categoryId(RecyclingTipDTO item) {
+            return item.getCategoryId();
+        }
+
+        @Override
+        String categoryName(RecyclingTipDTO item) {
+            return item.getCategoryName();
+        }
+
+        @Override
+        boolean isValidBody(String body) {
+            return tipService.isValidTipContent(body);
+        }
+
+        @Override
+        String invalidBodyError() {
+            return "Invalid tip content";
+        }
+
+        @Override
+        List<RecyclingTip> findExisting(Collection<Long> categoryIds, Collection<String> titles) {
+            return tipRepository.findByCategoryIdsAndTitles(categoryIds, titles);
+        }
+
+        @Override
+        Key keyOf(RecyclingTip tip) {
+            return new Key(tip.getCategory().getId(), tip.getTitle());
+        }
+
+        @Override
+        Long idOf(RecyclingTip tip) {
+            return tip.getId();
+        }
+
+        @Override
+        String bodyOf(RecyclingTip tip) {
+            return tip.getContent();
+        }
+
+        @Override
+        RecyclingTip create(String title, String body, WasteCategory category) {
+            return new RecyclingTip(null, title, body, category);
+        }
+
+        @Override
+        void setBody(RecyclingTip tip, String body) {
+            tip.setContent(body);
+        }
+
+        @Override
+        void saveAll(List<RecyclingTip> tips) {
+            tipRepository.saveAll(tips);
+        }
+
+        @Override
+        CatalogChangeEvent event(ChangeOperation operation, RecyclingTip tip) {
+            return CatalogChangeEvent.of(BulkUpsertService.this, operation, tip);
+        }
+    }
+
+    private final class GuidelineKind extends Kind<DisposalGuidelineDTO, DisposalGuideline> {
+        @Override
+        String title(DisposalGuidelineDTO item) {
+            return item.getTitle();
+        }
+
+        @Override
+        String body(DisposalGuidelineDTO item) {
+            return item.getInstructions();
+        }
+
+        @Override
+        Long categoryId(DisposalGuidelineDTO item) {
+            return item.getCategoryId();
+        }
+
+        @Override
+        String categoryName(DisposalGuidelineDTO item) {
+            return item.getCategoryName();
+        }
+
+        @Override
+        boolean isValidBody(String body) {
+            return guidelineService.isValidGuidelineInstructions(body);
+        }
+
+        @Override
+        String invalidBodyError() {
+            return "Invalid guideline instructions";
+        }
+
+        @Override
+        List<DisposalGuideline> findExisting(Collection<Long> categoryIds, Collection<String> titles) {
+            return guidelineRepository.findByCategoryIdsAndTitles(categoryIds, titles);
+        }
+
+        @Override
+        Key keyOf(DisposalGuideline guideline) {
+            return new Key(guideline.getCategory().getId(), guideline.getTitle());
+        }
+
+        @Override
+        Long idOf(DisposalGuideline guideline) {
+            return guideline.getId();
+        }
+
+        @Override
+        String bodyOf(DisposalGuideline guideline) {
+            return guideline.getInstructions();
+        }
+
+        @Override
+        DisposalGuideline create(String title, String body, WasteCategory category) {
+            return new DisposalGuideline(null, title, body, category);
+        }
+
+        @Override
+        void setBody(DisposalGuideline guideline, String body) {
+            guideline.setInstructions(body);
+        }
+
+        @Override
+        void saveAll(List<DisposalGuideline> guidelines) {
+            guidelineRepository.saveAll(guidelines);
+        }
+
+        @Override
+        CatalogChangeEvent event(ChangeOperation operation, DisposalGuideline guideline) {
+            return CatalogChangeEvent.of(BulkUpsertService.this, operation, guideline);
+        }
+    }
+}
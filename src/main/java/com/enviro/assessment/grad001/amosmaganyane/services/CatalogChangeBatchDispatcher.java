@@ -0,0 +1,62 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeBatchEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeBatchListener;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Hands the writes the services publish to every listener of change
+ * events, in the listeners' usual order. A {@link CatalogChangeBatchListener},
+ * such as {@link CatalogReadModel} or {@link ChangeLogService}, takes each
+ * batch at once; the others get its writes one by one.
+ *
+ * <p>The writes are already saved, so every listener must see every one of
+ * them, and a failing listener must not turn a write that succeeded into
+ * an error for its client. Each call is made on its own: a listener that
+ * fails is logged and the batch goes on, to the rest of its writes and to
+ * the listeners after it.
+ */
+@Service
+public class CatalogChangeBatchDispatcher implements ApplicationListener<CatalogChangeBatchEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogChangeBatchDispatcher.class);
+
+    private final ObjectProvider<ApplicationListener<CatalogChangeEvent>> listeners;
+
+    public CatalogChangeBatchDispatcher(ObjectProvider<ApplicationListener<CatalogChangeEvent>> listeners) {
+        this.listeners = listeners;
+    }
+
+    /**
+     * Passes every write of the batch to every listener.
+     *
+     * @param batch the writes published by a service
+     */
+    @Override
+    public void onApplicationEvent(CatalogChangeBatchEvent batch) {
+        listeners.orderedStream().forEach(listener -> {
+            if (listener instanceof CatalogChangeBatchListener batchListener) {
+                try {
+                    batchListener.onBatch(batch.getChanges());
+                } catch (RuntimeException e) {
+                    log.error("{} failed on a batch of {} writes", listener.getClass().getSimpleName(),
+                            batch.getChanges().size(), e);
+                }
+                return;
+            }
+            for (CatalogChangeEvent change : batch.getChanges()) {
+                try {
+                    listener.onApplicationEvent(change);
+                } catch (RuntimeException e) {
+                    log.error("{} failed on {} {} {}", listener.getClass().getSimpleName(),
+                            change.getOperation(), change.getEntityType(), change.getEntityId(), e);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,74 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.CSVWriter;
+import com.opencsv.ICSVParser;
+import com.opencsv.ICSVWriter;
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * The CSV files the catalogue is loaded from and exported to, and the one
+ * dialect both sides use.
+ *
+ * <p>opencsv's default reader takes a backslash as its escape character,
+ * while its default writer doubles quotes and leaves backslashes alone, so
+ * a value containing a backslash would not survive a default write and
+ * read. The writer here escapes quotes and backslashes with a backslash,
+ * which is what the reader expects, and the reader keeps carriage returns
+ * inside quoted values, so any value written reads back unchanged.
+ *
+ * <p>Every value is written quoted except a null, which is written as
+ * nothing at all, and the reader takes such an unquoted empty field as
+ * null, so a null and an empty string stay apart. Values are read as they
+ * are, whitespace included, so nothing may trim them afterwards.
+ */
+public final class CatalogCsv {
+
+    /** File of waste categories: name, description. */
+    public static final String CATEGORIES_FILE = "categories.csv";
+
+    /** File of recycling tips: title, content, category name. */
+    public static final String TIPS_FILE = "recycling_tips.csv";
+
+    /** File of disposal guidelines: title, instructions, category name. */
+    public static final String GUIDELINES_FILE = "disposal_guidelines.csv";
+
+    static final String[] CATEGORIES_HEADER = {"name", "description"};
+    static final String[] TIPS_HEADER = {"title", "content", "category_name"};
+    static final String[] GUIDELINES_HEADER = {"title", "instructions", "category_name"};
+
+    private CatalogCsv() {
+    }
+
+    /**
+     * Creates a reader for catalogue CSV.
+     *
+     * @param reader the characters to read
+     * @return the CSV reader
+     */
+    public static CSVReader reader(Reader reader) {
+        return new CSVReaderBuilder(reader)
+                .withKeepCarriageReturn(true)
+                .withFieldAsNull(CSVReaderNullFieldIndicator.EMPTY_SEPARATORS)
+                .build();
+    }
+
+    /**
+     * Creates a writer of catalogue CSV. Every value but a null is quoted
+     * and rows end with a line feed.
+     *
+     * @param writer the characters to write to
+     * @return the CSV writer
+     */
+    public static ICSVWriter writer(Writer writer) {
+        return new CSVWriter(writer,
+                ICSVWriter.DEFAULT_SEPARATOR,
+                ICSVWriter.DEFAULT_QUOTE_CHARACTER,
+                ICSVParser.DEFAULT_ESCAPE_CHARACTER,
+                ICSVWriter.DEFAULT_LINE_END);
+    }
+}
@@ -0,0 +1,200 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.DisposalGuidelineDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.DisposalGuidelineRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.RecyclingTipRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opencsv.ICSVWriter;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes whole tables to a stream, as newline-delimited JSON with one DTO
+ * per line or as CSV in the files the {@link DataLoaderService} loads. Unlike
+ * the list endpoints, nothing is collected first: rows are
+ * read from the database through a cursor in fetch-size batches, each is
+ * written as soon as it arrives and then detached, and the output is
+ * flushed every few rows, so memory stays flat whatever the table size and
+ * the client starts receiving data at once.
+ *
+ * <p>A tip or guideline is loaded with its category, which stays in the
+ * persistence context for the rows that follow; there are only as many of
+ * those as there are categories.
+ *
+ * <p>CSV goes through a single buffered writer per export, in the
+ * {@link CatalogCsv} dialect, with a header row and the category named by
+ * its name, so an exported file can replace the bundled one as it is and
+ * loads back into the same rows. A name only identifies a category while
+ * no other category has it, so a CSV export is refused while any name is
+ * shared.
+ */
+@Service
+public class CatalogExportService {
+
+    private final WasteCategoryRepository categoryRepository;
+    private final RecyclingTipRepository tipRepository;
+    private final DisposalGuidelineRepository guidelineRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int flushEvery;
+
+    public CatalogExportService(WasteCategoryRepository categoryRepository,
+                                RecyclingTipRepository tipRepository,
+                                DisposalGuidelineRepository guidelineRepository,
+                                EntityManager entityManager,
+                                ObjectMapper objectMapper,
+                                @Value("${export.flush-every:500}") int flushEvery) {
+        if (flushEvery < 1) {
+            throw new IllegalArgumentException("Flush interval must be at least one row");
+        }
+        this.categoryRepository = categoryRepository;
+        this.tipRepository = tipRepository;
+        this.guidelineRepository = guidelineRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.flushEvery = flushEvery;
+    }
+
+    /**
+     * Writes every tip, by ascending ID, as one JSON object per line.
+     *
+     * @param out the stream to write to; it is flushed but not closed
+     * @return the number of tips written
+     * @throws IOException if writing fails
+     */
+    @Transactional(readOnly = true)
+    public long writeTipsNdjson(OutputStream out) throws IOException {
+        return writeNdjson(tipRepository.streamAllWithCategory(), RecyclingTipDTO::fromEntity, out);
+    }
+
+    /**
+     * Writes every guideline, by ascending ID, as one JSON object per line.
+     *
+     * @param out the stream to write to; it is flushed but not closed
+     * @return the number of guidelines written
+     * @throws IOException if writing fails
+     */
+    @Transactional(readOnly = true)
+    public long writeGuidelinesNdjson(OutputStream out) throws IOException {
+        return writeNdjson(guidelineRepository.streamAllWithCategory(), DisposalGuidelineDTO::fromEntity, out);
+    }
+
+    /**
+     * Checks that every category can be named in CSV rows without being
+     * mistaken for another.
+     *
+     * @throws IllegalStateException if two categories have the same name
+     */
+    @Transactional(readOnly = true)
+    public void requireUniqueCategoryNames() {
+        List<String> shared = categoryRepository.findDuplicateNames();
+        if (!shared.isEmpty()) {
+            throw new IllegalStateException("Category names are shared, so CSV rows cannot name them: " + shared);
+        }
+    }
+
+    /**
+     * Writes every category, by ascending ID, as CSV rows of name and
+     * description after a header row.
+     *
+     * @param out the stream to write UTF-8 to; it is flushed but not closed
+     * @return the number of categories written
+     * @throws IOException if writing fails
+     * @throws IllegalStateException if two categories have the same name
+     */
+    @Transactional(readOnly = true)
+    public long writeCategoriesCsv(OutputStream out) throws IOException {
+        requireUniqueCategoryNames();
+        return writeCsv(categoryRepository.streamAll(), CatalogCsv.CATEGORIES_HEADER,
+                category -> new String[]{category.getName(), category.getDescription()}, out);
+    }
+
+    /**
+     * Writes every tip, by ascending ID, as CSV rows of title, content and
+     * category name after a header row.
+     *
+     * @param out the stream to write UTF-8 to; it is flushed but not closed
+     * @return the number of tips written
+     * @throws IOException if writing fails
+     * @throws IllegalStateException if two categories have the same name
+     */
+    @Transactional(readOnly = true)
+    public long writeTipsCsv(OutputStream out) throws IOException {
+        requireUniqueCategoryNames();
+        return writeCsv(tipRepository.streamAllWithCategory(), CatalogCsv.TIPS_HEADER,
+                tip -> new String[]{tip.getTitle(), tip.getContent(), tip.getCategory().getName()}, out);
+    }
+
+    /**
+     * Writes every guideline, by ascending ID, as CSV rows of title,
+     * instructions and category name after a header row.
+     *
+     * @param out the stream to write UTF-8 to; it is flushed but not closed
+     * @return the number of guidelines written
+     * @throws IOException if writing fails
+     * @throws IllegalStateException if two categories have the same name
+     */
+    @Transactional(readOnly = true)
+    public long writeGuidelinesCsv(OutputStream out) throws IOException {
+        requireUniqueCategoryNames();
+        return writeCsv(guidelineRepository.streamAllWithCategory(), CatalogCsv.GUIDELINES_HEADER,
+                guideline -> new String[]{guideline.getTitle(), guideline.getInstructions(),
+                        guideline.getCategory().getName()}, out);
+    }
+
+    private <E> long writeNdjson(Stream<E> rows, Function<E, ?> toDTO, OutputStream out) throws IOException {
+        long written = 0;
+        try (rows) {
+            Iterator<E> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                E entity = iterator.next();
+                out.write(objectMapper.writeValueAsBytes(toDTO.apply(entity)));
+                out.write('\n');
+                entityManager.detach(entity);
+                if (++written % flushEvery == 0) {
+                    out.flush();
+                }
+            }
+        }
+        out.flush();
+        return written;
+    }
+
+    private <E> long writeCsv(Stream<E> rows, String[] header, Function<E, String[]> toRow,
+                              OutputStream out) throws IOException {
+        ICSVWriter csv = CatalogCsv.writer(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        csv.writeNext(header);
+        long written = 0;
+        try (rows) {
+            Iterator<E> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                E entity = iterator.next();
+                csv.writeNext(toRow.apply(entity));
+                entityManager.detach(entity);
+                if (++written % flushEvery == 0) {
+                    csv.flush();
+                }
+            }
+        }
+        csv.flush();
+        // writeNext keeps write errors to itself rather than throwing them
+        if (csv.checkError()) {
+            throw new IOException("Failed to write CSV export");
+        }
+        return written;
+    }
+}
@@ -0,0 +1,89 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeBatchListener;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.DisposalGuidelineRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.RecyclingTipRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Publishes the current {@link CatalogSnapshot} for reads. The snapshot is
+ * loaded once the application is ready and replaced after every write by
+ * a copy with the change applied, so readers take the current reference
+ * without locking and never touch the database. Writers are serialized
+ * among themselves only.
+ *
+ * <p>It handles change events before any other listener but
+ * {@link LiveIdFilter}, so that once the data version has moved, the
+ * snapshot already shows the write and a response built and cached under
+ * the new version is never stale.
+ */
+@Service
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class CatalogReadModel implements CatalogChangeBatchListener {
+
+    private final WasteCategoryRepository categoryRepository;
+    private final RecyclingTipRepository tipRepository;
+    private final DisposalGuidelineRepository guidelineRepository;
+    private final Object writeLock = new Object();
+    private volatile CatalogSnapshot snapshot = CatalogSnapshot.empty();
+
+    public CatalogReadModel(WasteCategoryRepository categoryRepository,
+                            RecyclingTipRepository tipRepository,
+                            DisposalGuidelineRepository guidelineRepository) {
+        this.categoryRepository = categoryRepository;
+        this.tipRepository = tipRepository;
+        this.guidelineRepository = guidelineRepository;
+    }
+
+    /**
+     * Loads every category, tip and guideline into a fresh snapshot.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (writeLock) {
+            snapshot = CatalogSnapshot.of(categoryRepository.findAll(),
+                    tipRepository.findAll(), guidelineRepository.findAll());
+        }
+    }
+
+    /**
+     * Replaces the snapshot with one that includes the write.
+     *
+     * @param event the change published by a service
+     */
+    @Override
+    public void onApplicationEvent(CatalogChangeEvent event) {
+        synchronized (writeLock) {
+            snapshot = snapshot.apply(event);
+        }
+    }
+
+    /**
+     * Replaces the snapshot with one that includes every write of a batch,
+     * copying the snapshot once for all of them.
+     *
+     * @param changes the changes published by a service, in the order written
+     */
+    @Override
+    public void onBatch(List<CatalogChangeEvent> changes) {
+        synchronized (writeLock) {
+            snapshot = snapshot.applyAll(changes);
+        }
+    }
+
+    /**
+     * Returns the current snapshot. It never changes; later writes
+     * publish a new one.
+     */
+    public CatalogSnapshot snapshot() {
+        return snapshot;
+    }
+}
@@ -0,0 +1,426 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.CategoryDetailDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.DisposalGuidelineDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.WasteCategoryDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Immutable view of the whole catalogue as the DTOs the API returns. Every
+ * list a read can ask for, including the tips and guidelines of each
+ * category and the counts on each category, is computed when the snapshot
+ * is built, so reads only look things up. Writes produce a new snapshot
+ * with {@link #apply(CatalogChangeEvent)}, which shares everything the
+ * write did not touch with the snapshot it started from. The maps a write
+ * touches are copied once whatever it changes, so many writes at once go
+ * through {@link #applyAll(Collection)}, which copies them once for the
+ * whole batch instead of once per write.
+ *
+ * <p>The DTOs are shared by every reader and must not be modified.
+ */
+public final class CatalogSnapshot {
+
+    private static final CatalogSnapshot EMPTY = new CatalogSnapshot(new TreeMap<>(),
+            Table.of(RecyclingTipDTO::getId, RecyclingTipDTO::getCategoryId, List.of()),
+            Table.of(DisposalGuidelineDTO::getId, DisposalGuidelineDTO::getCategoryId, List.of()));
+
+    private final TreeMap<Long, WasteCategoryDTO> categories;
+    private final List<WasteCategoryDTO> categoryList;
+    private final Table<RecyclingTipDTO> tips;
+    private final Table<DisposalGuidelineDTO> guidelines;
+
+    private CatalogSnapshot(TreeMap<Long, WasteCategoryDTO> categories,
+                            Table<RecyclingTipDTO> tips,
+                            Table<DisposalGuidelineDTO> guidelines) {
+        this(categories, List.copyOf(categories.values()), tips, guidelines);
+    }
+
+    private CatalogSnapshot(TreeMap<Long, WasteCategoryDTO> categories,
+                            List<WasteCategoryDTO> categoryList,
+                            Table<RecyclingTipDTO> tips,
+                            Table<DisposalGuidelineDTO> guidelines) {
+        this.categories = categories;
+        this.categoryList = categoryList;
+        this.tips = tips;
+        this.guidelines = guidelines;
+    }
+
+    /**
+     * Returns a snapshot with no data.
+     */
+    public static CatalogSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds a snapshot from loaded entities. Category counts are taken from
+     * the tips and guidelines given, not from the categories' own lists.
+     *
+     * @param categories every category
+     * @param tips every tip, each with its category set
+     * @param guidelines every guideline, each with its category set
+     * @return the snapshot
+     */
+    public static CatalogSnapshot of(Collection<WasteCategory> categories,
+                                     Collection<RecyclingTip> tips,
+                                     Collection<DisposalGuideline> guidelines) {
+        Table<RecyclingTipDTO> tipTable = Table.of(RecyclingTipDTO::getId, RecyclingTipDTO::getCategoryId,
+                tips.stream().map(RecyclingTipDTO::fromEntity).toList());
+        Table<DisposalGuidelineDTO> guidelineTable = Table.of(DisposalGuidelineDTO::getId,
+                DisposalGuidelineDTO::getCategoryId,
+                guidelines.stream().map(DisposalGuidelineDTO::fromEntity).toList());
+        TreeMap<Long, WasteCategoryDTO> categoryMap = new TreeMap<>();
+        for (WasteCategory category : categories) {
+            categoryMap.put(category.getId(), new WasteCategoryDTO(category.getId(), category.getName(),
+                    category.getDescription(), guidelineTable.in(category.getId()).size(),
+                    tipTable.in(category.getId()).size()));
+        }
+        return new CatalogSnapshot(categoryMap, tipTable, guidelineTable);
+    }
+
+    /**
+     * Returns a snapshot with a write applied. Only the entity written, the
+     * lists that hold it and the categories whose counts or name it changes
+     * are rebuilt.
+     *
+     * @param event the change published by a service
+     * @return the new snapshot; this one is left as it was
+     */
+    public CatalogSnapshot apply(CatalogChangeEvent event) {
+        return applyAll(List.of(event));
+    }
+
+    /**
+     * Returns a snapshot with writes applied in order. Each map and list the
+     * writes touch is copied once for the whole batch, and each category
+     * recounted once, so a batch of M writes costs one copy of the
+     * catalogue rather than M.
+     *
+     * @param events the changes published by a service, oldest first
+     * @return the new snapshot, or this one if there are none; this one is
+     *         left as it was
+     */
+    public CatalogSnapshot applyAll(Collection<CatalogChangeEvent> events) {
+        if (events.isEmpty()) {
+            return this;
+        }
+        Editor editor = new Editor(this);
+        events.forEach(editor::apply);
+        return editor.build();
+    }
+
+    /**
+     * Returns every category, ordered by ID.
+     */
+    public List<WasteCategoryDTO> categories() {
+        return categoryList;
+    }
+
+    /**
+     * Returns every tip, ordered by ID.
+     */
+    public List<RecyclingTipDTO> tips() {
+        return tips.all;
+    }
+
+    /**
+     * Returns every guideline, ordered by ID.
+     */
+    public List<DisposalGuidelineDTO> guidelines() {
+        return guidelines.all;
+    }
+
+    public Optional<WasteCategoryDTO> category(Long id) {
+        return Optional.ofNullable(categories.get(id));
+    }
+
+    public Optional<RecyclingTipDTO> tip(Long id) {
+        return Optional.ofNullable(tips.byId.get(id));
+    }
+
+    public Optional<DisposalGuidelineDTO> guideline(Long id) {
+        return Optional.ofNullable(guidelines.byId.get(id));
+    }
+
+    /**
+     * Returns the tips of a category, ordered by ID.
+     *
+     * @param categoryId the category ID
+     * @return the tips
+     * @throws IllegalArgumentException if the category does not exist
+     */
+    public List<RecyclingTipDTO> tipsInCategory(Long categoryId) {
+        requireCategory(categoryId);
+        return tips.in(categoryId);
+    }
+
+    /**
+     * Returns the guidelines of a category, ordered by ID.
+     *
+     * @param categoryId the category ID
+     * @return the guidelines
+     * @throws IllegalArgumentException if the category does not exist
+     */
+    public List<DisposalGuidelineDTO> guidelinesInCategory(Long categoryId) {
+        requireCategory(categoryId);
+        return guidelines.in(categoryId);
+    }
+
+    /**
+     * Returns a category with its tips and guidelines embedded, each
+     * ordered by ID.
+     *
+     * @param categoryId the category ID
+     * @return the category, or empty if it does not exist
+     */
+    public Optional<CategoryDetailDTO> categoryDetail(Long categoryId) {
+        return category(categoryId).map(category ->
+                CategoryDetailDTO.of(category, tips.in(categoryId), guidelines.in(categoryId)));
+    }
+
+    private void requireCategory(Long categoryId) {
+        if (!categories.containsKey(categoryId)) {
+            throw new IllegalArgumentException("Category not found");
+        }
+    }
+
+    /**
+     * Applies writes to working copies of a snapshot's maps, taken when the
+     * first write needs them. Category counts are refreshed once, when the
+     * new snapshot is built.
+     */
+    private static final class Editor {
+        private final CatalogSnapshot base;
+        private final Table<RecyclingTipDTO>.Editor tips;
+        private final Table<DisposalGuidelineDTO>.Editor guidelines;
+        private TreeMap<Long, WasteCategoryDTO> categories;
+
+        Editor(CatalogSnapshot base) {
+            this.base = base;
+            this.tips = base.tips.edit();
+            this.guidelines = base.guidelines.edit();
+        }
+
+        void apply(CatalogChangeEvent event) {
+            switch (event.getEntityType()) {
+                case CATEGORY -> applyCategory(event);
+                case TIP -> {
+                    if (event.getOperation() == ChangeOperation.DELETED) {
+                        tips.remove(event.getEntityId());
+                    } else {
+                        tips.put(new RecyclingTipDTO(event.getEntityId(), event.getTitle(), event.getBody(),
+                                event.getCategoryId(), categoryName(event.getCategoryId())));
+                    }
+                }
+                case GUIDELINE -> {
+                    if (event.getOperation() == ChangeOperation.DELETED) {
+                        guidelines.remove(event.getEntityId());
+                    } else {
+                        guidelines.put(new DisposalGuidelineDTO(event.getEntityId(), event.getTitle(),
+                                event.getBody(), event.getCategoryId(), categoryName(event.getCategoryId())));
+                    }
+                }
+            }
+        }
+
+        private void applyCategory(CatalogChangeEvent event) {
+            Long id = event.getEntityId();
+            if (event.getOperation() == ChangeOperation.DELETED) {
+                categories().remove(id);
+                tips.removeCategory(id);
+                guidelines.removeCategory(id);
+                return;
+            }
+            String name = event.getTitle();
+            WasteCategoryDTO previous = categories().put(id, new WasteCategoryDTO(id, name, event.getBody(),
+                    guidelines.in(id).size(), tips.in(id).size()));
+            if (previous != null && !Objects.equals(previous.getName(), name)) {
+                // Tips and guidelines carry their category's name
+                tips.updateCategory(id, tip -> new RecyclingTipDTO(
+                        tip.getId(), tip.getTitle(), tip.getContent(), id, name));
+                guidelines.updateCategory(id, guideline -> new DisposalGuidelineDTO(
+                        guideline.getId(), guideline.getTitle(), guideline.getInstructions(), id, name));
+            }
+        }
+
+        private WasteCategoryDTO category(Long categoryId) {
+            return (categories == null ? base.categories : categories).get(categoryId);
+        }
+
+        private String categoryName(Long categoryId) {
+            WasteCategoryDTO category = category(categoryId);
+            return category == null ? null : category.getName();
+        }
+
+        private TreeMap<Long, WasteCategoryDTO> categories() {
+            if (categories == null) {
+                categories = new TreeMap<>(base.categories);
+            }
+            return categories;
+        }
+
+        /**
+         * Refreshes the counts of the categories whose tips or guidelines
+         * changed and builds the snapshot.
+         */
+        CatalogSnapshot build() {
+            Table<RecyclingTipDTO> tipTable = tips.build();
+            Table<DisposalGuidelineDTO> guidelineTable = guidelines.build();
+            Set<Long> recount = new HashSet<>(tips.touchedCategories());
+            recount.addAll(guidelines.touchedCategories());
+            for (Long id : recount) {
+                WasteCategoryDTO category = category(id);
+                if (category != null) {
+                    categories().put(id, new WasteCategoryDTO(id, category.getName(), category.getDescription(),
+                            guidelineTable.in(id).size(), tipTable.in(id).size()));
+                }
+            }
+            return categories == null
+                    ? new CatalogSnapshot(base.categories, base.categoryList, tipTable, guidelineTable)
+                    : new CatalogSnapshot(categories, tipTable, guidelineTable);
+        }
+    }
+
+    /**
+     * Tips or guidelines by ID and by category. Updates go through an
+     * {@link Editor}, which builds a new table and only rebuilds the
+     * category lists they change.
+     */
+    private static final class Table<D> {
+        private final Function<D, Long> idOf;
+        private final Function<D, Long> categoryOf;
+        private final TreeMap<Long, D> byId;
+        private final Map<Long, List<D>> byCategory;
+        private final List<D> all;
+
+        private Table(Function<D, Long> idOf, Function<D, Long> categoryOf,
+                      TreeMap<Long, D> byId, Map<Long, List<D>> byCategory) {
+            this.idOf = idOf;
+            this.categoryOf = categoryOf;
+            this.byId = byId;
+            this.byCategory = byCategory;
+            this.all = List.copyOf(byId.values());
+        }
+
+        static <D> Table<D> of(Function<D, Long> idOf, Function<D, Long> categoryOf, Collection<D> rows) {
+            TreeMap<Long, D> byId = new TreeMap<>();
+            rows.forEach(row -> byId.put(idOf.apply(row), row));
+            Map<Long, List<D>> grouped = new HashMap<>();
+            byId.values().forEach(row ->
+                    grouped.computeIfAbsent(categoryOf.apply(row), id -> new ArrayList<>()).add(row));
+            Map<Long, List<D>> byCategory = new HashMap<>();
+            grouped.forEach((categoryId, list) -> byCategory.put(categoryId, List.copyOf(list)));
+            return new Table<>(idOf, categoryOf, byId, byCategory);
+        }
+
+        List<D> in(Long categoryId) {
+            return byCategory.getOrDefault(categoryId, List.of());
+        }
+
+        Editor edit() {
+            return new Editor();
+        }
+
+        /**
+         * Applies writes to working copies of the table's maps, taken on the
+         * first write, and to mutable copies of the category lists they
+         * touch, which are sorted and frozen once when the table is built.
+         */
+        final class Editor {
+            private TreeMap<Long, D> editedById;
+            private Map<Long, List<D>> editedByCategory;
+            private final Map<Long, List<D>> touched = new HashMap<>();
+
+            List<D> in(Long categoryId) {
+                List<D> rows = touched.get(categoryId);
+                return rows != null ? rows : Table.this.in(categoryId);
+            }
+
+            void put(D row) {
+                Long id = idOf.apply(row);
+                D previous = byId().put(id, row);
+                if (previous != null) {
+                    list(categoryOf.apply(previous)).removeIf(existing -> idOf.apply(existing).equals(id));
+                }
+                list(categoryOf.apply(row)).add(row);
+            }
+
+            void remove(Long id) {
+                if ((editedById == null ? byId : editedById).containsKey(id)) {
+                    D previous = byId().remove(id);
+                    list(categoryOf.apply(previous)).removeIf(existing -> idOf.apply(existing).equals(id));
+                }
+            }
+
+            void removeCategory(Long categoryId) {
+                if (!in(categoryId).isEmpty()) {
+                    List<D> rows = list(categoryId);
+                    TreeMap<Long, D> rowsById = byId();
+                    rows.forEach(row -> rowsById.remove(idOf.apply(row)));
+                    rows.clear();
+                }
+            }
+
+            void updateCategory(Long categoryId, UnaryOperator<D> update) {
+                if (!in(categoryId).isEmpty()) {
+                    List<D> rows = list(categoryId);
+                    rows.replaceAll(update);
+                    TreeMap<Long, D> rowsById = byId();
+                    rows.forEach(row -> rowsById.put(idOf.apply(row), row));
+                }
+            }
+
+            Set<Long> touchedCategories() {
+                return touched.keySet();
+            }
+
+            Table<D> build() {
+                if (editedById == null) {
+                    return Table.this;
+                }
+                touched.forEach((categoryId, rows) -> {
+                    if (rows.isEmpty()) {
+                        editedByCategory.remove(categoryId);
+                    } else {
+                        rows.sort(Comparator.comparing(idOf));
+                        editedByCategory.put(categoryId, List.copyOf(rows));
+                    }
+                });
+                return new Table<>(idOf, categoryOf, editedById, editedByCategory);
+            }
+
+            private TreeMap<Long, D> byId() {
+                if (editedById == null) {
+                    editedById = new TreeMap<>(byId);
+                    editedByCategory = new HashMap<>(byCategory);
+                }
+                return editedById;
+            }
+
+            private List<D> list(Long categoryId) {
+                byId();
+                return touched.computeIfAbsent(categoryId,
+                        id -> new ArrayList<>(editedByCategory.getOrDefault(id, List.of())));
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.repositories.ChangeLogRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the change log from growing without bound. Every
+ * {@code changes.retention.interval} it deletes the entries outside the
+ * latest {@code changes.retention.max-entries} versions or older than
+ * {@code changes.retention.max-age}; a limit of zero is no limit. The
+ * latest entry is always kept, so the log still knows its current version.
+ *
+ * <p>A client whose sync position is older than the oldest entry kept can
+ * no longer be told what it missed: {@link SyncService} sends it the whole
+ * catalogue and {@link ChangeStreamService} a {@code reset}, as for a
+ * position from another run.
+ */
+@Service
+public class ChangeLogPruner {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeLogPruner.class);
+
+    private final ChangeLogRepository changeLog;
+    private final long maxEntries;
+    private final Duration maxAge;
+    private final Duration interval;
+    private ScheduledExecutorService executor;
+
+    public ChangeLogPruner(ChangeLogRepository changeLog,
+                           @Value("${changes.retention.max-entries:100000}") long maxEntries,
+                           @Value("${changes.retention.max-age:7d}") Duration maxAge,
+                           @Value("${changes.retention.interval:10m}") Duration interval) {
+        if (maxEntries < 0 || maxAge.isNegative()) {
+            throw new IllegalArgumentException("Change log retention limits cannot be negative");
+        }
+        if (interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("Change log pruning interval must be positive");
+        }
+        this.changeLog = changeLog;
+        this.maxEntries = maxEntries;
+        this.maxAge = maxAge;
+        this.interval = interval;
+    }
+
+    /**
+     * Schedules pruning, unless there is nothing to prune by.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (maxEntries == 0 && maxAge.isZero()) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "change-log-pruner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        executor.scheduleWithFixedDelay(this::pruneQuietly, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Deletes the entries the retention limits no longer cover.
+     *
+     * @return the number of entries deleted
+     */
+    public int prune() {
+        Long latest = changeLog.findLatestVersion();
+        if (latest == null) {
+            return 0;
+        }
+        long keepFrom = 0;
+        if (maxEntries > 0) {
+            keepFrom = latest - maxEntries + 1;
+        }
+        if (!maxAge.isZero()) {
+            Long recent = changeLog.findOldestVersionChangedSince(Instant.now().minus(maxAge));
+            keepFrom = Math.max(keepFrom, recent == null ? latest : recent);
+        }
+        keepFrom = Math.min(keepFrom, latest);
+        if (keepFrom <= 1) {
+            return 0;
+        }
+        int deleted = changeLog.deleteOlderThan(keepFrom);
+        if (deleted > 0) {
+            log.info("Pruned {} change log entries before version {}", deleted, keepFrom);
+        }
+        return deleted;
+    }
+
+    private void pruneQuietly() {
+        try {
+            prune();
+        } catch (RuntimeException e) {
+            log.warn("Could not prune the change log", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeBatchListener;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.models.ChangeLogEntry;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.ChangeLogRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Appends every write to the change log, from the change events each
+ * service publishes once its writes are saved. Entries get increasing
+ * versions, which {@link SyncService} hands to clients as sync positions.
+ *
+ * <p>The writes of one batch are appended together, in one transaction,
+ * and batches one at a time, so entries commit in version order: a reader
+ * that sees version {@code n} also sees every version before it, and a
+ * client that synced up to {@code n} cannot miss an earlier write that
+ * commits later.
+ *
+ * <p>{@link CatalogReadModel} handles change events before unordered
+ * listeners like this one, so by the time an entry is visible the snapshot
+ * already shows its write.
+ *
+ * <p>Each saved entry is then passed to {@link ChangeStreamService}, still
+ * in version order, for the clients subscribed to the change stream.
+ */
+@Service
+public class ChangeLogService implements CatalogChangeBatchListener {
+
+    private final ChangeLogRepository repository;
+    private final ChangeStreamService changeStream;
+
+    public ChangeLogService(ChangeLogRepository repository, ChangeStreamService changeStream) {
+        this.repository = repository;
+        this.changeStream = changeStream;
+    }
+
+    /**
+     * Records a write.
+     *
+     * @param event the change published by a service
+     */
+    @Override
+    public synchronized void onApplicationEvent(CatalogChangeEvent event) {
+        changeStream.publish(repository.save(entry(event)));
+    }
+
+    /**
+     * Records the writes of a batch, saving them in one transaction.
+     *
+     * @param changes the changes published by a service, in the order written
+     */
+    @Override
+    public synchronized void onBatch(List<CatalogChangeEvent> changes) {
+        repository.saveAll(changes.stream().map(ChangeLogService::entry).toList())
+                .forEach(changeStream::publish);
+    }
+
+    private static ChangeLogEntry entry(CatalogChangeEvent event) {
+        return new ChangeLogEntry(null, event.getEntityType(), event.getEntityId(), event.getOperation(),
+                event.getCategoryId(), event.getModifiedAt());
+    }
+}
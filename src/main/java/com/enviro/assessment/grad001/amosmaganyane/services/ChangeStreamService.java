@@ -0,0 +1,297 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.ChangeEventDTO;
+import com.enviro.assessment.grad001.amosmaganyane.models.ChangeLogEntry;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.ChangeLogRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes change log entries to subscribers as Server-Sent Events, so
+ * caches and dashboards hear about writes instead of polling for them.
+ *
+ * <p>{@link ChangeLogService} hands over each entry once it is saved, in
+ * version order. Handing over never waits on a subscriber: each has a
+ * buffer of {@code changes.stream.buffer-size} entries, drained by a
+ * sender thread of its own, and a subscriber whose buffer is full is
+ * disconnected rather than held in memory or allowed to slow writes down.
+ *
+ * <p>Every event carries its sync position as its ID, so a client that
+ * reconnects with {@code Last-Event-ID}, as browsers do on their own, is
+ * first sent the entries it missed, read from the change log. A subscriber
+ * is registered before the log is read and skips buffered entries it was
+ * already sent, so nothing is missed or sent twice in between. If the
+ * position is from another run, ahead of the log, older than the oldest
+ * entry {@link ChangeLogPruner} has kept, or more than
+ * {@code changes.stream.max-replay} entries behind, the client is sent a
+ * {@code reset} event instead, telling it to catch up through
+ * {@link SyncService}; the stream carries on from the latest version.
+ */
+@Service
+public class ChangeStreamService {
+
+    /** Name of the event sent for each write. */
+    public static final String CHANGE_EVENT = "change";
+
+    /** Name of the event telling a client to catch up through a sync. */
+    public static final String RESET_EVENT = "reset";
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeStreamService.class);
+
+    /**
+     * Where a subscriber's events go.
+     */
+    interface Sink {
+        void change(ChangeEventDTO event) throws IOException;
+
+        void reset(String version) throws IOException;
+
+        void close();
+    }
+
+    private final ChangeLogRepository changeLog;
+    private final SyncService syncService;
+    private final int bufferSize;
+    private final int maxReplay;
+    private final Duration timeout;
+    private final Executor senders;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public ChangeStreamService(ChangeLogRepository changeLog,
+                               SyncService syncService,
+                               @Value("${changes.stream.buffer-size:256}") int bufferSize,
+                               @Value("${changes.stream.max-replay:1000}") int maxReplay,
+                               @Value("${changes.stream.timeout:30m}") Duration timeout) {
+        this(changeLog, syncService, bufferSize, maxReplay, timeout,
+                Executors.newCachedThreadPool(runnable -> {
+                    Thread thread = new Thread(runnable, "change-stream");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    ChangeStreamService(ChangeLogRepository changeLog, SyncService syncService,
+                        int bufferSize, int maxReplay, Duration timeout, Executor senders) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Change stream buffer must hold at least one change");
+        }
+        if (maxReplay < 0) {
+            throw new IllegalArgumentException("Change stream replay limit cannot be negative");
+        }
+        this.changeLog = changeLog;
+        this.syncService = syncService;
+        this.bufferSize = bufferSize;
+        this.maxReplay = maxReplay;
+        this.timeout = timeout;
+        this.senders = senders;
+    }
+
+    /**
+     * Opens a change stream.
+     *
+     * @param lastEventId the ID of the last event the client received, or null for new changes only
+     * @return the emitter the events are sent through
+     * @throws IllegalArgumentException if the event ID is malformed
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = subscribe(lastEventId, new Sink() {
+            @Override
+            public void change(ChangeEventDTO event) throws IOException {
+                emitter.send(SseEmitter.event()
+                        .id(event.getVersion())
+                        .name(CHANGE_EVENT)
+                        .data(event, MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void reset(String version) throws IOException {
+                emitter.send(SseEmitter.event()
+                        .id(version)
+                        .name(RESET_EVENT)
+                        .data(Map.of("version", version), MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void close() {
+                emitter.complete();
+            }
+        });
+        emitter.onCompletion(subscriber::cancel);
+        emitter.onTimeout(subscriber::cancel);
+        emitter.onError(error -> subscriber.cancel());
+        return emitter;
+    }
+
+    Subscriber subscribe(String lastEventId, Sink sink) {
+        Subscriber subscriber;
+        if (lastEventId == null || lastEventId.isBlank()) {
+            subscriber = new Subscriber(sink, null);
+        } else {
+            // An ID from another run is represented by -1, which no entry has
+            OptionalLong since = syncService.versionOf(lastEventId);
+            subscriber = new Subscriber(sink, since.orElse(-1));
+        }
+        subscribers.add(subscriber);
+        subscriber.schedule();
+        return subscriber;
+    }
+
+    /**
+     * Sends a saved change log entry to every subscriber. Entries must be
+     * published in version order.
+     *
+     * @param entry the entry, with its version
+     */
+    public void publish(ChangeLogEntry entry) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(entry);
+        }
+    }
+
+    /**
+     * Returns the number of open change streams.
+     *
+     * @return the number of subscribers
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Ends every open stream, so clients reconnect to the next run.
+     */
+    @PreDestroy
+    public void stop() {
+        subscribers.forEach(Subscriber::disconnect);
+        if (senders instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+    }
+
+    private ChangeEventDTO event(ChangeLogEntry entry) {
+        return new ChangeEventDTO(entry.getEntityType(), entry.getEntityId(), entry.getOperation(),
+                syncService.position(entry.getVersion()));
+    }
+
+    /**
+     * One open stream. Entries are buffered by the publishing thread and
+     * sent by at most one sender at a time, which also does the replay
+     * before anything buffered.
+     */
+    final class Subscriber {
+
+        private final Sink sink;
+        private final BlockingQueue<ChangeLogEntry> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile Long replayFrom;
+        private volatile boolean disconnected;
+        private long lastSent;
+
+        private Subscriber(Sink sink, Long replayFrom) {
+            this.sink = sink;
+            this.replayFrom = replayFrom;
+        }
+
+        private void offer(ChangeLogEntry entry) {
+            if (!buffer.offer(entry)) {
+                log.info("Disconnecting a change stream subscriber that fell {} changes behind", bufferSize);
+                disconnect();
+            } else {
+                schedule();
+            }
+        }
+
+        /**
+         * Stops buffering and has the sender end the stream; the client
+         * can reconnect and resume from the last event it received.
+         */
+        private void disconnect() {
+            subscribers.remove(this);
+            disconnected = true;
+            schedule();
+        }
+
+        /**
+         * Forgets a stream that has already ended.
+         */
+        void cancel() {
+            subscribers.remove(this);
+            disconnected = true;
+            buffer.clear();
+        }
+
+        private void schedule() {
+            if (sending.compareAndSet(false, true)) {
+                senders.execute(this::send);
+            }
+        }
+
+        private void send() {
+            try {
+                if (replayFrom != null) {
+                    replay(replayFrom);
+                    replayFrom = null;
+                }
+                ChangeLogEntry entry;
+                while (!disconnected && (entry = buffer.poll()) != null) {
+                    if (entry.getVersion() > lastSent) {
+                        sink.change(event(entry));
+                        lastSent = entry.getVersion();
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                log.debug("Change stream closed while sending", e);
+                cancel();
+            }
+            if (disconnected) {
+                buffer.clear();
+                sink.close();
+                return;
+            }
+            sending.set(false);
+            if (!buffer.isEmpty() || disconnected) {
+                schedule();
+            }
+        }
+
+        private void replay(long since) throws IOException {
+            Long latest = changeLog.findLatestVersion();
+            long latestVersion = latest == null ? 0 : latest;
+            if (since >= 0 && since <= latestVersion) {
+                List<ChangeLogEntry> missed = changeLog.findChangesSince(since, maxReplay + 1);
+                if (missed.size() <= maxReplay && !syncService.isPruned(since)) {
+                    lastSent = since;
+                    for (ChangeLogEntry entry : missed) {
+                        sink.change(event(entry));
+                        lastSent = entry.getVersion();
+                    }
+                    return;
+                }
+            }
+            sink.reset(syncService.position(latestVersion));
+            lastSent = latestVersion;
+        }
+    }
+}
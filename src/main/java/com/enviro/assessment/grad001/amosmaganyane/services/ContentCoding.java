@@ -0,0 +1,93 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The HTTP content codings responses can be precompressed with. Both are
+ * DEFLATE underneath and come with the JDK; {@code deflate} is the zlib
+ * format, as HTTP defines it, and a few bytes smaller than {@code gzip}.
+ */
+public enum ContentCoding {
+
+    GZIP("gzip") {
+        @Override
+        OutputStream wrap(OutputStream out, int level) throws IOException {
+            return new GZIPOutputStream(out) {
+                {
+                    def.setLevel(level);
+                }
+            };
+        }
+    },
+    DEFLATE("deflate") {
+        @Override
+        OutputStream wrap(OutputStream out, int level) {
+            return new DeflaterOutputStream(out, new Deflater(level)) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        def.end();
+                    }
+                }
+            };
+        }
+    };
+
+    private final String token;
+
+    ContentCoding(String token) {
+        this.token = token;
+    }
+
+    /**
+     * Returns the name of the coding in Accept-Encoding and Content-Encoding.
+     */
+    public String token() {
+        return token;
+    }
+
+    /**
+     * Finds a coding by its HTTP name, ignoring case.
+     *
+     * @param token the name
+     * @return the coding
+     * @throws IllegalArgumentException if the coding is not supported
+     */
+    public static ContentCoding fromToken(String token) {
+        String name = token.trim().toLowerCase(Locale.ROOT);
+        for (ContentCoding coding : values()) {
+            if (coding.token.equals(name)) {
+                return coding;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported content coding: " + token);
+    }
+
+    /**
+     * Compresses bytes with this coding.
+     *
+     * @param bytes the bytes to compress
+     * @param level the DEFLATE level, 1 (fastest) to 9 (smallest)
+     * @return the compressed bytes
+     */
+    public byte[] encode(byte[] bytes, int level) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4 + 32);
+        try (OutputStream out = wrap(compressed, level)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    abstract OutputStream wrap(OutputStream out, int level) throws IOException;
+}
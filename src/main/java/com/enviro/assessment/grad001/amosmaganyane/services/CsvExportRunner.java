@@ -0,0 +1,111 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Exports the catalogue as CSV files on startup when
+ * {@code export.csv.directory} is set, which is how the application is run
+ * from the command line to dump its data:
+ *
+ * <pre>
+ * java -jar target/waste-management-api-1.0-SNAPSHOT.jar --export.csv.directory=out
+ * </pre>
+ *
+ * <p>Given as an argument like this, the option also keeps the web server
+ * from starting, so the application exits once the files are written.
+ * Each file is streamed from the database straight to disk and existing
+ * files are replaced.
+ *
+ * <p>The export reads whatever database {@code spring.datasource.url}
+ * points at, and {@link DataLoaderService} does not seed it first. The
+ * default in-memory database would be empty, so the export refuses to
+ * start against one:
+ *
+ * <pre>
+ * java -jar target/waste-management-api-1.0-SNAPSHOT.jar --export.csv.directory=out \
+ *     --spring.datasource.url=jdbc:h2:file:./data/wastemanagementdb
+ * </pre>
+ */
+@Component
+@ConditionalOnProperty(name = CsvExportRunner.DIRECTORY_PROPERTY)
+public class CsvExportRunner implements ApplicationRunner {
+
+    /** Property naming the directory to export to. */
+    public static final String DIRECTORY_PROPERTY = "export.csv.directory";
+
+    private static final Logger log = LoggerFactory.getLogger(CsvExportRunner.class);
+
+    /**
+     * Writes one table to a stream.
+     */
+    @FunctionalInterface
+    private interface TableWriter {
+        long write(OutputStream out) throws IOException;
+    }
+
+    private final CatalogExportService exportService;
+    private final Path directory;
+
+    public CsvExportRunner(CatalogExportService exportService,
+                           @Value("${" + DIRECTORY_PROPERTY + "}") Path directory,
+                           @Value("${spring.datasource.url:}") String datasourceUrl) {
+        if (isInMemory(datasourceUrl)) {
+            throw new IllegalStateException("Exporting to " + DIRECTORY_PROPERTY
+                    + " needs spring.datasource.url set to a persistent database, not " + datasourceUrl);
+        }
+        this.exportService = exportService;
+        this.directory = directory;
+    }
+
+    /**
+     * Tells whether command-line arguments ask for a CSV export.
+     *
+     * @param args the arguments the application was started with
+     * @return true if the export directory is given
+     */
+    public static boolean isRequested(String... args) {
+        return Arrays.stream(args).anyMatch(arg -> arg.startsWith("--" + DIRECTORY_PROPERTY + "="));
+    }
+
+    /**
+     * Tells whether a JDBC URL names an in-memory database, which only
+     * lives as long as the application and so holds nothing to export.
+     *
+     * @param datasourceUrl the JDBC URL, or empty for an embedded default
+     * @return true if the database is in memory
+     */
+    static boolean isInMemory(String datasourceUrl) {
+        return datasourceUrl == null || datasourceUrl.isBlank()
+                || datasourceUrl.startsWith("jdbc:h2:mem:")
+                || datasourceUrl.startsWith("jdbc:hsqldb:mem:")
+                || datasourceUrl.startsWith("jdbc:derby:memory:");
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Files.createDirectories(directory);
+        export(CatalogCsv.CATEGORIES_FILE, exportService::writeCategoriesCsv);
+        export(CatalogCsv.TIPS_FILE, exportService::writeTipsCsv);
+        export(CatalogCsv.GUIDELINES_FILE, exportService::writeGuidelinesCsv);
+    }
+
+    private void export(String fileName, TableWriter table) throws IOException {
+        Path file = directory.resolve(fileName);
+        try (OutputStream out = Files.newOutputStream(file)) {
+            long rows = table.write(out);
+            log.info("Exported {} rows to {}", rows, file);
+        }
+    }
+}
@@ -6,18 +6,28 @@ import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvException;
 import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
 @Service
+@ConditionalOnExpression("'${" + CsvExportRunner.DIRECTORY_PROPERTY + ":}'.isEmpty()")
 public class DataLoaderService {
-    private static final String CATEGORIES_FILE = "/data/categories.csv";
-    private static final String TIPS_FILE = "/data/recycling_tips.csv";
-    private static final String GUIDELINES_FILE = "/data/disposal_guidelines.csv";
+    private static final String DATA_DIRECTORY = "/data/";
+
+    /**
+     * Opens one of the {@link CatalogCsv} files by name.
+     */
+    @FunctionalInterface
+    interface CsvFiles {
+        InputStream open(String fileName) throws IOException;
+    }
 
     private final WasteCategoryService categoryService;
     private final RecyclingTipService tipService;
@@ -45,10 +55,20 @@ public class DataLoaderService {
      */
     @PostConstruct
     public void loadData() {
+        load(fileName -> getClass().getResourceAsStream(DATA_DIRECTORY + fileName));
+    }
+
+    /**
+     * Loads the catalogue from CSV files. Values are taken exactly as read,
+     * so files written by {@link CatalogExportService} load back unchanged.
+     * @param files opens each file by name, returning null if it is missing
+     * @throws  RuntimeException if data loading fails.
+     */
+    void load(CsvFiles files) {
         try {
-            loadCategories();
-            loadRecyclingTips();
-            loadDisposalGuidelines();
+            loadCategories(files);
+            loadRecyclingTips(files);
+            loadDisposalGuidelines(files);
         } catch (IOException e) {
             throw new RuntimeException("Failed to read CSV files: " + e.getMessage(), e);
         } catch (CsvException e) {
@@ -58,16 +78,17 @@ public class DataLoaderService {
 
     /**
      * Creates a CSV reader for the given file.
-     * @param filePath path to the CSV file
+     * @param files opens the file
+     * @param fileName name of the CSV file
      * @return CSVReader instance for the file
      * @throws IOException if file cannot be read
      */
-    private CSVReader createReader(String filePath) throws IOException {
-        var inputStream = getClass().getResourceAsStream(filePath);
+    private CSVReader createReader(CsvFiles files, String fileName) throws IOException {
+        var inputStream = files.open(fileName);
         if (inputStream == null) {
-            throw new IOException("File not found: " + filePath);
+            throw new IOException("File not found: " + fileName);
         }
-        return new CSVReader(new InputStreamReader(inputStream));
+        return CatalogCsv.reader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
     }
 
     /**
@@ -91,7 +112,7 @@ public class DataLoaderService {
      * @throws CsvException if category not found
      */
     private WasteCategory findCategory(String categoryName) throws CsvException {
-        WasteCategory category = categoryMap.get(categoryName.trim());
+        WasteCategory category = categoryMap.get(categoryName);
         if (category == null) {
             throw new CsvException("Category not found: " + categoryName);
         }
@@ -100,11 +121,12 @@ public class DataLoaderService {
 
     /**
      * Loads waste categories from CSV.
+     * @param files opens the CSV file
      * @throws IOException if file reading fails
      * @throws CsvException if CSV parsing fails
      */
-    private void loadCategories() throws IOException, CsvException {
-        try (CSVReader csvReader = createReader(CATEGORIES_FILE)) {
+    private void loadCategories(CsvFiles files) throws IOException, CsvException {
+        try (CSVReader csvReader = createReader(files, CatalogCsv.CATEGORIES_FILE)) {
             csvReader.readNext();
             String[] line;
             while ((line = csvReader.readNext()) != null) {
@@ -124,8 +146,8 @@ public class DataLoaderService {
         try {
             WasteCategory category = new WasteCategory(
                     null,
-                    line[0].trim(),
-                    line[1].trim()
+                    line[0],
+                    line[1]
             );
             WasteCategory saved = categoryService.createCategory(category);
             categoryMap.put(saved.getName(), saved);
@@ -136,11 +158,12 @@ public class DataLoaderService {
 
     /**
      * Loads recycling tips from CSV.
+     * @param files opens the CSV file
      * @throws IOException if file reading fails
      * @throws CsvException if CSV parsing fails
      */
-    private void loadRecyclingTips() throws IOException, CsvException {
-        try (CSVReader csvReader = createReader(TIPS_FILE)) {
+    private void loadRecyclingTips(CsvFiles files) throws IOException, CsvException {
+        try (CSVReader csvReader = createReader(files, CatalogCsv.TIPS_FILE)) {
             csvReader.readNext();
             String[] line;
 
@@ -162,8 +185,8 @@ public class DataLoaderService {
         try {
             RecyclingTip tip = new RecyclingTip(
                     null,
-                    line[0].trim(),
-                    line[1].trim(),
+                    line[0],
+                    line[1],
                     category
             );
             tipService.createTip(category.getId(), tip);
@@ -174,11 +197,12 @@ public class DataLoaderService {
 
     /**
      * Loads disposal guidelines from CSV.
+     * @param files opens the CSV file
      * @throws IOException if file reading fails
      * @throws CsvException if CSV parsing fails
      */
-    private void loadDisposalGuidelines() throws IOException, CsvException {
-        try (CSVReader csvReader = createReader(GUIDELINES_FILE)) {
+    private void loadDisposalGuidelines(CsvFiles files) throws IOException, CsvException {
+        try (CSVReader csvReader = createReader(files, CatalogCsv.GUIDELINES_FILE)) {
             csvReader.readNext();
             String[] line;
             while ((line = csvReader.readNext()) != null) {
@@ -199,8 +223,8 @@ public class DataLoaderService {
         try {
             DisposalGuideline guideline = new DisposalGuideline(
                     null,
-                    line[0].trim(),
-                    line[1].trim(),
+                    line[0],
+                    line[1],
                     category
             );
             guidelineService.createGuideline(category.getId(), guideline);
@@ -0,0 +1,115 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks how often the catalogue has changed, so readers can tell cheaply
+ * whether anything they fetched before is out of date. Every change event
+ * advances a global version, and the category it concerns remembers the
+ * global version it was last changed at, so category versions only move
+ * when that category, its tips or its guidelines change.
+ *
+ * <p>Versions restart when the application does, so entity tags combine
+ * them with the startup time; a tag issued before a restart never matches.
+ *
+ * <p>Alongside each version it keeps the latest modification time of the
+ * entities changed, for {@code Last-Modified}. Before any change both
+ * times are the startup time.
+ */
+@Service
+public class DataVersionService implements ApplicationListener<CatalogChangeEvent> {
+
+    private final long startedAt = System.currentTimeMillis();
+    private final String epoch = Long.toString(startedAt, 36);
+    private final AtomicLong globalVersion = new AtomicLong();
+    private final Map<Long, Long> categoryVersions = new ConcurrentHashMap<>();
+    private final AtomicLong globalModified = new AtomicLong(startedAt);
+    private final Map<Long, Long> categoryModified = new ConcurrentHashMap<>();
+
+    /**
+     * Advances the global version and that of the affected category,
+     * and records the modification time.
+     *
+     * @param event the change published by a service
+     */
+    @Override
+    public void onApplicationEvent(CatalogChangeEvent event) {
+        long modified = event.getModifiedAt().toEpochMilli();
+        globalModified.accumulateAndGet(modified, Math::max);
+        if (event.getCategoryId() != null) {
+            categoryModified.merge(event.getCategoryId(), modified, Math::max);
+        }
+        long version = globalVersion.incrementAndGet();
+        if (event.getCategoryId() != null) {
+            categoryVersions.merge(event.getCategoryId(), version, Math::max);
+        }
+    }
+
+    /**
+     * Returns the number of changes made to the catalogue since startup.
+     */
+    public long globalVersion() {
+        return globalVersion.get();
+    }
+
+    /**
+     * Returns the global version at which a category, one of its tips or one
+     * of its guidelines last changed.
+     *
+     * @param categoryId the category ID
+     * @return the version, or 0 if the category has not changed since startup
+     */
+    public long categoryVersion(Long categoryId) {
+        return categoryVersions.getOrDefault(categoryId, 0L);
+    }
+
+    /**
+     * Returns when anything in the catalogue was last modified, in epoch milliseconds.
+     */
+    public long globalLastModified() {
+        return globalModified.get();
+    }
+
+    /**
+     * Returns when a category, one of its tips or one of its guidelines was
+     * last modified, in epoch milliseconds.
+     *
+     * @param categoryId the category ID
+     * @return the time, or the startup time if the category has not changed since
+     */
+    public long categoryLastModified(Long categoryId) {
+        return categoryModified.getOrDefault(categoryId, startedAt);
+    }
+
+    /**
+     * Returns an identifier of this run of the application, which anything
+     * numbered from startup can carry so that numbers from before a restart
+     * are told apart.
+     */
+    public String epoch() {
+        return epoch;
+    }
+
+    /**
+     * Returns a weak entity tag for responses built from the whole catalogue.
+     */
+    public String globalETag() {
+        return "W/\"" + epoch + "-" + globalVersion() + "\"";
+    }
+
+    /**
+     * Returns a weak entity tag for responses built from a single category
+     * and its tips and guidelines.
+     *
+     * @param categoryId the category ID
+     */
+    public String categoryETag(Long categoryId) {
+        return "W/\"" + epoch + "-c" + categoryId + "-" + categoryVersion(categoryId) + "\"";
+    }
+}
@@ -1,5 +1,7 @@
 package com.enviro.assessment.grad001.amosmaganyane.services;
 
+import com.enviro.assessment.grad001.amosmaganyane.dto.DisposalGuidelineDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
 import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
 import java.util.List;
 import java.util.Optional;
@@ -76,6 +78,27 @@ public interface DisposalGuidelineService {
      */
     List<DisposalGuideline> searchGuidelines(String keyword);
 
+    /**
+     * Searches for disposal guidelines whose titles approximately match the given
+     * keyword, tolerating a small number of typos per word.
+     * If the keyword is null or empty, retrieves all disposal guidelines.
+     *
+     * @param keyword the possibly misspelled keyword to search for in guideline titles
+     * @return a list of matching guidelines, or all guidelines if the keyword is empty
+     */
+    List<DisposalGuideline> fuzzySearchGuidelines(String keyword);
+
+    /**
+     * Searches like {@link #searchGuidelines} or, when fuzzy, {@link #fuzzySearchGuidelines},
+     * loading only the requested fields of each match.
+     *
+     * @param keyword the search keyword; null or empty matches all guidelines
+     * @param fuzzy whether to match titles within a small edit distance
+     * @param fields the fields to load
+     * @return the matching guidelines by ascending ID
+     */
+    List<DisposalGuidelineDTO> searchGuidelines(String keyword, boolean fuzzy, FieldSet fields);
+
     /**
      * Counts the number of disposal guidelines associated with a specific waste category.
      *
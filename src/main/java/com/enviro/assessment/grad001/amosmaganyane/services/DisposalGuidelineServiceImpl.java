@@ -1,9 +1,17 @@
 package com.enviro.assessment.grad001.amosmaganyane.services;
 
+import com.enviro.assessment.grad001.amosmaganyane.dto.DisposalGuidelineDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeBatchEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
 import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
 import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
 import com.enviro.assessment.grad001.amosmaganyane.repositories.DisposalGuidelineRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.FieldProjectionRepository;
 import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Optional;
@@ -18,11 +26,23 @@ public class DisposalGuidelineServiceImpl implements DisposalGuidelineService {
 
     private final DisposalGuidelineRepository guidelineRepository;
     private final WasteCategoryRepository categoryRepository;
+    private final SearchIndexService searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LiveIdFilter liveIds;
+    private final FieldProjectionRepository projections;
 
     public DisposalGuidelineServiceImpl(DisposalGuidelineRepository guidelineRepository,
-                                        WasteCategoryRepository categoryRepository) {
+                                        WasteCategoryRepository categoryRepository,
+                                        SearchIndexService searchIndex,
+                                        ApplicationEventPublisher eventPublisher,
+                                        LiveIdFilter liveIds,
+                                        FieldProjectionRepository projections) {
         this.guidelineRepository = guidelineRepository;
         this.categoryRepository = categoryRepository;
+        this.searchIndex = searchIndex;
+        this.eventPublisher = eventPublisher;
+        this.liveIds = liveIds;
+        this.projections = projections;
     }
 
     /**
@@ -31,24 +51,27 @@ public class DisposalGuidelineServiceImpl implements DisposalGuidelineService {
      */
     @Override
     public DisposalGuideline createGuideline(Long categoryId, DisposalGuideline guideline) {
-        WasteCategory category = categoryRepository.findById(categoryId)
+        WasteCategory category = findCategory(categoryId)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found"));
 
         if (!isValidGuidelineInstructions(guideline.getInstructions())) {
             throw new IllegalArgumentException("Invalid guideline instructions");
         }
         guideline.setCategory(category);
-        return guidelineRepository.save(guideline);
+        DisposalGuideline saved = guidelineRepository.save(guideline);
+        eventPublisher.publishEvent(CatalogChangeBatchEvent.of(
+                CatalogChangeEvent.of(this, ChangeOperation.CREATED, saved)));
+        return saved;
     }
 
 
     /**
      * {@inheritDoc}
-     * Fetches a guideline by its ID using the repository's findById method.
+     * Fetches a guideline by its ID; IDs known not to exist are answered without a query.
      */
     @Override
     public Optional<DisposalGuideline> getGuidelineById(Long id) {
-        return guidelineRepository.findById(id);
+        return findGuideline(id);
     }
 
     /**
@@ -66,13 +89,16 @@ public class DisposalGuidelineServiceImpl implements DisposalGuidelineService {
      */
     @Override
     public DisposalGuideline updateGuideline(Long id, DisposalGuideline guideline) {
-        return guidelineRepository.findById(id)
+        return findGuideline(id)
                 .map(existingGuideline -> {
 
                     existingGuideline.setTitle(guideline.getTitle());
                     existingGuideline.setInstructions(guideline.getInstructions());
 
-                    return guidelineRepository.save(existingGuideline);
+                    DisposalGuideline saved = guidelineRepository.save(existingGuideline);
+                    eventPublisher.publishEvent(CatalogChangeBatchEvent.of(
+                            CatalogChangeEvent.of(this, ChangeOperation.UPDATED, saved)));
+                    return saved;
                 })
                 .orElseThrow(() -> new IllegalStateException("Guideline not found"));
     }
@@ -83,10 +109,11 @@ public class DisposalGuidelineServiceImpl implements DisposalGuidelineService {
      */
     @Override
     public void deleteGuideline(Long id) {
-        if (!guidelineRepository.existsById(id)) {
-            throw new IllegalStateException("Disposal guideline not found");
-        }
+        DisposalGuideline existing = findGuideline(id)
+                .orElseThrow(() -> new IllegalStateException("Disposal guideline not found"));
         guidelineRepository.deleteById(id);
+        eventPublisher.publishEvent(CatalogChangeBatchEvent.of(
+                CatalogChangeEvent.of(this, ChangeOperation.DELETED, existing)));
     }
 
     /**
@@ -107,7 +134,7 @@ public class DisposalGuidelineServiceImpl implements DisposalGuidelineService {
      */
     @Override
     public List<DisposalGuideline> getGuidelinesByCategory(Long categoryId) {
-        return categoryRepository.findById(categoryId)
+        return findCategory(categoryId)
                 .map(WasteCategory::getGuidelines)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found"));
     }
@@ -117,6 +144,7 @@ public class DisposalGuidelineServiceImpl implements DisposalGuidelineService {
      * {@inheritDoc}
      * Searches for disposal guidelines whose titles or descriptions contain
      * the given keyword (case-insensitive).
+     * Matching IDs come from the trigram index, so only the hits are loaded.
      * If the keyword is null or empty, retrieves all disposal guidelines.
      */
     @Override
@@ -124,7 +152,36 @@ public class DisposalGuidelineServiceImpl implements DisposalGuidelineService {
         if (keyword == null || keyword.trim().isEmpty()) {
             return getAllGuidelines();
         }
-        return guidelineRepository.findByTitleContainingIgnoreCase(keyword);
+        return guidelineRepository.findAllById(searchIndex.findIds(EntityType.GUIDELINE, keyword));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Matching IDs come from the fuzzy word index.
+     */
+    @Override
+    public List<DisposalGuideline> fuzzySearchGuidelines(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return getAllGuidelines();
+        }
+        return guidelineRepository.findAllById(
+                searchIndex.findIdsFuzzy(EntityType.GUIDELINE, keyword));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Matching IDs come from the same indexes as the other searches, and
+     * only the columns behind the requested fields are queried.
+     */
+    @Override
+    public List<DisposalGuidelineDTO> searchGuidelines(String keyword, boolean fuzzy, FieldSet fields) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return projections.findGuidelines(null, fields);
+        }
+        List<Long> ids = fuzzy
+                ? searchIndex.findIdsFuzzy(EntityType.GUIDELINE, keyword)
+                : searchIndex.findIds(EntityType.GUIDELINE, keyword);
+        return projections.findGuidelines(ids, fields);
     }
 
     /**
@@ -135,4 +192,22 @@ public class DisposalGuidelineServiceImpl implements DisposalGuidelineService {
     public int countGuidelinesInCategory(Long categoryId) {
         return getGuidelinesByCategory(categoryId).size();
     }
-}
\ No newline at end of file
+
+    /**
+     * Loads a guideline, skipping the query when it certainly does not exist.
+     */
+    private Optional<DisposalGuideline> findGuideline(Long id) {
+        return liveIds.mightExist(EntityType.GUIDELINE, id)
+                ? guidelineRepository.findById(id)
+                : Optional.empty();
+    }
+
+    /**
+     * Loads a category, skipping the query when it certainly does not exist.
+     */
+    private Optional<WasteCategory> findCategory(Long id) {
+        return liveIds.mightExist(EntityType.CATEGORY, id)
+                ? categoryRepository.findById(id)
+                : Optional.empty();
+    }
+}
@@ -0,0 +1,194 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.DuplicatePairDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.DisposalGuidelineRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.RecyclingTipRepository;
+import com.enviro.assessment.grad001.amosmaganyane.search.MinHashLsh;
+import com.enviro.assessment.grad001.amosmaganyane.search.analysis.Analyzer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Flags tips and guidelines whose text nearly repeats another of the same
+ * kind. Content and instructions are analyzed, cut into overlapping word
+ * pairs, and reduced to MinHash signatures held in LSH buckets, so checking
+ * one text or scanning the whole catalogue only compares texts that share
+ * a bucket. Similarities are estimates of the Jaccard similarity of the
+ * word-pair sets. The buckets are filled once the application is ready and
+ * then kept current from change events.
+ */
+@Service
+public class DuplicateDetectionService implements ApplicationListener<CatalogChangeEvent> {
+
+    static final int SHINGLE_SIZE = 2;
+    private static final int BANDS = 32;
+    private static final int ROWS = 4;
+
+    private final RecyclingTipRepository tipRepository;
+    private final DisposalGuidelineRepository guidelineRepository;
+    private final Analyzer analyzer;
+    private final double defaultThreshold;
+    private final Map<EntityType, MinHashLsh<Long>> indexes = new EnumMap<>(EntityType.class);
+    private final Map<EntityType, Map<Long, String>> titles = new EnumMap<>(EntityType.class);
+    private final Object writeLock = new Object();
+    private Map<EntityType, Set<Long>> changedDuringRebuild;
+
+    public DuplicateDetectionService(RecyclingTipRepository tipRepository,
+                                     DisposalGuidelineRepository guidelineRepository,
+                                     Analyzer analyzer,
+                                     @Value("${search.duplicates.threshold:0.7}") double defaultThreshold) {
+        this.tipRepository = tipRepository;
+        this.guidelineRepository = guidelineRepository;
+        this.analyzer = analyzer;
+        this.defaultThreshold = defaultThreshold;
+        for (EntityType type : List.of(EntityType.TIP, EntityType.GUIDELINE)) {
+            indexes.put(type, new MinHashLsh<>(BANDS, ROWS));
+            titles.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Signs every tip and guideline currently in the database. A tip or
+     * guideline written while the rebuild runs keeps what its change event
+     * made of it, even if the rebuild read an older copy of the row, so a
+     * text deleted mid-rebuild is not signed again.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (writeLock) {
+            changedDuringRebuild = new EnumMap<>(EntityType.class);
+            indexes.keySet().forEach(type -> changedDuringRebuild.put(type, new HashSet<>()));
+        }
+        try {
+            tipRepository.findAll().forEach(tip ->
+                    reload(CatalogChangeEvent.of(this, ChangeOperation.CREATED, tip)));
+            guidelineRepository.findAll().forEach(guideline ->
+                    reload(CatalogChangeEvent.of(this, ChangeOperation.CREATED, guideline)));
+        } finally {
+            synchronized (writeLock) {
+                changedDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * Applies a single write to the buckets. Category writes are ignored.
+     *
+     * @param event the change published by a service
+     */
+    @Override
+    public void onApplicationEvent(CatalogChangeEvent event) {
+        if (!indexes.containsKey(event.getEntityType())) {
+            return;
+        }
+        synchronized (writeLock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.get(event.getEntityType()).add(event.getEntityId());
+            }
+            apply(event);
+        }
+    }
+
+    /**
+     * Finds the tips or guidelines that nearly repeat an existing one, most
+     * similar first, using the configured threshold.
+     *
+     * @param type TIP or GUIDELINE
+     * @param id the ID of the entity to check
+     * @return the near-duplicates, each paired with the entity checked
+     * @throws IllegalArgumentException if the type has no duplicate detection
+     */
+    public List<DuplicatePairDTO> findNearDuplicates(EntityType type, Long id) {
+        MinHashLsh<Long> index = index(type);
+        int[] signature = index.get(id);
+        List<DuplicatePairDTO> duplicates = new ArrayList<>();
+        if (signature == null) {
+            return duplicates;
+        }
+        index.similar(signature, defaultThreshold).forEach((otherId, similarity) -> {
+            if (!otherId.equals(id)) {
+                duplicates.add(pair(type, id, otherId, similarity));
+            }
+        });
+        duplicates.sort(Comparator.comparingDouble(DuplicatePairDTO::getSimilarity).reversed()
+                .thenComparing(DuplicatePairDTO::getSecondId));
+        return duplicates;
+    }
+
+    /**
+     * Finds every pair of near-duplicates of one type, most similar first.
+     *
+     * @param type TIP or GUIDELINE
+     * @param threshold the smallest similarity to report, or null for the configured one
+     * @return each pair once, the smaller ID first
+     * @throws IllegalArgumentException if the type has no duplicate detection
+     *                                  or the threshold is not within (0, 1]
+     */
+    public List<DuplicatePairDTO> scan(EntityType type, Double threshold) {
+        double minimum = threshold == null ? defaultThreshold : threshold;
+        if (minimum <= 0 || minimum > 1) {
+            throw new IllegalArgumentException("Threshold must be greater than 0 and at most 1");
+        }
+        List<DuplicatePairDTO> duplicates = new ArrayList<>();
+        for (MinHashLsh.Pair<Long> pair : index(type).pairs(minimum)) {
+            duplicates.add(pair(type, pair.getFirst(), pair.getSecond(), pair.getSimilarity()));
+        }
+        duplicates.sort(Comparator.comparingDouble(DuplicatePairDTO::getSimilarity).reversed()
+                .thenComparing(DuplicatePairDTO::getFirstId)
+                .thenComparing(DuplicatePairDTO::getSecondId));
+        return duplicates;
+    }
+
+    /**
+     * Signs a row read by a rebuild, unless a change event for it has
+     * arrived since the rebuild started.
+     */
+    private void reload(CatalogChangeEvent event) {
+        synchronized (writeLock) {
+            if (!changedDuringRebuild.get(event.getEntityType()).contains(event.getEntityId())) {
+                apply(event);
+            }
+        }
+    }
+
+    private void apply(CatalogChangeEvent event) {
+        MinHashLsh<Long> index = indexes.get(event.getEntityType());
+        Set<String> shingles = MinHashLsh.shingles(analyzer.terms(event.getBody()), SHINGLE_SIZE);
+        if (event.getOperation() == ChangeOperation.DELETED || shingles.isEmpty()) {
+            index.remove(event.getEntityId());
+            titles.get(event.getEntityType()).remove(event.getEntityId());
+            return;
+        }
+        index.put(event.getEntityId(), index.signature(shingles));
+        titles.get(event.getEntityType()).put(event.getEntityId(), event.getTitle());
+    }
+
+    private MinHashLsh<Long> index(EntityType type) {
+        MinHashLsh<Long> index = indexes.get(type);
+        if (index == null) {
+            throw new IllegalArgumentException("Duplicate detection covers tips and guidelines only");
+        }
+        return index;
+    }
+
+    private DuplicatePairDTO pair(EntityType type, Long firstId, Long secondId, double similarity) {
+        Map<Long, String> typeTitles = titles.get(type);
+        return new DuplicatePairDTO(type, firstId, typeTitles.get(firstId),
+                secondId, typeTitles.get(secondId), similarity);
+    }
+}
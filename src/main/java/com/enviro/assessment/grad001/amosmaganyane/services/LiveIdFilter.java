@@ -0,0 +1,143 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.DisposalGuidelineRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.RecyclingTipRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
+import com.enviro.assessment.grad001.amosmaganyane.search.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers which category, tip and guideline IDs exist, so lookups of IDs
+ * that were never created are answered without a database query. Each
+ * entity type has a {@link BloomFilter} of its live IDs, loaded once the
+ * application is ready; until then every ID is let through.
+ *
+ * <p>A created ID is added before any other listener sees the change, so it
+ * is never turned away once a client could know it. Deleted IDs cannot be
+ * removed and keep being looked up, which is only slower; once deletes
+ * reach a quarter of the IDs added, or the filter holds more IDs than it
+ * was sized for, it is rebuilt from the database.
+ */
+@Service
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LiveIdFilter implements ApplicationListener<CatalogChangeEvent> {
+
+    private final WasteCategoryRepository categoryRepository;
+    private final RecyclingTipRepository tipRepository;
+    private final DisposalGuidelineRepository guidelineRepository;
+    private final int expectedIds;
+    private final double falsePositiveRate;
+    private final Object writeLock = new Object();
+    private final AtomicLong rejected = new AtomicLong();
+    private final Map<EntityType, Integer> deletes = new EnumMap<>(EntityType.class);
+    private volatile Map<EntityType, BloomFilter> filters;
+
+    public LiveIdFilter(WasteCategoryRepository categoryRepository,
+                        RecyclingTipRepository tipRepository,
+                        DisposalGuidelineRepository guidelineRepository,
+                        @Value("${live-ids.expected:10000}") int expectedIds,
+                        @Value("${live-ids.false-positive-rate:0.01}") double falsePositiveRate) {
+        if (expectedIds <= 0) {
+            throw new IllegalArgumentException("Expected IDs must be positive");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        this.categoryRepository = categoryRepository;
+        this.tipRepository = tipRepository;
+        this.guidelineRepository = guidelineRepository;
+        this.expectedIds = expectedIds;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Loads the live IDs of every entity type.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (writeLock) {
+            Map<EntityType, BloomFilter> loaded = new EnumMap<>(EntityType.class);
+            for (EntityType type : EntityType.values()) {
+                loaded.put(type, load(type));
+                deletes.put(type, 0);
+            }
+            filters = loaded;
+        }
+    }
+
+    /**
+     * Adds created IDs, and rebuilds a filter once too many of its IDs are
+     * deleted or it is over capacity.
+     *
+     * @param event the change published by a service
+     */
+    @Override
+    public void onApplicationEvent(CatalogChangeEvent event) {
+        synchronized (writeLock) {
+            if (filters == null) {
+                return;
+            }
+            EntityType type = event.getEntityType();
+            BloomFilter filter = filters.get(type);
+            if (event.getOperation() == ChangeOperation.CREATED) {
+                filter.add(event.getEntityId());
+            } else if (event.getOperation() == ChangeOperation.DELETED) {
+                deletes.merge(type, 1, Integer::sum);
+            }
+            if (filter.isSaturated() || deletes.get(type) * 4 > filter.added()) {
+                Map<EntityType, BloomFilter> replaced = new EnumMap<>(filters);
+                replaced.put(type, load(type));
+                deletes.put(type, 0);
+                filters = replaced;
+            }
+        }
+    }
+
+    /**
+     * Checks whether an entity with the given ID may exist.
+     *
+     * @param type the entity type
+     * @param id the ID; null is always let through
+     * @return false only if the ID certainly does not exist
+     */
+    public boolean mightExist(EntityType type, Long id) {
+        Map<EntityType, BloomFilter> current = filters;
+        if (current == null || id == null || current.get(type).mightContain(id)) {
+            return true;
+        }
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Returns the number of lookups answered as missing without a query.
+     */
+    public long rejected() {
+        return rejected.get();
+    }
+
+    private BloomFilter load(EntityType type) {
+        List<Long> ids = switch (type) {
+            case CATEGORY -> categoryRepository.findAllIds();
+            case TIP -> tipRepository.findAllIds();
+            case GUIDELINE -> guidelineRepository.findAllIds();
+        };
+        BloomFilter filter = new BloomFilter(Math.max(expectedIds, ids.size() * 2), falsePositiveRate);
+        ids.forEach(filter::add);
+        return filter;
+    }
+}
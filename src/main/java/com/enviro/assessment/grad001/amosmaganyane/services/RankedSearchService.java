@@ -0,0 +1,293 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.FacetDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.SearchResponseDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.SearchResultDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.DisposalGuidelineRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.RecyclingTipRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
+import com.enviro.assessment.grad001.amosmaganyane.search.Bm25;
+import com.enviro.assessment.grad001.amosmaganyane.search.FacetIndex;
+import com.enviro.assessment.grad001.amosmaganyane.search.IndexedDocument;
+import com.enviro.assessment.grad001.amosmaganyane.search.SegmentedIndex;
+import com.enviro.assessment.grad001.amosmaganyane.search.analysis.Analyzer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranks categories, tips and guidelines together against a free-text query.
+ * Names and titles are indexed along with descriptions, content and
+ * instructions in a single BM25 index, and the best hits are assembled from
+ * the index's stored fields, so a search never touches the database. The
+ * matches are also counted per category from compressed bitmaps, for
+ * facets such as "4 results in Hazardous Waste". The index is kept current
+ * from change events.
+ *
+ * <p>When the index is kept on disk, recent writes are flushed into a new
+ * segment and segments are merged on a background thread. After a restart
+ * the mapped segments answer searches at once, while the database is
+ * re-read in the background to pick up anything written since the last
+ * flush; unchanged rows cost a fingerprint comparison.
+ */
+@Service
+public class RankedSearchService implements ApplicationListener<CatalogChangeEvent> {
+
+    public static final int MAX_RESULTS = 50;
+
+    private static final Logger log = LoggerFactory.getLogger(RankedSearchService.class);
+    private static final int TYPE_SHIFT = 56;
+
+    private final WasteCategoryRepository categoryRepository;
+    private final RecyclingTipRepository tipRepository;
+    private final DisposalGuidelineRepository guidelineRepository;
+    private final Analyzer analyzer;
+    private final SegmentedIndex index;
+    private final FacetIndex<Long> facets = new FacetIndex<>();
+    private final Duration flushInterval;
+    private final int maxSegments;
+    private final Object writeLock = new Object();
+    private Set<Long> changedDuringRebuild;
+    private ScheduledExecutorService maintenance;
+
+    public RankedSearchService(WasteCategoryRepository categoryRepository,
+                               RecyclingTipRepository tipRepository,
+                               DisposalGuidelineRepository guidelineRepository,
+                               Analyzer analyzer,
+                               SegmentedIndex index,
+                               @Value("${search.segments.flush-interval:30s}") Duration flushInterval,
+                               @Value("${search.segments.max-segments:4}") int maxSegments) {
+        this.categoryRepository = categoryRepository;
+        this.tipRepository = tipRepository;
+        this.guidelineRepository = guidelineRepository;
+        this.analyzer = analyzer;
+        this.index = index;
+        this.flushInterval = flushInterval;
+        this.maxSegments = maxSegments;
+        index.keys().forEach(key -> {
+            IndexedDocument document = index.stored(key);
+            if (document != null) {
+                facets.put(key, document.getCategoryId());
+            }
+        });
+    }
+
+    /**
+     * Starts background flushing for an on-disk index and brings the index
+     * in line with the database: in the background if segments were
+     * restored, so searches are served meanwhile, or before returning if
+     * the index starts empty.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!index.isPersistent()) {
+            rebuild();
+            return;
+        }
+        maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-segments");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = flushInterval.toMillis();
+        maintenance.scheduleWithFixedDelay(this::flushAndMerge, interval, interval, TimeUnit.MILLISECONDS);
+        if (index.size() > 0) {
+            maintenance.execute(this::rebuild);
+        } else {
+            rebuild();
+        }
+    }
+
+    /**
+     * Flushes writes still held in memory so the next start can reuse them.
+     */
+    @PreDestroy
+    public void stop() {
+        if (maintenance != null) {
+            maintenance.shutdownNow();
+            flushAndMerge();
+        }
+    }
+
+    /**
+     * Indexes every row currently in the database and drops documents whose
+     * rows no longer exist. Rows that are already indexed unchanged are
+     * skipped. A row written while the rebuild runs keeps what its change
+     * event made of it, even if the rebuild read an older copy of the row
+     * first, so a delete landing mid-rebuild is never undone.
+     */
+    public void rebuild() {
+        Set<Long> stale;
+        synchronized (writeLock) {
+            changedDuringRebuild = new HashSet<>();
+            stale = index.keys();
+        }
+        try {
+            categoryRepository.findAll().forEach(category ->
+                    reindex(stale, CatalogChangeEvent.of(this, ChangeOperation.CREATED, category)));
+            tipRepository.findAll().forEach(tip ->
+                    reindex(stale, CatalogChangeEvent.of(this, ChangeOperation.CREATED, tip)));
+            guidelineRepository.findAll().forEach(guideline ->
+                    reindex(stale, CatalogChangeEvent.of(this, ChangeOperation.CREATED, guideline)));
+            synchronized (writeLock) {
+                stale.removeAll(changedDuringRebuild);
+                stale.forEach(this::remove);
+            }
+        } finally {
+            synchronized (writeLock) {
+                changedDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * Applies a single write to the index.
+     *
+     * @param event the change published by a service
+     */
+    @Override
+    public void onApplicationEvent(CatalogChangeEvent event) {
+        long key = key(event.getEntityType(), event.getEntityId());
+        synchronized (writeLock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(key);
+            }
+            if (event.getOperation() == ChangeOperation.DELETED) {
+                remove(key);
+            } else {
+                index(event);
+            }
+        }
+    }
+
+    /**
+     * Finds the entities most relevant to the query, whatever their type.
+     *
+     * @param query the free-text query
+     * @param limit the maximum number of results, capped at {@link #MAX_RESULTS}
+     * @return the ranked results, the number of matches overall and per
+     *         category, and per-phase timings
+     */
+    public SearchResponseDTO search(String query, int limit) {
+        Map<String, Long> timings = new LinkedHashMap<>();
+        long start = System.nanoTime();
+
+        List<String> queryTerms = analyzer.terms(query);
+        long analyzed = lap(timings, "analyze", start);
+
+        Map<Long, Double> scores = index.score(queryTerms);
+        long scored = lap(timings, "score", analyzed);
+
+        List<Map.Entry<Long, Double>> best =
+                Bm25.topK(scores, Math.min(limit, MAX_RESULTS));
+        long selected = lap(timings, "select", scored);
+
+        List<SearchResultDTO> results = new ArrayList<>(best.size());
+        for (Map.Entry<Long, Double> hit : best) {
+            IndexedDocument document = index.stored(hit.getKey());
+            if (document != null) {
+                results.add(new SearchResultDTO(EntityType.values()[(int) (hit.getKey() >>> TYPE_SHIFT)],
+                        hit.getKey() & ((1L << TYPE_SHIFT) - 1), document.getTitle(),
+                        document.getCategoryId(), hit.getValue()));
+            }
+        }
+        long assembled = lap(timings, "assemble", selected);
+
+        List<FacetDTO> facetCounts = new ArrayList<>();
+        facets.count(scores.keySet()).forEach((categoryId, count) -> {
+            IndexedDocument category = index.stored(key(EntityType.CATEGORY, categoryId));
+            facetCounts.add(new FacetDTO(categoryId, category == null ? null : category.getTitle(), count));
+        });
+        facetCounts.sort(Comparator.comparingInt(FacetDTO::getCount).reversed()
+                .thenComparing(FacetDTO::getCategoryId));
+        lap(timings, "facets", assembled);
+
+        return new SearchResponseDTO(query, scores.size(), results, facetCounts, timings);
+    }
+
+    /**
+     * Title words are counted twice, so a title hit outranks a passing
+     * mention of the same word in a long body.
+     */
+    List<String> terms(String title, String body) {
+        List<String> terms = new ArrayList<>();
+        analyzer.analyze(title, (buffer, length) -> {
+            String term = new String(buffer, 0, length);
+            terms.add(term);
+            terms.add(term);
+        });
+        analyzer.analyze(body, (buffer, length) -> terms.add(new String(buffer, 0, length)));
+        return terms;
+    }
+
+    /**
+     * Indexes a row read by a rebuild, unless a change event for it has
+     * arrived since the rebuild started.
+     */
+    private void reindex(Set<Long> stale, CatalogChangeEvent event) {
+        long key = key(event.getEntityType(), event.getEntityId());
+        stale.remove(key);
+        synchronized (writeLock) {
+            if (!changedDuringRebuild.contains(key)) {
+                index(event);
+            }
+        }
+    }
+
+    private long index(CatalogChangeEvent event) {
+        long key = key(event.getEntityType(), event.getEntityId());
+        index.put(new IndexedDocument(key, event.getTitle(), event.getCategoryId(),
+                terms(event.getTitle(), event.getBody())));
+        facets.put(key, event.getCategoryId());
+        return key;
+    }
+
+    private void remove(long key) {
+        index.remove(key);
+        facets.remove(key);
+    }
+
+    private void flushAndMerge() {
+        try {
+            index.flush();
+            index.merge(maxSegments);
+        } catch (IOException e) {
+            log.warn("Could not write search index segments", e);
+        }
+    }
+
+    /**
+     * Packs the entity type into the top byte of the id, so keys sort by
+     * type and then id, like the results of the other searches.
+     */
+    private static long key(EntityType type, Long id) {
+        return (long) type.ordinal() << TYPE_SHIFT | id;
+    }
+
+    private static long lap(Map<String, Long> timings, String phase, long since) {
+        long now = System.nanoTime();
+        timings.put(phase, TimeUnit.NANOSECONDS.toMicros(now - since));
+        return now;
+    }
+}
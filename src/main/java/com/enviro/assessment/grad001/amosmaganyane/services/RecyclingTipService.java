@@ -1,5 +1,7 @@
 package com.enviro.assessment.grad001.amosmaganyane.services;
 
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
 import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
 
 import java.util.List;
@@ -77,6 +79,27 @@ public interface RecyclingTipService {
      */
     List<RecyclingTip> searchTips(String keyword);
 
+    /**
+     * Searches for recycling tips whose titles approximately match the given keyword,
+     * tolerating a small number of typos per word.
+     * If the keyword is null or empty, retrieves all recycling tips.
+     *
+     * @param keyword the possibly misspelled keyword to search for in tip titles
+     * @return a list of recycling tips matching the keyword, or all tips if the keyword is empty
+     */
+    List<RecyclingTip> fuzzySearchTips(String keyword);
+
+    /**
+     * Searches like {@link #searchTips} or, when fuzzy, {@link #fuzzySearchTips},
+     * loading only the requested fields of each match.
+     *
+     * @param keyword the search keyword; null or empty matches all tips
+     * @param fuzzy whether to match titles within a small edit distance
+     * @param fields the fields to load
+     * @return the matching tips by ascending ID
+     */
+    List<RecyclingTipDTO> searchTips(String keyword, boolean fuzzy, FieldSet fields);
+
     /**
      * Counts the number of recycling tips associated with a specific waste category.
      *
@@ -1,9 +1,17 @@
 package com.enviro.assessment.grad001.amosmaganyane.services;
 
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeBatchEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
 import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
 import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.FieldProjectionRepository;
 import com.enviro.assessment.grad001.amosmaganyane.repositories.RecyclingTipRepository;
 import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Optional;
@@ -17,11 +25,23 @@ public class RecyclingTipServiceImpl implements RecyclingTipService {
 
     private final RecyclingTipRepository tipRepository;
     private final WasteCategoryRepository categoryRepository;
+    private final SearchIndexService searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LiveIdFilter liveIds;
+    private final FieldProjectionRepository projections;
 
     public RecyclingTipServiceImpl(RecyclingTipRepository tipRepository,
-                                   WasteCategoryRepository categoryRepository) {
+                                   WasteCategoryRepository categoryRepository,
+                                   SearchIndexService searchIndex,
+                                   ApplicationEventPublisher eventPublisher,
+                                   LiveIdFilter liveIds,
+                                   FieldProjectionRepository projections) {
         this.tipRepository = tipRepository;
         this.categoryRepository = categoryRepository;
+        this.searchIndex = searchIndex;
+        this.eventPublisher = eventPublisher;
+        this.liveIds = liveIds;
+        this.projections = projections;
     }
 
     /**
@@ -30,23 +50,26 @@ public class RecyclingTipServiceImpl implements RecyclingTipService {
      */
     @Override
     public RecyclingTip createTip(Long categoryId, RecyclingTip tip) {
-        WasteCategory category = categoryRepository.findById(categoryId)
+        WasteCategory category = findCategory(categoryId)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found"));
 
         if (!isValidTipContent(tip.getContent())) {
             throw new IllegalArgumentException("Invalid tip content");
         }
         tip.setCategory(category);
-        return tipRepository.save(tip);
+        RecyclingTip saved = tipRepository.save(tip);
+        eventPublisher.publishEvent(CatalogChangeBatchEvent.of(
+                CatalogChangeEvent.of(this, ChangeOperation.CREATED, saved)));
+        return saved;
     }
 
     /**
      * {@inheritDoc}
-     * Fetches a tip by its ID using the repository's findById method.
+     * Fetches a tip by its ID; IDs known not to exist are answered without a query.
      */
     @Override
     public Optional<RecyclingTip> getTipById(Long id) {
-        return tipRepository.findById(id);
+        return findTip(id);
     }
 
     /**
@@ -64,12 +87,15 @@ public class RecyclingTipServiceImpl implements RecyclingTipService {
      */
     @Override
     public RecyclingTip updateTip(Long id, RecyclingTip tip) {
-        return tipRepository.findById(id)
+        return findTip(id)
                 .map(existingTip -> {
                     existingTip.setTitle(tip.getTitle());
                     existingTip.setContent(tip.getContent());
 
-                    return tipRepository.save(existingTip);
+                    RecyclingTip saved = tipRepository.save(existingTip);
+                    eventPublisher.publishEvent(CatalogChangeBatchEvent.of(
+                            CatalogChangeEvent.of(this, ChangeOperation.UPDATED, saved)));
+                    return saved;
                 })
                 .orElseThrow(() -> new IllegalStateException("Tip not found"));
     }
@@ -81,10 +107,11 @@ public class RecyclingTipServiceImpl implements RecyclingTipService {
      */
     @Override
     public void deleteTip(Long id) {
-        if (!tipRepository.existsById(id)) {
-            throw new IllegalStateException("Recycling tip not found");
-        }
+        RecyclingTip existing = findTip(id)
+                .orElseThrow(() -> new IllegalStateException("Recycling tip not found"));
         tipRepository.deleteById(id);
+        eventPublisher.publishEvent(CatalogChangeBatchEvent.of(
+                CatalogChangeEvent.of(this, ChangeOperation.DELETED, existing)));
     }
 
     /**
@@ -105,7 +132,7 @@ public class RecyclingTipServiceImpl implements RecyclingTipService {
      */
     @Override
     public List<RecyclingTip> getTipsByCategory(Long categoryId) {
-        return categoryRepository.findById(categoryId)
+        return findCategory(categoryId)
                 .map(WasteCategory::getRecyclingTips)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found"));
     }
@@ -113,6 +140,7 @@ public class RecyclingTipServiceImpl implements RecyclingTipService {
     /**
      * {@inheritDoc}
      * Searches for recycling tips whose titles contain the given keyword (case-insensitive).
+     * Matching IDs come from the trigram index, so only the hits are loaded.
      * If the keyword is null or empty, retrieves all recycling tips.
      */
     @Override
@@ -120,7 +148,35 @@ public class RecyclingTipServiceImpl implements RecyclingTipService {
         if (keyword == null || keyword.trim().isEmpty()) {
             return getAllTips();
         }
-        return tipRepository.findByTitleContainingIgnoreCase(keyword);
+        return tipRepository.findAllById(searchIndex.findIds(EntityType.TIP, keyword));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Matching IDs come from the fuzzy word index.
+     */
+    @Override
+    public List<RecyclingTip> fuzzySearchTips(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return getAllTips();
+        }
+        return tipRepository.findAllById(searchIndex.findIdsFuzzy(EntityType.TIP, keyword));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Matching IDs come from the same indexes as the other searches, and
+     * only the columns behind the requested fields are queried.
+     */
+    @Override
+    public List<RecyclingTipDTO> searchTips(String keyword, boolean fuzzy, FieldSet fields) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return projections.findTips(null, fields);
+        }
+        List<Long> ids = fuzzy
+                ? searchIndex.findIdsFuzzy(EntityType.TIP, keyword)
+                : searchIndex.findIds(EntityType.TIP, keyword);
+        return projections.findTips(ids, fields);
     }
 
     /**
@@ -131,4 +187,22 @@ public class RecyclingTipServiceImpl implements RecyclingTipService {
     public int countTipsInCategory(Long categoryId) {
         return getTipsByCategory(categoryId).size();
     }
-}
\ No newline at end of file
+
+    /**
+     * Loads a tip, skipping the query when it certainly does not exist.
+     */
+    private Optional<RecyclingTip> findTip(Long id) {
+        return liveIds.mightExist(EntityType.TIP, id)
+                ? tipRepository.findById(id)
+                : Optional.empty();
+    }
+
+    /**
+     * Loads a category, skipping the query when it certainly does not exist.
+     */
+    private Optional<WasteCategory> findCategory(Long id) {
+        return liveIds.mightExist(EntityType.CATEGORY, id)
+                ? categoryRepository.findById(id)
+                : Optional.empty();
+    }
+}
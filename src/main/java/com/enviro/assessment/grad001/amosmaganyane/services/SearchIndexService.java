@@ -0,0 +1,158 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.DisposalGuidelineRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.RecyclingTipRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
+import com.enviro.assessment.grad001.amosmaganyane.search.FuzzyIndex;
+import com.enviro.assessment.grad001.amosmaganyane.search.TrigramIndex;
+import com.enviro.assessment.grad001.amosmaganyane.search.analysis.Analyzer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Keeps trigram indexes over category names and tip and guideline titles,
+ * so keyword searches resolve to matching IDs without a table scan, and
+ * word indexes over the analyzed texts, which let "bottles" find "Bottle"
+ * and "e-waste" find "Electronic Waste" and serve typo-tolerant searches.
+ * The indexes are filled from the database once the application is ready
+ * and then kept current from the change events published by the services.
+ */
+@Service
+public class SearchIndexService implements ApplicationListener<CatalogChangeEvent> {
+
+    private final WasteCategoryRepository categoryRepository;
+    private final RecyclingTipRepository tipRepository;
+    private final DisposalGuidelineRepository guidelineRepository;
+    private final Map<EntityType, TrigramIndex> indexes = new EnumMap<>(EntityType.class);
+    private final Map<EntityType, FuzzyIndex> fuzzyIndexes = new EnumMap<>(EntityType.class);
+    private final Analyzer analyzer;
+    private final int maxFuzzyDistance;
+    private final Object writeLock = new Object();
+    private Map<EntityType, Set<Long>> changedDuringRebuild;
+
+    public SearchIndexService(WasteCategoryRepository categoryRepository,
+                              RecyclingTipRepository tipRepository,
+                              DisposalGuidelineRepository guidelineRepository,
+                              Analyzer analyzer,
+                              @Value("${search.fuzzy.max-distance:2}") int maxFuzzyDistance) {
+        this.categoryRepository = categoryRepository;
+        this.tipRepository = tipRepository;
+        this.guidelineRepository = guidelineRepository;
+        this.analyzer = analyzer;
+        this.maxFuzzyDistance = maxFuzzyDistance;
+        for (EntityType type : EntityType.values()) {
+            indexes.put(type, new TrigramIndex());
+            fuzzyIndexes.put(type, new FuzzyIndex());
+        }
+    }
+
+    /**
+     * Indexes every row currently in the database. Re-indexing a row that
+     * already arrived through a change event simply overwrites it, unless
+     * the event arrived after the rebuild started: the rebuild may have read
+     * the row before that write, and indexing its copy would bring back a
+     * deleted row or an old title.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (writeLock) {
+            changedDuringRebuild = new EnumMap<>(EntityType.class);
+            for (EntityType type : EntityType.values()) {
+                changedDuringRebuild.put(type, new HashSet<>());
+            }
+        }
+        try {
+            categoryRepository.findAll().forEach(category ->
+                    reindex(EntityType.CATEGORY, category.getId(), category.getName()));
+            tipRepository.findAll().forEach(tip ->
+                    reindex(EntityType.TIP, tip.getId(), tip.getTitle()));
+            guidelineRepository.findAll().forEach(guideline ->
+                    reindex(EntityType.GUIDELINE, guideline.getId(), guideline.getTitle()));
+        } finally {
+            synchronized (writeLock) {
+                changedDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * Applies a single write to the matching index.
+     *
+     * @param event the change published by a service
+     */
+    @Override
+    public void onApplicationEvent(CatalogChangeEvent event) {
+        synchronized (writeLock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.get(event.getEntityType()).add(event.getEntityId());
+            }
+            if (event.getOperation() == ChangeOperation.DELETED) {
+                indexes.get(event.getEntityType()).remove(event.getEntityId());
+                fuzzyIndexes.get(event.getEntityType()).remove(event.getEntityId());
+            } else {
+                put(event.getEntityType(), event.getEntityId(), event.getTitle());
+            }
+        }
+    }
+
+    /**
+     * Finds the IDs of entities whose name or title contains the keyword,
+     * ignoring case, or contains every analyzed word of the keyword.
+     *
+     * @param type the kind of entity to search
+     * @param keyword the substring or words to look for
+     * @return the matching IDs in ascending order
+     */
+    public List<Long> findIds(EntityType type, String keyword) {
+        List<Long> substringMatches = indexes.get(type).search(keyword);
+        List<Long> wordMatches = fuzzyIndexes.get(type).search(analyzer.terms(keyword), 0);
+        if (wordMatches.isEmpty()) {
+            return substringMatches;
+        }
+        TreeSet<Long> ids = new TreeSet<>(substringMatches);
+        ids.addAll(wordMatches);
+        return List.copyOf(ids);
+    }
+
+    /**
+     * Finds the IDs of entities whose name or title has, for every word of
+     * the keyword, a word within the configured edit distance of it.
+     *
+     * @param type the kind of entity to search
+     * @param keyword the possibly misspelled search text
+     * @return the matching IDs in ascending order
+     */
+    public List<Long> findIdsFuzzy(EntityType type, String keyword) {
+        return fuzzyIndexes.get(type).search(analyzer.terms(keyword), maxFuzzyDistance);
+    }
+
+    /**
+     * Indexes a row read by a rebuild, unless a change event for it has
+     * arrived since the rebuild started.
+     */
+    private void reindex(EntityType type, Long id, String text) {
+        synchronized (writeLock) {
+            if (!changedDuringRebuild.get(type).contains(id)) {
+                put(type, id, text);
+            }
+        }
+    }
+
+    private void put(EntityType type, Long id, String text) {
+        indexes.get(type).put(id, text);
+        fuzzyIndexes.get(type).put(id, analyzer.terms(text));
+    }
+}
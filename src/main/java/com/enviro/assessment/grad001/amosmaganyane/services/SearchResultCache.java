@@ -0,0 +1,247 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.CacheStatsDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.DisposalGuidelineDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.WasteCategoryDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.search.FrequencyCache;
+import com.enviro.assessment.grad001.amosmaganyane.search.TrigramIndex;
+import com.enviro.assessment.grad001.amosmaganyane.search.analysis.Analyzer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caches the mapped results of keyword searches by entity type, normalized
+ * keyword and requested fields, so popular searches skip both the query and the
+ * entity-to-DTO mapping. Each entry remembers which entities and categories
+ * its results show, and a write only drops the entries it can change:
+ * those whose keyword occurs in the written name or title or whose
+ * analyzed words all occur among the title's analyzed words, those already
+ * listing the written entity, and those showing a category whose name or
+ * counts the write changed. Concurrent misses on the same keyword share a
+ * single search.
+ */
+@Service
+public class SearchResultCache implements ApplicationListener<CatalogChangeEvent> {
+
+    private final FrequencyCache<Key, Entry> cache;
+    private final SingleFlight<Key, List<?>> flights;
+    private final Analyzer analyzer;
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public SearchResultCache(Analyzer analyzer,
+                             @Value("${search.cache.capacity:256}") int capacity,
+                             @Value("${coalescing.max-wait:5s}") Duration maxWait) {
+        this.analyzer = analyzer;
+        this.cache = new FrequencyCache<>(capacity);
+        this.flights = new SingleFlight<>(maxWait);
+    }
+
+    /**
+     * Returns cached category search results, running the search on a miss.
+     *
+     * @param keyword the keyword as received
+     * @param search runs the search and maps the results
+     * @return the mapped results
+     */
+    public List<WasteCategoryDTO> categories(String keyword, Supplier<List<WasteCategoryDTO>> search) {
+        return categories(keyword, FieldSet.all(), search);
+    }
+
+    /**
+     * Returns cached category search results loaded with only some fields,
+     * running the search on a miss.
+     *
+     * @param keyword the keyword as received
+     * @param fields the fields the search loads
+     * @param search runs the search and maps the results
+     * @return the mapped results
+     */
+    public List<WasteCategoryDTO> categories(String keyword, FieldSet fields,
+                                             Supplier<List<WasteCategoryDTO>> search) {
+        return get(EntityType.CATEGORY, keyword, fields, search, WasteCategoryDTO::getId, WasteCategoryDTO::getId);
+    }
+
+    /**
+     * Returns cached tip search results, running the search on a miss.
+     *
+     * @param keyword the keyword as received
+     * @param search runs the search and maps the results
+     * @return the mapped results
+     */
+    public List<RecyclingTipDTO> tips(String keyword, Supplier<List<RecyclingTipDTO>> search) {
+        return tips(keyword, FieldSet.all(), search);
+    }
+
+    /**
+     * Returns cached tip search results loaded with only some fields,
+     * running the search on a miss.
+     *
+     * @param keyword the keyword as received
+     * @param fields the fields the search loads
+     * @param search runs the search and maps the results
+     * @return the mapped results
+     */
+    public List<RecyclingTipDTO> tips(String keyword, FieldSet fields, Supplier<List<RecyclingTipDTO>> search) {
+        return get(EntityType.TIP, keyword, fields, search, RecyclingTipDTO::getId, RecyclingTipDTO::getCategoryId);
+    }
+
+    /**
+     * Returns cached guideline search results, running the search on a miss.
+     *
+     * @param keyword the keyword as received
+     * @param search runs the search and maps the results
+     * @return the mapped results
+     */
+    public List<DisposalGuidelineDTO> guidelines(String keyword,
+                                                 Supplier<List<DisposalGuidelineDTO>> search) {
+        return guidelines(keyword, FieldSet.all(), search);
+    }
+
+    /**
+     * Returns cached guideline search results loaded with only some fields,
+     * running the search on a miss.
+     *
+     * @param keyword the keyword as received
+     * @param fields the fields the search loads
+     * @param search runs the search and maps the results
+     * @return the mapped results
+     */
+    public List<DisposalGuidelineDTO> guidelines(String keyword, FieldSet fields,
+                                                 Supplier<List<DisposalGuidelineDTO>> search) {
+        return get(EntityType.GUIDELINE, keyword, fields, search,
+                DisposalGuidelineDTO::getId, DisposalGuidelineDTO::getCategoryId);
+    }
+
+    /**
+     * Drops the entries whose results the write may have changed.
+     *
+     * @param event the change published by a service
+     */
+    @Override
+    public void onApplicationEvent(CatalogChangeEvent event) {
+        writes.incrementAndGet();
+        String title = TrigramIndex.normalize(event.getTitle());
+        Set<String> titleTerms = new HashSet<>(analyzer.terms(event.getTitle()));
+        invalidations.addAndGet(cache.invalidateIf((key, entry) ->
+                affects(event, title, titleTerms, key, entry)));
+    }
+
+    /**
+     * Returns hit, miss and eviction counts for the cache.
+     *
+     * @return the current statistics
+     */
+    public CacheStatsDTO stats() {
+        return new CacheStatsDTO(cache.hits(), cache.misses(), cache.evictions(),
+                cache.rejections(), invalidations.get(), flights.coalesced(), flights.timeouts(),
+                cache.size(), cache.capacity());
+    }
+
+    /**
+     * Blank keywords all list every entity, so they share one entry.
+     * Other keywords are only lower-cased, since surrounding spaces
+     * take part in the substring match.
+     */
+    static String normalize(String keyword) {
+        return keyword == null || keyword.isBlank() ? "" : TrigramIndex.normalize(keyword);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <D> List<D> get(EntityType type, String keyword, FieldSet fields, Supplier<List<D>> search,
+                            Function<D, Long> idOf, Function<D, Long> categoryIdOf) {
+        Key key = new Key(type, normalize(keyword), fields);
+        Entry cached = cache.get(key);
+        if (cached != null) {
+            return (List<D>) cached.results;
+        }
+        return (List<D>) flights.execute(key, () -> load(key, keyword, search, idOf, categoryIdOf));
+    }
+
+    private <D> List<D> load(Key key, String keyword, Supplier<List<D>> search,
+                             Function<D, Long> idOf, Function<D, Long> categoryIdOf) {
+        long writesBefore = writes.get();
+        List<D> results = List.copyOf(search.get());
+        Set<Long> ids = new HashSet<>();
+        Set<Long> categoryIds = new HashSet<>();
+        for (D result : results) {
+            ids.add(idOf.apply(result));
+            categoryIds.add(categoryIdOf.apply(result));
+        }
+        // A write that landed while the search ran may be missing from its
+        // results and its invalidation may have run before the put
+        Entry entry = new Entry(results, ids, categoryIds, analyzer.terms(keyword));
+        if (cache.put(key, entry) && writes.get() != writesBefore) {
+            cache.invalidateIf((k, e) -> e == entry);
+        }
+        return results;
+    }
+
+    private static boolean affects(CatalogChangeEvent event, String title, Set<String> titleTerms,
+                                   Key key, Entry entry) {
+        EntityType written = event.getEntityType();
+        if (key.type == written) {
+            return entry.ids.contains(event.getEntityId())
+                    || title.contains(key.keyword)
+                    || (!entry.keywordTerms.isEmpty() && titleTerms.containsAll(entry.keywordTerms));
+        }
+        if (written == EntityType.CATEGORY) {
+            return entry.categoryIds.contains(event.getEntityId());
+        }
+        return key.type == EntityType.CATEGORY && entry.ids.contains(event.getCategoryId());
+    }
+
+    private static final class Key {
+        private final EntityType type;
+        private final String keyword;
+        private final FieldSet fields;
+
+        private Key(EntityType type, String keyword, FieldSet fields) {
+            this.type = type;
+            this.keyword = keyword;
+            this.fields = fields;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key that = (Key) o;
+            return type == that.type && keyword.equals(that.keyword) && fields.equals(that.fields);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, keyword, fields);
+        }
+    }
+
+    private static final class Entry {
+        private final List<?> results;
+        private final Set<Long> ids;
+        private final Set<Long> categoryIds;
+        private final List<String> keywordTerms;
+
+        private Entry(List<?> results, Set<Long> ids, Set<Long> categoryIds,
+                      List<String> keywordTerms) {
+            this.results = results;
+            this.ids = ids;
+            this.categoryIds = categoryIds;
+            this.keywordTerms = keywordTerms;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.CacheStatsDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
+import com.enviro.assessment.grad001.amosmaganyane.search.FrequencyCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches list responses as the bytes sent to clients, in each
+ * {@link WireFormat} and sparse fieldset that has been asked for, plus a copy compressed with
+ * each configured {@link ContentCoding}, so repeated reads
+ * between writes skip the queries, the entity-to-DTO mapping,
+ * serialization and compression altogether. Compression happens once per
+ * data version, so it uses the slowest, smallest level by default. Each entry is tagged
+ * with the data version it was built at: the global version for lists
+ * spanning the catalogue, the category version for lists within one
+ * category. Any write moves the version on, and an entry whose tag no
+ * longer matches is rebuilt on its next read. Concurrent reads that miss
+ * the same endpoint at the same version share a single build.
+ */
+@Service
+public class SerializedResponseCache {
+
+    private final WireFormatCodec codec;
+    private final DataVersionService versions;
+    private final FrequencyCache<String, SerializedResponse> cache;
+    private final SingleFlight<String, SerializedResponse> flights;
+    private final List<ContentCoding> codings;
+    private final int compressionLevel;
+    private final AtomicLong stale = new AtomicLong();
+
+    public SerializedResponseCache(WireFormatCodec codec,
+                                   DataVersionService versions,
+                                   @Value("${response-cache.capacity:128}") int capacity,
+                                   @Value("${coalescing.max-wait:5s}") Duration maxWait,
+                                   @Value("${response-cache.encodings:gzip,deflate}") String[] encodings,
+                                   @Value("${response-cache.compression-level:9}") int compressionLevel) {
+        if (compressionLevel < 1 || compressionLevel > 9) {
+            throw new IllegalArgumentException("Compression level must be between 1 and 9");
+        }
+        this.codec = codec;
+        this.versions = versions;
+        this.cache = new FrequencyCache<>(capacity);
+        this.flights = new SingleFlight<>(maxWait);
+        this.codings = Arrays.stream(encodings)
+                .filter(encoding -> !encoding.isBlank())
+                .map(ContentCoding::fromToken)
+                .distinct()
+                .toList();
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Returns the serialized response of an endpoint listing data from the
+     * whole catalogue, building it on a miss or after any write.
+     *
+     * @param endpoint the endpoint and the parameters that shape its response
+     * @param format the format to serialize the body in
+     * @param body builds the response body
+     * @return the serialized response
+     */
+    public SerializedResponse global(String endpoint, WireFormat format, Supplier<?> body) {
+        return global(endpoint, format, FieldSet.all(), body);
+    }
+
+    /**
+     * Returns the serialized response of an endpoint listing data from the
+     * whole catalogue, trimmed to some fields.
+     *
+     * @param endpoint the endpoint and the parameters that shape its response
+     * @param format the format to serialize the body in
+     * @param fields the fields of each DTO to send
+     * @param body builds the response body
+     * @return the serialized response
+     */
+    public SerializedResponse global(String endpoint, WireFormat format, FieldSet fields, Supplier<?> body) {
+        return get(endpoint, format, fields, versions.globalVersion(), body);
+    }
+
+    /**
+     * Returns the serialized response of an endpoint listing data from one
+     * category, building it on a miss or after a write to that category.
+     *
+     * @param endpoint the endpoint and the parameters that shape its response
+     * @param categoryId the category the response is built from
+     * @param format the format to serialize the body in
+     * @param body builds the response body
+     * @return the serialized response
+     */
+    public SerializedResponse category(String endpoint, Long categoryId, WireFormat format, Supplier<?> body) {
+        return category(endpoint, categoryId, format, FieldSet.all(), body);
+    }
+
+    /**
+     * Returns the serialized response of an endpoint listing data from one
+     * category, trimmed to some fields.
+     *
+     * @param endpoint the endpoint and the parameters that shape its response
+     * @param categoryId the category the response is built from
+     * @param format the format to serialize the body in
+     * @param fields the fields of each DTO to send
+     * @param body builds the response body
+     * @return the serialized response
+     */
+    public SerializedResponse category(String endpoint, Long categoryId, WireFormat format,
+                                       FieldSet fields, Supplier<?> body) {
+        return get(endpoint, format, fields, versions.categoryVersion(categoryId), body);
+    }
+
+    /**
+     * Returns hit, miss and coalescing counts for the cache. Entries found
+     * but built at an older version count as misses and invalidations.
+     *
+     * @return the current statistics
+     */
+    public CacheStatsDTO stats() {
+        long outdated = stale.get();
+        return new CacheStatsDTO(cache.hits() - outdated, cache.misses() + outdated,
+                cache.evictions(), cache.rejections(), outdated,
+                flights.coalesced(), flights.timeouts(), cache.size(), cache.capacity());
+    }
+
+    /**
+     * Drops every entry, so each endpoint is rebuilt on its next read.
+     */
+    public void clear() {
+        cache.invalidateIf((key, response) -> true);
+    }
+
+    private SerializedResponse get(String endpoint, WireFormat format, FieldSet fields,
+                                   long version, Supplier<?> body) {
+        String key = endpoint + "|" + format + "|" + fields;
+        SerializedResponse cached = cache.get(key);
+        if (cached != null) {
+            if (cached.version == version) {
+                return cached;
+            }
+            stale.incrementAndGet();
+        }
+        // The version is read before the body is built, so an entry that
+        // misses a concurrent write carries the older version and is
+        // rebuilt on the next read
+        return flights.execute(key + "@" + version, () -> {
+            SerializedResponse response = serialize(version, format, codec.project(body.get(), fields, format));
+            cache.put(key, response);
+            return response;
+        });
+    }
+
+    private SerializedResponse serialize(long version, WireFormat format, Object body) {
+        byte[] bytes = codec.write(format, body);
+        Map<ContentCoding, byte[]> encoded = new EnumMap<>(ContentCoding.class);
+        for (ContentCoding coding : codings) {
+            byte[] compressed = coding.encode(bytes, compressionLevel);
+            if (compressed.length < bytes.length) {
+                encoded.put(coding, compressed);
+            }
+        }
+        return new SerializedResponse(version, format, bytes, encoded);
+    }
+
+    /**
+     * A response body serialized once and sent as is.
+     */
+    public static final class SerializedResponse {
+        private final long version;
+        private final WireFormat format;
+        private final byte[] body;
+        private final Map<ContentCoding, byte[]> encoded;
+
+        private SerializedResponse(long version, WireFormat format, byte[] body,
+                                   Map<ContentCoding, byte[]> encoded) {
+            this.version = version;
+            this.format = format;
+            this.body = body;
+            this.encoded = Collections.unmodifiableMap(encoded);
+        }
+
+        /**
+         * Returns the format the body is serialized in.
+         */
+        public WireFormat getFormat() {
+            return format;
+        }
+
+        /**
+         * Returns the uncompressed body. The array is shared and must not be modified.
+         */
+        public byte[] getBody() {
+            return body;
+        }
+
+        /**
+         * Returns the body compressed with a coding, or null when the
+         * coding is not configured or does not make it smaller. The array
+         * is shared and must not be modified.
+         *
+         * @param coding the content coding
+         */
+        public byte[] getEncoded(ContentCoding coding) {
+            return encoded.get(coding);
+        }
+
+        /**
+         * Returns the compressed bodies by coding. The arrays are shared and
+         * must not be modified.
+         */
+        public Map<ContentCoding, byte[]> getEncodings() {
+            return encoded;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent callers asking for the same key share one computation.
+ * The first caller runs it; callers arriving while it runs wait for its
+ * result instead of repeating the work, so a cold or freshly invalidated
+ * cache sees one query per key rather than one per request. A failure is
+ * passed to every waiting caller. Waiting is bounded: a caller that has
+ * waited for the configured time gives up and runs the computation itself.
+ *
+ * @param <K> the type of key
+ * @param <V> the type of result
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long maxWaitNanos;
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+
+    /**
+     * Creates a group with no computations in flight.
+     *
+     * @param maxWait how long a caller waits for another's computation before running its own
+     */
+    public SingleFlight(Duration maxWait) {
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("Maximum wait must not be negative");
+        }
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * Runs a computation, or waits for the one already running for the key.
+     *
+     * @param key identifies the computation; equal keys must compute equal results
+     * @param computation computes the result
+     * @return the result of this caller's computation or of the one it joined
+     */
+    public V execute(K key, Supplier<V> computation) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, own);
+        if (running == null) {
+            return lead(key, own, computation);
+        }
+        coalesced.incrementAndGet();
+        try {
+            return running.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeouts.incrementAndGet();
+            executions.incrementAndGet();
+            return computation.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a shared computation", e);
+        }
+    }
+
+    private V lead(K key, CompletableFuture<V> own, Supplier<V> computation) {
+        executions.incrementAndGet();
+        try {
+            V result = computation.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * Returns the number of computations run, including those run after a wait timed out.
+     */
+    public long executions() {
+        return executions.get();
+    }
+
+    /**
+     * Returns the number of calls that joined a computation already running.
+     */
+    public long coalesced() {
+        return coalesced.get();
+    }
+
+    /**
+     * Returns the number of joining calls that stopped waiting and ran their own computation.
+     */
+    public long timeouts() {
+        return timeouts.get();
+    }
+
+    /**
+     * Returns the number of computations running now.
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,163 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.SuggestionDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.DisposalGuidelineRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.RecyclingTipRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
+import com.enviro.assessment.grad001.amosmaganyane.search.RadixTrie;
+import com.enviro.assessment.grad001.amosmaganyane.search.TrigramIndex;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serves prefix autocompletion over category names and tip and guideline titles.
+ * Every word of a name or title starts a key in a radix trie, so "rec" completes
+ * both "Recyclable Materials" and "Paper Recycling". The trie is filled from the
+ * database once the application is ready and updated from change events.
+ */
+@Service
+public class SuggestionService implements ApplicationListener<CatalogChangeEvent> {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    // Categories first, then shorter texts, so broad matches lead the list
+    private static final Comparator<SuggestionDTO> RANKING = Comparator
+            .comparing(SuggestionDTO::getType)
+            .thenComparingInt(suggestion -> suggestion.getText().length())
+            .thenComparing(SuggestionDTO::getText, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(SuggestionDTO::getId);
+
+    private final WasteCategoryRepository categoryRepository;
+    private final RecyclingTipRepository tipRepository;
+    private final DisposalGuidelineRepository guidelineRepository;
+    private final RadixTrie<SuggestionDTO> trie = new RadixTrie<>(RANKING, MAX_SUGGESTIONS);
+    private final Map<EntityType, Map<Long, SuggestionDTO>> entries = new HashMap<>();
+    private Map<EntityType, Set<Long>> changedDuringRebuild;
+
+    public SuggestionService(WasteCategoryRepository categoryRepository,
+                             RecyclingTipRepository tipRepository,
+                             DisposalGuidelineRepository guidelineRepository) {
+        this.categoryRepository = categoryRepository;
+        this.tipRepository = tipRepository;
+        this.guidelineRepository = guidelineRepository;
+        for (EntityType type : EntityType.values()) {
+            entries.put(type, new HashMap<>());
+        }
+    }
+
+    /**
+     * Loads every name and title currently in the database into the trie.
+     * An entity written while the rebuild runs keeps the title its change
+     * event gave it: the rebuild may have read the row before the write, and
+     * putting that copy back would revive a deleted or renamed title.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            changedDuringRebuild = new EnumMap<>(EntityType.class);
+            for (EntityType type : EntityType.values()) {
+                changedDuringRebuild.put(type, new HashSet<>());
+            }
+        }
+        try {
+            categoryRepository.findAll().forEach(category ->
+                    reload(EntityType.CATEGORY, category.getId(), category.getName()));
+            tipRepository.findAll().forEach(tip ->
+                    reload(EntityType.TIP, tip.getId(), tip.getTitle()));
+            guidelineRepository.findAll().forEach(guideline ->
+                    reload(EntityType.GUIDELINE, guideline.getId(), guideline.getTitle()));
+        } finally {
+            synchronized (this) {
+                changedDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * Applies a single write to the trie.
+     *
+     * @param event the change published by a service
+     */
+    @Override
+    public synchronized void onApplicationEvent(CatalogChangeEvent event) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.get(event.getEntityType()).add(event.getEntityId());
+        }
+        if (event.getOperation() == ChangeOperation.DELETED) {
+            remove(event.getEntityType(), event.getEntityId());
+        } else {
+            put(event.getEntityType(), event.getEntityId(), event.getTitle());
+        }
+    }
+
+    /**
+     * Returns the best names and titles with a word starting with the prefix.
+     *
+     * @param prefix the text typed so far
+     * @param limit the maximum number of suggestions, capped at {@link #MAX_SUGGESTIONS}
+     * @return the suggestions in ranking order, empty for a blank prefix
+     */
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        String normalized = TrigramIndex.normalize(prefix).stripLeading();
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return trie.complete(normalized, Math.min(limit, MAX_SUGGESTIONS));
+    }
+
+    /**
+     * Puts a title read by a rebuild, unless a change event for the entity
+     * has arrived since the rebuild started.
+     */
+    private synchronized void reload(EntityType type, Long id, String text) {
+        if (!changedDuringRebuild.get(type).contains(id)) {
+            put(type, id, text);
+        }
+    }
+
+    private synchronized void put(EntityType type, Long id, String text) {
+        remove(type, id);
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        SuggestionDTO suggestion = new SuggestionDTO(type, id, text);
+        entries.get(type).put(id, suggestion);
+        keysFor(text).forEach(key -> trie.insert(key, suggestion));
+    }
+
+    private synchronized void remove(EntityType type, Long id) {
+        SuggestionDTO previous = entries.get(type).remove(id);
+        if (previous != null) {
+            keysFor(previous.getText()).forEach(key -> trie.remove(key, previous));
+        }
+    }
+
+    /**
+     * Returns the suffixes of the normalized text that start at a word boundary.
+     */
+    static List<String> keysFor(String text) {
+        String normalized = TrigramIndex.normalize(text).strip();
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            boolean wordStart = i == 0 || Character.isWhitespace(normalized.charAt(i - 1));
+            if (wordStart && !Character.isWhitespace(normalized.charAt(i))) {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,206 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.DisposalGuidelineDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.SyncResponseDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.WasteCategoryDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.models.ChangeLogEntry;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.ChangeLogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Answers delta syncs: given the position a client last synced to, it
+ * returns the categories, tips and guidelines written since, as they are
+ * now, and the IDs of those deleted since.
+ *
+ * <p>A position is a change log version prefixed with the run of the
+ * application it was issued in, as {@code <epoch>-<version>}. The change
+ * log is read from the version on, by its primary key, so a sync costs one
+ * index range read of the changes plus lookups in the current
+ * {@link CatalogSnapshot}, whatever the catalogue size. Several changes to
+ * one entity come back once, in its current state; an entity no longer in
+ * the snapshot comes back as deleted.
+ *
+ * <p>A tip or guideline write changes its category's counts, so the
+ * category is returned too, and a category update may rename it, so its
+ * tips and guidelines, which carry the name, are returned with it.
+ *
+ * <p>Without a position, or with one from another run, ahead of the log or
+ * older than the oldest entry {@link ChangeLogPruner} has kept, the whole
+ * catalogue is returned and flagged as full, so the client replaces what it
+ * holds. At most {@code sync.max-changes} log entries are
+ * read per call; if more remain the response says so and its position is
+ * that of the last entry read.
+ */
+@Service
+public class SyncService {
+
+    private final ChangeLogRepository changeLog;
+    private final CatalogReadModel readModel;
+    private final DataVersionService dataVersions;
+    private final int maxChanges;
+
+    public SyncService(ChangeLogRepository changeLog,
+                       CatalogReadModel readModel,
+                       DataVersionService dataVersions,
+                       @Value("${sync.max-changes:1000}") int maxChanges) {
+        if (maxChanges < 1) {
+            throw new IllegalArgumentException("Sync page size must be at least one change");
+        }
+        this.changeLog = changeLog;
+        this.readModel = readModel;
+        this.dataVersions = dataVersions;
+        this.maxChanges = maxChanges;
+    }
+
+    /**
+     * Returns the changes made after a sync position.
+     *
+     * @param since the position from the previous sync, or null for everything
+     * @return the changes and the position to sync from next
+     * @throws IllegalArgumentException if the position is malformed
+     */
+    public SyncResponseDTO changesSince(String since) {
+        long latest = latestVersion();
+        if (since == null || since.isBlank()) {
+            return fullSync(latest);
+        }
+        OptionalLong version = versionOf(since);
+        if (version.isEmpty() || version.getAsLong() > latest) {
+            return fullSync(latest);
+        }
+        return deltaSync(version.getAsLong(), latest);
+    }
+
+    private SyncResponseDTO fullSync(long latest) {
+        // The log is read first, so the snapshot shows at least every change up to it
+        CatalogSnapshot snapshot = readModel.snapshot();
+        return new SyncResponseDTO(position(latest), true, false,
+                snapshot.categories(), snapshot.tips(), snapshot.guidelines(),
+                List.of(), List.of(), List.of());
+    }
+
+    private SyncResponseDTO deltaSync(long since, long latest) {
+        List<ChangeLogEntry> entries = changeLog.findChangesSince(since, maxChanges + 1);
+        boolean hasMore = entries.size() > maxChanges;
+        if (hasMore) {
+            entries = entries.subList(0, maxChanges);
+        }
+        if (isPruned(since)) {
+            // Checked after the read, so entries pruned meanwhile cannot go unnoticed
+            return fullSync(latest);
+        }
+        long version = entries.isEmpty() ? since : entries.get(entries.size() - 1).getVersion();
+
+        Set<Long> categoryIds = new TreeSet<>();
+        Set<Long> tipIds = new TreeSet<>();
+        Set<Long> guidelineIds = new TreeSet<>();
+        Set<Long> updatedCategoryIds = new TreeSet<>();
+        for (ChangeLogEntry entry : entries) {
+            switch (entry.getEntityType()) {
+                case CATEGORY -> {
+                    categoryIds.add(entry.getEntityId());
+                    if (entry.getOperation() == ChangeOperation.UPDATED) {
+                        updatedCategoryIds.add(entry.getEntityId());
+                    }
+                }
+                case TIP -> tipIds.add(entry.getEntityId());
+                case GUIDELINE -> guidelineIds.add(entry.getEntityId());
+            }
+            if (entry.getCategoryId() != null) {
+                categoryIds.add(entry.getCategoryId());
+            }
+        }
+
+        CatalogSnapshot snapshot = readModel.snapshot();
+        for (Long categoryId : updatedCategoryIds) {
+            if (snapshot.category(categoryId).isPresent()) {
+                snapshot.tipsInCategory(categoryId).forEach(tip -> tipIds.add(tip.getId()));
+                snapshot.guidelinesInCategory(categoryId).forEach(guideline -> guidelineIds.add(guideline.getId()));
+            }
+        }
+
+        List<WasteCategoryDTO> categories = new ArrayList<>();
+        List<RecyclingTipDTO> tips = new ArrayList<>();
+        List<DisposalGuidelineDTO> guidelines = new ArrayList<>();
+        List<Long> deletedCategoryIds = new ArrayList<>();
+        List<Long> deletedTipIds = new ArrayList<>();
+        List<Long> deletedGuidelineIds = new ArrayList<>();
+        split(categoryIds, snapshot::category, categories, deletedCategoryIds);
+        split(tipIds, snapshot::tip, tips, deletedTipIds);
+        split(guidelineIds, snapshot::guideline, guidelines, deletedGuidelineIds);
+        return new SyncResponseDTO(position(version), false, hasMore, categories, tips, guidelines,
+                deletedCategoryIds, deletedTipIds, deletedGuidelineIds);
+    }
+
+    /**
+     * Sorts changed IDs into the entities still present and the IDs deleted.
+     */
+    private static <D> void split(Set<Long> ids, Function<Long, Optional<D>> lookup,
+                                  List<D> present, List<Long> deleted) {
+        for (Long id : ids) {
+            lookup.apply(id).ifPresentOrElse(present::add, () -> deleted.add(id));
+        }
+    }
+
+    /**
+     * Reads the change log version out of a sync position.
+     *
+     * @param position a position issued by this or an earlier run
+     * @return the version, or empty if the position was issued by another run
+     * @throws IllegalArgumentException if the position is malformed
+     */
+    public OptionalLong versionOf(String position) {
+        int separator = position.lastIndexOf('-');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed sync version: " + position);
+        }
+        long version;
+        try {
+            version = Long.parseLong(position.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed sync version: " + position);
+        }
+        if (!position.substring(0, separator).equals(dataVersions.epoch())) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(version);
+    }
+
+    /**
+     * Returns the sync position of a change log version in this run.
+     *
+     * @param version the change log version
+     * @return the position
+     */
+    public String position(long version) {
+        return dataVersions.epoch() + "-" + version;
+    }
+
+    /**
+     * Tells whether changes made after a version have been pruned from the
+     * log, so a client synced up to it cannot be told what it missed.
+     *
+     * @param since the version a client has synced up to
+     * @return true if the oldest entry kept is not the one right after it
+     */
+    public boolean isPruned(long since) {
+        Long oldest = changeLog.findOldestVersion();
+        return oldest != null && oldest > since + 1;
+    }
+
+    private long latestVersion() {
+        Long latest = changeLog.findLatestVersion();
+        return latest == null ? 0 : latest;
+    }
+}
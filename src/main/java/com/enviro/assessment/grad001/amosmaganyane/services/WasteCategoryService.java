@@ -1,5 +1,7 @@
 package com.enviro.assessment.grad001.amosmaganyane.services;
 
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
+import com.enviro.assessment.grad001.amosmaganyane.dto.WasteCategoryDTO;
 import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
 import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
 import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
@@ -72,6 +74,26 @@ public interface WasteCategoryService {
      */
     List<WasteCategory> searchCategories(String keyword);
 
+    /**
+     * Searches for categories whose names approximately match the given keyword,
+     * tolerating a small number of typos per word.
+     *
+     * @param keyword the possibly misspelled search keyword
+     * @return a list of matching WasteCategory objects
+     */
+    List<WasteCategory> fuzzySearchCategories(String keyword);
+
+    /**
+     * Searches like {@link #searchCategories} or, when fuzzy, {@link #fuzzySearchCategories},
+     * loading only the requested fields of each match.
+     *
+     * @param keyword the search keyword; null or empty matches all categories
+     * @param fuzzy whether to match names within a small edit distance
+     * @param fields the fields to load
+     * @return the matching categories by ascending ID
+     */
+    List<WasteCategoryDTO> searchCategories(String keyword, boolean fuzzy, FieldSet fields);
+
     // Validation
     boolean canDeleteCategory(Long categoryId);
 
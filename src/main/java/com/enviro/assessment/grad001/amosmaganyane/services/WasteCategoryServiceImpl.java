@@ -1,11 +1,20 @@
 package com.enviro.assessment.grad001.amosmaganyane.services;
 
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
+import com.enviro.assessment.grad001.amosmaganyane.dto.WasteCategoryDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeBatchEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
 import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
 import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
 import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.FieldProjectionRepository;
 import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,9 +25,21 @@ import java.util.Optional;
 @Service
 public class WasteCategoryServiceImpl implements WasteCategoryService {
     public final WasteCategoryRepository repository;
+    private final SearchIndexService searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LiveIdFilter liveIds;
+    private final FieldProjectionRepository projections;
 
-    public WasteCategoryServiceImpl(WasteCategoryRepository repository){
+    public WasteCategoryServiceImpl(WasteCategoryRepository repository,
+                                    SearchIndexService searchIndex,
+                                    ApplicationEventPublisher eventPublisher,
+                                    LiveIdFilter liveIds,
+                                    FieldProjectionRepository projections){
         this.repository = repository;
+        this.searchIndex = searchIndex;
+        this.eventPublisher = eventPublisher;
+        this.liveIds = liveIds;
+        this.projections = projections;
     }
 
     /**
@@ -36,15 +57,18 @@ public class WasteCategoryServiceImpl implements WasteCategoryService {
             throw new IllegalArgumentException("Category name already exists");
         }
 
-        return repository.save(category);
+        WasteCategory saved = repository.save(category);
+        eventPublisher.publishEvent(CatalogChangeBatchEvent.of(
+                CatalogChangeEvent.of(this, ChangeOperation.CREATED, saved)));
+        return saved;
     }
     /**
      * {@inheritDoc}
-     * Fetches a category by ID using repository's findById method.
+     * Fetches a category by ID; IDs known not to exist are answered without a query.
      */
     @Override
     public Optional<WasteCategory> getCategoryById(Long id) {
-        return repository.findById(id);
+        return findCategory(id);
     }
 
     /**
@@ -62,11 +86,14 @@ public class WasteCategoryServiceImpl implements WasteCategoryService {
      */
     @Override
     public WasteCategory updateCategory(Long id, WasteCategory category) {
-        return repository.findById(id)
+        return findCategory(id)
                 .map(existingCategory -> {
                     existingCategory.setName(category.getName());
                     existingCategory.setDescription(category.getDescription());
-                    return repository.save(existingCategory);
+                    WasteCategory saved = repository.save(existingCategory);
+                    eventPublisher.publishEvent(CatalogChangeBatchEvent.of(
+                            CatalogChangeEvent.of(this, ChangeOperation.UPDATED, saved)));
+                    return saved;
                 })
                 .orElseThrow(() -> new IllegalStateException("Category not found"));
     }
@@ -74,10 +101,27 @@ public class WasteCategoryServiceImpl implements WasteCategoryService {
     /**
      * {@inheritDoc}
      * Deletes a category by ID using repository's deleteById method.
+     * The tips and guidelines removed by the cascade are announced
+     * alongside the category itself, in one batch.
      */
     @Override
     public void deleteCategory(Long id) {
+        Optional<WasteCategory> existing = findCategory(id);
+        List<RecyclingTip> tips = existing.map(WasteCategory::getRecyclingTips).orElse(List.of());
+        List<DisposalGuideline> guidelines = existing.map(WasteCategory::getGuidelines)
+                .orElse(List.of());
+
         repository.deleteById(id);
+
+        List<CatalogChangeEvent> changes = new ArrayList<>();
+        tips.forEach(tip -> changes.add(CatalogChangeEvent.of(this, ChangeOperation.DELETED, tip)));
+        guidelines.forEach(guideline -> changes.add(
+                CatalogChangeEvent.of(this, ChangeOperation.DELETED, guideline)));
+        existing.ifPresent(category -> changes.add(
+                CatalogChangeEvent.of(this, ChangeOperation.DELETED, category)));
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new CatalogChangeBatchEvent(this, changes));
+        }
     }
 
     /**
@@ -95,6 +139,7 @@ public class WasteCategoryServiceImpl implements WasteCategoryService {
     /**
      * {@inheritDoc}
      * Searches for categories whose names contain the given keyword (case-insensitive).
+     * Matching IDs come from the trigram index, so only the hits are loaded.
      * If the keyword is null or empty, retrieves all categories.
      *
      * @param keyword the keyword to search for
@@ -105,7 +150,36 @@ public class WasteCategoryServiceImpl implements WasteCategoryService {
         if (keyword == null || keyword.trim().isEmpty()){
             return getAllCategories();
         }
-        return repository.findByNameContainingIgnoreCase(keyword);
+        return repository.findAllById(searchIndex.findIds(EntityType.CATEGORY, keyword));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Matching IDs come from the fuzzy word index.
+     * If the keyword is null or empty, retrieves all categories.
+     */
+    @Override
+    public List<WasteCategory> fuzzySearchCategories(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()){
+            return getAllCategories();
+        }
+        return repository.findAllById(searchIndex.findIdsFuzzy(EntityType.CATEGORY, keyword));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Matching IDs come from the same indexes as the other searches, and
+     * only the columns behind the requested fields are queried.
+     */
+    @Override
+    public List<WasteCategoryDTO> searchCategories(String keyword, boolean fuzzy, FieldSet fields) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return projections.findCategories(null, fields);
+        }
+        List<Long> ids = fuzzy
+                ? searchIndex.findIdsFuzzy(EntityType.CATEGORY, keyword)
+                : searchIndex.findIds(EntityType.CATEGORY, keyword);
+        return projections.findCategories(ids, fields);
     }
 
     /**
@@ -141,7 +215,7 @@ public class WasteCategoryServiceImpl implements WasteCategoryService {
      */
     @Override
     public List<DisposalGuideline> getGuidelinesForCategory(Long categoryId) {
-        return repository.findById(categoryId)
+        return findCategory(categoryId)
                 .map(WasteCategory::getGuidelines)
                 .orElse(List.of());
     }
@@ -152,7 +226,7 @@ public class WasteCategoryServiceImpl implements WasteCategoryService {
      */
     @Override
     public List<RecyclingTip> getRecyclingTipsForCategory(Long categoryId) {
-        return repository.findById(categoryId)
+        return findCategory(categoryId)
                 .map(WasteCategory::getRecyclingTips)
                 .orElse(List.of());
     }
@@ -185,4 +259,12 @@ public class WasteCategoryServiceImpl implements WasteCategoryService {
         return repository.findTopCategoriesByGuidelineCount(limit);
     }
 
+    /**
+     * Loads a category, skipping the query when it certainly does not exist.
+     */
+    private Optional<WasteCategory> findCategory(Long id) {
+        return liveIds.mightExist(EntityType.CATEGORY, id)
+                ? repository.findById(id)
+                : Optional.empty();
+    }
 }
@@ -0,0 +1,92 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The encodings DTO responses can be sent in. JSON is the default; CBOR
+ * and Smile are binary encodings of the same schemaless data model, and
+ * Protobuf drops field names from the payload altogether by encoding
+ * against a schema generated from the DTO classes.
+ */
+public enum WireFormat {
+
+    JSON("application/json"),
+    CBOR("application/cbor"),
+    SMILE("application/x-jackson-smile"),
+    PROTOBUF("application/x-protobuf");
+
+    private static final String ANY = "*/*";
+    private static final String ANY_APPLICATION = "application/*";
+
+    private final String mediaType;
+
+    WireFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Returns the media type of the format in Accept and Content-Type.
+     */
+    public String mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Picks the format to send. Each format takes the quality of the most
+     * specific media range in the Accept header that matches it; the
+     * highest quality wins, JSON winning ties, so {@code *}{@code /*} and
+     * {@code application/*} alone select JSON. Without an Accept header, or
+     * when it matches none of the formats, JSON is sent.
+     *
+     * @param accept the request's Accept header, or null
+     * @return the format
+     */
+    public static WireFormat negotiate(String accept) {
+        if (accept == null) {
+            return JSON;
+        }
+        Map<String, Double> qualities = qualities(accept);
+        WireFormat best = JSON;
+        double bestQuality = 0;
+        for (WireFormat format : values()) {
+            double quality = qualities.getOrDefault(format.mediaType,
+                    qualities.getOrDefault(ANY_APPLICATION, qualities.getOrDefault(ANY, 0.0)));
+            if (quality > bestQuality) {
+                best = format;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Parses an Accept header into lower-case media ranges, without their
+     * parameters, and their quality values; a range listed without one has
+     * quality 1.
+     */
+    private static Map<String, Double> qualities(String accept) {
+        Map<String, Double> qualities = new HashMap<>();
+        for (String element : accept.split(",")) {
+            String[] parts = element.split(";");
+            String range = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (range.isEmpty()) {
+                continue;
+            }
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            qualities.merge(range, quality, Math::max);
+        }
+        return qualities;
+    }
+}
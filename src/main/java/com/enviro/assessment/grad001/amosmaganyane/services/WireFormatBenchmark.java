@@ -0,0 +1,110 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.WireFormatStatsDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the wire formats with JSON on the live data, once, in the
+ * background. A comparison keeps a CPU busy for thousands of encodes and
+ * decodes, so it is never run on behalf of a request: it starts a while
+ * after the application is ready, when startup work no longer competes
+ * with it, and its results are kept for the comparison endpoint.
+ */
+@Service
+public class WireFormatBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(WireFormatBenchmark.class);
+
+    private final WireFormatCodec codec;
+    private final CatalogReadModel readModel;
+    private final int iterations;
+    private final Duration delay;
+    private final Map<EntityType, List<WireFormatStatsDTO>> results = new ConcurrentHashMap<>();
+    private ScheduledExecutorService executor;
+
+    public WireFormatBenchmark(WireFormatCodec codec, CatalogReadModel readModel,
+                               @Value("${wire-formats.benchmark.iterations:200}") int iterations,
+                               @Value("${wire-formats.benchmark.delay:30s}") Duration delay) {
+        this.codec = codec;
+        this.readModel = readModel;
+        this.iterations = iterations;
+        this.delay = delay;
+    }
+
+    /**
+     * Schedules the comparison, unless it is switched off with zero iterations.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (iterations <= 0) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wire-format-benchmark");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        executor.schedule(this::run, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Compares the formats on the current list of every entity type.
+     */
+    public void run() {
+        CatalogSnapshot snapshot = readModel.snapshot();
+        for (EntityType type : EntityType.values()) {
+            try {
+                List<WireFormatStatsDTO> stats = codec.compare(list(snapshot, type),
+                        WireFormatCodec.dtoClass(type), iterations);
+                results.put(type, stats);
+                stats.forEach(format -> log.info("{} as {}: {} bytes, {} encodes/s, {} decodes/s", type,
+                        format.getFormat(), format.getBytes(), Math.round(format.getEncodesPerSecond()),
+                        Math.round(format.getDecodesPerSecond())));
+            } catch (RuntimeException e) {
+                log.warn("Could not compare wire formats on {} lists", type, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the comparison made on lists of a type.
+     *
+     * @param type the entity type
+     * @return one entry per format, JSON first, or empty if the comparison has not run yet
+     */
+    public Optional<List<WireFormatStatsDTO>> results(EntityType type) {
+        return Optional.ofNullable(results.get(type));
+    }
+
+    private static List<?> list(CatalogSnapshot snapshot, EntityType type) {
+        return switch (type) {
+            case CATEGORY -> snapshot.categories();
+            case TIP -> snapshot.tips();
+            case GUIDELINE -> snapshot.guidelines();
+        };
+    }
+}
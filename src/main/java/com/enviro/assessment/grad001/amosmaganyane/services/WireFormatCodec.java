@@ -0,0 +1,279 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.DisposalGuidelineDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.WasteCategoryDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.WireFormatStatsDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encodes and decodes DTOs in every {@link WireFormat}. JSON uses the
+ * application's object mapper; CBOR and Smile use copies of it over their
+ * own factories, with the same modules and settings, so the three carry
+ * identical data.
+ *
+ * <p>Protobuf needs a message schema, which is generated from the DTO
+ * class on first use and kept. A protobuf payload is a single message, so
+ * lists are sent as a {@link ListMessage} whose repeated {@code items}
+ * field holds the elements; an empty list is the empty message, zero
+ * bytes, whatever its element type.
+ */
+@Service
+public class WireFormatCodec {
+
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MAX_ITERATIONS = 10_000;
+
+    private final Map<WireFormat, ObjectMapper> mappers = new EnumMap<>(WireFormat.class);
+    private final ProtobufMapper protobufMapper = new ProtobufMapper();
+    private final Map<JavaType, ProtobufSchema> schemas = new ConcurrentHashMap<>();
+
+    public WireFormatCodec(ObjectMapper objectMapper) {
+        mappers.put(WireFormat.JSON, objectMapper);
+        mappers.put(WireFormat.CBOR, objectMapper.copyWith(new CBORFactory()));
+        mappers.put(WireFormat.SMILE, objectMapper.copyWith(new SmileFactory()));
+        mappers.put(WireFormat.PROTOBUF, protobufMapper);
+    }
+
+    /**
+     * Encodes a body, a DTO or a list of DTOs.
+     *
+     * @param format the format
+     * @param body the body
+     * @return the encoded bytes
+     * @throws IllegalStateException if the body cannot be encoded
+     */
+    public byte[] write(WireFormat format, Object body) {
+        try {
+            if (format != WireFormat.PROTOBUF) {
+                return mappers.get(format).writeValueAsBytes(body);
+            }
+            if (body instanceof List<?> list) {
+                if (list.isEmpty()) {
+                    return new byte[0];
+                }
+                JavaType type = listType(list.get(0).getClass());
+                return protobufWriter(type).writeValueAsBytes(new ListMessage<>(list));
+            }
+            JavaType type = protobufMapper.getTypeFactory().constructType(body.getClass());
+            return protobufWriter(type).writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize response", e);
+        }
+    }
+
+    /**
+     * Trims a body, a DTO or a list of DTOs, to the requested fields. JSON,
+     * CBOR and Smile bodies become maps holding only those properties, in
+     * the order the DTO declares them. Protobuf encodes against the DTO's
+     * schema, so its DTOs are copied with the other properties left unset,
+     * which the encoding then omits.
+     *
+     * @param body the body
+     * @param fields the fields to keep
+     * @param format the format the result will be written in
+     * @return the trimmed body, or the body itself when every field is kept
+     */
+    public Object project(Object body, FieldSet fields, WireFormat format) {
+        if (fields.isAll() || body == null) {
+            return body;
+        }
+        if (body instanceof List<?> list) {
+            List<Object> projected = new ArrayList<>(list.size());
+            for (Object element : list) {
+                projected.add(project(element, fields, format));
+            }
+            return projected;
+        }
+        ObjectMapper mapper = mappers.get(WireFormat.JSON);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> properties = mapper.convertValue(body, LinkedHashMap.class);
+        properties.keySet().retainAll(fields.names());
+        return format == WireFormat.PROTOBUF ? mapper.convertValue(properties, body.getClass()) : properties;
+    }
+
+    /**
+     * Decodes a single DTO.
+     *
+     * @param format the format
+     * @param in the encoded bytes
+     * @param type the DTO class
+     * @return the DTO
+     * @throws IOException if the bytes are not a valid encoding of the DTO
+     */
+    public <T> T read(WireFormat format, InputStream in, Class<T> type) throws IOException {
+        ObjectMapper mapper = mappers.get(format);
+        ObjectReader reader = mapper.readerFor(type);
+        if (format == WireFormat.PROTOBUF) {
+            reader = reader.with(schema(mapper.getTypeFactory().constructType(type)));
+        }
+        return reader.readValue(in);
+    }
+
+    /**
+     * Decodes a list of DTOs written by {@link #write}.
+     *
+     * @param format the format
+     * @param bytes the encoded bytes
+     * @param elementType the DTO class of the elements
+     * @return the DTOs
+     * @throws IOException if the bytes are not a valid encoding of the list
+     */
+    public <T> List<T> readList(WireFormat format, byte[] bytes, Class<T> elementType) throws IOException {
+        if (format != WireFormat.PROTOBUF) {
+            ObjectMapper mapper = mappers.get(format);
+            return mapper.readValue(bytes, mapper.getTypeFactory().constructCollectionType(List.class, elementType));
+        }
+        if (bytes.length == 0) {
+            return List.of();
+        }
+        JavaType type = listType(elementType);
+        ListMessage<T> message = protobufMapper.readerFor(type).with(schema(type)).readValue(bytes);
+        return message.getItems() == null ? List.of() : message.getItems();
+    }
+
+    /**
+     * Returns the DTO class entities of a type are sent as.
+     *
+     * @param type the entity type
+     * @return the DTO class
+     */
+    public static Class<?> dtoClass(EntityType type) {
+        return switch (type) {
+            case CATEGORY -> WasteCategoryDTO.class;
+            case TIP -> RecyclingTipDTO.class;
+            case GUIDELINE -> DisposalGuidelineDTO.class;
+        };
+    }
+
+    /**
+     * Returns the {@code .proto} source of the message lists of a DTO are
+     * sent as, which also declares the DTO's own message.
+     *
+     * @param elementType the DTO class
+     * @return the schema source
+     */
+    public String protoSchema(Class<?> elementType) {
+        return schema(listType(elementType)).getSource().toString();
+    }
+
+    /**
+     * Measures each format against JSON on a list: its encoded size, and
+     * how many times per second the list is encoded and decoded. Every
+     * format is warmed up before it is timed. This keeps the calling thread
+     * busy throughout, so it is run by {@link WireFormatBenchmark} rather
+     * than on a request thread; rates are best compared within one call.
+     *
+     * @param body the list to encode
+     * @param elementType the DTO class of the elements
+     * @param iterations how many times to encode and to decode the list per format
+     * @return one entry per format, JSON first
+     * @throws IllegalArgumentException if iterations is not between 1 and 10000
+     */
+    public List<WireFormatStatsDTO> compare(List<?> body, Class<?> elementType, int iterations) {
+        if (iterations < 1 || iterations > MAX_ITERATIONS) {
+            throw new IllegalArgumentException("Iterations must be between 1 and " + MAX_ITERATIONS);
+        }
+        List<WireFormatStatsDTO> stats = new ArrayList<>();
+        long jsonBytes = 0;
+        double jsonEncodes = 0;
+        double jsonDecodes = 0;
+        try {
+            for (WireFormat format : WireFormat.values()) {
+                byte[] encoded = write(format, body);
+                time(format, body, encoded, elementType, WARMUP_ITERATIONS, true);
+                time(format, body, encoded, elementType, WARMUP_ITERATIONS, false);
+                double encodes = perSecond(iterations, time(format, body, encoded, elementType, iterations, true));
+                double decodes = perSecond(iterations, time(format, body, encoded, elementType, iterations, false));
+                if (format == WireFormat.JSON) {
+                    jsonBytes = encoded.length;
+                    jsonEncodes = encodes;
+                    jsonDecodes = decodes;
+                }
+                stats.add(new WireFormatStatsDTO(format.name(), format.mediaType(), encoded.length,
+                        (double) encoded.length / jsonBytes,
+                        encodes, decodes, encodes / jsonEncodes, decodes / jsonDecodes));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not decode an encoded list", e);
+        }
+        return stats;
+    }
+
+    private long time(WireFormat format, List<?> body, byte[] encoded, Class<?> elementType,
+                      int iterations, boolean encode) throws IOException {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            if (encode) {
+                write(format, body);
+            } else {
+                readList(format, encoded, elementType);
+            }
+        }
+        return Math.max(1, System.nanoTime() - start);
+    }
+
+    private static double perSecond(int iterations, long nanos) {
+        return iterations * 1_000_000_000.0 / nanos;
+    }
+
+    private ObjectWriter protobufWriter(JavaType type) {
+        return protobufMapper.writerFor(type).with(schema(type));
+    }
+
+    private JavaType listType(Class<?> elementType) {
+        return protobufMapper.getTypeFactory().constructParametricType(ListMessage.class, elementType);
+    }
+
+    private ProtobufSchema schema(JavaType type) {
+        return schemas.computeIfAbsent(type, key -> {
+            try {
+                return protobufMapper.generateSchemaFor(key);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not generate a protobuf schema for " + key, e);
+            }
+        });
+    }
+
+    /**
+     * The protobuf message a list is sent as.
+     *
+     * @param <T> the DTO class of the elements
+     */
+    public static class ListMessage<T> {
+        private List<T> items;
+
+        public ListMessage() {}
+
+        public ListMessage(List<T> items) {
+            this.items = items;
+        }
+
+        public List<T> getItems() {
+            return items;
+        }
+
+        public void setItems(List<T> items) {
+            this.items = items;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.enviro.assessment.grad001.amosmaganyane.config;
+
+import com.enviro.assessment.grad001.amosmaganyane.config.ConditionalGetInterceptor.ReadType;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormat;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConditionalGetInterceptor.
+ * Verifies which cache policy a path gets, when Last-Modified is announced
+ * and how entity tags differ between formats.
+ */
+class ConditionalGetInterceptorTest {
+
+    /**
+     * Verifies that single entities, lists and searches are told apart.
+     */
+    @Test
+    void testReadType() {
+        assertEquals(ReadType.ITEM, ConditionalGetInterceptor.readType("/wastemanagementapi/tips/5"));
+        assertEquals(ReadType.ITEM, ConditionalGetInterceptor.readType("/wastemanagementapi/categories/1"));
+        assertEquals(ReadType.LIST, ConditionalGetInterceptor.readType("/wastemanagementapi/tips"));
+        assertEquals(ReadType.LIST, ConditionalGetInterceptor.readType("/wastemanagementapi/categories/1/tips"));
+        assertEquals(ReadType.LIST,
+                ConditionalGetInterceptor.readType("/wastemanagementapi/categories/1/tips/count"));
+        assertEquals(ReadType.SEARCH, ConditionalGetInterceptor.readType("/wastemanagementapi/guidelines/search"));
+    }
+
+    /**
+     * Verifies that Last-Modified is held back until the second after the change has passed.
+     */
+    @Test
+    void testLastModifiedAnnouncedOnceSettled() {
+        long lastModified = 1_700_000_000_400L;
+
+        assertEquals(-1, ConditionalGetInterceptor.announcedLastModified(lastModified, lastModified + 100));
+        assertEquals(-1, ConditionalGetInterceptor.announcedLastModified(lastModified, 1_700_000_001_999L));
+        assertEquals(lastModified,
+                ConditionalGetInterceptor.announcedLastModified(lastModified, 1_700_000_002_000L));
+    }
+
+    /**
+     * Verifies that each binary format gets an entity tag of its own.
+     */
+    @Test
+    void testFormatETag() {
+        String eTag = "W/\"12-c1-4\"";
+
+        assertEquals(eTag, ConditionalGetInterceptor.formatETag(eTag, WireFormat.JSON));
+        assertEquals("W/\"12-c1-4-cbor\"", ConditionalGetInterceptor.formatETag(eTag, WireFormat.CBOR));
+        assertEquals("W/\"12-c1-4-protobuf\"", ConditionalGetInterceptor.formatETag(eTag, WireFormat.PROTOBUF));
+    }
+}
@@ -0,0 +1,92 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.BatchGetRequestDTO;
+import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.services.BatchGetService;
+import com.enviro.assessment.grad001.amosmaganyane.services.CatalogReadModel;
+import com.enviro.assessment.grad001.amosmaganyane.services.CatalogSnapshot;
+import com.enviro.assessment.grad001.amosmaganyane.services.DataVersionService;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(BatchGetController.class)
+@Import({BatchGetService.class, DataVersionService.class, WireFormatCodec.class})
+@DisplayName("Batch Reads API Tests")
+class BatchGetControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private CatalogReadModel readModel;
+
+    @BeforeEach
+    void initializeSnapshot() {
+        WasteCategory category = new WasteCategory(1L, "Recyclable", "Description");
+        when(readModel.snapshot()).thenReturn(CatalogSnapshot.of(List.of(category),
+                List.of(new RecyclingTip(1L, "Paper Recycling", "Keep paper dry", category),
+                        new RecyclingTip(2L, "Glass Recycling", "Rinse jars", category)),
+                List.of(new DisposalGuideline(3L, "Battery Disposal", "Use a drop-off point", category))));
+    }
+
+    @Test
+    @DisplayName("GET /tips?ids= - Should return tips in the requested order and report missing IDs")
+    void testGetTipsByIds() throws Exception {
+        mockMvc.perform(get("/wastemanagementapi/tips").param("ids", "2,9,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].title").value("Glass Recycling"))
+                .andExpect(jsonPath("$.items[1].title").value("Paper Recycling"))
+                .andExpect(jsonPath("$.missing[0]").value(9));
+    }
+
+    @Test
+    @DisplayName("POST /guidelines:batchGet - Should read the IDs from the body")
+    void testBatchGetGuidelines() throws Exception {
+        mockMvc.perform(post("/wastemanagementapi/guidelines:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchGetRequestDTO(List.of(3L, 4L)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("Battery Disposal"))
+                .andExpect(jsonPath("$.missing[0]").value(4));
+    }
+
+    @Test
+    @DisplayName("POST /categories:batchGet - Should return 400 above the batch size cap")
+    void testBatchSizeCap() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 101; id++) {
+            ids.add(id);
+        }
+
+        mockMvc.perform(post("/wastemanagementapi/categories:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchGetRequestDTO(ids))))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/wastemanagementapi/categories").param("ids", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].name").value("Recyclable"));
+    }
+}
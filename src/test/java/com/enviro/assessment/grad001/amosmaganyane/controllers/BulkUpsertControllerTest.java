@@ -0,0 +1,145 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.BulkItemResultDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.BulkUpsertResponseDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.DisposalGuidelineDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.services.BulkUpsertService;
+import com.enviro.assessment.grad001.amosmaganyane.services.DataVersionService;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(BulkUpsertController.class)
+@Import({DataVersionService.class, WireFormatCodec.class})
+@DisplayName("Bulk Writes API Tests")
+class BulkUpsertControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BulkUpsertController bulkUpsertController;
+
+    @MockitoBean
+    private BulkUpsertService bulkUpsertService;
+
+    @BeforeEach
+    void stubCap() {
+        when(bulkUpsertService.getMaxItems()).thenReturn(10);
+    }
+
+    @Test
+    @DisplayName("POST /tips:bulkUpsert - Should read a JSON array and return per-item results")
+    @SuppressWarnings("unchecked")
+    void testBulkUpsertTipsFromArray() throws Exception {
+        when(bulkUpsertService.upsertTips(any())).thenReturn(new BulkUpsertResponseDTO(List.of(
+                BulkItemResultDTO.written(0, BulkItemResultDTO.Status.CREATED, 7L),
+                BulkItemResultDTO.invalid(1, "Category not found"))));
+
+        mockMvc.perform(post("/wastemanagementapi/tips:bulkUpsert")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"title\":\"Paper\",\"content\":\"Keep paper dry\",\"categoryId\":1}," +
+                                "{\"title\":\"Glass\",\"content\":\"Rinse jars\",\"categoryName\":\"Unknown\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.invalid").value(1))
+                .andExpect(jsonPath("$.results[0].id").value(7))
+                .andExpect(jsonPath("$.results[1].error").value("Category not found"));
+
+        ArgumentCaptor<List<RecyclingTipDTO>> items = ArgumentCaptor.forClass(List.class);
+        verify(bulkUpsertService).upsertTips(items.capture());
+        assertEquals(2, items.getValue().size());
+        assertEquals("Unknown", items.getValue().get(1).getCategoryName());
+    }
+
+    @Test
+    @DisplayName("POST /guidelines:bulkUpsert - Should read NDJSON")
+    @SuppressWarnings("unchecked")
+    void testBulkUpsertGuidelinesFromNdjson() throws Exception {
+        when(bulkUpsertService.upsertGuidelines(any())).thenReturn(new BulkUpsertResponseDTO(List.of(
+                BulkItemResultDTO.written(0, BulkItemResultDTO.Status.UPDATED, 3L),
+                BulkItemResultDTO.written(1, BulkItemResultDTO.Status.UNCHANGED, 4L))));
+
+        mockMvc.perform(post("/wastemanagementapi/guidelines:bulkUpsert")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"title\":\"Batteries\",\"instructions\":\"Use a drop-off point\",\"categoryId\":1}\n" +
+                                "{\"title\":\"Paint\",\"instructions\":\"Take to a depot\",\"categoryId\":2}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.unchanged").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("UNCHANGED"));
+
+        ArgumentCaptor<List<DisposalGuidelineDTO>> items = ArgumentCaptor.forClass(List.class);
+        verify(bulkUpsertService).upsertGuidelines(items.capture());
+        assertEquals("Paint", items.getValue().get(1).getTitle());
+    }
+
+    @Test
+    @DisplayName("POST /tips:bulkUpsert - Should return 400 for a malformed body")
+    void testBulkUpsertMalformed() throws Exception {
+        mockMvc.perform(post("/wastemanagementapi/tips:bulkUpsert")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"title\":"))
+                .andExpect(status().isBadRequest());
+
+        verify(bulkUpsertService, never()).upsertTips(any());
+    }
+
+    @Test
+    @DisplayName("POST /tips:bulkUpsert - Should return 400 for an empty batch")
+    void testBulkUpsertEmpty() throws Exception {
+        when(bulkUpsertService.upsertTips(any()))
+                .thenThrow(new IllegalArgumentException("Bulk request must contain at least one item"));
+
+        mockMvc.perform(post("/wastemanagementapi/tips:bulkUpsert")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /guidelines:bulkUpsert - Should return 400 without reading past the cap")
+    void testBulkUpsertOverCap() {
+        when(bulkUpsertService.getMaxItems()).thenReturn(2);
+        InputStream items = new ByteArrayInputStream((
+                "{\"title\":\"Batteries\",\"instructions\":\"Use a drop-off point\",\"categoryId\":1}\n" +
+                "{\"title\":\"Paint\",\"instructions\":\"Take to a depot\",\"categoryId\":2}\n" +
+                "{\"title\":\"Oil\",\"instructions\":\"Take to a depot\",\"categoryId\":2}\n")
+                .getBytes(StandardCharsets.UTF_8));
+        InputStream rest = new InputStream() {
+            @Override
+            public int read() {
+                throw new AssertionError("Read past the item over the cap");
+            }
+        };
+
+        ResponseEntity<BulkUpsertResponseDTO> response =
+                bulkUpsertController.bulkUpsertGuidelines(new SequenceInputStream(items, rest));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(bulkUpsertService, never()).upsertGuidelines(any());
+    }
+}
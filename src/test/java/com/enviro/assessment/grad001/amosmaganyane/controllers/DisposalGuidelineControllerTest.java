@@ -1,15 +1,24 @@
 package com.enviro.assessment.grad001.amosmaganyane.controllers;
 
+import com.enviro.assessment.grad001.amosmaganyane.config.AnalysisConfig;
 import com.enviro.assessment.grad001.amosmaganyane.dto.DisposalGuidelineDTO;
 import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
 import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.services.CatalogReadModel;
+import com.enviro.assessment.grad001.amosmaganyane.services.CatalogSnapshot;
+import com.enviro.assessment.grad001.amosmaganyane.services.DataVersionService;
 import com.enviro.assessment.grad001.amosmaganyane.services.DisposalGuidelineService;
+import com.enviro.assessment.grad001.amosmaganyane.services.DuplicateDetectionService;
+import com.enviro.assessment.grad001.amosmaganyane.services.SearchResultCache;
+import com.enviro.assessment.grad001.amosmaganyane.services.SerializedResponseCache;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatCodec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -24,6 +33,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(DisposalGuidelineController.class)
+@Import({SearchResultCache.class, SerializedResponseCache.class, AnalysisConfig.class,
+        DataVersionService.class, WireFormatCodec.class})
 @DisplayName("Disposal Guidelines API Tests")
 class DisposalGuidelineControllerTest {
 
@@ -33,17 +44,28 @@ class DisposalGuidelineControllerTest {
     @MockitoBean
     private DisposalGuidelineService guidelineService;
 
+    @MockitoBean
+    private DuplicateDetectionService duplicateDetection;
+
+    @MockitoBean
+    private CatalogReadModel readModel;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private SerializedResponseCache responseCache;
+
     private WasteCategory testCategory;
     private DisposalGuideline testGuideline;
 
     @BeforeEach
     void initializeModels() {
+        responseCache.clear();
         testCategory = new WasteCategory(1L, "Hazardous", "Description");
         testGuideline = new DisposalGuideline(1L, "Battery Disposal",
                 "Proper steps for battery disposal", testCategory);
+        givenGuidelines(testGuideline);
     }
 
     @Test
@@ -75,8 +97,6 @@ class DisposalGuidelineControllerTest {
     @Test
     @DisplayName("GET /guidelines/{id} - Should return a guideline when it exists")
     void testGetGuidelineById() throws Exception {
-        when(guidelineService.getGuidelineById(1L)).thenReturn(Optional.of(testGuideline));
-
         mockMvc.perform(get("/wastemanagementapi/guidelines/1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1))
@@ -86,8 +106,6 @@ class DisposalGuidelineControllerTest {
     @Test
     @DisplayName("GET /guidelines/{id} - Should return 404 when guideline not found")
     void testReturn404WhenGuidelineNotFound() throws Exception {
-        when(guidelineService.getGuidelineById(999L)).thenReturn(Optional.empty());
-
         mockMvc.perform(get("/wastemanagementapi/guidelines/999"))
                 .andExpect(status().isNotFound());
     }
@@ -95,12 +113,9 @@ class DisposalGuidelineControllerTest {
     @Test
     @DisplayName("GET /guidelines - Should return all disposal guidelines")
     void testGetAllGuidelines() throws Exception {
-        List<DisposalGuideline> guidelines = List.of(
-                testGuideline,
+        givenGuidelines(testGuideline,
                 new DisposalGuideline(2L, "Chemical Disposal",
-                        "Safe chemical disposal steps", testCategory)
-        );
-        when(guidelineService.getAllGuidelines()).thenReturn(guidelines);
+                        "Safe chemical disposal steps", testCategory));
 
         mockMvc.perform(get("/wastemanagementapi/guidelines"))
                 .andExpect(status().isOk())
@@ -166,15 +181,19 @@ class DisposalGuidelineControllerTest {
     @Test
     @DisplayName("GET /categories/{categoryId}/guidelines - Should return guidelines for a category")
     void shouldGetGuidelinesByCategory() throws Exception {
-        List<DisposalGuideline> guidelines = List.of(testGuideline);
-        when(guidelineService.getGuidelinesByCategory(1L)).thenReturn(guidelines);
-
         mockMvc.perform(get("/wastemanagementapi/categories/1/guidelines"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].title").value("Battery Disposal"));
     }
 
+    @Test
+    @DisplayName("GET /categories/{categoryId}/guidelines - Should return 404 when category not found")
+    void testGetGuidelinesByCategoryNotFound() throws Exception {
+        mockMvc.perform(get("/wastemanagementapi/categories/999/guidelines"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("GET /guidelines/search - Should return guidelines matching search keyword")
     void testSearchGuidelines() throws Exception {
@@ -223,4 +242,24 @@ class DisposalGuidelineControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /guidelines/search?fuzzy=true - Should return guidelines matching a misspelled keyword")
+    void testFuzzySearchGuidelines() throws Exception {
+        String keyword = "baterry";
+        when(guidelineService.fuzzySearchGuidelines(keyword)).thenReturn(List.of(testGuideline));
+
+        mockMvc.perform(get("/wastemanagementapi/guidelines/search")
+                        .param("keyword", keyword)
+                        .param("fuzzy", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("Battery Disposal"));
+    }
+
+
+    private void givenGuidelines(DisposalGuideline... guidelines) {
+        when(readModel.snapshot()).thenReturn(
+                CatalogSnapshot.of(List.of(testCategory), List.of(), List.of(guidelines)));
+    }
+}
@@ -0,0 +1,58 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.DuplicatePairDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.services.DataVersionService;
+import com.enviro.assessment.grad001.amosmaganyane.services.DuplicateDetectionService;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(DuplicateController.class)
+@Import({DataVersionService.class, WireFormatCodec.class})
+@DisplayName("Duplicate Detection API Tests")
+class DuplicateControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private DuplicateDetectionService duplicateDetection;
+
+    @Test
+    @DisplayName("GET /duplicates - Should return near-duplicate pairs")
+    void testScanDuplicates() throws Exception {
+        when(duplicateDetection.scan(EntityType.TIP, 0.8)).thenReturn(List.of(
+                new DuplicatePairDTO(EntityType.TIP, 3L, "Glass Recycling", 9L, "Glass Disposal", 0.84)));
+
+        mockMvc.perform(get("/wastemanagementapi/duplicates")
+                        .param("type", "TIP")
+                        .param("threshold", "0.8"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].firstId").value(3))
+                .andExpect(jsonPath("$[0].secondTitle").value("Glass Disposal"))
+                .andExpect(jsonPath("$[0].similarity").value(0.84));
+    }
+
+    @Test
+    @DisplayName("GET /duplicates - Should return 400 for types without duplicate detection")
+    void testScanDuplicatesRejectsUnsupportedType() throws Exception {
+        when(duplicateDetection.scan(EntityType.CATEGORY, null))
+                .thenThrow(new IllegalArgumentException("Duplicate detection covers tips and guidelines only"));
+
+        mockMvc.perform(get("/wastemanagementapi/duplicates").param("type", "CATEGORY"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,86 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.services.CatalogExportService;
+import com.enviro.assessment.grad001.amosmaganyane.services.DataVersionService;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ExportController.class)
+@Import({DataVersionService.class, WireFormatCodec.class})
+@DisplayName("Export API Tests")
+class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CatalogExportService exportService;
+
+    @Test
+    @DisplayName("GET /tips/export.ndjson - Should stream tips as NDJSON")
+    void testExportTipsNdjson() throws Exception {
+        when(exportService.writeTipsNdjson(any())).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/wastemanagementapi/tips/export.ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    @DisplayName("GET /guidelines/export.csv - Should stream guidelines as a CSV attachment")
+    void testExportGuidelinesCsv() throws Exception {
+        when(exportService.writeGuidelinesCsv(any())).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("\"title\",\"instructions\",\"category_name\"\n".getBytes(StandardCharsets.UTF_8));
+            return 0L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/wastemanagementapi/guidelines/export.csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"disposal_guidelines.csv\""))
+                .andExpect(content().string("\"title\",\"instructions\",\"category_name\"\n"));
+    }
+
+    @Test
+    @DisplayName("GET /tips/export.csv - Should return 409 when categories share a name")
+    void testExportTipsCsvWithSharedCategoryNames() throws Exception {
+        doThrow(new IllegalStateException("Category names are shared")).when(exportService).requireUniqueCategoryNames();
+
+        mockMvc.perform(get("/wastemanagementapi/tips/export.csv"))
+                .andExpect(status().isConflict());
+        verify(exportService, never()).writeTipsCsv(any());
+    }
+}
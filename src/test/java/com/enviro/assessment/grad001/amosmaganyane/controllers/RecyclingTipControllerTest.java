@@ -1,29 +1,56 @@
 package com.enviro.assessment.grad001.amosmaganyane.controllers;
 
+import com.enviro.assessment.grad001.amosmaganyane.config.AnalysisConfig;
+import com.enviro.assessment.grad001.amosmaganyane.dto.DuplicatePairDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
 import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
 import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
 import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.services.CatalogReadModel;
+import com.enviro.assessment.grad001.amosmaganyane.services.CatalogSnapshot;
+import com.enviro.assessment.grad001.amosmaganyane.services.DataVersionService;
+import com.enviro.assessment.grad001.amosmaganyane.services.DuplicateDetectionService;
 import com.enviro.assessment.grad001.amosmaganyane.services.RecyclingTipService;
+import com.enviro.assessment.grad001.amosmaganyane.services.SearchResultCache;
+import com.enviro.assessment.grad001.amosmaganyane.services.SerializedResponseCache;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormat;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatCodec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(RecyclingTipController.class)
+@Import({SearchResultCache.class, SerializedResponseCache.class, AnalysisConfig.class,
+        DataVersionService.class, WireFormatCodec.class})
 @DisplayName("Recycling Tips API Tests")
 class RecyclingTipControllerTest {
 
@@ -33,17 +60,34 @@ class RecyclingTipControllerTest {
     @MockitoBean
     private RecyclingTipService tipService;
 
+    @MockitoBean
+    private DuplicateDetectionService duplicateDetection;
+
+    @MockitoBean
+    private CatalogReadModel readModel;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private SerializedResponseCache responseCache;
+
+    @Autowired
+    private DataVersionService dataVersions;
+
+    @Autowired
+    private WireFormatCodec wireFormats;
+
     private WasteCategory testCategory;
     private RecyclingTip testTip;
 
     @BeforeEach
     void initializeModels() {
+        responseCache.clear();
         testCategory = new WasteCategory(1L, "Recyclable", "Description");
         testTip = new RecyclingTip(1L, "Paper Recycling",
                 "How to recycle paper properly", testCategory);
+        givenTips(testTip);
     }
 
     @Test
@@ -56,7 +100,23 @@ class RecyclingTipControllerTest {
                         .content(objectMapper.writeValueAsString(testTip)))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.id").value(1))
-                .andExpect(jsonPath("$.title").value("Paper Recycling"));
+                .andExpect(jsonPath("$.title").value("Paper Recycling"))
+                .andExpect(header().doesNotExist("X-Near-Duplicates"));
+    }
+
+    @Test
+    @DisplayName("POST /categories/{categoryId}/tips - Should flag near-duplicates of the new tip")
+    void testCreateTipFlagsNearDuplicates() throws Exception {
+        when(tipService.createTip(eq(1L), any(RecyclingTip.class))).thenReturn(testTip);
+        when(duplicateDetection.findNearDuplicates(EntityType.TIP, 1L)).thenReturn(List.of(
+                new DuplicatePairDTO(EntityType.TIP, 1L, "Paper Recycling", 4L, "Paper Disposal", 0.9),
+                new DuplicatePairDTO(EntityType.TIP, 1L, "Paper Recycling", 6L, "Recycling Paper", 0.75)));
+
+        mockMvc.perform(post("/wastemanagementapi/categories/1/tips")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(testTip)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("X-Near-Duplicates", "4,6"));
     }
 
     @Test
@@ -74,8 +134,6 @@ class RecyclingTipControllerTest {
     @Test
     @DisplayName("GET /tips/{id} - Should return a tip when it exists")
     void testGetTipById() throws Exception {
-        when(tipService.getTipById(1L)).thenReturn(Optional.of(testTip));
-
         mockMvc.perform(get("/wastemanagementapi/tips/1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1))
@@ -85,20 +143,30 @@ class RecyclingTipControllerTest {
     @Test
     @DisplayName("GET /tips/{id} - Should return 404 when tip not found")
     void testReturn404WhenTipNotFound() throws Exception {
-        when(tipService.getTipById(999L)).thenReturn(Optional.empty());
-
         mockMvc.perform(get("/wastemanagementapi/tips/999"))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(header().string("Cache-Control", "no-store"));
+    }
+
+    @Test
+    @DisplayName("GET /tips/{id} - Should carry the cache policy of its kind of read")
+    void testCachePolicies() throws Exception {
+        mockMvc.perform(get("/wastemanagementapi/tips/1"))
+                .andExpect(header().string("Cache-Control",
+                        "max-age=60, public, stale-while-revalidate=300"));
+        mockMvc.perform(get("/wastemanagementapi/tips"))
+                .andExpect(header().string("Cache-Control",
+                        "max-age=30, public, stale-while-revalidate=120"));
+        mockMvc.perform(get("/wastemanagementapi/tips/search").param("keyword", "paper"))
+                .andExpect(header().string("Cache-Control",
+                        "max-age=10, public, stale-while-revalidate=60"));
     }
 
     @Test
     @DisplayName("GET /tips - Should return all recycling tips")
     void testGetAllTips() throws Exception {
-        List<RecyclingTip> tips = List.of(
-                testTip,
-                new RecyclingTip(2L, "Glass Recycling", "How to recycle glass", testCategory)
-        );
-        when(tipService.getAllTips()).thenReturn(tips);
+        givenTips(testTip,
+                new RecyclingTip(2L, "Glass Recycling", "How to recycle glass", testCategory));
 
         mockMvc.perform(get("/wastemanagementapi/tips"))
                 .andExpect(status().isOk())
@@ -163,15 +231,19 @@ class RecyclingTipControllerTest {
     @Test
     @DisplayName("GET /categories/{categoryId}/tips - Should return tips for a category")
     void shouldGetTipsByCategory() throws Exception {
-        List<RecyclingTip> tips = List.of(testTip);
-        when(tipService.getTipsByCategory(1L)).thenReturn(tips);
-
         mockMvc.perform(get("/wastemanagementapi/categories/1/tips"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(1))
                 .andExpect(jsonPath("$[0].title").value("Paper Recycling"));
     }
 
+    @Test
+    @DisplayName("GET /categories/{categoryId}/tips - Should return 404 when category not found")
+    void testGetTipsByCategoryNotFound() throws Exception {
+        mockMvc.perform(get("/wastemanagementapi/categories/999/tips"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("GET /tips/search - Should return tips matching search keyword")
     void testSearchTips() throws Exception {
@@ -217,4 +289,163 @@ class RecyclingTipControllerTest {
                 .andExpect(jsonPath("$.length()").value(0));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("GET /tips/search?fuzzy=true - Should return tips matching a misspelled keyword")
+    void testFuzzySearchTips() throws Exception {
+        String keyword = "papr";
+        when(tipService.fuzzySearchTips(keyword)).thenReturn(List.of(
+                new RecyclingTip(1L, "Paper Recycling", "Content about paper", testCategory)));
+
+        mockMvc.perform(get("/wastemanagementapi/tips/search")
+                        .param("keyword", keyword)
+                        .param("fuzzy", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("Paper Recycling"));
+    }
+
+    @Test
+    @DisplayName("GET /tips/search - Should serve a repeated keyword from the cache")
+    void testSearchTipsServedFromCache() throws Exception {
+        String keyword = "aluminium";
+        when(tipService.searchTips(keyword)).thenReturn(List.of(
+                new RecyclingTip(4L, "Aluminium Can Recycling", "Rinse and crush cans", testCategory)));
+
+        for (String variant : List.of(keyword, "Aluminium")) {
+            mockMvc.perform(get("/wastemanagementapi/tips/search")
+                            .param("keyword", variant))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].title").value("Aluminium Can Recycling"));
+        }
+        verify(tipService, times(1)).searchTips(keyword);
+    }
+
+    @Test
+    @DisplayName("GET /categories/{categoryId}/tips - Should reuse the serialized list until the category changes")
+    void testTipsByCategoryServedFromSerializedCache() throws Exception {
+        mockMvc.perform(get("/wastemanagementapi/categories/1/tips"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].title").value("Paper Recycling"));
+
+        RecyclingTip renamed = new RecyclingTip(1L, "Paper Recycling Basics",
+                "How to recycle paper properly", testCategory);
+        givenTips(renamed);
+        mockMvc.perform(get("/wastemanagementapi/categories/1/tips"))
+                .andExpect(jsonPath("$[0].title").value("Paper Recycling"));
+
+        dataVersions.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.UPDATED, renamed));
+        mockMvc.perform(get("/wastemanagementapi/categories/1/tips"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Paper Recycling Basics"));
+    }
+
+    @Test
+    @DisplayName("GET /tips - Should send the precompressed variant the client prefers")
+    void testGetAllTipsCompressed() throws Exception {
+        List<RecyclingTip> tips = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            tips.add(new RecyclingTip(id, "Paper Recycling", "How to recycle paper properly", testCategory));
+        }
+        givenTips(tips.toArray(new RecyclingTip[0]));
+
+        byte[] json = mockMvc.perform(get("/wastemanagementapi/tips"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(header().stringValues("Vary", "Accept", "Accept-Encoding"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        byte[] gzip = mockMvc.perform(get("/wastemanagementapi/tips")
+                        .header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertArrayEquals(json, in.readAllBytes());
+        }
+
+        byte[] deflate = mockMvc.perform(get("/wastemanagementapi/tips")
+                        .header("Accept-Encoding", "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "deflate"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(deflate))) {
+            assertArrayEquals(json, in.readAllBytes());
+        }
+        verify(readModel, times(1)).snapshot();
+    }
+
+    @Test
+    @DisplayName("GET /tips - Should negotiate a binary format with its own entity tag")
+    void testGetAllTipsAsCbor() throws Exception {
+        String jsonETag = mockMvc.perform(get("/wastemanagementapi/tips"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getHeader("ETag");
+
+        byte[] cbor = mockMvc.perform(get("/wastemanagementapi/tips")
+                        .header("Accept", "application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andExpect(header().string("ETag", jsonETag.replaceAll("\"$", "-cbor\"")))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<RecyclingTipDTO> decoded = wireFormats.readList(WireFormat.CBOR, cbor, RecyclingTipDTO.class);
+        assertEquals("Paper Recycling", decoded.get(0).getTitle());
+
+        mockMvc.perform(get("/wastemanagementapi/tips")
+                        .header("Accept", "application/cbor")
+                        .header("If-None-Match", jsonETag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /tips?fields= - Should send only the requested properties")
+    void testGetAllTipsWithFields() throws Exception {
+        mockMvc.perform(get("/wastemanagementapi/tips").param("fields", "title,id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].title").value("Paper Recycling"))
+                .andExpect(jsonPath("$[0].content").doesNotExist())
+                .andExpect(jsonPath("$[0].categoryName").doesNotExist());
+
+        mockMvc.perform(get("/wastemanagementapi/tips/1").param("fields", "content"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value("How to recycle paper properly"))
+                .andExpect(jsonPath("$.title").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /tips?fields= - Should return 400 for an unknown property")
+    void testUnknownFieldRejected() throws Exception {
+        mockMvc.perform(get("/wastemanagementapi/tips").param("fields", "id,secret"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/wastemanagementapi/tips/1").param("fields", "secret"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /tips/search?fields= - Should load only the requested properties")
+    void testSearchTipsWithFields() throws Exception {
+        FieldSet fields = FieldSet.parse("id,title", RecyclingTipDTO.class);
+        RecyclingTipDTO partial = new RecyclingTipDTO();
+        partial.setId(1L);
+        partial.setCategoryId(1L);
+        partial.setTitle("Paper Recycling");
+        when(tipService.searchTips("paper", false, fields)).thenReturn(List.of(partial));
+
+        mockMvc.perform(get("/wastemanagementapi/tips/search")
+                        .param("keyword", "paper")
+                        .param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Paper Recycling"))
+                .andExpect(jsonPath("$[0].categoryId").doesNotExist());
+        verify(tipService, never()).searchTips("paper");
+    }
+
+    private void givenTips(RecyclingTip... tips) {
+        when(readModel.snapshot()).thenReturn(CatalogSnapshot.of(List.of(testCategory), List.of(tips), List.of()));
+    }
+}
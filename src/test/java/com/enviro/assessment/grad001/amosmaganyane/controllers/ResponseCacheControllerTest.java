@@ -0,0 +1,42 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.CacheStatsDTO;
+import com.enviro.assessment.grad001.amosmaganyane.services.DataVersionService;
+import com.enviro.assessment.grad001.amosmaganyane.services.SerializedResponseCache;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ResponseCacheController.class)
+@Import({DataVersionService.class, WireFormatCodec.class})
+@DisplayName("Response Cache API Tests")
+class ResponseCacheControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SerializedResponseCache responseCache;
+
+    @Test
+    @DisplayName("GET /response-cache/stats - Should return list response cache statistics")
+    void testGetCacheStats() throws Exception {
+        when(responseCache.stats()).thenReturn(new CacheStatsDTO(90, 10, 0, 0, 4, 37, 1, 5, 128));
+
+        mockMvc.perform(get("/wastemanagementapi/response-cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hitRatio").value(0.9))
+                .andExpect(jsonPath("$.invalidations").value(4))
+                .andExpect(jsonPath("$.coalesced").value(37))
+                .andExpect(jsonPath("$.coalesceTimeouts").value(1));
+    }
+}
@@ -0,0 +1,81 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.CacheStatsDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.FacetDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.SearchResponseDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.SearchResultDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.services.DataVersionService;
+import com.enviro.assessment.grad001.amosmaganyane.services.RankedSearchService;
+import com.enviro.assessment.grad001.amosmaganyane.services.SearchResultCache;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SearchController.class)
+@Import({DataVersionService.class, WireFormatCodec.class})
+@DisplayName("Ranked Search API Tests")
+class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private RankedSearchService rankedSearchService;
+
+    @MockitoBean
+    private SearchResultCache searchCache;
+
+    @Test
+    @DisplayName("GET /search - Should return typed, ranked results with facets and timings")
+    void testSearch() throws Exception {
+        when(rankedSearchService.search("battery", 10)).thenReturn(new SearchResponseDTO("battery", 2,
+                List.of(new SearchResultDTO(EntityType.TIP, 5L, "Battery Recycling", 2L, 2.5),
+                        new SearchResultDTO(EntityType.GUIDELINE, 7L, "Car Battery Disposal", 2L, 1.25)),
+                List.of(new FacetDTO(2L, "Hazardous Waste", 2)),
+                Map.of("score", 12L)));
+
+        mockMvc.perform(get("/wastemanagementapi/search").param("q", "battery"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalMatches").value(2))
+                .andExpect(jsonPath("$.results.length()").value(2))
+                .andExpect(jsonPath("$.results[0].type").value("TIP"))
+                .andExpect(jsonPath("$.results[1].title").value("Car Battery Disposal"))
+                .andExpect(jsonPath("$.facets[0].categoryName").value("Hazardous Waste"))
+                .andExpect(jsonPath("$.facets[0].count").value(2))
+                .andExpect(jsonPath("$.timings.score").value(12));
+    }
+
+    @Test
+    @DisplayName("GET /search - Should return 400 when the query is missing")
+    void testSearchWithoutQuery() throws Exception {
+        mockMvc.perform(get("/wastemanagementapi/search"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /search/cache-stats - Should return keyword cache statistics")
+    void testGetCacheStats() throws Exception {
+        when(searchCache.stats()).thenReturn(new CacheStatsDTO(3, 1, 0, 0, 2, 6, 0, 1, 256));
+
+        mockMvc.perform(get("/wastemanagementapi/search/cache-stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").value(3))
+                .andExpect(jsonPath("$.hitRatio").value(0.75))
+                .andExpect(jsonPath("$.invalidations").value(2))
+                .andExpect(jsonPath("$.coalesced").value(6))
+                .andExpect(jsonPath("$.capacity").value(256));
+    }
+}
@@ -0,0 +1,58 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.services.ContentCoding;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SerializedResponses.
+ * Verifies how the coding of a cached response is chosen from Accept-Encoding.
+ */
+class SerializedResponsesTest {
+
+    private final Map<ContentCoding, byte[]> available = variants();
+
+    /**
+     * Verifies that without a preference the smaller accepted variant is sent.
+     */
+    @Test
+    void testSmallestAcceptedVariant() {
+        assertEquals(ContentCoding.DEFLATE, SerializedResponses.negotiate("gzip, deflate, br", available));
+        assertEquals(ContentCoding.GZIP, SerializedResponses.negotiate("gzip", available));
+        assertEquals(ContentCoding.DEFLATE, SerializedResponses.negotiate("*", available));
+        assertEquals(ContentCoding.GZIP, SerializedResponses.negotiate("GZip, br", available));
+    }
+
+    /**
+     * Verifies that quality values rank codings and that q=0 refuses one.
+     */
+    @Test
+    void testQualityValues() {
+        assertEquals(ContentCoding.GZIP, SerializedResponses.negotiate("deflate;q=0.5, gzip", available));
+        assertEquals(ContentCoding.GZIP, SerializedResponses.negotiate("deflate;q=0, *", available));
+        assertNull(SerializedResponses.negotiate("gzip;q=0.5, identity", available));
+        assertNull(SerializedResponses.negotiate("gzip;q=0", available));
+        assertEquals(ContentCoding.GZIP, SerializedResponses.negotiate("gzip, identity;q=0", available));
+    }
+
+    /**
+     * Verifies that the body is sent uncompressed when nothing suitable is offered or asked for.
+     */
+    @Test
+    void testUncompressed() {
+        assertNull(SerializedResponses.negotiate(null, available));
+        assertNull(SerializedResponses.negotiate("br, zstd", available));
+        assertNull(SerializedResponses.negotiate("gzip", Map.of()));
+    }
+
+    private static Map<ContentCoding, byte[]> variants() {
+        Map<ContentCoding, byte[]> variants = new EnumMap<>(ContentCoding.class);
+        variants.put(ContentCoding.GZIP, new byte[20]);
+        variants.put(ContentCoding.DEFLATE, new byte[14]);
+        return variants;
+    }
+}
@@ -0,0 +1,67 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.SuggestionDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.services.DataVersionService;
+import com.enviro.assessment.grad001.amosmaganyane.services.SuggestionService;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SuggestionController.class)
+@Import({DataVersionService.class, WireFormatCodec.class})
+@DisplayName("Suggestion API Tests")
+class SuggestionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SuggestionService suggestionService;
+
+    @Test
+    @DisplayName("GET /suggest - Should return completions for a prefix")
+    void testSuggest() throws Exception {
+        when(suggestionService.suggest("bat", 10)).thenReturn(List.of(
+                new SuggestionDTO(EntityType.TIP, 5L, "Battery Recycling"),
+                new SuggestionDTO(EntityType.GUIDELINE, 6L, "Car Battery Disposal")));
+
+        mockMvc.perform(get("/wastemanagementapi/suggest").param("prefix", "bat"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].type").value("TIP"))
+                .andExpect(jsonPath("$[0].text").value("Battery Recycling"))
+                .andExpect(jsonPath("$[1].id").value(6));
+    }
+
+    @Test
+    @DisplayName("GET /suggest - Should pass the requested limit through")
+    void testSuggestWithLimit() throws Exception {
+        when(suggestionService.suggest("pa", 1)).thenReturn(List.of(
+                new SuggestionDTO(EntityType.TIP, 1L, "Paper Recycling")));
+
+        mockMvc.perform(get("/wastemanagementapi/suggest")
+                        .param("prefix", "pa")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("GET /suggest - Should return 400 when the prefix is missing")
+    void testSuggestWithoutPrefix() throws Exception {
+        mockMvc.perform(get("/wastemanagementapi/suggest"))
+                .andExpect(status().isBadRequest());
+    }
+}
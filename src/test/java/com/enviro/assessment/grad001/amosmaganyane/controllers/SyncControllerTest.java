@@ -0,0 +1,80 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.SyncResponseDTO;
+import com.enviro.assessment.grad001.amosmaganyane.services.ChangeStreamService;
+import com.enviro.assessment.grad001.amosmaganyane.services.DataVersionService;
+import com.enviro.assessment.grad001.amosmaganyane.services.SyncService;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SyncController.class)
+@Import({DataVersionService.class, WireFormatCodec.class})
+@DisplayName("Sync API Tests")
+class SyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SyncService syncService;
+
+    @MockitoBean
+    private ChangeStreamService changeStreamService;
+
+    @Test
+    @DisplayName("GET /sync?since= - Should return the changes and the next position")
+    void testSync() throws Exception {
+        when(syncService.changesSince("abc-10")).thenReturn(new SyncResponseDTO("abc-12", false, false,
+                List.of(), List.of(new RecyclingTipDTO(5L, "Paper Recycling", "Keep paper dry", 1L, "Recyclable")),
+                List.of(), List.of(), List.of(6L), List.of()));
+
+        mockMvc.perform(get("/wastemanagementapi/sync").param("since", "abc-10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value("abc-12"))
+                .andExpect(jsonPath("$.full").value(false))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andExpect(jsonPath("$.tips[0].id").value(5))
+                .andExpect(jsonPath("$.deletedTipIds[0]").value(6));
+    }
+
+    @Test
+    @DisplayName("GET /sync?since= - Should return 400 for a malformed position")
+    void testSyncMalformed() throws Exception {
+        when(syncService.changesSince("12")).thenThrow(new IllegalArgumentException("Malformed sync version: 12"));
+
+        mockMvc.perform(get("/wastemanagementapi/sync").param("since", "12"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /changes/stream - Should open a stream resuming from Last-Event-ID")
+    void testStreamChanges() throws Exception {
+        when(changeStreamService.subscribe("abc-10")).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/wastemanagementapi/changes/stream").header("Last-Event-ID", "abc-10"))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    @DisplayName("GET /changes/stream - Should return 400 for a malformed Last-Event-ID")
+    void testStreamChangesMalformed() throws Exception {
+        when(changeStreamService.subscribe("12")).thenThrow(new IllegalArgumentException("Malformed sync version: 12"));
+
+        mockMvc.perform(get("/wastemanagementapi/changes/stream").header("Last-Event-ID", "12"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -1,14 +1,26 @@
 package com.enviro.assessment.grad001.amosmaganyane.controllers;
 
+import com.enviro.assessment.grad001.amosmaganyane.config.AnalysisConfig;
 import com.enviro.assessment.grad001.amosmaganyane.dto.WasteCategoryDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
 import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.services.CatalogReadModel;
+import com.enviro.assessment.grad001.amosmaganyane.services.CatalogSnapshot;
+import com.enviro.assessment.grad001.amosmaganyane.services.DataVersionService;
+import com.enviro.assessment.grad001.amosmaganyane.services.SearchResultCache;
+import com.enviro.assessment.grad001.amosmaganyane.services.SerializedResponseCache;
 import com.enviro.assessment.grad001.amosmaganyane.services.WasteCategoryService;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatCodec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -18,11 +30,16 @@ import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(WasteCategoryController.class)
+@Import({SearchResultCache.class, SerializedResponseCache.class, AnalysisConfig.class,
+        DataVersionService.class, WireFormatCodec.class})
 @DisplayName("Waste Category API Tests")
 class WasteCategoryControllerTest {
 
@@ -32,14 +49,25 @@ class WasteCategoryControllerTest {
     @MockitoBean
     private WasteCategoryService categoryService;
 
+    @MockitoBean
+    private CatalogReadModel readModel;
+
+    @Autowired
+    private DataVersionService dataVersions;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private SerializedResponseCache responseCache;
+
     private WasteCategory testCategory;
 
     @BeforeEach
     void initializeCategory() {
+        responseCache.clear();
         testCategory = new WasteCategory(1L, "Recyclable", "Items that can be recycled");
+        givenCategories(testCategory);
     }
 
     @Test
@@ -58,8 +86,6 @@ class WasteCategoryControllerTest {
     @Test
     @DisplayName("GET /categories/{id} - Should return a category when it exists")
     void testGetCategoryById() throws Exception {
-        when(categoryService.getCategoryById(1L)).thenReturn(Optional.of(testCategory));
-
         mockMvc.perform(get("/wastemanagementapi/categories/1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1))
@@ -69,8 +95,6 @@ class WasteCategoryControllerTest {
     @Test
     @DisplayName("GET /categories/{id} - Should return 404 when category not found")
     void testReturn404WhenCategoryNotFound() throws Exception {
-        when(categoryService.getCategoryById(999L)).thenReturn(Optional.empty());
-
         mockMvc.perform(get("/wastemanagementapi/categories/999"))
                 .andExpect(status().isNotFound());
     }
@@ -78,11 +102,7 @@ class WasteCategoryControllerTest {
     @Test
     @DisplayName("GET /categories - Should return all categories")
     void testGetAllCategories() throws Exception {
-        List<WasteCategory> categories = List.of(
-                testCategory,
-                new WasteCategory(2L, "Organic", "Biodegradable waste")
-        );
-        when(categoryService.getAllCategories()).thenReturn(categories);
+        givenCategories(testCategory, new WasteCategory(2L, "Organic", "Biodegradable waste"));
 
         mockMvc.perform(get("/wastemanagementapi/categories"))
                 .andExpect(status().isOk())
@@ -91,6 +111,20 @@ class WasteCategoryControllerTest {
                 .andExpect(jsonPath("$[1].name").value("Organic"));
     }
 
+    @Test
+    @DisplayName("GET /categories?fields= - Should cache each field set separately")
+    void testGetAllCategoriesWithFields() throws Exception {
+        mockMvc.perform(get("/wastemanagementapi/categories").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Recyclable"))
+                .andExpect(jsonPath("$[0].id").doesNotExist())
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+
+        mockMvc.perform(get("/wastemanagementapi/categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].description").value("Items that can be recycled"));
+    }
+
     @Test
     @DisplayName("PUT /categories/{id} - Should update an existing category")
     void testUpdateCategory() throws Exception {
@@ -155,4 +189,98 @@ class WasteCategoryControllerTest {
                 .andExpect(jsonPath("$[0].name").value("Recyclable"));
     }
 
+    @Test
+    @DisplayName("GET /categories/search?fuzzy=true - Should return categories matching a misspelled keyword")
+    void testFuzzySearchCategories() throws Exception {
+        String keyword = "recyclabel";
+        when(categoryService.fuzzySearchCategories(keyword)).thenReturn(List.of(testCategory));
+
+        mockMvc.perform(get("/wastemanagementapi/categories/search")
+                        .param("keyword", keyword)
+                        .param("fuzzy", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Recyclable"));
+    }
+
+
+    @Test
+    @DisplayName("GET /categories - Should answer a matching If-None-Match with 304 before querying")
+    void testConditionalGetAllCategories() throws Exception {
+        String eTag = mockMvc.perform(get("/wastemanagementapi/categories"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/wastemanagementapi/categories").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(header().string("Cache-Control",
+                        "max-age=30, public, stale-while-revalidate=120"));
+        verify(readModel, times(1)).snapshot();
+
+        dataVersions.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.UPDATED, testCategory));
+        mockMvc.perform(get("/wastemanagementapi/categories").header("If-None-Match", eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /categories/{id} - Should only change the ETag when that category changes")
+    void testCategoryETagIsScopedToCategory() throws Exception {
+        String eTag = mockMvc.perform(get("/wastemanagementapi/categories/1"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        WasteCategory other = new WasteCategory(2L, "Hazardous", "Other category");
+        dataVersions.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                new RecyclingTip(5L, "Battery Tip", "Tape battery terminals", other)));
+        mockMvc.perform(get("/wastemanagementapi/categories/1").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        dataVersions.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                new RecyclingTip(6L, "Paper Tip", "Keep paper dry", testCategory)));
+        mockMvc.perform(get("/wastemanagementapi/categories/1").header("If-None-Match", eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /categories/{id}/tips/count - Should return counts from the read model")
+    void testCountsFromReadModel() throws Exception {
+        when(readModel.snapshot()).thenReturn(CatalogSnapshot.of(List.of(testCategory),
+                List.of(new RecyclingTip(5L, "Paper Tip", "Keep paper dry", testCategory),
+                        new RecyclingTip(6L, "Glass Tip", "Rinse glass jars", testCategory)),
+                List.of()));
+
+        mockMvc.perform(get("/wastemanagementapi/categories/1/tips/count"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("2"));
+        mockMvc.perform(get("/wastemanagementapi/categories/1/guidelines/count"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0"));
+        mockMvc.perform(get("/wastemanagementapi/categories/999/tips/count"))
+                .andExpect(status().isNotFound());
+        verifyNoInteractions(categoryService);
+    }
+
+    @Test
+    @DisplayName("GET /categories/{id}/full - Should embed tips and guidelines in one response")
+    void testGetCategoryDetail() throws Exception {
+        when(readModel.snapshot()).thenReturn(CatalogSnapshot.of(List.of(testCategory),
+                List.of(new RecyclingTip(5L, "Paper Tip", "Keep paper dry", testCategory),
+                        new RecyclingTip(6L, "Glass Tip", "Rinse glass jars", testCategory)),
+                List.of(new DisposalGuideline(7L, "Battery Disposal", "Take batteries to a drop-off", testCategory))));
+
+        mockMvc.perform(get("/wastemanagementapi/categories/1/full"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Recyclable"))
+                .andExpect(jsonPath("$.tips.length()").value(2))
+                .andExpect(jsonPath("$.tips[1].title").value("Glass Tip"))
+                .andExpect(jsonPath("$.guidelines[0].title").value("Battery Disposal"));
+        mockMvc.perform(get("/wastemanagementapi/categories/999/full"))
+                .andExpect(status().isNotFound());
+        verifyNoInteractions(categoryService);
+    }
+
+    private void givenCategories(WasteCategory... categories) {
+        when(readModel.snapshot()).thenReturn(CatalogSnapshot.of(List.of(categories), List.of(), List.of()));
+    }
 }
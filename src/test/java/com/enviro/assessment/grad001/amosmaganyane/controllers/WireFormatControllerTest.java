@@ -0,0 +1,76 @@
+package com.enviro.assessment.grad001.amosmaganyane.controllers;
+
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.services.CatalogReadModel;
+import com.enviro.assessment.grad001.amosmaganyane.services.CatalogSnapshot;
+import com.enviro.assessment.grad001.amosmaganyane.services.DataVersionService;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatBenchmark;
+import com.enviro.assessment.grad001.amosmaganyane.services.WireFormatCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(WireFormatController.class)
+@Import({DataVersionService.class, WireFormatCodec.class, WireFormatBenchmark.class})
+@TestPropertySource(properties = "wire-formats.benchmark.iterations=3")
+@DisplayName("Wire Format API Tests")
+class WireFormatControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CatalogReadModel readModel;
+
+    @Autowired
+    private WireFormatBenchmark benchmark;
+
+    @BeforeEach
+    void initializeSnapshot() {
+        WasteCategory category = new WasteCategory(1L, "Recyclable", "Description");
+        RecyclingTip tip = new RecyclingTip(1L, "Paper Recycling", "How to recycle paper properly", category);
+        when(readModel.snapshot()).thenReturn(CatalogSnapshot.of(List.of(category), List.of(tip), List.of()));
+    }
+
+    @Test
+    @DisplayName("GET /wire-formats/comparison - Should return 503 until the comparison has run")
+    void testCompareWireFormats() throws Exception {
+        mockMvc.perform(get("/wastemanagementapi/wire-formats/comparison")
+                        .param("type", "TIP"))
+                .andExpect(status().isServiceUnavailable());
+
+        benchmark.run();
+
+        mockMvc.perform(get("/wastemanagementapi/wire-formats/comparison")
+                        .param("type", "TIP"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].format").value("JSON"))
+                .andExpect(jsonPath("$[0].relativeSize").value(1.0))
+                .andExpect(jsonPath("$[3].mediaType").value("application/x-protobuf"));
+    }
+
+    @Test
+    @DisplayName("GET /wire-formats/schemas/{type}.proto - Should return the generated schema")
+    void testGetProtoSchema() throws Exception {
+        String schema = mockMvc.perform(get("/wastemanagementapi/wire-formats/schemas/GUIDELINE.proto"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(schema.contains("message DisposalGuidelineDTO"));
+    }
+}
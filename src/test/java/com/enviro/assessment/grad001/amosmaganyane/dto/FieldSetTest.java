@@ -0,0 +1,47 @@
+package com.enviro.assessment.grad001.amosmaganyane.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldSetTest {
+
+    /**
+     * Verifies that a missing or blank parameter includes every property.
+     */
+    @Test
+    void testAllByDefault() {
+        assertTrue(FieldSet.parse(null, RecyclingTipDTO.class).isAll());
+        assertTrue(FieldSet.parse(" , ", RecyclingTipDTO.class).isAll());
+        assertTrue(FieldSet.all().includes("content"));
+        assertEquals("*", FieldSet.all().toString());
+    }
+
+    /**
+     * Verifies that names are trimmed, deduplicated and kept in declaration order.
+     */
+    @Test
+    void testParseKeepsDeclarationOrder() {
+        FieldSet fields = FieldSet.parse(" title, id ,title", RecyclingTipDTO.class);
+
+        assertFalse(fields.isAll());
+        assertEquals(List.of("id", "title"), List.copyOf(fields.names()));
+        assertTrue(fields.includes("title"));
+        assertFalse(fields.includes("content"));
+        assertEquals(FieldSet.parse("id,title", RecyclingTipDTO.class), fields);
+        assertEquals("id,title", fields.toString());
+    }
+
+    /**
+     * Verifies that a name the DTO does not declare is refused.
+     */
+    @Test
+    void testUnknownFieldRejected() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> FieldSet.parse("id,password", RecyclingTipDTO.class));
+
+        assertEquals("Unknown field: password", e.getMessage());
+    }
+}
@@ -0,0 +1,62 @@
+package com.enviro.assessment.grad001.amosmaganyane.repositories;
+
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.models.ChangeLogEntry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class ChangeLogRepositoryTest {
+
+    @Autowired
+    private ChangeLogRepository repository;
+
+    /**
+     * Tests that versions increase and that changes are read after a version, oldest first, up to a limit.
+     */
+    @Test
+    void shouldFindChangesSince() {
+        assertNull(repository.findLatestVersion());
+
+        ChangeLogEntry first = repository.save(change(1L));
+        ChangeLogEntry second = repository.save(change(2L));
+        ChangeLogEntry third = repository.save(change(3L));
+
+        assertTrue(first.getVersion() < second.getVersion());
+        assertEquals(third.getVersion(), repository.findLatestVersion());
+        List<ChangeLogEntry> changes = repository.findChangesSince(first.getVersion(), 1);
+        assertEquals(List.of(second.getVersion()),
+                changes.stream().map(ChangeLogEntry::getVersion).toList());
+        assertTrue(repository.findChangesSince(third.getVersion(), 10).isEmpty());
+    }
+
+    /**
+     * Tests that pruning deletes only the entries before a version, and finds the oldest entry kept and the
+     * oldest entry made since a time.
+     */
+    @Test
+    void shouldPruneOlderChanges() {
+        assertNull(repository.findOldestVersion());
+        ChangeLogEntry old = repository.save(new ChangeLogEntry(null, EntityType.TIP, 1L, ChangeOperation.CREATED,
+                1L, Instant.now().minusSeconds(3600)));
+        ChangeLogEntry second = repository.save(change(2L));
+        ChangeLogEntry third = repository.save(change(3L));
+
+        assertEquals(second.getVersion(), repository.findOldestVersionChangedSince(Instant.now().minusSeconds(60)));
+        assertEquals(1, repository.deleteOlderThan(second.getVersion()));
+        assertEquals(second.getVersion(), repository.findOldestVersion());
+        assertEquals(List.of(second.getVersion(), third.getVersion()),
+                repository.findChangesSince(old.getVersion() - 1, 10).stream().map(ChangeLogEntry::getVersion).toList());
+    }
+
+    private static ChangeLogEntry change(Long tipId) {
+        return new ChangeLogEntry(null, EntityType.TIP, tipId, ChangeOperation.CREATED, 1L, Instant.now());
+    }
+}
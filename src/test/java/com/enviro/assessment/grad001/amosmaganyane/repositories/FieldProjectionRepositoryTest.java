@@ -0,0 +1,92 @@
+package com.enviro.assessment.grad001.amosmaganyane.repositories;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.DisposalGuidelineDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.WasteCategoryDTO;
+import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(FieldProjectionRepository.class)
+class FieldProjectionRepositoryTest {
+
+    @Autowired
+    private FieldProjectionRepository projections;
+
+    @Autowired
+    private WasteCategoryRepository categoryRepository;
+
+    @Autowired
+    private RecyclingTipRepository tipRepository;
+
+    @Autowired
+    private DisposalGuidelineRepository guidelineRepository;
+
+    private WasteCategory category;
+    private RecyclingTip tip;
+
+    @BeforeEach
+    void saveCatalogue() {
+        category = categoryRepository.save(new WasteCategory(null, "Recyclable", "Description"));
+        tip = tipRepository.save(new RecyclingTip(null, "Paper Recycling", "Content", category));
+        tipRepository.save(new RecyclingTip(null, "Glass Recycling", "Content", category));
+        guidelineRepository.save(new DisposalGuideline(null, "Glass Disposal", "Instructions", category));
+    }
+
+    /**
+     * Tests that only the requested tip fields are loaded, plus the IDs.
+     */
+    @Test
+    void shouldLoadOnlyRequestedTipFields() {
+        List<RecyclingTipDTO> tips = projections.findTips(List.of(tip.getId()),
+                FieldSet.parse("title", RecyclingTipDTO.class));
+
+        assertEquals(1, tips.size());
+        assertEquals(tip.getId(), tips.get(0).getId());
+        assertEquals(category.getId(), tips.get(0).getCategoryId());
+        assertEquals("Paper Recycling", tips.get(0).getTitle());
+        assertNull(tips.get(0).getContent());
+        assertNull(tips.get(0).getCategoryName());
+    }
+
+    /**
+     * Tests that every row is loaded when no IDs are given, and none for an empty list.
+     */
+    @Test
+    void shouldLoadAllOrNone() {
+        FieldSet fields = FieldSet.parse("title,categoryName", DisposalGuidelineDTO.class);
+
+        List<DisposalGuidelineDTO> guidelines = projections.findGuidelines(null, fields);
+
+        assertEquals(1, guidelines.size());
+        assertEquals("Recyclable", guidelines.get(0).getCategoryName());
+        assertNull(guidelines.get(0).getInstructions());
+        assertTrue(projections.findTips(List.of(), FieldSet.all()).isEmpty());
+    }
+
+    /**
+     * Tests that category counts are computed in the query.
+     */
+    @Test
+    void shouldCountInQuery() {
+        List<WasteCategoryDTO> categories = projections.findCategories(List.of(category.getId()),
+                FieldSet.parse("name,tipsCount,guidelinesCount", WasteCategoryDTO.class));
+
+        assertEquals(1, categories.size());
+        assertEquals("Recyclable", categories.get(0).getName());
+        assertNull(categories.get(0).getDescription());
+        assertEquals(2, categories.get(0).getTipsCount());
+        assertEquals(1, categories.get(0).getGuidelinesCount());
+    }
+}
@@ -5,6 +5,11 @@ import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
@@ -51,4 +56,71 @@ class RecyclingTipRepositoryTest {
 
         assertFalse(repository.findById(tip.getId()).isPresent());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that listing IDs returns exactly the saved tips.
+     */
+    @Test
+    void shouldListAllIds() {
+        WasteCategory category = categoryRepository.save(
+                new WasteCategory(null, "Recyclable", "Description")
+        );
+
+        RecyclingTip first = repository.save(
+                new RecyclingTip(null, "Paper Recycling", "Content", category)
+        );
+        RecyclingTip second = repository.save(
+                new RecyclingTip(null, "Glass Recycling", "Content", category)
+        );
+
+        assertEquals(Set.of(first.getId(), second.getId()), Set.copyOf(repository.findAllIds()));
+    }
+
+    /**
+     * Tests that streaming returns every tip by ascending ID with its category loaded.
+     */
+    @Test
+    void shouldStreamAllWithCategory() {
+        WasteCategory category = categoryRepository.save(
+                new WasteCategory(null, "Recyclable", "Description")
+        );
+
+        RecyclingTip first = repository.save(
+                new RecyclingTip(null, "Paper Recycling", "Content", category)
+        );
+        RecyclingTip second = repository.save(
+                new RecyclingTip(null, "Glass Recycling", "Content", category)
+        );
+
+        try (Stream<RecyclingTip> tips = repository.streamAllWithCategory()) {
+            List<RecyclingTip> streamed = tips.toList();
+            assertEquals(List.of(first.getId(), second.getId()),
+                    streamed.stream().map(RecyclingTip::getId).toList());
+            assertEquals("Recyclable", streamed.get(0).getCategory().getName());
+        }
+    }
+
+    /**
+     * Tests that tips are found by category and exact title in one query.
+     */
+    @Test
+    void shouldFindByCategoryIdsAndTitles() {
+        WasteCategory recyclable = categoryRepository.save(
+                new WasteCategory(null, "Recyclable", "Description")
+        );
+        WasteCategory hazardous = categoryRepository.save(
+                new WasteCategory(null, "Hazardous", "Description")
+        );
+
+        RecyclingTip paper = repository.save(
+                new RecyclingTip(null, "Paper Recycling", "Content", recyclable)
+        );
+        repository.save(new RecyclingTip(null, "Glass Recycling", "Content", recyclable));
+        repository.save(new RecyclingTip(null, "Paper Recycling", "Content", hazardous));
+
+        List<RecyclingTip> found = repository.findByCategoryIdsAndTitles(
+                List.of(recyclable.getId()), List.of("Paper Recycling", "Battery Recycling"));
+
+        assertEquals(List.of(paper.getId()), found.stream().map(RecyclingTip::getId).toList());
+    }
+}
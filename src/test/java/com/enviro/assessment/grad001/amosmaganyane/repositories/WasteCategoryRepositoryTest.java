@@ -7,6 +7,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -94,4 +95,18 @@ class WasteCategoryRepositoryTest {
         assertTrue(repository.existsByNameIgnoreCase("RECYCLABLE"));
         assertFalse(repository.existsByNameIgnoreCase("NonExistent"));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that streaming returns every category by ascending ID.
+     */
+    @Test
+    void testStreamAll() {
+        WasteCategory first = repository.save(new WasteCategory(null, "Recyclable", "Description"));
+        WasteCategory second = repository.save(new WasteCategory(null, "Hazardous", "Description"));
+
+        try (Stream<WasteCategory> categories = repository.streamAll()) {
+            assertEquals(List.of(first.getId(), second.getId()),
+                    categories.map(WasteCategory::getId).toList());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BkTree.
+ * Verifies edit distance computation and bounded-distance lookups.
+ */
+class BkTreeTest {
+
+    private BkTree tree;
+
+    @BeforeEach
+    void initializeTree() {
+        tree = new BkTree();
+        for (String term : List.of("plastic", "plastics", "elastic", "battery", "batteries",
+                "glass", "grass", "class")) {
+            tree.add(term);
+        }
+    }
+
+    /**
+     * Verifies the Levenshtein distance for insertions, deletions and substitutions.
+     */
+    @Test
+    void testDistance() {
+        assertEquals(0, BkTree.distance("glass", "glass"));
+        assertEquals(1, BkTree.distance("plastik", "plastic"));
+        assertEquals(2, BkTree.distance("baterry", "battery"));
+        assertEquals(3, BkTree.distance("", "tin"));
+    }
+
+    /**
+     * Verifies that a search returns exactly the terms within the distance bound.
+     */
+    @Test
+    void testSearchWithinDistance() {
+        assertEquals(Set.of("plastic"), new HashSet<>(tree.search("plastik", 1)));
+        assertEquals(Set.of("plastic", "plastics", "elastic"),
+                new HashSet<>(tree.search("plastik", 2)));
+        assertEquals(Set.of("glass", "grass", "class"), new HashSet<>(tree.search("glass", 1)));
+        assertTrue(tree.search("cardboard", 2).isEmpty());
+    }
+
+    /**
+     * Verifies that adding an existing term leaves the tree unchanged.
+     */
+    @Test
+    void testAddIgnoresDuplicates() {
+        assertFalse(tree.add("glass"));
+        assertTrue(tree.add("metal"));
+        assertEquals(9, tree.size());
+    }
+}
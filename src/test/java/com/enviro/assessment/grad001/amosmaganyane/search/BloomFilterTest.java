@@ -0,0 +1,85 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BloomFilter.
+ * Verifies that added keys are always found and that other keys are
+ * reported at about the chosen false positive rate.
+ */
+class BloomFilterTest {
+
+    /**
+     * Verifies that every added key is reported as present.
+     */
+    @Test
+    void testNoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        for (long id = 1; id <= 1000; id++) {
+            filter.add(id);
+        }
+
+        for (long id = 1; id <= 1000; id++) {
+            assertTrue(filter.mightContain(id));
+        }
+        assertEquals(1000, filter.added());
+        assertFalse(filter.isSaturated());
+    }
+
+    /**
+     * Verifies that keys never added are rarely reported as present.
+     */
+    @Test
+    void testFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        for (long id = 1; id <= 1000; id++) {
+            filter.add(id);
+        }
+
+        int falsePositives = 0;
+        for (long id = 1001; id <= 101_000; id++) {
+            if (filter.mightContain(id)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2000, "False positives: " + falsePositives);
+    }
+
+    /**
+     * Verifies that an empty filter contains nothing and that sizing follows the load.
+     */
+    @Test
+    void testSizing() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+
+        assertFalse(filter.mightContain(1L));
+        assertEquals(7, filter.hashCount());
+        assertTrue(filter.bitSize() >= 9586);
+    }
+
+    /**
+     * Verifies that adding more keys than expected marks the filter as saturated.
+     */
+    @Test
+    void testSaturation() {
+        BloomFilter filter = new BloomFilter(2, 0.01);
+        filter.add(1L);
+        filter.add(2L);
+        assertFalse(filter.isSaturated());
+
+        filter.add(3L);
+        assertTrue(filter.isSaturated());
+    }
+
+    /**
+     * Verifies that invalid sizes are rejected.
+     */
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 1));
+    }
+}
@@ -0,0 +1,145 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Single in-memory inverted index ranking documents with Okapi BM25, the
+ * reference that {@link SegmentedIndex} scores are checked against. Each
+ * term keeps the frequency with which it occurs in every document, and
+ * each document keeps its length.
+ *
+ * @param <K> the type of document key; its natural order breaks score ties
+ */
+public class Bm25Index<K extends Comparable<K>> {
+
+    private final double k1;
+    private final double b;
+    private final Map<String, Map<K, Integer>> postings = new HashMap<>();
+    private final Map<K, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<K, Integer> lengths = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    /**
+     * Creates an empty index with the usual BM25 parameters.
+     */
+    public Bm25Index() {
+        this(Bm25.DEFAULT_K1, Bm25.DEFAULT_B);
+    }
+
+    /**
+     * Creates an empty index.
+     *
+     * @param k1 how quickly repeated terms stop adding to the score
+     * @param b how strongly scores are normalized by document length, from 0 to 1
+     */
+    public Bm25Index(double k1, double b) {
+        this.k1 = k1;
+        this.b = b;
+    }
+
+    /**
+     * Indexes a document, replacing any terms previously stored under the same key.
+     *
+     * @param key the document key
+     * @param terms the document's terms, repeated as often as they occur
+     */
+    public void put(K key, List<String> terms) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        terms.forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        lock.writeLock().lock();
+        try {
+            unlink(key);
+            documents.put(key, frequencies);
+            lengths.put(key, terms.size());
+            totalLength += terms.size();
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(key, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a document from the index. Unknown keys are ignored.
+     *
+     * @param key the document key
+     */
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            unlink(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Scores every document containing at least one of the query terms.
+     * A term repeated in the query counts once.
+     *
+     * @param queryTerms the analyzed query
+     * @return the BM25 score of each matching document
+     */
+    public Map<K, Double> score(Collection<String> queryTerms) {
+        Map<K, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return scores;
+            }
+            double averageLength = Math.max(1.0, (double) totalLength / documentCount);
+            for (String term : new LinkedHashSet<>(queryTerms)) {
+                Map<K, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Bm25.idf(documentCount, posting.size());
+                posting.forEach((key, frequency) -> {
+                    double norm = k1 * (1 - b + b * lengths.get(key) / averageLength);
+                    double weight = idf * frequency * (k1 + 1) / (frequency + norm);
+                    scores.merge(key, weight, Double::sum);
+                });
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed documents.
+     *
+     * @return the document count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unlink(K key) {
+        Map<String, Integer> previous = documents.remove(key);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= lengths.remove(key);
+        previous.keySet().forEach(term -> {
+            Map<K, Integer> posting = postings.get(term);
+            posting.remove(key);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Bm25.
+ * Verifies inverse document frequency and bounded top-k selection.
+ */
+class Bm25Test {
+
+    /**
+     * Verifies that rarer terms weigh more than common ones and that even
+     * a term in every document weighs something.
+     */
+    @Test
+    void testIdfFavoursRareTerms() {
+        assertTrue(Bm25.idf(3, 1) > Bm25.idf(3, 2));
+        assertTrue(Bm25.idf(3, 3) > 0);
+    }
+
+    /**
+     * Verifies that top-k selection keeps the best entries in order and breaks ties by key.
+     */
+    @Test
+    void testTopK() {
+        Map<Long, Double> scores = new HashMap<>();
+        for (long id = 1; id <= 100; id++) {
+            scores.put(id, (double) (id % 10));
+        }
+
+        List<Map.Entry<Long, Double>> best = Bm25.topK(scores, 3);
+
+        assertEquals(List.of(9L, 19L, 29L), best.stream().map(Map.Entry::getKey).toList());
+        assertEquals(5, Bm25.topK(Map.of(1L, 1.0, 2L, 2.0, 3L, 3.0, 4L, 4.0, 5L, 5.0), 10).size());
+        assertTrue(Bm25.topK(scores, 0).isEmpty());
+    }
+}
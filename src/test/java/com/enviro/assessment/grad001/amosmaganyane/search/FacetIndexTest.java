@@ -0,0 +1,49 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FacetIndex.
+ * Verifies per-category match counts as documents move between categories.
+ */
+class FacetIndexTest {
+
+    private FacetIndex<Long> facets;
+
+    @BeforeEach
+    void initializeFacets() {
+        facets = new FacetIndex<>();
+        facets.put(1L, 10L);
+        facets.put(2L, 10L);
+        facets.put(3L, 20L);
+        facets.put(4L, null);
+    }
+
+    /**
+     * Verifies that only matching documents are counted and unknown keys are ignored.
+     */
+    @Test
+    void testCountMatchesPerCategory() {
+        assertEquals(Map.of(10L, 2, 20L, 1), facets.count(List.of(1L, 2L, 3L, 4L, 99L)));
+        assertEquals(Map.of(10L, 1), facets.count(List.of(2L)));
+        assertTrue(facets.count(List.of()).isEmpty());
+    }
+
+    /**
+     * Verifies that moving and removing documents updates the counts.
+     */
+    @Test
+    void testMoveAndRemove() {
+        facets.put(1L, 20L);
+        facets.remove(3L);
+        facets.put(5L, 30L);
+
+        assertEquals(Map.of(10L, 1, 20L, 1, 30L, 1), facets.count(List.of(1L, 2L, 3L, 5L)));
+    }
+}
@@ -0,0 +1,96 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FrequencyCache.
+ * Verifies hit accounting, frequency-based admission and invalidation.
+ */
+class FrequencyCacheTest {
+
+    private FrequencyCache<String, Integer> cache;
+
+    @BeforeEach
+    void initializeCache() {
+        cache = new FrequencyCache<>(2);
+    }
+
+    /**
+     * Verifies that lookups are counted as hits and misses.
+     */
+    @Test
+    void testHitsAndMisses() {
+        assertNull(cache.get("plastic"));
+        cache.put("plastic", 1);
+        assertEquals(1, cache.get("plastic"));
+        assertEquals(1, cache.get("plastic"));
+
+        assertEquals(2, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    /**
+     * Verifies that a rarely used key cannot displace popular entries.
+     */
+    @Test
+    void testRareKeyIsRejectedWhenFull() {
+        for (int i = 0; i < 5; i++) {
+            cache.get("plastic");
+            cache.get("battery");
+        }
+        cache.put("plastic", 1);
+        cache.put("battery", 2);
+
+        cache.get("zinc");
+        assertFalse(cache.put("zinc", 3));
+
+        assertEquals(1, cache.rejections());
+        assertEquals(1, cache.get("plastic"));
+        assertEquals(2, cache.get("battery"));
+    }
+
+    /**
+     * Verifies that a frequently used key evicts the least recently used entry.
+     */
+    @Test
+    void testFrequentKeyEvictsLeastRecentlyUsed() {
+        cache.put("plastic", 1);
+        cache.put("battery", 2);
+        cache.get("plastic");
+        for (int i = 0; i < 3; i++) {
+            cache.get("glass");
+        }
+
+        assertTrue(cache.put("glass", 3));
+
+        assertEquals(1, cache.evictions());
+        assertNull(cache.get("battery"));
+        assertEquals(3, cache.get("glass"));
+        assertEquals(2, cache.size());
+    }
+
+    /**
+     * Verifies that only matching entries are invalidated.
+     */
+    @Test
+    void testInvalidateIf() {
+        cache.put("plastic", 1);
+        cache.put("battery", 2);
+
+        assertEquals(1, cache.invalidateIf((key, value) -> key.startsWith("bat")));
+
+        assertNull(cache.get("battery"));
+        assertEquals(1, cache.get("plastic"));
+    }
+
+    /**
+     * Verifies that a cache cannot be created without room for entries.
+     */
+    @Test
+    void testCapacityMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new FrequencyCache<String, Integer>(0));
+    }
+}
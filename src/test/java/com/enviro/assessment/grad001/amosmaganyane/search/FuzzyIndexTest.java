@@ -0,0 +1,89 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FuzzyIndex.
+ * Verifies typo-tolerant matching and that updates keep the vocabulary consistent.
+ */
+class FuzzyIndexTest {
+
+    private FuzzyIndex index;
+
+    @BeforeEach
+    void initializeIndex() {
+        index = new FuzzyIndex();
+        index.put(1L, words("Plastic Recycling"));
+        index.put(2L, words("Battery Disposal"));
+        index.put(3L, words("Car Battery Disposal"));
+        index.put(4L, words("Tin Recycling"));
+    }
+
+    /**
+     * Verifies that misspelled words still find their documents.
+     */
+    @Test
+    void testSearchToleratesTypos() {
+        assertEquals(List.of(1L), index.search(words("plastik"), 2));
+        assertEquals(List.of(2L, 3L), index.search(words("baterry"), 2));
+        assertEquals(List.of(3L), index.search(words("car baterry"), 2));
+    }
+
+    /**
+     * Verifies that the configured maximum distance caps the word budget.
+     */
+    @Test
+    void testSearchHonoursMaxDistance() {
+        assertTrue(index.search(words("baterry"), 1).isEmpty());
+        assertEquals(List.of(2L, 3L), index.search(words("battery"), 0));
+    }
+
+    /**
+     * Verifies that short words must match exactly.
+     */
+    @Test
+    void testShortWordsRequireExactMatch() {
+        assertTrue(index.search(words("ca"), 2).isEmpty());
+        assertEquals(List.of(4L), index.search(words("tin"), 2));
+        assertTrue(index.search(words("bin recycling"), 2).isEmpty());
+    }
+
+    /**
+     * Verifies that replaced and removed documents no longer match their old words.
+     */
+    @Test
+    void testPutAndRemoveUpdateMatches() {
+        index.put(1L, words("Glass Recycling"));
+        index.remove(2L);
+
+        assertTrue(index.search(words("plastik"), 2).isEmpty());
+        assertEquals(List.of(1L), index.search(words("glas"), 2));
+        assertEquals(List.of(3L), index.search(words("battery"), 2));
+    }
+
+    /**
+     * Verifies that the vocabulary is compacted once most of its words are dead.
+     */
+    @Test
+    void testRemoveManyDocumentsKeepsSearchCorrect() {
+        for (long id = 100; id < 300; id++) {
+            index.put(id, words("word" + id));
+        }
+        for (long id = 100; id < 300; id++) {
+            index.remove(id);
+        }
+
+        assertTrue(index.search(words("word150"), 1).isEmpty());
+        assertEquals(List.of(1L), index.search(words("plastic"), 2));
+    }
+
+    private static List<String> words(String text) {
+        return List.of(text.toLowerCase(Locale.ROOT).split(" "));
+    }
+}
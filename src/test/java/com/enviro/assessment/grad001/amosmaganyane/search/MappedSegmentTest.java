@@ -0,0 +1,93 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MappedSegment.
+ * Verifies that segments written by SegmentWriter read back intact.
+ */
+class MappedSegmentTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Verifies that stored fields are found by key and documents are ordered by key.
+     */
+    @Test
+    void testStoredFieldsRoundTrip() throws IOException {
+        MappedSegment segment = write(
+                new IndexedDocument(9L, "Glass Recycling", 2L, List.of("glass", "recycling")),
+                new IndexedDocument(4L, "Caf\u00e9 Waste", null, List.of("cafe", "waste", "waste")));
+
+        assertEquals(2, segment.documentCount());
+        assertEquals(5, segment.totalLength());
+        assertEquals(0, segment.ordinal(4L));
+        assertEquals(1, segment.ordinal(9L));
+        assertEquals(-1, segment.ordinal(5L));
+        assertEquals("Caf\u00e9 Waste", segment.title(0));
+        assertNull(segment.categoryId(0));
+        assertEquals(2L, segment.categoryId(1));
+        assertEquals(3, segment.length(0));
+    }
+
+    /**
+     * Verifies that terms are found in the dictionary and their postings decoded.
+     */
+    @Test
+    void testTermLookupAndPostings() throws IOException {
+        List<IndexedDocument> documents = new ArrayList<>();
+        for (long key = 1; key <= 300; key++) {
+            documents.add(new IndexedDocument(key, "Tip " + key, 1L,
+                    key % 3 == 0 ? List.of("glass", "glass", "jar") : List.of("paper")));
+        }
+        MappedSegment segment = write(documents.toArray(new IndexedDocument[0]));
+
+        int glass = segment.findTerm(bytes("glass"));
+        assertEquals("glass", segment.term(glass));
+        assertEquals(100, segment.documentFrequency(glass));
+        assertEquals(-1, segment.findTerm(bytes("metal")));
+        List<Long> keys = new ArrayList<>();
+        segment.forEachPosting(glass, (ordinal, frequency) -> {
+            assertEquals(2, frequency);
+            keys.add(segment.key(ordinal));
+        });
+        assertEquals(100, keys.size());
+        assertEquals(3L, keys.get(0));
+        assertEquals(300L, keys.get(99));
+    }
+
+    /**
+     * Verifies that truncated files are rejected rather than mapped.
+     */
+    @Test
+    void testTruncatedSegmentRejected() throws IOException {
+        Path file = directory.resolve("segment.seg");
+        SegmentWriter.write(file, List.of(new IndexedDocument(1L, "Tip", 1L, List.of("tip"))));
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 1));
+
+        assertThrows(IOException.class, () -> MappedSegment.open(file));
+    }
+
+    private MappedSegment write(IndexedDocument... documents) throws IOException {
+        Path file = directory.resolve("segment.seg");
+        SegmentWriter.write(file, List.of(documents));
+        return MappedSegment.open(file);
+    }
+
+    private static byte[] bytes(String term) {
+        return term.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,97 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MinHashLsh.
+ * Verifies shingling, similarity estimates and bucketed candidate lookup.
+ */
+class MinHashLshTest {
+
+    private MinHashLsh<Long> index;
+
+    @BeforeEach
+    void initializeIndex() {
+        index = new MinHashLsh<>(32, 4);
+    }
+
+    /**
+     * Verifies that shingles are overlapping word runs and short texts form one shingle.
+     */
+    @Test
+    void testShingles() {
+        assertEquals(List.of("rinse glass", "glass jar"),
+                List.copyOf(MinHashLsh.shingles(List.of("rinse", "glass", "jar"), 2)));
+        assertEquals(List.of("glass"), List.copyOf(MinHashLsh.shingles(List.of("glass"), 2)));
+        assertTrue(MinHashLsh.shingles(List.of(), 2).isEmpty());
+    }
+
+    /**
+     * Verifies that the signature agreement tracks the true Jaccard similarity.
+     */
+    @Test
+    void testSimilarityEstimatesJaccard() {
+        Set<String> first = new HashSet<>();
+        Set<String> second = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            first.add("shingle" + i);
+            second.add("shingle" + (i + 25));
+        }
+        double jaccard = 75.0 / 125.0;
+
+        double estimate = MinHashLsh.similarity(index.signature(first), index.signature(second));
+
+        assertEquals(jaccard, estimate, 0.12);
+        assertEquals(1.0, MinHashLsh.similarity(index.signature(first), index.signature(first)));
+    }
+
+    /**
+     * Verifies that a lookup returns near-duplicates but not unrelated texts.
+     */
+    @Test
+    void testSimilarFindsNearDuplicates() {
+        index.put(1L, index.signature(text("rinse glass jars and bottles before putting them in the glass bin")));
+        index.put(2L, index.signature(text("rinse glass jars and bottles before placing them in the glass bin")));
+        index.put(3L, index.signature(text("take old batteries to a hazardous waste drop off point")));
+
+        Map<Long, Double> similar = index.similar(index.get(1L), 0.5);
+
+        assertEquals(Set.of(1L, 2L), similar.keySet());
+        assertEquals(1.0, similar.get(1L), 0.0);
+    }
+
+    /**
+     * Verifies that a scan reports each similar pair once, smaller key first,
+     * and that removed documents drop out.
+     */
+    @Test
+    void testPairs() {
+        index.put(5L, index.signature(text("flatten cardboard boxes and keep them dry for collection")));
+        index.put(2L, index.signature(text("flatten cardboard boxes and keep them dry for the collection")));
+        index.put(9L, index.signature(text("never pour paint down the drain")));
+
+        List<MinHashLsh.Pair<Long>> pairs = index.pairs(0.5);
+
+        assertEquals(1, pairs.size());
+        assertEquals(2L, pairs.get(0).getFirst());
+        assertEquals(5L, pairs.get(0).getSecond());
+
+        index.remove(5L);
+        assertTrue(index.pairs(0.5).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    private static Set<String> text(String text) {
+        return MinHashLsh.shingles(new ArrayList<>(Arrays.asList(text.split(" "))), 2);
+    }
+}
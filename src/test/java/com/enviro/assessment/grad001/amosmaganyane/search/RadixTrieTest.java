@@ -0,0 +1,84 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RadixTrie.
+ * Verifies prefix completion, ranking and incremental updates of the precomputed completions.
+ */
+class RadixTrieTest {
+
+    private RadixTrie<String> trie;
+
+    @BeforeEach
+    void initializeTrie() {
+        trie = new RadixTrie<>(Comparator.comparingInt(String::length)
+                .thenComparing(Comparator.naturalOrder()), 3);
+        for (String word : List.of("battery", "batteries", "bat", "bottle", "box", "bottles")) {
+            trie.insert(word, word);
+        }
+    }
+
+    /**
+     * Verifies that completions are returned in ranking order and limited per node.
+     */
+    @Test
+    void testCompleteReturnsBestMatchesForPrefix() {
+        assertEquals(List.of("bat", "battery", "batteries"), trie.complete("bat", 10));
+        assertEquals(List.of("bat", "box", "bottle"), trie.complete("b", 10));
+        assertEquals(List.of("bottle", "bottles"), trie.complete("bott", 10));
+    }
+
+    /**
+     * Verifies that a prefix ending inside an edge label still completes.
+     */
+    @Test
+    void testCompletePrefixEndingInsideEdge() {
+        assertEquals(List.of("battery", "batteries"), trie.complete("batt", 10));
+        assertEquals(List.of("batteries"), trie.complete("batteri", 10));
+    }
+
+    /**
+     * Verifies that unknown prefixes and the requested limit are honoured.
+     */
+    @Test
+    void testCompleteWithUnknownPrefixAndLimit() {
+        assertTrue(trie.complete("glass", 10).isEmpty());
+        assertTrue(trie.complete("batz", 10).isEmpty());
+        assertEquals(List.of("bat"), trie.complete("ba", 1));
+    }
+
+    /**
+     * Verifies that removing a value promotes the next best completion.
+     */
+    @Test
+    void testRemovePromotesNextCompletion() {
+        trie.remove("box", "box");
+        trie.remove("bat", "bat");
+
+        assertEquals(List.of("bottle", "battery", "bottles"), trie.complete("b", 10));
+        assertEquals(List.of("battery", "batteries"), trie.complete("bat", 10));
+    }
+
+    /**
+     * Verifies that several values can share one key and be removed independently.
+     */
+    @Test
+    void testMultipleValuesUnderOneKey() {
+        trie.insert("glass", "glass jar");
+        trie.insert("glass", "glass");
+
+        assertEquals(List.of("glass", "glass jar"), trie.complete("gl", 10));
+
+        trie.remove("glass", "glass");
+        trie.remove("glass", "missing");
+
+        assertEquals(List.of("glass jar"), trie.complete("glass", 10));
+    }
+}
@@ -0,0 +1,82 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RoaringBitmap.
+ * Verifies set operations in both chunk representations and intersection counts.
+ */
+class RoaringBitmapTest {
+
+    /**
+     * Verifies adding, removing and looking up values across chunks.
+     */
+    @Test
+    void testAddRemoveContains() {
+        RoaringBitmap bitmap = RoaringBitmap.of(1, 70000, 5);
+
+        assertTrue(bitmap.contains(70000));
+        assertFalse(bitmap.contains(2));
+        assertFalse(bitmap.add(5));
+        assertEquals(3, bitmap.cardinality());
+        assertTrue(bitmap.remove(70000));
+        assertFalse(bitmap.remove(70000));
+        assertFalse(bitmap.contains(70000));
+        assertEquals(2, bitmap.cardinality());
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+    }
+
+    /**
+     * Verifies that a chunk switches to a bitmap when it fills up and back
+     * to an array when it empties.
+     */
+    @Test
+    void testChunkSwitchesRepresentation() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value = 0; value <= RoaringBitmap.ARRAY_LIMIT; value++) {
+            bitmap.add(value * 2);
+        }
+        assertTrue(bitmap.isDense(0));
+        assertEquals(RoaringBitmap.ARRAY_LIMIT + 1, bitmap.cardinality());
+
+        bitmap.remove(0);
+        assertFalse(bitmap.isDense(2));
+        assertEquals(RoaringBitmap.ARRAY_LIMIT, bitmap.cardinality());
+        assertTrue(bitmap.contains(RoaringBitmap.ARRAY_LIMIT * 2));
+        assertFalse(bitmap.contains(0));
+    }
+
+    /**
+     * Verifies intersection counts against BitSet for sparse and dense chunks.
+     */
+    @Test
+    void testAndCardinalityMatchesBitSet() {
+        Random random = new Random(42);
+        RoaringBitmap dense = new RoaringBitmap();
+        RoaringBitmap sparse = new RoaringBitmap();
+        BitSet denseBits = new BitSet();
+        BitSet sparseBits = new BitSet();
+        for (int i = 0; i < 20000; i++) {
+            int value = random.nextInt(150000);
+            dense.add(value);
+            denseBits.set(value);
+        }
+        for (int i = 0; i < 500; i++) {
+            int value = random.nextInt(150000);
+            sparse.add(value);
+            sparseBits.set(value);
+        }
+
+        BitSet both = (BitSet) denseBits.clone();
+        both.and(sparseBits);
+        assertEquals(both.cardinality(), dense.andCardinality(sparse));
+        assertEquals(both.cardinality(), sparse.andCardinality(dense));
+        assertEquals(denseBits.cardinality(), dense.andCardinality(dense));
+        assertEquals(0, dense.andCardinality(new RoaringBitmap()));
+    }
+}
@@ -0,0 +1,163 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SegmentedIndex.
+ * Verifies scoring across segments, flushing, merging and reopening.
+ */
+class SegmentedIndexTest {
+
+    @TempDir
+    Path directory;
+
+    private SegmentedIndex index;
+
+    @BeforeEach
+    void initializeIndex() throws IOException {
+        index = SegmentedIndex.open(directory);
+    }
+
+    /**
+     * Verifies that scores match a single BM25 index however documents are split.
+     */
+    @Test
+    void testScoresMatchSingleIndex() throws IOException {
+        Bm25Index<Long> reference = new Bm25Index<>();
+        List<List<String>> texts = List.of(
+                List.of("battery", "recycling", "battery", "drop", "off"),
+                List.of("paper", "recycling"),
+                List.of("car", "battery", "disposal", "take", "to", "a", "licensed", "dealer"));
+        for (int i = 0; i < texts.size(); i++) {
+            long key = i + 1;
+            reference.put(key, texts.get(i));
+            index.put(new IndexedDocument(key, "Doc " + key, null, texts.get(i)));
+            if (i == 0) {
+                index.flush();
+            }
+        }
+
+        Map<Long, Double> expected = reference.score(List.of("battery", "recycling"));
+        Map<Long, Double> actual = index.score(List.of("battery", "recycling"));
+
+        assertEquals(1, index.segmentCount());
+        assertEquals(expected.keySet(), actual.keySet());
+        expected.forEach((key, score) -> assertEquals(score, actual.get(key), 1e-9));
+    }
+
+    /**
+     * Verifies that repeated terms, short documents and rare terms rank higher.
+     */
+    @Test
+    void testRankingFollowsBm25() {
+        index.put(new IndexedDocument(1L, "Batteries", null,
+                List.of("battery", "recycling", "battery", "drop", "off")));
+        index.put(new IndexedDocument(2L, "Paper", null, List.of("paper", "recycling")));
+        index.put(new IndexedDocument(3L, "Car Batteries", null, List.of("car", "battery", "disposal",
+                "take", "to", "a", "licensed", "scrap", "dealer", "for", "safe", "handling")));
+
+        Map<Long, Double> battery = index.score(List.of("battery"));
+        Map<Long, Double> paperOrBattery = index.score(List.of("paper", "battery"));
+
+        assertEquals(Set.of(1L, 3L), battery.keySet());
+        assertTrue(battery.get(1L) > battery.get(3L));
+        assertTrue(paperOrBattery.get(2L) > paperOrBattery.get(3L));
+    }
+
+    /**
+     * Verifies that flushed documents and deletions survive reopening.
+     */
+    @Test
+    void testReopenRestoresFlushedState() throws IOException {
+        index.put(new IndexedDocument(1L, "Glass Jars", 3L, List.of("glass", "jar")));
+        index.put(new IndexedDocument(2L, "Glass Bottles", 3L, List.of("glass", "bottle")));
+        index.flush();
+        index.remove(1L);
+        index.flush();
+        index.put(new IndexedDocument(3L, "Unflushed", 3L, List.of("glass")));
+
+        SegmentedIndex reopened = SegmentedIndex.open(directory);
+
+        assertEquals(1, reopened.size());
+        assertEquals(Set.of(2L), reopened.score(List.of("glass")).keySet());
+        assertEquals("Glass Bottles", reopened.stored(2L).getTitle());
+        assertEquals(3L, reopened.stored(2L).getCategoryId());
+        assertNull(reopened.stored(1L));
+    }
+
+    /**
+     * Verifies that a replaced document is only found under its new terms.
+     */
+    @Test
+    void testPutReplacesFlushedDocument() throws IOException {
+        index.put(new IndexedDocument(1L, "Styrofoam", null, List.of("styrofoam")));
+        index.flush();
+        index.put(new IndexedDocument(1L, "Polystyrene", null, List.of("polystyrene")));
+
+        assertTrue(index.score(List.of("styrofoam")).isEmpty());
+        assertEquals(Set.of(1L), index.score(List.of("polystyrene")).keySet());
+        assertEquals("Polystyrene", index.stored(1L).getTitle());
+        assertEquals(1, index.size());
+    }
+
+    /**
+     * Verifies that indexing an unchanged document does nothing.
+     */
+    @Test
+    void testUnchangedDocumentSkipped() throws IOException {
+        index.put(new IndexedDocument(1L, "Paper", 1L, List.of("paper")));
+        index.flush();
+
+        assertFalse(index.put(new IndexedDocument(1L, "Paper", 1L, List.of("paper"))));
+        assertTrue(index.put(new IndexedDocument(1L, "Paper", 2L, List.of("paper"))));
+    }
+
+    /**
+     * Verifies that merging leaves one segment without deleted documents
+     * and removes the files it replaced.
+     */
+    @Test
+    void testMergeCompactsSegments() throws IOException {
+        for (long key = 1; key <= 3; key++) {
+            index.put(new IndexedDocument(key, "Tip " + key, 1L, List.of("tip", "number" + key)));
+            index.flush();
+        }
+        index.remove(2L);
+
+        assertFalse(index.merge(3));
+        assertTrue(index.merge(2));
+
+        assertEquals(1, index.segmentCount());
+        assertEquals(Set.of(1L, 3L), index.score(List.of("tip")).keySet());
+        assertEquals(Set.of(1L, 3L), index.keys());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.filter(file -> file.toString().endsWith(".seg")).count());
+        }
+        assertEquals(Set.of(1L, 3L), SegmentedIndex.open(directory).keys());
+    }
+
+    /**
+     * Verifies that an index without a directory never writes.
+     */
+    @Test
+    void testInMemoryIndex() throws IOException {
+        SegmentedIndex memory = SegmentedIndex.inMemory();
+        memory.put(new IndexedDocument(1L, "Paper", 1L, List.of("paper")));
+
+        assertFalse(memory.isPersistent());
+        assertFalse(memory.flush());
+        assertEquals(Set.of(1L), memory.score(List.of("paper")).keySet());
+    }
+}
@@ -0,0 +1,87 @@
+package com.enviro.assessment.grad001.amosmaganyane.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TrigramIndex.
+ * Verifies that substring lookups match the semantics of a case-insensitive LIKE.
+ */
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void initializeIndex() {
+        index = new TrigramIndex();
+        index.put(1L, "Battery Disposal");
+        index.put(2L, "Car Battery Disposal");
+        index.put(3L, "Styrofoam Recycling");
+        index.put(4L, "Paper Recycling");
+    }
+
+    /**
+     * Verifies that a fragment matches every title containing it, ignoring case.
+     */
+    @Test
+    void testSearchFindsSubstringIgnoringCase() {
+        assertEquals(List.of(1L, 2L), index.search("batt"));
+        assertEquals(List.of(3L), index.search("STYRO"));
+        assertEquals(List.of(3L, 4L), index.search("recycling"));
+    }
+
+    /**
+     * Verifies that candidates sharing all trigrams but not the substring are rejected.
+     */
+    @Test
+    void testSearchVerifiesCandidates() {
+        index.put(5L, "abcx bcd");
+
+        assertTrue(index.search("abcd").isEmpty());
+    }
+
+    /**
+     * Verifies that keywords shorter than a trigram still match.
+     */
+    @Test
+    void testSearchWithShortKeyword() {
+        assertEquals(List.of(2L), index.search("ca"));
+        assertEquals(4, index.search("a").size());
+    }
+
+    /**
+     * Verifies that re-indexing a document replaces its previous text.
+     */
+    @Test
+    void testPutReplacesPreviousText() {
+        index.put(1L, "Glass Disposal");
+
+        assertEquals(List.of(2L), index.search("battery"));
+        assertEquals(List.of(1L), index.search("glass"));
+        assertEquals(4, index.size());
+    }
+
+    /**
+     * Verifies that removed documents no longer match.
+     */
+    @Test
+    void testRemoveDropsDocument() {
+        index.remove(2L);
+        index.remove(99L);
+
+        assertEquals(List.of(1L), index.search("battery"));
+        assertEquals(3, index.size());
+    }
+
+    /**
+     * Verifies that a keyword with an unknown trigram returns nothing.
+     */
+    @Test
+    void testSearchWithNoMatches() {
+        assertTrue(index.search("plastic").isEmpty());
+    }
+}
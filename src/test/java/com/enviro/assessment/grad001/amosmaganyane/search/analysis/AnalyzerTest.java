@@ -0,0 +1,98 @@
+package com.enviro.assessment.grad001.amosmaganyane.search.analysis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Analyzer.
+ * Verifies the English chain end to end and the synonym rule format.
+ */
+class AnalyzerTest {
+
+    private Analyzer analyzer;
+
+    @BeforeEach
+    void initializeAnalyzer() {
+        analyzer = Analyzer.english();
+    }
+
+    /**
+     * Verifies case and accent folding, stopword removal and plural stemming.
+     */
+    @Test
+    void testEnglishChain() {
+        assertEquals(List.of("rinse", "glass", "jar", "bottle"),
+                analyzer.terms("Rinse the GLASSES jars and bottles"));
+        assertEquals(List.of("creme", "brulee", "tin"), analyzer.terms("Cr\u00e8me Br\u00fbl\u00e9e tins"));
+        assertTrue(analyzer.terms("what do I do with this").isEmpty());
+        assertTrue(analyzer.terms(null).isEmpty());
+    }
+
+    /**
+     * Verifies that synonyms and their plurals map to the canonical form.
+     */
+    @Test
+    void testSynonyms() {
+        assertEquals(List.of("electronic", "waste"), analyzer.terms("E-Waste"));
+        assertEquals(List.of("old", "phone", "charger"), analyzer.terms("old smartphones chargers"));
+        assertEquals(List.of("refrigerator"), analyzer.terms("Fridges"));
+    }
+
+    /**
+     * Verifies that hyphenated words without a synonym are split into their parts.
+     */
+    @Test
+    void testCompoundsAreSplit() {
+        assertEquals(List.of("car", "battery", "drop", "off"), analyzer.terms("car-batteries drop-off"));
+    }
+
+    /**
+     * Verifies that the streaming form hands out the same terms through a reused buffer.
+     */
+    @Test
+    void testAnalyzeReusesBuffer() {
+        List<char[]> buffers = new ArrayList<>();
+        List<String> terms = new ArrayList<>();
+        analyzer.analyze("paper cartons tins", (buffer, length) -> {
+            buffers.add(buffer);
+            terms.add(new String(buffer, 0, length));
+        });
+
+        assertEquals(List.of("paper", "carton", "tin"), terms);
+        assertSame(buffers.get(0), buffers.get(2));
+    }
+
+    /**
+     * Verifies that a custom chain uses the supplied rules only.
+     */
+    @Test
+    void testCustomRules() {
+        Analyzer custom = Analyzer.english(Map.of("pet", "polyethylene terephthalate"), Set.of("keep"));
+
+        assertEquals(List.of("polyethylene", "terephthalate", "bottle", "the"),
+                custom.terms("Keep PET bottles the"));
+    }
+
+    /**
+     * Verifies parsing of synonym rules, comments and malformed lines.
+     */
+    @Test
+    void testParseSynonyms() throws IOException {
+        Map<String, String> synonyms = Analyzer.parseSynonyms(new BufferedReader(new StringReader(
+                "# comment\n\ntv, telly => television\n")));
+
+        assertEquals(Map.of("tv", "television", "telly", "television"), synonyms);
+        assertThrows(IllegalArgumentException.class, () -> Analyzer.parseSynonyms(
+                new BufferedReader(new StringReader("tv television\n"))));
+    }
+}
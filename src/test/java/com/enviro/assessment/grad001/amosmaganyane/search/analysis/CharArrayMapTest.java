@@ -0,0 +1,44 @@
+package com.enviro.assessment.grad001.amosmaganyane.search.analysis;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CharArrayMap.
+ * Verifies lookups by array slice and growth past the initial capacity.
+ */
+class CharArrayMapTest {
+
+    /**
+     * Verifies that keys are found from the start of a larger buffer.
+     */
+    @Test
+    void testGetBySlice() {
+        CharArrayMap<String> map = new CharArrayMap<>();
+        map.put("tv", "television");
+
+        char[] buffer = "tvxyz".toCharArray();
+        assertEquals("television", map.get(buffer, 2));
+        assertNull(map.get(buffer, 3));
+        assertFalse(map.containsKey(buffer, 1));
+    }
+
+    /**
+     * Verifies that all keys survive resizing and replacing keeps the size.
+     */
+    @Test
+    void testGrowAndReplace() {
+        CharArrayMap<Integer> map = new CharArrayMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put("word" + i, i);
+        }
+        map.put("word7", 700);
+
+        assertEquals(100, map.size());
+        for (int i = 0; i < 100; i++) {
+            char[] key = ("word" + i).toCharArray();
+            assertEquals(i == 7 ? 700 : i, map.get(key, key.length));
+        }
+    }
+}
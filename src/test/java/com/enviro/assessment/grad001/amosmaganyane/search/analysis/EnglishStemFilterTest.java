@@ -0,0 +1,42 @@
+package com.enviro.assessment.grad001.amosmaganyane.search.analysis;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EnglishStemFilter.
+ * Verifies the plural rules of the light stemmer.
+ */
+class EnglishStemFilterTest {
+
+    /**
+     * Verifies regular, -ies and sibilant -es plurals.
+     */
+    @Test
+    void testPlurals() {
+        assertEquals("bottle", stem("bottles"));
+        assertEquals("battery", stem("batteries"));
+        assertEquals("box", stem("boxes"));
+        assertEquals("glass", stem("glasses"));
+        assertEquals("batch", stem("batches"));
+        assertEquals("tin", stem("tins"));
+    }
+
+    /**
+     * Verifies that singular words ending in s and short words are left alone.
+     */
+    @Test
+    void testNonPluralsUnchanged() {
+        assertEquals("glass", stem("glass"));
+        assertEquals("status", stem("status"));
+        assertEquals("analysis", stem("analysis"));
+        assertEquals("gas", stem("gas"));
+        assertEquals("paper", stem("paper"));
+    }
+
+    private static String stem(String word) {
+        char[] buffer = word.toCharArray();
+        return new String(buffer, 0, EnglishStemFilter.stem(buffer, buffer.length));
+    }
+}
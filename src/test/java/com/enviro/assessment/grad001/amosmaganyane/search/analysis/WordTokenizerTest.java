@@ -0,0 +1,54 @@
+package com.enviro.assessment.grad001.amosmaganyane.search.analysis;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WordTokenizer.
+ * Verifies word boundaries, joined compounds and reuse across texts.
+ */
+class WordTokenizerTest {
+
+    private final WordTokenizer tokenizer = new WordTokenizer();
+
+    /**
+     * Verifies that punctuation and whitespace separate tokens.
+     */
+    @Test
+    void testSplitsOnNonWordCharacters() {
+        assertEquals(List.of("Paper", "3", "bins"), tokens("  Paper: 3 bins!"));
+    }
+
+    /**
+     * Verifies that internal hyphens are kept and internal apostrophes dropped.
+     */
+    @Test
+    void testHyphensAndApostrophes() {
+        assertEquals(List.of("e-waste", "childrens", "toys"), tokens("e-waste, children's toys"));
+        assertEquals(List.of("drop", "off"), tokens("drop- off"));
+        assertEquals(List.of("tin"), tokens("-tin-"));
+    }
+
+    /**
+     * Verifies that a tokenizer can be reused for another text.
+     */
+    @Test
+    void testReuse() {
+        tokens("plastic bottles");
+        assertEquals(List.of("glass"), tokens("glass"));
+        assertTrue(tokens(null).isEmpty());
+    }
+
+    private List<String> tokens(String text) {
+        tokenizer.setText(text);
+        List<String> tokens = new ArrayList<>();
+        while (tokenizer.incrementToken()) {
+            tokens.add(tokenizer.term().toString());
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,62 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.BatchGetResponseDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BatchGetService.
+ * Verifies ordering, missing-ID reporting and the batch size cap.
+ */
+class BatchGetServiceTest {
+
+    private BatchGetService service;
+
+    @BeforeEach
+    void initializeService() {
+        CatalogReadModel readModel = new CatalogReadModel(null, null, null);
+        WasteCategory category = new WasteCategory(1L, "Recyclable", "Description");
+        readModel.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, category));
+        for (long id = 1; id <= 3; id++) {
+            readModel.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                    new RecyclingTip(id, "Tip " + id, "Content", category)));
+        }
+        service = new BatchGetService(readModel, 5);
+    }
+
+    /**
+     * Verifies that results follow the requested order, once per ID,
+     * and that unknown IDs are reported.
+     */
+    @Test
+    void testOrderAndMissing() {
+        BatchGetResponseDTO<RecyclingTipDTO> result = service.tips(List.of(3L, 42L, 1L, 3L));
+
+        assertEquals(List.of(3L, 1L), result.getItems().stream().map(RecyclingTipDTO::getId).toList());
+        assertEquals(List.of(42L), result.getMissing());
+        assertEquals(1, service.categories(List.of(1L)).getItems().size());
+        assertEquals(List.of(7L), service.guidelines(List.of(7L)).getMissing());
+    }
+
+    /**
+     * Verifies that empty, null and oversized batches are refused.
+     */
+    @Test
+    void testInvalidBatches() {
+        assertThrows(IllegalArgumentException.class, () -> service.tips(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> service.tips(null));
+        assertThrows(IllegalArgumentException.class, () -> service.tips(Arrays.asList(1L, null)));
+        assertThrows(IllegalArgumentException.class, () -> service.tips(Collections.nCopies(6, 1L)));
+    }
+}
@@ -0,0 +1,185 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.BulkItemResultDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.BulkUpsertResponseDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.DisposalGuidelineDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeBatchEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.DisposalGuidelineRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.RecyclingTipRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BulkUpsertService.
+ * Verifies validation, natural-key matching, batching and per-item results.
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkUpsertServiceTest {
+
+    @Mock
+    private WasteCategoryRepository categoryRepository;
+
+    @Mock
+    private RecyclingTipRepository tipRepository;
+
+    @Mock
+    private DisposalGuidelineRepository guidelineRepository;
+
+    @Mock
+    private RecyclingTipService tipService;
+
+    @Mock
+    private DisposalGuidelineService guidelineService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactions;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BulkUpsertService service;
+    private WasteCategory testCategory;
+
+    @BeforeEach
+    void initializeService() {
+        service = new BulkUpsertService(categoryRepository, tipRepository, guidelineRepository,
+                tipService, guidelineService, entityManager, transactions, eventPublisher, 2, 10);
+        testCategory = new WasteCategory(1L, "Recyclable", "Description");
+        lenient().when(transactions.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        lenient().when(tipService.isValidTipContent(any()))
+                .thenAnswer(invocation -> invocation.<String>getArgument(0).length() >= 10);
+        lenient().when(guidelineService.isValidGuidelineInstructions(any())).thenReturn(true);
+    }
+
+    /**
+     * Verifies that items are created, updated or left alone by category and
+     * title, that invalid items are reported without being written, and that
+     * categories are resolved once for the whole request.
+     */
+    @Test
+    void testUpsertTips() {
+        RecyclingTip glass = new RecyclingTip(2L, "Glass", "Rinse the jars", testCategory);
+        RecyclingTip cans = new RecyclingTip(3L, "Cans", "Crush the cans", testCategory);
+        when(categoryRepository.findAllById(any())).thenReturn(List.of(testCategory));
+        when(categoryRepository.findByNameIn(any())).thenReturn(List.of());
+        when(tipRepository.findByCategoryIdsAndTitles(any(), any()))
+                .thenReturn(List.of(glass))
+                .thenReturn(List.of(cans));
+
+        BulkUpsertResponseDTO response = service.upsertTips(Arrays.asList(
+                new RecyclingTipDTO(null, "Paper", "Keep paper dry", 1L, null),
+                new RecyclingTipDTO(null, "Glass", "Rinse and dry jars", 1L, null),
+                new RecyclingTipDTO(null, "Cans", "Crush the cans", 1L, null),
+                new RecyclingTipDTO(null, "Foil", "Too short", 1L, null),
+                new RecyclingTipDTO(null, "Tins", "Rinse the tins", null, "Unknown"),
+                new RecyclingTipDTO(null, "Paper", "Keep paper flat", 1L, null),
+                null));
+
+        List<BulkItemResultDTO> results = response.getResults();
+        assertEquals(7, results.size());
+        assertEquals(BulkItemResultDTO.Status.CREATED, results.get(0).getStatus());
+        assertEquals(BulkItemResultDTO.Status.UPDATED, results.get(1).getStatus());
+        assertEquals(2L, results.get(1).getId());
+        assertEquals("Rinse and dry jars", glass.getContent());
+        assertEquals(BulkItemResultDTO.Status.UNCHANGED, results.get(2).getStatus());
+        assertEquals(3L, results.get(2).getId());
+        assertEquals("Invalid tip content", results.get(3).getError());
+        assertEquals("Category not found", results.get(4).getError());
+        assertEquals("Duplicate of item 0", results.get(5).getError());
+        assertEquals("Item is missing", results.get(6).getError());
+        assertEquals(1, response.getCreated());
+        assertEquals(1, response.getUpdated());
+        assertEquals(1, response.getUnchanged());
+        assertEquals(4, response.getInvalid());
+
+        verify(categoryRepository, times(1)).findAllById(any());
+        verify(categoryRepository, times(1)).findByNameIn(any());
+        verify(tipRepository, times(2)).findByCategoryIdsAndTitles(any(), any());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        ArgumentCaptor<CatalogChangeBatchEvent> batch = ArgumentCaptor.forClass(CatalogChangeBatchEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(batch.capture());
+        assertEquals(List.of(ChangeOperation.CREATED, ChangeOperation.UPDATED),
+                batch.getValue().getChanges().stream().map(CatalogChangeEvent::getOperation).toList());
+    }
+
+    /**
+     * Verifies that change events are published only once the writes have
+     * run in their transaction.
+     */
+    @Test
+    void testEventsPublishedAfterTransaction() {
+        when(categoryRepository.findByNameIn(any())).thenReturn(List.of(testCategory));
+        when(guidelineRepository.findByCategoryIdsAndTitles(any(), any())).thenReturn(List.of());
+
+        BulkUpsertResponseDTO response = service.upsertGuidelines(List.of(
+                new DisposalGuidelineDTO(null, "Batteries", "Use a drop-off point", null, "Recyclable")));
+
+        assertEquals(BulkItemResultDTO.Status.CREATED, response.getResults().get(0).getStatus());
+        InOrder order = inOrder(transactions, eventPublisher);
+        order.verify(transactions).execute(any());
+        order.verify(eventPublisher).publishEvent(any(CatalogChangeBatchEvent.class));
+        verify(guidelineRepository).saveAll(any());
+        verify(categoryRepository, never()).findAllById(any());
+    }
+
+    /**
+     * Verifies that a request with only invalid items writes nothing.
+     */
+    @Test
+    void testNothingWrittenWhenAllInvalid() {
+        BulkUpsertResponseDTO response = service.upsertTips(List.of(
+                new RecyclingTipDTO(null, " ", "Keep paper dry", 1L, null),
+                new RecyclingTipDTO(null, "Paper", "Keep paper dry", null, null)));
+
+        assertEquals("Title is required", response.getResults().get(0).getError());
+        assertEquals("Category is required", response.getResults().get(1).getError());
+        verifyNoInteractions(transactions, tipRepository, eventPublisher);
+    }
+
+    /**
+     * Verifies that empty and oversized requests are refused.
+     */
+    @Test
+    void testBatchLimits() {
+        List<RecyclingTipDTO> tooMany = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            tooMany.add(new RecyclingTipDTO(null, "Tip " + i, "Keep paper dry", 1L, null));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> service.upsertTips(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> service.upsertTips(null));
+        assertThrows(IllegalArgumentException.class, () -> service.upsertTips(tooMany));
+        verifyNoInteractions(categoryRepository);
+    }
+}
@@ -0,0 +1,95 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeBatchEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationListener;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CatalogChangeBatchDispatcher.
+ * Verifies that batch listeners take a batch at once, the other listeners
+ * take it write by write, and a failing listener stops nothing.
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogChangeBatchDispatcherTest {
+
+    @Mock
+    private CatalogReadModel readModel;
+
+    @Mock
+    private ChangeLogService changeLog;
+
+    @Mock
+    private ApplicationListener<CatalogChangeEvent> failing;
+
+    @Mock
+    private ApplicationListener<CatalogChangeEvent> last;
+
+    @Mock
+    private ObjectProvider<ApplicationListener<CatalogChangeEvent>> listeners;
+
+    private CatalogChangeBatchDispatcher dispatcher;
+    private CatalogChangeEvent first;
+    private CatalogChangeEvent second;
+
+    @BeforeEach
+    void initializeDispatcher() {
+        dispatcher = new CatalogChangeBatchDispatcher(listeners);
+        WasteCategory category = new WasteCategory(1L, "Paper", "Newspapers and cardboard");
+        first = CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                new RecyclingTip(2L, "Flatten boxes", "Flatten cardboard boxes", category));
+        second = CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                new RecyclingTip(3L, "Keep paper dry", "Wet paper cannot be recycled", category));
+    }
+
+    /**
+     * Verifies that every listener sees every write, in order, even after
+     * one of them fails.
+     */
+    @Test
+    void testEveryListenerSeesEveryWrite() {
+        when(listeners.orderedStream()).thenReturn(Stream.of(readModel, failing, changeLog, last));
+        doThrow(new IllegalStateException("Broken")).when(failing).onApplicationEvent(first);
+
+        dispatcher.onApplicationEvent(new CatalogChangeBatchEvent(this, List.of(first, second)));
+
+        InOrder order = inOrder(readModel, failing, changeLog, last);
+        order.verify(readModel).onBatch(List.of(first, second));
+        order.verify(failing).onApplicationEvent(first);
+        order.verify(failing).onApplicationEvent(second);
+        order.verify(changeLog).onBatch(List.of(first, second));
+        order.verify(last).onApplicationEvent(first);
+        order.verify(last).onApplicationEvent(second);
+        verify(readModel, never()).onApplicationEvent(any());
+        verify(changeLog, never()).onApplicationEvent(any());
+    }
+
+    /**
+     * Verifies that the other listeners still see the writes if a batch
+     * listener cannot take them.
+     */
+    @Test
+    void testReadModelFailureDoesNotStopBatch() {
+        when(listeners.orderedStream()).thenReturn(Stream.of(readModel, last));
+        doThrow(new IllegalStateException("Broken")).when(readModel).onBatch(any());
+
+        dispatcher.onApplicationEvent(new CatalogChangeBatchEvent(this, List.of(first, second)));
+
+        verify(last).onApplicationEvent(first);
+        verify(last).onApplicationEvent(second);
+    }
+}
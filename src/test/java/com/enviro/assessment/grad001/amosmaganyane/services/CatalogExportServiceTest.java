@@ -0,0 +1,245 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.DisposalGuidelineRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.RecyclingTipRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opencsv.CSVReader;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CatalogExportService.
+ * Verifies the NDJSON and CSV output and that rows are released as they are written.
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogExportServiceTest {
+
+    @Mock
+    private WasteCategoryRepository categoryRepository;
+
+    @Mock
+    private RecyclingTipRepository tipRepository;
+
+    @Mock
+    private DisposalGuidelineRepository guidelineRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CatalogExportService service;
+    private WasteCategory testCategory;
+
+    @BeforeEach
+    void initializeService() {
+        service = new CatalogExportService(categoryRepository, tipRepository, guidelineRepository,
+                entityManager, objectMapper, 2);
+        testCategory = new WasteCategory(1L, "Recyclable", "Description");
+    }
+
+    /**
+     * Verifies that each tip becomes one JSON line, in stream order,
+     * and is detached once written.
+     */
+    @Test
+    void testWriteTipsNdjson() throws Exception {
+        RecyclingTip paper = new RecyclingTip(1L, "Paper Recycling", "Keep paper dry", testCategory);
+        RecyclingTip glass = new RecyclingTip(2L, "Glass Recycling", "Rinse jars", testCategory);
+        RecyclingTip cans = new RecyclingTip(3L, "Can Recycling", "Crush cans", testCategory);
+        when(tipRepository.streamAllWithCategory()).thenReturn(Stream.of(paper, glass, cans));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = service.writeTipsNdjson(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, written);
+        assertEquals(3, lines.length);
+        assertEquals("Glass Recycling", objectMapper.readValue(lines[1], RecyclingTipDTO.class).getTitle());
+        assertEquals("Recyclable", objectMapper.readValue(lines[2], RecyclingTipDTO.class).getCategoryName());
+        verify(entityManager).detach(paper);
+        verify(entityManager).detach(cans);
+    }
+
+    /**
+     * Verifies that an empty table writes nothing and the stream is closed.
+     */
+    @Test
+    void testWriteEmptyGuidelines() throws Exception {
+        boolean[] closed = {false};
+        when(guidelineRepository.streamAllWithCategory())
+                .thenReturn(Stream.<DisposalGuideline>empty().onClose(() -> closed[0] = true));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, service.writeGuidelinesNdjson(out));
+        assertEquals(0, out.size());
+        assertTrue(closed[0]);
+        verifyNoInteractions(entityManager);
+    }
+
+    /**
+     * Verifies that tips written as CSV read back unchanged with the loader's
+     * reader, including quotes, separators, line breaks and backslashes.
+     */
+    @Test
+    void testWriteTipsCsvRoundTrips() throws Exception {
+        String awkward = "Rinse \"wet\" jars, then dry.\r\nC:\\bins\\ \\\" \u00e9";
+        RecyclingTip paper = new RecyclingTip(1L, "Paper Recycling", "Keep paper dry", testCategory);
+        RecyclingTip glass = new RecyclingTip(2L, "Glass, \"Jars\"", awkward, testCategory);
+        when(tipRepository.streamAllWithCategory()).thenReturn(Stream.of(paper, glass));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = service.writeTipsCsv(out);
+
+        List<String[]> rows = readCsv(out);
+        assertEquals(2, written);
+        assertEquals(3, rows.size());
+        assertArrayEquals(new String[]{"title", "content", "category_name"}, rows.get(0));
+        assertArrayEquals(new String[]{"Paper Recycling", "Keep paper dry", "Recyclable"}, rows.get(1));
+        assertArrayEquals(new String[]{"Glass, \"Jars\"", awkward, "Recyclable"}, rows.get(2));
+        verify(entityManager).detach(glass);
+    }
+
+    /**
+     * Verifies that exported files loaded by the data loader give back the
+     * same categories, tips and guidelines, with null and empty values,
+     * surrounding whitespace and the category of each row intact.
+     */
+    @Test
+    void testCsvExportReloadsUnchanged() throws Exception {
+        WasteCategory undescribed = new WasteCategory(2L, "Garden Waste", null);
+        WasteCategory blank = new WasteCategory(3L, " Glass ", "");
+        List<WasteCategory> categories = List.of(testCategory, undescribed, blank);
+        List<RecyclingTip> tips = List.of(
+                new RecyclingTip(5L, "  Compost leaves", "Shred them first.  ", undescribed),
+                new RecyclingTip(6L, "Rinse jars", "Rinse, then dry", blank));
+        List<DisposalGuideline> guidelines = List.of(
+                new DisposalGuideline(7L, "Broken glass", "C:\\bins\tWrap in paper\n", blank));
+        when(categoryRepository.streamAll()).thenAnswer(invocation -> categories.stream());
+        when(tipRepository.streamAllWithCategory()).thenAnswer(invocation -> tips.stream());
+        when(guidelineRepository.streamAllWithCategory()).thenAnswer(invocation -> guidelines.stream());
+        Map<String, byte[]> files = new HashMap<>();
+        files.put(CatalogCsv.CATEGORIES_FILE, csv(service::writeCategoriesCsv));
+        files.put(CatalogCsv.TIPS_FILE, csv(service::writeTipsCsv));
+        files.put(CatalogCsv.GUIDELINES_FILE, csv(service::writeGuidelinesCsv));
+
+        WasteCategoryService categoryService = mock(WasteCategoryService.class);
+        RecyclingTipService tipService = mock(RecyclingTipService.class);
+        DisposalGuidelineService guidelineService = mock(DisposalGuidelineService.class);
+        List<WasteCategory> loadedCategories = new ArrayList<>();
+        when(categoryService.createCategory(any())).thenAnswer(invocation -> {
+            WasteCategory category = invocation.getArgument(0);
+            WasteCategory saved = new WasteCategory(100L + loadedCategories.size(),
+                    category.getName(), category.getDescription());
+            loadedCategories.add(saved);
+            return saved;
+        });
+        new DataLoaderService(categoryService, tipService, guidelineService)
+                .load(fileName -> new ByteArrayInputStream(files.get(fileName)));
+
+        assertEquals(categories.size(), loadedCategories.size());
+        for (int i = 0; i < categories.size(); i++) {
+            assertEquals(categories.get(i).getName(), loadedCategories.get(i).getName());
+            assertEquals(categories.get(i).getDescription(), loadedCategories.get(i).getDescription());
+        }
+        ArgumentCaptor<RecyclingTip> loadedTip = ArgumentCaptor.forClass(RecyclingTip.class);
+        verify(tipService).createTip(eq(101L), loadedTip.capture());
+        verify(tipService).createTip(eq(102L), loadedTip.capture());
+        for (int i = 0; i < tips.size(); i++) {
+            assertEquals(tips.get(i).getTitle(), loadedTip.getAllValues().get(i).getTitle());
+            assertEquals(tips.get(i).getContent(), loadedTip.getAllValues().get(i).getContent());
+        }
+        ArgumentCaptor<DisposalGuideline> loadedGuideline = ArgumentCaptor.forClass(DisposalGuideline.class);
+        verify(guidelineService).createGuideline(eq(102L), loadedGuideline.capture());
+        assertEquals(guidelines.get(0).getInstructions(), loadedGuideline.getValue().getInstructions());
+    }
+
+    /**
+     * Verifies that nothing is exported as CSV while two categories share a
+     * name, since the rows could not tell them apart.
+     */
+    @Test
+    void testCsvExportRefusesSharedCategoryNames() {
+        when(categoryRepository.findDuplicateNames()).thenReturn(List.of("Glass"));
+
+        assertThrows(IllegalStateException.class, () -> service.writeTipsCsv(new ByteArrayOutputStream()));
+        verifyNoInteractions(tipRepository);
+    }
+
+    /**
+     * Verifies that categories are written as name and description after a header.
+     */
+    @Test
+    void testWriteCategoriesCsv() throws Exception {
+        when(categoryRepository.streamAll()).thenReturn(Stream.of(testCategory));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(1, service.writeCategoriesCsv(out));
+        assertEquals("\"name\",\"description\"\n\"Recyclable\",\"Description\"\n",
+                out.toString(StandardCharsets.UTF_8));
+        verify(entityManager).detach(testCategory);
+    }
+
+    /**
+     * Verifies that an empty table still gets its header row.
+     */
+    @Test
+    void testWriteEmptyGuidelinesCsv() throws Exception {
+        when(guidelineRepository.streamAllWithCategory()).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, service.writeGuidelinesCsv(out));
+        assertEquals(1, readCsv(out).size());
+    }
+
+    /**
+     * Verifies that a flush interval below one row is refused.
+     */
+    @Test
+    void testInvalidFlushInterval() {
+        assertThrows(IllegalArgumentException.class, () -> new CatalogExportService(
+                categoryRepository, tipRepository, guidelineRepository, entityManager, objectMapper, 0));
+    }
+
+    private static byte[] csv(TableWriter table) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        table.write(out);
+        return out.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface TableWriter {
+        long write(ByteArrayOutputStream out) throws Exception;
+    }
+
+    private static List<String[]> readCsv(ByteArrayOutputStream out) throws Exception {
+        try (CSVReader reader = CatalogCsv.reader(new InputStreamReader(
+                new ByteArrayInputStream(out.toByteArray()), StandardCharsets.UTF_8))) {
+            return reader.readAll();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.DisposalGuidelineRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.RecyclingTipRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CatalogReadModel.
+ * Verifies that the snapshot is loaded from the repositories once and then
+ * replaced from change events.
+ */
+@ExtendWith(MockitoExtension.class)
+class CatalogReadModelTest {
+
+    @Mock
+    private WasteCategoryRepository categoryRepository;
+
+    @Mock
+    private RecyclingTipRepository tipRepository;
+
+    @Mock
+    private DisposalGuidelineRepository guidelineRepository;
+
+    private CatalogReadModel readModel;
+    private WasteCategory testCategory;
+
+    @BeforeEach
+    void initializeReadModel() {
+        readModel = new CatalogReadModel(categoryRepository, tipRepository, guidelineRepository);
+        testCategory = new WasteCategory(1L, "Hazardous", "Batteries and paint");
+    }
+
+    /**
+     * Verifies that a rebuild loads every entity into the snapshot.
+     */
+    @Test
+    void testRebuild() {
+        when(categoryRepository.findAll()).thenReturn(List.of(testCategory));
+        when(tipRepository.findAll()).thenReturn(List.of(
+                new RecyclingTip(2L, "Battery Tip", "Tape battery terminals", testCategory)));
+        when(guidelineRepository.findAll()).thenReturn(List.of(
+                new DisposalGuideline(3L, "Paint", "Take paint to a depot", testCategory)));
+
+        readModel.rebuild();
+
+        CatalogSnapshot snapshot = readModel.snapshot();
+        assertEquals(1, snapshot.categories().size());
+        assertEquals(1, snapshot.category(1L).orElseThrow().getTipsCount());
+        assertEquals("Paint", snapshot.guidelinesInCategory(1L).get(0).getTitle());
+    }
+
+    /**
+     * Verifies that events publish a new snapshot without reading the database.
+     */
+    @Test
+    void testEventsReplaceSnapshot() {
+        CatalogSnapshot before = readModel.snapshot();
+
+        readModel.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, testCategory));
+        readModel.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                new RecyclingTip(2L, "Battery Tip", "Tape battery terminals", testCategory)));
+
+        assertNotSame(before, readModel.snapshot());
+        assertTrue(before.categories().isEmpty());
+        assertEquals("Hazardous", readModel.snapshot().tip(2L).orElseThrow().getCategoryName());
+        verifyNoInteractions(categoryRepository, tipRepository, guidelineRepository);
+    }
+}
@@ -0,0 +1,206 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.CategoryDetailDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.WasteCategoryDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CatalogSnapshot.
+ * Verifies the precomputed lists and counts, and that writes produce new
+ * snapshots without changing the old ones.
+ */
+class CatalogSnapshotTest {
+
+    private WasteCategory paper;
+    private WasteCategory glass;
+    private CatalogSnapshot snapshot;
+
+    @BeforeEach
+    void initializeSnapshot() {
+        paper = new WasteCategory(1L, "Paper", "Newspapers and cardboard");
+        glass = new WasteCategory(2L, "Glass", "Bottles and jars");
+        snapshot = CatalogSnapshot.of(
+                List.of(glass, paper),
+                List.of(new RecyclingTip(12L, "Flatten boxes", "Flatten cardboard boxes", paper),
+                        new RecyclingTip(11L, "Keep paper dry", "Wet paper cannot be recycled", paper),
+                        new RecyclingTip(13L, "Rinse jars", "Rinse jars before recycling", glass)),
+                List.of(new DisposalGuideline(21L, "Broken glass", "Wrap broken glass in paper", glass)));
+    }
+
+    /**
+     * Verifies that lists are ordered by ID and that categories carry their counts.
+     */
+    @Test
+    void testBuiltFromEntities() {
+        assertEquals(List.of(1L, 2L), snapshot.categories().stream().map(WasteCategoryDTO::getId).toList());
+        assertEquals(List.of(11L, 12L), ids(snapshot.tipsInCategory(1L)));
+        assertEquals(3, snapshot.tips().size());
+        assertEquals(1, snapshot.guidelinesInCategory(2L).size());
+        assertTrue(snapshot.guidelinesInCategory(1L).isEmpty());
+
+        WasteCategoryDTO category = snapshot.category(1L).orElseThrow();
+        assertEquals(2, category.getTipsCount());
+        assertEquals(0, category.getGuidelinesCount());
+        assertEquals("Paper", snapshot.tip(11L).orElseThrow().getCategoryName());
+    }
+
+    /**
+     * Verifies that asking for the children of a missing category is refused.
+     */
+    @Test
+    void testMissingCategory() {
+        assertThrows(IllegalArgumentException.class, () -> snapshot.tipsInCategory(99L));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.guidelinesInCategory(99L));
+        assertTrue(snapshot.category(99L).isEmpty());
+    }
+
+    /**
+     * Verifies that a category's detail embeds its own tips and guidelines only.
+     */
+    @Test
+    void testCategoryDetail() {
+        CategoryDetailDTO detail = snapshot.categoryDetail(1L).orElseThrow();
+
+        assertEquals("Paper", detail.getName());
+        assertEquals(List.of(11L, 12L), ids(detail.getTips()));
+        assertTrue(detail.getGuidelines().isEmpty());
+        assertEquals(1, snapshot.categoryDetail(2L).orElseThrow().getGuidelines().size());
+        assertTrue(snapshot.categoryDetail(99L).isEmpty());
+    }
+
+    /**
+     * Verifies that creating a tip adds it to its category and updates the count,
+     * leaving the original snapshot unchanged.
+     */
+    @Test
+    void testCreateTip() {
+        CatalogSnapshot updated = snapshot.apply(CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                new RecyclingTip(14L, "Remove lids", "Remove lids from glass jars", glass)));
+
+        assertEquals(List.of(13L, 14L), ids(updated.tipsInCategory(2L)));
+        assertEquals(2, updated.category(2L).orElseThrow().getTipsCount());
+        assertEquals("Glass", updated.tip(14L).orElseThrow().getCategoryName());
+        assertEquals(4, updated.tips().size());
+
+        assertEquals(List.of(13L), ids(snapshot.tipsInCategory(2L)));
+        assertEquals(1, snapshot.category(2L).orElseThrow().getTipsCount());
+        assertSame(snapshot.tipsInCategory(1L), updated.tipsInCategory(1L));
+    }
+
+    /**
+     * Verifies that updating a tip replaces it and moving it updates both categories.
+     */
+    @Test
+    void testUpdateAndMoveTip() {
+        CatalogSnapshot updated = snapshot.apply(CatalogChangeEvent.of(this, ChangeOperation.UPDATED,
+                new RecyclingTip(12L, "Flatten all boxes", "Flatten every cardboard box", glass)));
+
+        assertEquals(List.of(11L), ids(updated.tipsInCategory(1L)));
+        assertEquals(List.of(12L, 13L), ids(updated.tipsInCategory(2L)));
+        assertEquals(1, updated.category(1L).orElseThrow().getTipsCount());
+        assertEquals(2, updated.category(2L).orElseThrow().getTipsCount());
+        assertEquals("Flatten all boxes", updated.tip(12L).orElseThrow().getTitle());
+    }
+
+    /**
+     * Verifies that deleting a guideline removes it and updates the count.
+     */
+    @Test
+    void testDeleteGuideline() {
+        CatalogSnapshot updated = snapshot.apply(CatalogChangeEvent.of(this, ChangeOperation.DELETED,
+                new DisposalGuideline(21L, "Broken glass", "Wrap broken glass in paper", glass)));
+
+        assertTrue(updated.guideline(21L).isEmpty());
+        assertTrue(updated.guidelinesInCategory(2L).isEmpty());
+        assertEquals(0, updated.category(2L).orElseThrow().getGuidelinesCount());
+        assertTrue(updated.guidelines().isEmpty());
+    }
+
+    /**
+     * Verifies that renaming a category renames it on its tips and guidelines.
+     */
+    @Test
+    void testRenameCategory() {
+        CatalogSnapshot updated = snapshot.apply(CatalogChangeEvent.of(this, ChangeOperation.UPDATED,
+                new WasteCategory(2L, "Glass Containers", "Bottles and jars")));
+
+        assertEquals("Glass Containers", updated.category(2L).orElseThrow().getName());
+        assertEquals(1, updated.category(2L).orElseThrow().getTipsCount());
+        assertEquals("Glass Containers", updated.tip(13L).orElseThrow().getCategoryName());
+        assertEquals("Glass Containers", updated.guideline(21L).orElseThrow().getCategoryName());
+        assertEquals("Paper", updated.tip(11L).orElseThrow().getCategoryName());
+    }
+
+    /**
+     * Verifies that creating and deleting categories updates the category list
+     * and drops the deleted category's children.
+     */
+    @Test
+    void testCreateAndDeleteCategory() {
+        CatalogSnapshot updated = snapshot
+                .apply(CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                        new WasteCategory(3L, "Metal", "Cans and foil")))
+                .apply(CatalogChangeEvent.of(this, ChangeOperation.DELETED, paper));
+
+        assertEquals(List.of(2L, 3L), updated.categories().stream().map(WasteCategoryDTO::getId).toList());
+        assertTrue(updated.tipsInCategory(3L).isEmpty());
+        assertTrue(updated.tip(11L).isEmpty());
+        assertEquals(List.of(13L), ids(updated.tips()));
+    }
+
+    /**
+     * Verifies that a batch gives the same snapshot as its writes applied one
+     * by one, including writes that depend on earlier writes in the batch,
+     * and shares what the batch did not touch.
+     */
+    @Test
+    void testApplyAllMatchesApplyingInOrder() {
+        WasteCategory metal = new WasteCategory(3L, "Metal", "Cans and foil");
+        List<CatalogChangeEvent> events = List.of(
+                CatalogChangeEvent.of(this, ChangeOperation.CREATED, metal),
+                CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                        new RecyclingTip(14L, "Crush cans", "Crush cans to save space", metal)),
+                CatalogChangeEvent.of(this, ChangeOperation.UPDATED,
+                        new RecyclingTip(13L, "Rinse jars", "Rinse jars before recycling", metal)),
+                CatalogChangeEvent.of(this, ChangeOperation.UPDATED,
+                        new WasteCategory(3L, "Metals", "Cans and foil")),
+                CatalogChangeEvent.of(this, ChangeOperation.DELETED,
+                        new RecyclingTip(14L, "Crush cans", "Crush cans to save space", metal)));
+        CatalogSnapshot oneByOne = snapshot;
+        for (CatalogChangeEvent event : events) {
+            oneByOne = oneByOne.apply(event);
+        }
+
+        CatalogSnapshot batched = snapshot.applyAll(events);
+
+        assertEquals(ids(oneByOne.tips()), ids(batched.tips()));
+        assertEquals(List.of(13L), ids(batched.tipsInCategory(3L)));
+        assertTrue(batched.tipsInCategory(2L).isEmpty());
+        assertEquals("Metals", batched.tip(13L).orElseThrow().getCategoryName());
+        for (WasteCategoryDTO category : oneByOne.categories()) {
+            WasteCategoryDTO other = batched.category(category.getId()).orElseThrow();
+            assertEquals(category.getName(), other.getName());
+            assertEquals(category.getTipsCount(), other.getTipsCount());
+            assertEquals(category.getGuidelinesCount(), other.getGuidelinesCount());
+        }
+        assertEquals(oneByOne.categories().size(), batched.categories().size());
+        assertSame(snapshot.tipsInCategory(1L), batched.tipsInCategory(1L));
+        assertSame(snapshot.guidelines(), batched.guidelines());
+        assertSame(snapshot, snapshot.applyAll(List.of()));
+    }
+
+    private static List<Long> ids(List<RecyclingTipDTO> tips) {
+        return tips.stream().map(RecyclingTipDTO::getId).toList();
+    }
+}
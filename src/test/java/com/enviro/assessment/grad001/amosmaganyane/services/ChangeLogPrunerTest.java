@@ -0,0 +1,90 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.repositories.ChangeLogRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ChangeLogPruner.
+ * Verifies that the log is pruned by count and by age, and that the latest
+ * entry is always kept.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChangeLogPrunerTest {
+
+    @Mock
+    private ChangeLogRepository changeLog;
+
+    /**
+     * Verifies that only the latest versions up to the count are kept.
+     */
+    @Test
+    void testPrunesByCount() {
+        when(changeLog.findLatestVersion()).thenReturn(100L);
+        when(changeLog.deleteOlderThan(91L)).thenReturn(90);
+        ChangeLogPruner pruner = new ChangeLogPruner(changeLog, 10, Duration.ZERO, Duration.ofMinutes(10));
+
+        assertEquals(90, pruner.prune());
+        verify(changeLog, never()).findOldestVersionChangedSince(any());
+    }
+
+    /**
+     * Verifies that entries older than the age are pruned even within the
+     * count, and that the cutoff is the age before now.
+     */
+    @Test
+    void testPrunesByAge() {
+        when(changeLog.findLatestVersion()).thenReturn(100L);
+        when(changeLog.findOldestVersionChangedSince(any())).thenReturn(95L);
+        ChangeLogPruner pruner = new ChangeLogPruner(changeLog, 50, Duration.ofDays(7), Duration.ofMinutes(10));
+
+        Instant before = Instant.now().minus(Duration.ofDays(7));
+        pruner.prune();
+
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(changeLog).findOldestVersionChangedSince(cutoff.capture());
+        assertFalse(cutoff.getValue().isBefore(before));
+        verify(changeLog).deleteOlderThan(95L);
+    }
+
+    /**
+     * Verifies that the latest entry is kept when every entry is too old,
+     * and that nothing is deleted from an empty or short log.
+     */
+    @Test
+    void testKeepsLatestEntry() {
+        when(changeLog.findLatestVersion()).thenReturn(100L, 5L, null);
+        when(changeLog.findOldestVersionChangedSince(any())).thenReturn(null);
+        ChangeLogPruner pruner = new ChangeLogPruner(changeLog, 0, Duration.ofDays(7), Duration.ofMinutes(10));
+        ChangeLogPruner byCount = new ChangeLogPruner(changeLog, 10, Duration.ZERO, Duration.ofMinutes(10));
+
+        pruner.prune();
+        byCount.prune();
+        byCount.prune();
+
+        verify(changeLog).deleteOlderThan(100L);
+        verify(changeLog, times(1)).deleteOlderThan(anyLong());
+    }
+
+    /**
+     * Verifies that negative limits are refused.
+     */
+    @Test
+    void testRejectsNegativeLimits() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChangeLogPruner(changeLog, -1, Duration.ZERO, Duration.ofMinutes(10)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChangeLogPruner(changeLog, 0, Duration.ofDays(-1), Duration.ofMinutes(10)));
+    }
+}
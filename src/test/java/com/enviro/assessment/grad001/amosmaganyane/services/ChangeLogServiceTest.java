@@ -0,0 +1,104 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.models.ChangeLogEntry;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.ChangeLogRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ChangeLogService.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChangeLogServiceTest {
+
+    @Mock
+    private ChangeLogRepository repository;
+
+    @Mock
+    private ChangeStreamService changeStream;
+
+    /**
+     * Verifies that a change event is appended with its entity, operation and category.
+     */
+    @Test
+    void testRecordsChange() {
+        WasteCategory category = new WasteCategory(1L, "Recyclable", "Description");
+        CatalogChangeEvent event = CatalogChangeEvent.of(this, ChangeOperation.DELETED,
+                new RecyclingTip(5L, "Paper Recycling", "Keep paper dry", category));
+
+        new ChangeLogService(repository, changeStream).onApplicationEvent(event);
+
+        ArgumentCaptor<ChangeLogEntry> entry = ArgumentCaptor.forClass(ChangeLogEntry.class);
+        verify(repository).save(entry.capture());
+        assertNull(entry.getValue().getVersion());
+        assertEquals(EntityType.TIP, entry.getValue().getEntityType());
+        assertEquals(5L, entry.getValue().getEntityId());
+        assertEquals(ChangeOperation.DELETED, entry.getValue().getOperation());
+        assertEquals(1L, entry.getValue().getCategoryId());
+        assertEquals(event.getModifiedAt(), entry.getValue().getChangedAt());
+    }
+
+    /**
+     * Verifies that the saved entry, with its version, is passed on to the change stream.
+     */
+    @Test
+    void testPublishesSavedEntry() {
+        WasteCategory category = new WasteCategory(1L, "Recyclable", "Description");
+        ChangeLogEntry saved = new ChangeLogEntry(42L, EntityType.CATEGORY, 1L, ChangeOperation.UPDATED, 1L,
+                Instant.now());
+        when(repository.save(any(ChangeLogEntry.class))).thenReturn(saved);
+
+        new ChangeLogService(repository, changeStream)
+                .onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.UPDATED, category));
+
+        verify(changeStream).publish(saved);
+    }
+
+    /**
+     * Verifies that a batch is saved in one call, in order, and each saved
+     * entry is passed on to the change stream in version order.
+     */
+    @Test
+    void testRecordsBatchTogether() {
+        WasteCategory category = new WasteCategory(1L, "Recyclable", "Description");
+        List<CatalogChangeEvent> changes = List.of(
+                CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                        new RecyclingTip(5L, "Paper Recycling", "Keep paper dry", category)),
+                CatalogChangeEvent.of(this, ChangeOperation.UPDATED,
+                        new RecyclingTip(6L, "Glass Recycling", "Rinse jars", category)));
+        List<ChangeLogEntry> saved = List.of(
+                new ChangeLogEntry(7L, EntityType.TIP, 5L, ChangeOperation.CREATED, 1L, Instant.now()),
+                new ChangeLogEntry(8L, EntityType.TIP, 6L, ChangeOperation.UPDATED, 1L, Instant.now()));
+        when(repository.saveAll(anyList())).thenReturn(saved);
+
+        new ChangeLogService(repository, changeStream).onBatch(changes);
+
+        ArgumentCaptor<List<ChangeLogEntry>> entries = ArgumentCaptor.captor();
+        verify(repository).saveAll(entries.capture());
+        assertEquals(List.of(5L, 6L), entries.getValue().stream().map(ChangeLogEntry::getEntityId).toList());
+        verify(repository, never()).save(any());
+        InOrder order = inOrder(changeStream);
+        order.verify(changeStream).publish(saved.get(0));
+        order.verify(changeStream).publish(saved.get(1));
+    }
+}
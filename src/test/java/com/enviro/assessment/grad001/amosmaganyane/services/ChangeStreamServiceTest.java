@@ -0,0 +1,246 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.ChangeEventDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.models.ChangeLogEntry;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.ChangeLogRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ChangeStreamService.
+ * Sender tasks are queued and run by each test, so it controls when
+ * subscribers are sent what they have buffered.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChangeStreamServiceTest {
+
+    @Mock
+    private ChangeLogRepository changeLog;
+
+    private final DataVersionService dataVersions = new DataVersionService();
+    private final Queue<Runnable> senders = new ArrayDeque<>();
+
+    /**
+     * Records what a subscriber is sent.
+     */
+    private static class RecordingSink implements ChangeStreamService.Sink {
+        private final List<ChangeEventDTO> changes = new ArrayList<>();
+        private final List<String> resets = new ArrayList<>();
+        private boolean closed;
+        private boolean failing;
+
+        @Override
+        public void change(ChangeEventDTO event) throws IOException {
+            if (failing) {
+                throw new IOException("Connection reset");
+            }
+            changes.add(event);
+        }
+
+        @Override
+        public void reset(String version) {
+            resets.add(version);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        private List<String> versions() {
+            return changes.stream().map(ChangeEventDTO::getVersion).toList();
+        }
+    }
+
+    private ChangeStreamService service(int bufferSize, int maxReplay) {
+        SyncService syncService = new SyncService(changeLog, new CatalogReadModel(null, null, null), dataVersions, 10);
+        return new ChangeStreamService(changeLog, syncService, bufferSize, maxReplay, Duration.ofMinutes(30),
+                senders::add);
+    }
+
+    private void runSenders() {
+        Runnable sender;
+        while ((sender = senders.poll()) != null) {
+            sender.run();
+        }
+    }
+
+    private String position(long version) {
+        return dataVersions.epoch() + "-" + version;
+    }
+
+    private static ChangeLogEntry entry(long version) {
+        return new ChangeLogEntry(version, EntityType.TIP, version * 10, ChangeOperation.UPDATED, 1L, Instant.now());
+    }
+
+    /**
+     * Verifies that a new subscriber is sent writes made after it subscribed.
+     */
+    @Test
+    void testPushesChanges() {
+        ChangeStreamService service = service(4, 10);
+        RecordingSink sink = new RecordingSink();
+        service.subscribe(null, sink);
+        runSenders();
+
+        service.publish(entry(5));
+        runSenders();
+
+        assertEquals(1, sink.changes.size());
+        ChangeEventDTO event = sink.changes.get(0);
+        assertEquals(EntityType.TIP, event.getEntityType());
+        assertEquals(50L, event.getId());
+        assertEquals(ChangeOperation.UPDATED, event.getOperation());
+        assertEquals(position(5), event.getVersion());
+        verify(changeLog, never()).findChangesSince(anyLong(), anyInt());
+    }
+
+    /**
+     * Verifies that a resumed subscriber is sent the changes it missed,
+     * then the ones buffered meanwhile, each once and in order.
+     */
+    @Test
+    void testResumesFromLastEventId() {
+        when(changeLog.findLatestVersion()).thenReturn(7L);
+        when(changeLog.findChangesSince(5L, 11)).thenReturn(List.of(entry(6), entry(7)));
+        ChangeStreamService service = service(4, 10);
+        RecordingSink sink = new RecordingSink();
+
+        service.subscribe(position(5), sink);
+        service.publish(entry(7));
+        service.publish(entry(8));
+        runSenders();
+
+        assertEquals(List.of(position(6), position(7), position(8)), sink.versions());
+        assertTrue(sink.resets.isEmpty());
+    }
+
+    /**
+     * Verifies that a subscriber too far behind is told to sync instead
+     * and carries on from the latest version.
+     */
+    @Test
+    void testResetsWhenTooFarBehind() {
+        when(changeLog.findLatestVersion()).thenReturn(7L);
+        when(changeLog.findChangesSince(4L, 3)).thenReturn(List.of(entry(5), entry(6), entry(7)));
+        ChangeStreamService service = service(4, 2);
+        RecordingSink sink = new RecordingSink();
+
+        service.subscribe(position(4), sink);
+        service.publish(entry(7));
+        service.publish(entry(8));
+        runSenders();
+
+        assertEquals(List.of(position(7)), sink.resets);
+        assertEquals(List.of(position(8)), sink.versions());
+    }
+
+    /**
+     * Verifies that a subscriber whose missed changes were pruned from the
+     * log is told to sync instead.
+     */
+    @Test
+    void testResetsWhenChangesPruned() {
+        when(changeLog.findLatestVersion()).thenReturn(7L);
+        when(changeLog.findChangesSince(2L, 11)).thenReturn(List.of(entry(6), entry(7)));
+        when(changeLog.findOldestVersion()).thenReturn(6L);
+        ChangeStreamService service = service(4, 10);
+        RecordingSink sink = new RecordingSink();
+
+        service.subscribe(position(2), sink);
+        runSenders();
+
+        assertEquals(List.of(position(7)), sink.resets);
+        assertTrue(sink.changes.isEmpty());
+    }
+
+    /**
+     * Verifies that an event ID from another run gets a reset without
+     * reading the log.
+     */
+    @Test
+    void testResetsForAnotherRun() {
+        when(changeLog.findLatestVersion()).thenReturn(3L);
+        ChangeStreamService service = service(4, 10);
+        RecordingSink sink = new RecordingSink();
+
+        service.subscribe("0000-12", sink);
+        runSenders();
+
+        assertEquals(List.of(position(3)), sink.resets);
+        verify(changeLog, never()).findChangesSince(anyLong(), anyInt());
+    }
+
+    /**
+     * Verifies that a malformed event ID is rejected.
+     */
+    @Test
+    void testRejectsMalformedLastEventId() {
+        ChangeStreamService service = service(4, 10);
+
+        assertThrows(IllegalArgumentException.class, () -> service.subscribe("12", new RecordingSink()));
+        assertEquals(0, service.subscriberCount());
+    }
+
+    /**
+     * Verifies that a subscriber whose buffer overflows is disconnected
+     * without holding up the publisher.
+     */
+    @Test
+    void testDisconnectsSlowConsumer() {
+        ChangeStreamService service = service(2, 10);
+        RecordingSink slow = new RecordingSink();
+        RecordingSink fast = new RecordingSink();
+        service.subscribe(null, slow);
+        runSenders();
+
+        // The slow subscriber's sender is queued but not run
+        service.publish(entry(1));
+        service.publish(entry(2));
+        service.subscribe(null, fast);
+        service.publish(entry(3));
+        assertEquals(1, service.subscriberCount());
+
+        runSenders();
+
+        assertTrue(slow.closed);
+        assertTrue(slow.changes.isEmpty());
+        assertEquals(List.of(position(3)), fast.versions());
+        assertFalse(fast.closed);
+    }
+
+    /**
+     * Verifies that a subscriber that can no longer be sent to is dropped.
+     */
+    @Test
+    void testDropsSubscriberOnSendFailure() {
+        ChangeStreamService service = service(4, 10);
+        RecordingSink sink = new RecordingSink();
+        service.subscribe(null, sink);
+        runSenders();
+        sink.failing = true;
+
+        service.publish(entry(1));
+        runSenders();
+
+        assertEquals(0, service.subscriberCount());
+        assertTrue(sink.closed);
+    }
+}
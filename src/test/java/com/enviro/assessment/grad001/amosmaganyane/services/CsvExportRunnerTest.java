@@ -0,0 +1,43 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CsvExportRunner.
+ * Verifies when an export is requested and that it needs a persistent database.
+ */
+@ExtendWith(MockitoExtension.class)
+class CsvExportRunnerTest {
+
+    @Mock
+    private CatalogExportService exportService;
+
+    /**
+     * Verifies that only the export directory option requests an export.
+     */
+    @Test
+    void testIsRequested() {
+        assertTrue(CsvExportRunner.isRequested("--server.port=0", "--export.csv.directory=out"));
+        assertFalse(CsvExportRunner.isRequested("--server.port=0"));
+    }
+
+    /**
+     * Verifies that an export against an in-memory database fails at startup.
+     */
+    @Test
+    void testRefusesInMemoryDatabase() {
+        assertThrows(IllegalStateException.class, () ->
+                new CsvExportRunner(exportService, Path.of("out"), "jdbc:h2:mem:wastemanagementdb"));
+        assertThrows(IllegalStateException.class, () ->
+                new CsvExportRunner(exportService, Path.of("out"), ""));
+        assertDoesNotThrow(() ->
+                new CsvExportRunner(exportService, Path.of("out"), "jdbc:h2:file:./data/wastemanagementdb"));
+    }
+}
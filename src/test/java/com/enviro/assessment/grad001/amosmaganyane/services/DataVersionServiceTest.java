@@ -0,0 +1,82 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DataVersionService.
+ * Verifies that global and per-category versions and modification times
+ * advance with writes.
+ */
+class DataVersionServiceTest {
+
+    private DataVersionService service;
+    private WasteCategory testCategory;
+
+    @BeforeEach
+    void initializeService() {
+        service = new DataVersionService();
+        testCategory = new WasteCategory(1L, "Hazardous Waste", "Batteries and paint");
+    }
+
+    /**
+     * Verifies that every write advances the global version and that of its category only.
+     */
+    @Test
+    void testWritesAdvanceVersions() {
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, testCategory));
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                new DisposalGuideline(3L, "Paint", "Take paint to a depot", testCategory)));
+
+        assertEquals(2, service.globalVersion());
+        assertEquals(2, service.categoryVersion(1L));
+        assertEquals(0, service.categoryVersion(2L));
+    }
+
+    /**
+     * Verifies that entity tags are weak and change with their version only.
+     */
+    @Test
+    void testETags() {
+        String global = service.globalETag();
+        String category = service.categoryETag(1L);
+        assertTrue(global.startsWith("W/\""));
+        assertNotEquals(global, category);
+
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.UPDATED,
+                new WasteCategory(2L, "Paper", "Paper and cardboard")));
+
+        assertNotEquals(global, service.globalETag());
+        assertEquals(category, service.categoryETag(1L));
+        assertNotEquals(service.categoryETag(1L), service.categoryETag(2L));
+    }
+
+    /**
+     * Verifies that modification times come from the entities and never move back.
+     */
+    @Test
+    void testLastModified() {
+        long startedAt = service.globalLastModified();
+        assertEquals(startedAt, service.categoryLastModified(1L));
+
+        Instant modified = Instant.ofEpochMilli(startedAt + 60_000);
+        service.onApplicationEvent(new CatalogChangeEvent(this, EntityType.TIP, ChangeOperation.UPDATED,
+                5L, 1L, "Battery Tip", "Tape battery terminals", modified));
+        service.onApplicationEvent(new CatalogChangeEvent(this, EntityType.TIP, ChangeOperation.UPDATED,
+                6L, 2L, "Paper Tip", "Keep paper dry", Instant.ofEpochMilli(startedAt + 1_000)));
+
+        assertEquals(modified.toEpochMilli(), service.globalLastModified());
+        assertEquals(modified.toEpochMilli(), service.categoryLastModified(1L));
+        assertEquals(startedAt + 1_000, service.categoryLastModified(2L));
+        assertEquals(startedAt, service.categoryLastModified(3L));
+    }
+}
@@ -1,9 +1,13 @@
 package com.enviro.assessment.grad001.amosmaganyane.services;
 
 
+import com.enviro.assessment.grad001.amosmaganyane.dto.DisposalGuidelineDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
 import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
 import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
 import com.enviro.assessment.grad001.amosmaganyane.repositories.DisposalGuidelineRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.FieldProjectionRepository;
 import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -31,6 +36,18 @@ class DisposalGuidelineServiceTest {
     @Mock
     private WasteCategoryRepository categoryRepository;
 
+    @Mock
+    private SearchIndexService searchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private LiveIdFilter liveIds;
+
+    @Mock
+    private FieldProjectionRepository projections;
+
     private DisposalGuidelineService service;
     private WasteCategory testCategory;
 
@@ -39,7 +56,9 @@ class DisposalGuidelineServiceTest {
      */
     @BeforeEach
     void initializeRepositories() {
-        service = new DisposalGuidelineServiceImpl(guidelineRepository, categoryRepository);
+        service = new DisposalGuidelineServiceImpl(guidelineRepository, categoryRepository,
+                searchIndex, eventPublisher, liveIds, projections);
+        lenient().when(liveIds.mightExist(any(), any())).thenReturn(true);
         testCategory = new WasteCategory(1L, "Hazardous Waste", "Description");
     }
 
@@ -160,8 +179,8 @@ class DisposalGuidelineServiceTest {
                 new DisposalGuideline(1L, "Battery Disposal",
                         "Detailed instructions for battery disposal", testCategory)
         );
-        when(guidelineRepository.findByTitleContainingIgnoreCase(keyword))
-                .thenReturn(expectedGuidelines);
+        when(searchIndex.findIds(EntityType.GUIDELINE, keyword)).thenReturn(List.of(1L));
+        when(guidelineRepository.findAllById(List.of(1L))).thenReturn(expectedGuidelines);
 
         List<DisposalGuideline> results = service.searchGuidelines(keyword);
 
@@ -217,8 +236,7 @@ class DisposalGuidelineServiceTest {
     @Test
     void testHandleEmptySearchResults() {
         String nonExistentKeyword = "nonexistent";
-        when(guidelineRepository.findByTitleContainingIgnoreCase(nonExistentKeyword))
-                .thenReturn(List.of());
+        when(searchIndex.findIds(EntityType.GUIDELINE, nonExistentKeyword)).thenReturn(List.of());
 
         List<DisposalGuideline> results = service.searchGuidelines(nonExistentKeyword);
 
@@ -260,14 +278,14 @@ class DisposalGuidelineServiceTest {
                 new DisposalGuideline(1L, "Battery Disposal",
                         "Instructions", testCategory)
         );
-        when(guidelineRepository.findByTitleContainingIgnoreCase(keyword))
-                .thenReturn(expectedGuidelines);
+        when(searchIndex.findIds(EntityType.GUIDELINE, keyword)).thenReturn(List.of(1L));
+        when(guidelineRepository.findAllById(List.of(1L))).thenReturn(expectedGuidelines);
 
         List<DisposalGuideline> results = service.searchGuidelines(keyword);
 
         assertEquals(1, results.size());
         assertEquals("Battery Disposal", results.get(0).getTitle());
-        verify(guidelineRepository).findByTitleContainingIgnoreCase(keyword);
+        verify(searchIndex).findIds(EntityType.GUIDELINE, keyword);
     }
 
     /**
@@ -288,6 +306,55 @@ class DisposalGuidelineServiceTest {
 
         assertEquals(2, results.size());
         verify(guidelineRepository).findAll();
-        verify(guidelineRepository, never()).findByTitleContainingIgnoreCase(any());
+        verify(searchIndex, never()).findIds(any(), any());
+    }
+
+    /**
+     * Tests fuzzy search with a misspelled keyword.
+     * Verifies that the guidelines come from the fuzzy index rather than the substring index.
+     */
+    @Test
+    void testFuzzySearchGuidelines() {
+        String keyword = "baterry";
+        List<DisposalGuideline> expectedGuidelines = List.of(
+                new DisposalGuideline(1L, "Battery Disposal", "Instructions", testCategory)
+        );
+        when(searchIndex.findIdsFuzzy(EntityType.GUIDELINE, keyword)).thenReturn(List.of(1L));
+        when(guidelineRepository.findAllById(List.of(1L))).thenReturn(expectedGuidelines);
+
+        List<DisposalGuideline> results = service.fuzzySearchGuidelines(keyword);
+
+        assertEquals(expectedGuidelines, results);
+        verify(searchIndex, never()).findIds(any(), any());
+    }
+
+    /**
+     * Verifies that creating a guideline in a category known not to exist
+     * is refused without a query.
+     */
+    @Test
+    void testCreateGuidelineInMissingCategorySkipsRepository() {
+        when(liveIds.mightExist(EntityType.CATEGORY, 99L)).thenReturn(false);
+
+        assertThrows(IllegalArgumentException.class, () -> service.createGuideline(99L,
+                new DisposalGuideline(null, "Paint", "Take leftover paint to a depot", null)));
+
+        verify(categoryRepository, never()).findById(any());
+        verify(guidelineRepository, never()).save(any());
+    }
+
+    /**
+     * Verifies that a search for some fields loads only those fields
+     * for the IDs the index matched, without loading entities.
+     */
+    @Test
+    void testSearchGuidelinesWithFields() {
+        FieldSet fields = FieldSet.parse("id,title", DisposalGuidelineDTO.class);
+        List<DisposalGuidelineDTO> expected = List.of(new DisposalGuidelineDTO());
+        when(searchIndex.findIds(EntityType.GUIDELINE, "glass")).thenReturn(List.of(1L));
+        when(projections.findGuidelines(List.of(1L), fields)).thenReturn(expected);
+
+        assertEquals(expected, service.searchGuidelines("glass", false, fields));
+        verify(guidelineRepository, never()).findAllById(any());
     }
 }
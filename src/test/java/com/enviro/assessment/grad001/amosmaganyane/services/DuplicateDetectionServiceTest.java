@@ -0,0 +1,155 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.DuplicatePairDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.DisposalGuidelineRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.RecyclingTipRepository;
+import com.enviro.assessment.grad001.amosmaganyane.search.analysis.Analyzer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for DuplicateDetectionService.
+ * Verifies near-duplicate lookup on create, batch scans and index maintenance.
+ */
+@ExtendWith(MockitoExtension.class)
+class DuplicateDetectionServiceTest {
+
+    private static final String GLASS_CONTENT =
+            "Rinse glass jars and bottles, remove the lids and put them in the glass recycling bin";
+
+    @Mock
+    private RecyclingTipRepository tipRepository;
+
+    @Mock
+    private DisposalGuidelineRepository guidelineRepository;
+
+    private DuplicateDetectionService service;
+    private WasteCategory testCategory;
+
+    @BeforeEach
+    void initializeService() {
+        service = new DuplicateDetectionService(tipRepository, guidelineRepository,
+                Analyzer.english(), 0.7);
+        testCategory = new WasteCategory(1L, "Recyclable", "Glass and paper");
+    }
+
+    /**
+     * Verifies that a new tip repeating an existing one is flagged, and an unrelated one is not.
+     */
+    @Test
+    void testFindNearDuplicatesOfNewTip() {
+        created(new RecyclingTip(1L, "Glass Recycling", GLASS_CONTENT, testCategory));
+        created(new RecyclingTip(2L, "Battery Drop-Off",
+                "Take used batteries to a hazardous waste collection point", testCategory));
+        created(new RecyclingTip(3L, "Glass Disposal",
+                "Rinse the glass jars and bottles, remove lids and put them in the glass recycling bin",
+                testCategory));
+
+        List<DuplicatePairDTO> duplicates = service.findNearDuplicates(EntityType.TIP, 3L);
+
+        assertEquals(1, duplicates.size());
+        assertEquals(3L, duplicates.get(0).getFirstId());
+        assertEquals(1L, duplicates.get(0).getSecondId());
+        assertEquals("Glass Recycling", duplicates.get(0).getSecondTitle());
+        assertTrue(duplicates.get(0).getSimilarity() >= 0.7);
+        assertTrue(service.findNearDuplicates(EntityType.TIP, 2L).isEmpty());
+    }
+
+    /**
+     * Verifies that tips and guidelines are never compared with each other.
+     */
+    @Test
+    void testTypesAreCheckedSeparately() {
+        created(new RecyclingTip(1L, "Glass Recycling", GLASS_CONTENT, testCategory));
+        created(new DisposalGuideline(1L, "Glass Disposal", GLASS_CONTENT, testCategory));
+
+        assertTrue(service.findNearDuplicates(EntityType.TIP, 1L).isEmpty());
+        assertTrue(service.scan(EntityType.GUIDELINE, null).isEmpty());
+    }
+
+    /**
+     * Verifies that a rebuild signs every row and a scan reports each pair once.
+     */
+    @Test
+    void testRebuildAndScan() {
+        when(tipRepository.findAll()).thenReturn(List.of(
+                new RecyclingTip(4L, "Glass Recycling", GLASS_CONTENT, testCategory),
+                new RecyclingTip(2L, "Glass Tip", GLASS_CONTENT, testCategory)));
+        when(guidelineRepository.findAll()).thenReturn(List.of());
+        service.rebuild();
+
+        List<DuplicatePairDTO> pairs = service.scan(EntityType.TIP, null);
+
+        assertEquals(1, pairs.size());
+        assertEquals(2L, pairs.get(0).getFirstId());
+        assertEquals(4L, pairs.get(0).getSecondId());
+        assertEquals(1.0, pairs.get(0).getSimilarity(), 0.0);
+    }
+
+    /**
+     * Verifies that deleted tips are no longer reported.
+     */
+    @Test
+    void testDeletedTipsDropOut() {
+        RecyclingTip original = new RecyclingTip(1L, "Glass Recycling", GLASS_CONTENT, testCategory);
+        created(original);
+        created(new RecyclingTip(2L, "Glass Tip", GLASS_CONTENT, testCategory));
+
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.DELETED, original));
+
+        assertTrue(service.findNearDuplicates(EntityType.TIP, 2L).isEmpty());
+    }
+
+    /**
+     * Verifies that a rebuild does not sign again a tip deleted after it
+     * read the row.
+     */
+    @Test
+    void testRebuildKeepsDeletesMadeWhileItRuns() {
+        RecyclingTip original = new RecyclingTip(1L, "Glass Recycling", GLASS_CONTENT, testCategory);
+        RecyclingTip copy = new RecyclingTip(2L, "Glass Tip", GLASS_CONTENT, testCategory);
+        created(original);
+        when(tipRepository.findAll()).thenAnswer(invocation -> {
+            service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.DELETED, original));
+            return List.of(original, copy);
+        });
+        when(guidelineRepository.findAll()).thenReturn(List.of());
+
+        service.rebuild();
+
+        assertTrue(service.findNearDuplicates(EntityType.TIP, 2L).isEmpty());
+        assertTrue(service.scan(EntityType.TIP, null).isEmpty());
+    }
+
+    /**
+     * Verifies that categories and out-of-range thresholds are rejected.
+     */
+    @Test
+    void testScanRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> service.scan(EntityType.CATEGORY, null));
+        assertThrows(IllegalArgumentException.class, () -> service.scan(EntityType.TIP, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> service.scan(EntityType.TIP, 1.5));
+    }
+
+    private void created(RecyclingTip tip) {
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, tip));
+    }
+
+    private void created(DisposalGuideline guideline) {
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, guideline));
+    }
+}
@@ -0,0 +1,121 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.DisposalGuidelineRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.RecyclingTipRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for LiveIdFilter.
+ * Verifies that missing IDs are refused once loaded, and that creates and
+ * deletes keep the filters correct.
+ */
+@ExtendWith(MockitoExtension.class)
+class LiveIdFilterTest {
+
+    @Mock
+    private WasteCategoryRepository categoryRepository;
+
+    @Mock
+    private RecyclingTipRepository tipRepository;
+
+    @Mock
+    private DisposalGuidelineRepository guidelineRepository;
+
+    private LiveIdFilter liveIds;
+    private WasteCategory testCategory;
+
+    @BeforeEach
+    void initializeFilter() {
+        liveIds = new LiveIdFilter(categoryRepository, tipRepository, guidelineRepository, 100, 0.01);
+        testCategory = new WasteCategory(1L, "Paper", "Newspapers and cardboard");
+    }
+
+    /**
+     * Verifies that every ID is let through until the filters are loaded.
+     */
+    @Test
+    void testEverythingAllowedBeforeLoad() {
+        assertTrue(liveIds.mightExist(EntityType.TIP, 99L));
+        assertTrue(liveIds.mightExist(EntityType.CATEGORY, 99L));
+        assertEquals(0, liveIds.rejected());
+    }
+
+    /**
+     * Verifies that loaded IDs are let through and others refused.
+     */
+    @Test
+    void testMissingIdsRefused() {
+        givenIds(List.of(1L), List.of(10L, 11L), List.of());
+
+        liveIds.rebuild();
+
+        assertTrue(liveIds.mightExist(EntityType.CATEGORY, 1L));
+        assertTrue(liveIds.mightExist(EntityType.TIP, 11L));
+        assertFalse(liveIds.mightExist(EntityType.TIP, 12L));
+        assertFalse(liveIds.mightExist(EntityType.GUIDELINE, 10L));
+        assertTrue(liveIds.mightExist(EntityType.TIP, null));
+        assertEquals(2, liveIds.rejected());
+    }
+
+    /**
+     * Verifies that a created ID is let through as soon as its event is handled.
+     */
+    @Test
+    void testCreatedIdAllowed() {
+        givenIds(List.of(1L), List.of(10L), List.of());
+        liveIds.rebuild();
+        assertFalse(liveIds.mightExist(EntityType.TIP, 12L));
+
+        liveIds.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                new RecyclingTip(12L, "Flatten boxes", "Flatten cardboard boxes", testCategory)));
+        liveIds.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                new WasteCategory(2L, "Glass", "Bottles and jars")));
+
+        assertTrue(liveIds.mightExist(EntityType.TIP, 12L));
+        assertTrue(liveIds.mightExist(EntityType.CATEGORY, 2L));
+    }
+
+    /**
+     * Verifies that a filter is reloaded once deletes make up a quarter of its IDs.
+     */
+    @Test
+    void testReloadedAfterDeletes() {
+        givenIds(List.of(1L), List.of(10L, 11L, 12L, 13L), List.of());
+        liveIds.rebuild();
+
+        liveIds.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.DELETED,
+                new RecyclingTip(10L, "Keep paper dry", "Wet paper cannot be recycled", testCategory)));
+        verify(tipRepository, times(1)).findAllIds();
+
+        when(tipRepository.findAllIds()).thenReturn(List.of(12L, 13L));
+        liveIds.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.DELETED,
+                new RecyclingTip(11L, "Flatten boxes", "Flatten cardboard boxes", testCategory)));
+
+        verify(tipRepository, times(2)).findAllIds();
+        assertTrue(liveIds.mightExist(EntityType.TIP, 12L));
+        assertFalse(liveIds.mightExist(EntityType.TIP, 10L));
+    }
+
+    private void givenIds(List<Long> categories, List<Long> tips, List<Long> guidelines) {
+        when(categoryRepository.findAllIds()).thenReturn(categories);
+        when(tipRepository.findAllIds()).thenReturn(tips);
+        when(guidelineRepository.findAllIds()).thenReturn(guidelines);
+    }
+}
@@ -0,0 +1,202 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.SearchResponseDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.DisposalGuidelineRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.RecyclingTipRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
+import com.enviro.assessment.grad001.amosmaganyane.search.SegmentedIndex;
+import com.enviro.assessment.grad001.amosmaganyane.search.analysis.Analyzer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RankedSearchService.
+ * Verifies ranking across entity types, limits and index maintenance.
+ */
+@ExtendWith(MockitoExtension.class)
+class RankedSearchServiceTest {
+
+    @Mock
+    private WasteCategoryRepository categoryRepository;
+
+    @Mock
+    private RecyclingTipRepository tipRepository;
+
+    @Mock
+    private DisposalGuidelineRepository guidelineRepository;
+
+    private RankedSearchService service;
+    private WasteCategory testCategory;
+
+    @BeforeEach
+    void initializeService() {
+        service = new RankedSearchService(categoryRepository, tipRepository, guidelineRepository,
+                Analyzer.english(), SegmentedIndex.inMemory(), Duration.ofSeconds(30), 4);
+        testCategory = new WasteCategory(2L, "Hazardous Waste", "Batteries, paint and chemicals");
+    }
+
+    /**
+     * Verifies that a rebuild indexes every type and that results are typed and ranked.
+     */
+    @Test
+    void testSearchRanksAcrossTypes() {
+        when(categoryRepository.findAll()).thenReturn(List.of(testCategory));
+        when(tipRepository.findAll()).thenReturn(List.of(
+                new RecyclingTip(5L, "Battery Recycling", "Drop batteries at a battery collection point",
+                        testCategory)));
+        when(guidelineRepository.findAll()).thenReturn(List.of(
+                new DisposalGuideline(7L, "Paint Disposal", "Never pour paint down the drain",
+                        testCategory)));
+        service.rebuild();
+
+        SearchResponseDTO response = service.search("battery", 10);
+
+        assertEquals(2, response.getTotalMatches());
+        assertEquals(EntityType.TIP, response.getResults().get(0).getType());
+        assertEquals(5L, response.getResults().get(0).getId());
+        assertEquals(2L, response.getResults().get(0).getCategoryId());
+        assertEquals(EntityType.CATEGORY, response.getResults().get(1).getType());
+        assertEquals(2L, response.getResults().get(1).getId());
+        assertTrue(response.getResults().get(0).getScore() > response.getResults().get(1).getScore());
+        assertEquals(List.of("analyze", "score", "select", "assemble", "facets"),
+                List.copyOf(response.getTimings().keySet()));
+    }
+
+    /**
+     * Verifies that facets count every match per category, beyond the limit,
+     * and carry the category name.
+     */
+    @Test
+    void testSearchCountsMatchesPerCategory() {
+        WasteCategory recyclable = new WasteCategory(3L, "Recyclable Materials", "Glass and paper");
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, testCategory));
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, recyclable));
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                new RecyclingTip(1L, "Glass Jars", "Rinse glass", recyclable)));
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                new RecyclingTip(2L, "Glass Bottles", "Return glass bottles", recyclable)));
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                new DisposalGuideline(4L, "Broken Glass", "Wrap broken glass", testCategory)));
+
+        SearchResponseDTO response = service.search("glass", 1);
+
+        assertEquals(2, response.getFacets().size());
+        assertEquals(3L, response.getFacets().get(0).getCategoryId());
+        assertEquals("Recyclable Materials", response.getFacets().get(0).getCategoryName());
+        assertEquals(3, response.getFacets().get(0).getCount());
+        assertEquals("Hazardous Waste", response.getFacets().get(1).getCategoryName());
+        assertEquals(1, response.getFacets().get(1).getCount());
+    }
+
+    /**
+     * Verifies that the limit bounds the results but not the match count.
+     */
+    @Test
+    void testSearchHonoursLimit() {
+        for (long id = 1; id <= 5; id++) {
+            RecyclingTip tip = new RecyclingTip(id, "Glass Tip " + id, "Rinse glass", testCategory);
+            service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, tip));
+        }
+
+        SearchResponseDTO response = service.search("glass", 2);
+
+        assertEquals(5, response.getTotalMatches());
+        assertEquals(2, response.getResults().size());
+        assertEquals(1L, response.getResults().get(0).getId());
+    }
+
+    /**
+     * Verifies that updated and deleted entities are reflected in the results.
+     */
+    @Test
+    void testChangeEventsUpdateIndex() {
+        RecyclingTip tip = new RecyclingTip(3L, "Cardboard Recycling", "Content", testCategory);
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, tip));
+
+        tip.setTitle("Carton Recycling");
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.UPDATED, tip));
+        assertTrue(service.search("cardboard", 10).getResults().isEmpty());
+        assertEquals("Carton Recycling",
+                service.search("carton", 10).getResults().get(0).getTitle());
+
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.DELETED, tip));
+        assertTrue(service.search("carton", 10).getResults().isEmpty());
+    }
+
+    /**
+     * Verifies that a query matches synonyms and other inflections of
+     * the indexed words, in either direction.
+     */
+    @Test
+    void testSearchMatchesSynonymsAndStems() {
+        RecyclingTip tip = new RecyclingTip(4L, "Styrofoam Trays", "Rinse the batteries", testCategory);
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, tip));
+
+        assertEquals(4L, service.search("polystyrene", 10).getResults().get(0).getId());
+        assertEquals(4L, service.search("STYROFOAM", 10).getResults().get(0).getId());
+        assertEquals(4L, service.search("tray", 10).getResults().get(0).getId());
+        assertEquals(4L, service.search("battery", 10).getResults().get(0).getId());
+        assertTrue(service.search("plastic", 10).getResults().isEmpty());
+    }
+
+    /**
+     * Verifies that a rebuild drops documents whose rows are gone.
+     */
+    @Test
+    void testRebuildRemovesStaleDocuments() {
+        RecyclingTip tip = new RecyclingTip(8L, "Glass Jars", "Rinse glass jars", testCategory);
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, tip));
+        when(categoryRepository.findAll()).thenReturn(List.of());
+        when(tipRepository.findAll()).thenReturn(List.of());
+        when(guidelineRepository.findAll()).thenReturn(List.of());
+
+        service.rebuild();
+
+        assertTrue(service.search("glass", 10).getResults().isEmpty());
+    }
+
+    /**
+     * Verifies that a delete arriving after the rebuild has read the row
+     * is not undone when the rebuild indexes what it read.
+     */
+    @Test
+    void testRebuildKeepsDeletesMadeWhileItRuns() {
+        RecyclingTip tip = new RecyclingTip(8L, "Glass Jars", "Rinse glass jars", testCategory);
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, tip));
+        when(categoryRepository.findAll()).thenReturn(List.of());
+        when(tipRepository.findAll()).thenAnswer(invocation -> {
+            service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.DELETED, tip));
+            return List.of(tip);
+        });
+        when(guidelineRepository.findAll()).thenReturn(List.of());
+
+        service.rebuild();
+
+        assertTrue(service.search("glass", 10).getResults().isEmpty());
+    }
+
+    /**
+     * Verifies that title words count more than the same words in a body
+     * and that both are analyzed.
+     */
+    @Test
+    void testTermsWeightTitleWords() {
+        assertEquals(List.of("jar", "jar", "rinse", "bottle"),
+                service.terms("Jars", "Rinse the bottles"));
+    }
+}
@@ -1,8 +1,12 @@
 package com.enviro.assessment.grad001.amosmaganyane.services;
 
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
 import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
 import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
 import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.FieldProjectionRepository;
 import com.enviro.assessment.grad001.amosmaganyane.repositories.RecyclingTipRepository;
 import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +35,18 @@ class RecyclingTipServiceTest {
     @Mock
     private WasteCategoryRepository categoryRepository;
 
+    @Mock
+    private SearchIndexService searchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private LiveIdFilter liveIds;
+
+    @Mock
+    private FieldProjectionRepository projections;
+
     private RecyclingTipService service;
     private WasteCategory testCategory;
 
@@ -38,7 +55,9 @@ class RecyclingTipServiceTest {
      */
     @BeforeEach
     void initializeRepositories() {
-        service = new RecyclingTipServiceImpl(tipRepository, categoryRepository);
+        service = new RecyclingTipServiceImpl(tipRepository, categoryRepository,
+                searchIndex, eventPublisher, liveIds, projections);
+        lenient().when(liveIds.mightExist(any(), any())).thenReturn(true);
         testCategory = new WasteCategory(1L, "Recyclable", "Description");
     }
 
@@ -152,8 +171,8 @@ class RecyclingTipServiceTest {
                 new RecyclingTip(1L, "Paper Recycling",
                         "Content about paper recycling", testCategory)
         );
-        when(tipRepository.findByTitleContainingIgnoreCase(keyword))
-                .thenReturn(expectedTips);
+        when(searchIndex.findIds(EntityType.TIP, keyword)).thenReturn(List.of(1L));
+        when(tipRepository.findAllById(List.of(1L))).thenReturn(expectedTips);
 
         List<RecyclingTip> results = service.searchTips(keyword);
 
@@ -234,14 +253,14 @@ class RecyclingTipServiceTest {
         List<RecyclingTip> expectedTips = List.of(
                 new RecyclingTip(1L, "Paper Recycling", "Content", testCategory)
         );
-        when(tipRepository.findByTitleContainingIgnoreCase(keyword))
-                .thenReturn(expectedTips);
+        when(searchIndex.findIds(EntityType.TIP, keyword)).thenReturn(List.of(1L));
+        when(tipRepository.findAllById(List.of(1L))).thenReturn(expectedTips);
 
         List<RecyclingTip> results = service.searchTips(keyword);
 
         assertEquals(1, results.size());
         assertEquals("Paper Recycling", results.get(0).getTitle());
-        verify(tipRepository).findByTitleContainingIgnoreCase(keyword);
+        verify(searchIndex).findIds(EntityType.TIP, keyword);
     }
 
     /**
@@ -260,7 +279,7 @@ class RecyclingTipServiceTest {
 
         assertEquals(2, results.size());
         verify(tipRepository).findAll();
-        verify(tipRepository, never()).findByTitleContainingIgnoreCase(any());
+        verify(searchIndex, never()).findIds(any(), any());
     }
 
     /**
@@ -279,6 +298,56 @@ class RecyclingTipServiceTest {
 
         assertEquals(2, results.size());
         verify(tipRepository).findAll();
-        verify(tipRepository, never()).findByTitleContainingIgnoreCase(any());
+        verify(searchIndex, never()).findIds(any(), any());
+    }
+
+    /**
+     * Tests fuzzy search with a misspelled keyword.
+     * Verifies that the tips come from the fuzzy index rather than the substring index.
+     */
+    @Test
+    void testFuzzySearchTips() {
+        String keyword = "papr";
+        List<RecyclingTip> expectedTips = List.of(
+                new RecyclingTip(1L, "Paper Recycling", "Content", testCategory)
+        );
+        when(searchIndex.findIdsFuzzy(EntityType.TIP, keyword)).thenReturn(List.of(1L));
+        when(tipRepository.findAllById(List.of(1L))).thenReturn(expectedTips);
+
+        List<RecyclingTip> results = service.fuzzySearchTips(keyword);
+
+        assertEquals(expectedTips, results);
+        verify(searchIndex, never()).findIds(any(), any());
+    }
+
+    /**
+     * Verifies that IDs known not to exist are refused without a query.
+     */
+    @Test
+    void testMissingIdsSkipRepository() {
+        when(liveIds.mightExist(EntityType.TIP, 99L)).thenReturn(false);
+        when(liveIds.mightExist(EntityType.CATEGORY, 98L)).thenReturn(false);
+
+        assertTrue(service.getTipById(99L).isEmpty());
+        assertThrows(IllegalStateException.class, () -> service.deleteTip(99L));
+        assertThrows(IllegalArgumentException.class, () -> service.getTipsByCategory(98L));
+
+        verify(tipRepository, never()).findById(any());
+        verify(categoryRepository, never()).findById(any());
+    }
+
+    /**
+     * Verifies that a search for some fields loads only those fields
+     * for the IDs the index matched, without loading entities.
+     */
+    @Test
+    void testSearchTipsWithFields() {
+        FieldSet fields = FieldSet.parse("id,title", RecyclingTipDTO.class);
+        List<RecyclingTipDTO> expected = List.of(new RecyclingTipDTO());
+        when(searchIndex.findIds(EntityType.TIP, "paper")).thenReturn(List.of(1L));
+        when(projections.findTips(List.of(1L), fields)).thenReturn(expected);
+
+        assertEquals(expected, service.searchTips("paper", false, fields));
+        verify(tipRepository, never()).findAllById(any());
     }
 }
@@ -0,0 +1,134 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.DisposalGuidelineRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.RecyclingTipRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
+import com.enviro.assessment.grad001.amosmaganyane.search.analysis.Analyzer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SearchIndexService.
+ * Verifies that the indexes follow the database and the published change events.
+ */
+@ExtendWith(MockitoExtension.class)
+class SearchIndexServiceTest {
+
+    @Mock
+    private WasteCategoryRepository categoryRepository;
+
+    @Mock
+    private RecyclingTipRepository tipRepository;
+
+    @Mock
+    private DisposalGuidelineRepository guidelineRepository;
+
+    private SearchIndexService searchIndex;
+    private WasteCategory testCategory;
+
+    @BeforeEach
+    void initializeService() {
+        searchIndex = new SearchIndexService(categoryRepository, tipRepository, guidelineRepository,
+                Analyzer.english(), 2);
+        testCategory = new WasteCategory(1L, "Hazardous Waste", "Description");
+    }
+
+    /**
+     * Verifies that a rebuild indexes the rows already stored in the database.
+     */
+    @Test
+    void testRebuildIndexesExistingRows() {
+        when(categoryRepository.findAll()).thenReturn(List.of(testCategory));
+        when(tipRepository.findAll()).thenReturn(List.of(
+                new RecyclingTip(7L, "Battery Recycling", "Content", testCategory)));
+
+        searchIndex.rebuild();
+
+        assertEquals(List.of(1L), searchIndex.findIds(EntityType.CATEGORY, "hazard"));
+        assertEquals(List.of(7L), searchIndex.findIds(EntityType.TIP, "batt"));
+        assertTrue(searchIndex.findIds(EntityType.GUIDELINE, "batt").isEmpty());
+    }
+
+    /**
+     * Verifies that created, updated and deleted entities are reflected in the index.
+     */
+    @Test
+    void testChangeEventsUpdateIndex() {
+        RecyclingTip tip = new RecyclingTip(3L, "Styrofoam Recycling", "Content", testCategory);
+        searchIndex.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, tip));
+        assertEquals(List.of(3L), searchIndex.findIds(EntityType.TIP, "styro"));
+
+        tip.setTitle("Polystyrene Recycling");
+        searchIndex.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.UPDATED, tip));
+        assertTrue(searchIndex.findIds(EntityType.TIP, "styro").isEmpty());
+        assertEquals(List.of(3L), searchIndex.findIds(EntityType.TIP, "poly"));
+
+        searchIndex.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.DELETED, tip));
+        assertTrue(searchIndex.findIds(EntityType.TIP, "poly").isEmpty());
+    }
+
+    /**
+     * Verifies that a delete arriving after the rebuild has read the row
+     * leaves the row out of both the trigram and the word index.
+     */
+    @Test
+    void testRebuildKeepsDeletesMadeWhileItRuns() {
+        RecyclingTip tip = new RecyclingTip(7L, "Battery Recycling", "Content", testCategory);
+        searchIndex.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, tip));
+        when(categoryRepository.findAll()).thenReturn(List.of());
+        when(tipRepository.findAll()).thenAnswer(invocation -> {
+            searchIndex.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.DELETED, tip));
+            return List.of(tip);
+        });
+        when(guidelineRepository.findAll()).thenReturn(List.of());
+
+        searchIndex.rebuild();
+
+        assertTrue(searchIndex.findIds(EntityType.TIP, "batt").isEmpty());
+        assertTrue(searchIndex.findIdsFuzzy(EntityType.TIP, "baterry").isEmpty());
+    }
+
+    /**
+     * Verifies that fuzzy lookups tolerate misspellings and follow deletions.
+     */
+    @Test
+    void testFindIdsFuzzyToleratesTypos() {
+        RecyclingTip tip = new RecyclingTip(5L, "Battery Recycling", "Content", testCategory);
+        searchIndex.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, tip));
+
+        assertTrue(searchIndex.findIds(EntityType.TIP, "baterry").isEmpty());
+        assertEquals(List.of(5L), searchIndex.findIdsFuzzy(EntityType.TIP, "baterry recyclng"));
+
+        searchIndex.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.DELETED, tip));
+        assertTrue(searchIndex.findIdsFuzzy(EntityType.TIP, "baterry").isEmpty());
+    }
+
+    /**
+     * Verifies that keyword lookups also match plurals and synonyms of title words.
+     */
+    @Test
+    void testFindIdsMatchesAnalyzedWords() {
+        RecyclingTip tip = new RecyclingTip(6L, "Bottle Cap Recycling", "Content", testCategory);
+        searchIndex.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, tip));
+        searchIndex.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                new WasteCategory(4L, "Electronic Waste", "Description")));
+
+        assertEquals(List.of(6L), searchIndex.findIds(EntityType.TIP, "bottles"));
+        assertEquals(List.of(6L), searchIndex.findIds(EntityType.TIP, "caps for bottles"));
+        assertEquals(List.of(4L), searchIndex.findIds(EntityType.CATEGORY, "E-Waste"));
+        assertEquals(List.of(4L), searchIndex.findIds(EntityType.CATEGORY, "tronic"));
+    }
+}
@@ -0,0 +1,191 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.WasteCategoryDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.search.analysis.Analyzer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SearchResultCache.
+ * Verifies that repeated searches are served from memory and that writes
+ * only invalidate the entries they can change.
+ */
+class SearchResultCacheTest {
+
+    private SearchResultCache cache;
+    private WasteCategory testCategory;
+    private AtomicInteger searches;
+
+    @BeforeEach
+    void initializeCache() {
+        cache = new SearchResultCache(Analyzer.english(), 16, Duration.ofSeconds(5));
+        testCategory = new WasteCategory(1L, "Recyclable", "Description");
+        searches = new AtomicInteger();
+    }
+
+    /**
+     * Verifies that keywords differing only in case share an entry.
+     */
+    @Test
+    void testRepeatedSearchIsServedFromCache() {
+        cache.tips("Plastic", plasticTips());
+        List<RecyclingTipDTO> results = cache.tips("plastic", plasticTips());
+
+        assertEquals(1, searches.get());
+        assertEquals("Plastic Recycling", results.get(0).getTitle());
+        assertEquals(1, cache.stats().getHits());
+        assertEquals(0.5, cache.stats().getHitRatio());
+    }
+
+    /**
+     * Verifies that a write whose title contains the keyword invalidates the entry.
+     */
+    @Test
+    void testMatchingTitleInvalidates() {
+        cache.tips("plastic", plasticTips());
+
+        publish(ChangeOperation.CREATED, new RecyclingTip(9L, "Plastic Bottle Caps", "Content", testCategory));
+        cache.tips("plastic", plasticTips());
+
+        assertEquals(2, searches.get());
+        assertEquals(1, cache.stats().getInvalidations());
+    }
+
+    /**
+     * Verifies that a write whose analyzed title covers the keyword's words invalidates the entry.
+     */
+    @Test
+    void testAnalyzedTitleMatchInvalidates() {
+        cache.tips("plastic bottles", plasticTips());
+
+        publish(ChangeOperation.CREATED, new RecyclingTip(9L, "Bottle and Plastic Lids", "Content", testCategory));
+        cache.tips("plastic bottles", plasticTips());
+
+        assertEquals(2, searches.get());
+    }
+
+    /**
+     * Verifies that writes unrelated to a keyword keep its entry.
+     */
+    @Test
+    void testUnrelatedWriteKeepsEntry() {
+        cache.tips("plastic", plasticTips());
+
+        publish(ChangeOperation.CREATED, new RecyclingTip(9L, "Glass Recycling", "Content", testCategory));
+        publish(ChangeOperation.CREATED, new WasteCategory(2L, "Plastics", "Description"));
+        cache.tips("plastic", plasticTips());
+
+        assertEquals(1, searches.get());
+    }
+
+    /**
+     * Verifies that renaming a listed entity away from the keyword invalidates the entry.
+     */
+    @Test
+    void testRenamedEntityInvalidates() {
+        cache.tips("plastic", plasticTips());
+
+        publish(ChangeOperation.UPDATED, new RecyclingTip(1L, "Polymer Recycling", "Content", testCategory));
+        cache.tips("plastic", plasticTips());
+
+        assertEquals(2, searches.get());
+    }
+
+    /**
+     * Verifies that category and child writes invalidate the entries showing each other.
+     */
+    @Test
+    void testCrossTypeInvalidation() {
+        cache.tips("plastic", plasticTips());
+        cache.categories("recyc", () -> {
+            searches.incrementAndGet();
+            return List.of(new WasteCategoryDTO(1L, "Recyclable", "Description", 0, 1));
+        });
+
+        publish(ChangeOperation.UPDATED, new WasteCategory(1L, "Recyclable Materials", "Description"));
+        assertEquals(2, cache.stats().getInvalidations());
+
+        cache.categories("recyc", () -> {
+            searches.incrementAndGet();
+            return List.of(new WasteCategoryDTO(1L, "Recyclable Materials", "Description", 0, 1));
+        });
+        publish(ChangeOperation.DELETED, new RecyclingTip(5L, "Glass Recycling", "Content", testCategory));
+        assertEquals(3, cache.stats().getInvalidations());
+    }
+
+    /**
+     * Verifies that blank keywords share one entry invalidated by any write of the type.
+     */
+    @Test
+    void testBlankKeywordEntry() {
+        cache.tips(null, plasticTips());
+        cache.tips("  ", plasticTips());
+        assertEquals(1, searches.get());
+
+        publish(ChangeOperation.CREATED, new RecyclingTip(9L, "Glass Recycling", "Content", testCategory));
+        cache.tips("", plasticTips());
+        assertEquals(2, searches.get());
+    }
+
+    /**
+     * Verifies that results of a search overlapping a write are not kept.
+     */
+    @Test
+    void testWriteDuringSearchIsNotCached() {
+        cache.tips("glass", () -> {
+            searches.incrementAndGet();
+            publish(ChangeOperation.CREATED, new RecyclingTip(9L, "Paper Recycling", "Content", testCategory));
+            return List.of();
+        });
+        cache.tips("glass", plasticTips());
+
+        assertEquals(2, searches.get());
+    }
+
+    /**
+     * Verifies that the same search for different fields is cached separately
+     * and invalidated alike.
+     */
+    @Test
+    void testFieldSetsCachedSeparately() {
+        FieldSet titles = FieldSet.parse("id,title", RecyclingTipDTO.class);
+        cache.tips("plastic", plasticTips());
+        cache.tips("plastic", titles, plasticTips());
+        cache.tips("plastic", FieldSet.parse("title,id", RecyclingTipDTO.class), plasticTips());
+
+        assertEquals(2, searches.get());
+
+        publish(ChangeOperation.CREATED, new RecyclingTip(9L, "Plastic Bottle Caps", "Content", testCategory));
+        cache.tips("plastic", titles, plasticTips());
+
+        assertEquals(3, searches.get());
+    }
+
+    private Supplier<List<RecyclingTipDTO>> plasticTips() {
+        return () -> {
+            searches.incrementAndGet();
+            return List.of(new RecyclingTipDTO(1L, "Plastic Recycling", "Content", 1L, "Recyclable"));
+        };
+    }
+
+    private void publish(ChangeOperation operation, RecyclingTip tip) {
+        cache.onApplicationEvent(CatalogChangeEvent.of(this, operation, tip));
+    }
+
+    private void publish(ChangeOperation operation, WasteCategory category) {
+        cache.onApplicationEvent(CatalogChangeEvent.of(this, operation, category));
+    }
+}
@@ -0,0 +1,185 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.CacheStatsDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.services.SerializedResponseCache.SerializedResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SerializedResponseCache.
+ * Verifies that serialized bodies are reused until a write moves the data version on.
+ */
+class SerializedResponseCacheTest {
+
+    private DataVersionService versions;
+    private WireFormatCodec codec;
+    private SerializedResponseCache cache;
+    private AtomicInteger builds;
+    private WasteCategory testCategory;
+
+    @BeforeEach
+    void initializeCache() {
+        versions = new DataVersionService();
+        codec = new WireFormatCodec(new ObjectMapper());
+        cache = new SerializedResponseCache(codec, versions, 16, Duration.ofSeconds(5),
+                new String[] {"gzip", "deflate"}, 9);
+        builds = new AtomicInteger();
+        testCategory = new WasteCategory(1L, "Paper", "Newspapers and cardboard");
+    }
+
+    /**
+     * Verifies that a global list is built once and rebuilt after any write.
+     */
+    @Test
+    void testGlobalResponseRebuiltAfterWrite() {
+        SerializedResponse first = cache.global("tips", WireFormat.JSON, this::body);
+        assertSame(first, cache.global("tips", WireFormat.JSON, this::body));
+        assertEquals(1, builds.get());
+        assertEquals("{\"build\":1}", new String(first.getBody(), StandardCharsets.UTF_8));
+
+        write(new WasteCategory(2L, "Glass", "Bottles and jars"));
+
+        SerializedResponse second = cache.global("tips", WireFormat.JSON, this::body);
+        assertNotSame(first, second);
+        assertEquals("{\"build\":2}", new String(second.getBody(), StandardCharsets.UTF_8));
+
+        CacheStatsDTO stats = cache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(1, stats.getInvalidations());
+    }
+
+    /**
+     * Verifies that a category list survives writes to other categories.
+     */
+    @Test
+    void testCategoryResponseScopedToCategory() {
+        SerializedResponse first = cache.category("categories/1/tips", 1L, WireFormat.JSON, this::body);
+
+        write(new WasteCategory(2L, "Glass", "Bottles and jars"));
+        assertSame(first, cache.category("categories/1/tips", 1L, WireFormat.JSON, this::body));
+
+        write(new RecyclingTip(7L, "Flatten boxes", "Flatten cardboard boxes", testCategory));
+        assertNotSame(first, cache.category("categories/1/tips", 1L, WireFormat.JSON, this::body));
+        assertEquals(2, builds.get());
+    }
+
+    /**
+     * Verifies that the gzip and deflate variants decompress to the JSON body.
+     */
+    @Test
+    void testCompressedVariantsMatchJson() throws IOException {
+        List<String> titles = Collections.nCopies(50, "Rinse containers before recycling");
+
+        SerializedResponse response = cache.global("titles", WireFormat.JSON, () -> titles);
+
+        byte[] gzip = response.getEncoded(ContentCoding.GZIP);
+        byte[] deflate = response.getEncoded(ContentCoding.DEFLATE);
+        assertTrue(gzip.length < response.getBody().length);
+        assertTrue(deflate.length < gzip.length);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertArrayEquals(response.getBody(), in.readAllBytes());
+        }
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(deflate))) {
+            assertArrayEquals(response.getBody(), in.readAllBytes());
+        }
+    }
+
+    /**
+     * Verifies that a body too small to gain from compression has no compressed variants.
+     */
+    @Test
+    void testSmallBodyHasNoCompressedVariants() {
+        assertTrue(cache.global("empty", WireFormat.JSON, List::of).getEncodings().isEmpty());
+    }
+
+    /**
+     * Verifies that only the configured codings are built and unknown ones are refused.
+     */
+    @Test
+    void testConfiguredCodings() {
+        SerializedResponseCache gzipOnly = new SerializedResponseCache(codec, versions, 16,
+                Duration.ofSeconds(5), new String[] {"GZIP"}, 6);
+        List<String> titles = Collections.nCopies(50, "Rinse containers before recycling");
+
+        assertEquals(Set.of(ContentCoding.GZIP), gzipOnly.global("titles", WireFormat.JSON, () -> titles).getEncodings().keySet());
+        assertThrows(IllegalArgumentException.class, () -> new SerializedResponseCache(codec,
+                versions, 16, Duration.ofSeconds(5), new String[] {"br"}, 9));
+        assertThrows(IllegalArgumentException.class, () -> new SerializedResponseCache(codec,
+                versions, 16, Duration.ofSeconds(5), new String[] {"gzip"}, 10));
+    }
+
+    /**
+     * Verifies that a failing build is not cached.
+     */
+    @Test
+    void testFailedBuildNotCached() {
+        assertThrows(IllegalArgumentException.class, () -> cache.category("categories/9/tips", 9L, WireFormat.JSON, () -> {
+            throw new IllegalArgumentException("Category not found");
+        }));
+
+        cache.category("categories/9/tips", 9L, WireFormat.JSON, this::body);
+        assertEquals(1, builds.get());
+    }
+
+    /**
+     * Verifies that each format of an endpoint is cached and sent as its own entry.
+     */
+    @Test
+    void testFormatsCachedSeparately() throws IOException {
+        List<String> titles = List.of("Rinse containers", "Flatten boxes");
+
+        SerializedResponse json = cache.global("titles", WireFormat.JSON, () -> titles);
+        SerializedResponse cbor = cache.global("titles", WireFormat.CBOR, () -> titles);
+
+        assertNotSame(json, cbor);
+        assertSame(cbor, cache.global("titles", WireFormat.CBOR, () -> titles));
+        assertEquals(WireFormat.CBOR, cbor.getFormat());
+        assertEquals(titles, codec.readList(WireFormat.CBOR, cbor.getBody(), String.class));
+        assertTrue(cbor.getBody().length < json.getBody().length);
+    }
+
+    /**
+     * Verifies that clearing forces every endpoint to be rebuilt.
+     */
+    @Test
+    void testClear() {
+        cache.global("tips", WireFormat.JSON, this::body);
+        cache.clear();
+        cache.global("tips", WireFormat.JSON, this::body);
+
+        assertEquals(2, builds.get());
+    }
+
+    private Map<String, Integer> body() {
+        return Map.of("build", builds.incrementAndGet());
+    }
+
+    private void write(WasteCategory category) {
+        versions.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, category));
+    }
+
+    private void write(RecyclingTip tip) {
+        versions.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, tip));
+    }
+}
@@ -0,0 +1,140 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SingleFlight.
+ * Verifies that concurrent calls for one key share a computation, that
+ * failures reach every caller and that waiting is bounded.
+ */
+class SingleFlightTest {
+
+    /**
+     * Verifies that callers arriving while a computation runs receive its result.
+     */
+    @Test
+    void testConcurrentCallsShareComputation() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>(Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            results.add(executor.submit(() -> flights.execute("tips", () -> {
+                await(release);
+                return runs.incrementAndGet();
+            })));
+            waitUntil(() -> flights.inFlight() == 1);
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> flights.execute("tips", runs::incrementAndGet)));
+            }
+            waitUntil(() -> flights.coalesced() == 7);
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(1, result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, runs.get());
+        assertEquals(1, flights.executions());
+        assertEquals(0, flights.inFlight());
+    }
+
+    /**
+     * Verifies that a failure is thrown to the waiting callers too.
+     */
+    @Test
+    void testFailureReachesWaitingCallers() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>(Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> leader = executor.submit(() -> flights.execute("tips", () -> {
+                await(release);
+                throw new IllegalArgumentException("Category not found");
+            }));
+            waitUntil(() -> flights.inFlight() == 1);
+            Future<Integer> follower = executor.submit(() -> flights.execute("tips", () -> 1));
+            waitUntil(() -> flights.coalesced() == 1);
+            release.countDown();
+
+            for (Future<Integer> result : List.of(leader, follower)) {
+                Exception e = assertThrows(Exception.class, () -> result.get(10, TimeUnit.SECONDS));
+                assertInstanceOf(IllegalArgumentException.class, e.getCause());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(2, flights.execute("tips", () -> 2));
+    }
+
+    /**
+     * Verifies that a caller stops waiting after the maximum wait and computes the result itself.
+     */
+    @Test
+    void testWaitIsBounded() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>(Duration.ofMillis(20));
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> flights.execute("tips", () -> {
+                await(release);
+                return 1;
+            }));
+            waitUntil(() -> flights.inFlight() == 1);
+
+            assertEquals(2, flights.execute("tips", () -> 2));
+            assertEquals(1, flights.timeouts());
+            assertEquals(2, flights.executions());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Verifies that calls after a computation has finished run a new one,
+     * and that different keys never share.
+     */
+    @Test
+    void testSequentialCallsNotCoalesced() {
+        SingleFlight<String, Integer> flights = new SingleFlight<>(Duration.ofSeconds(1));
+
+        assertEquals(1, flights.execute("tips", () -> 1));
+        assertEquals(2, flights.execute("tips", () -> 2));
+        assertEquals(3, flights.execute("guidelines", () -> 3));
+        assertEquals(0, flights.coalesced());
+        assertEquals(3, flights.executions());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not reached in time");
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.SuggestionDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.DisposalGuidelineRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.RecyclingTipRepository;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SuggestionService.
+ * Verifies word-prefix completion and that writes are reflected incrementally.
+ */
+@ExtendWith(MockitoExtension.class)
+class SuggestionServiceTest {
+
+    @Mock
+    private WasteCategoryRepository categoryRepository;
+
+    @Mock
+    private RecyclingTipRepository tipRepository;
+
+    @Mock
+    private DisposalGuidelineRepository guidelineRepository;
+
+    private SuggestionService service;
+    private WasteCategory testCategory;
+
+    @BeforeEach
+    void initializeService() {
+        service = new SuggestionService(categoryRepository, tipRepository, guidelineRepository);
+        testCategory = new WasteCategory(1L, "Recyclable Materials", "Description");
+    }
+
+    /**
+     * Verifies that any word of a name or title can be completed and categories rank first.
+     */
+    @Test
+    void testSuggestMatchesEveryWord() {
+        when(categoryRepository.findAll()).thenReturn(List.of(testCategory));
+        when(tipRepository.findAll()).thenReturn(List.of(
+                new RecyclingTip(2L, "Paper Recycling", "Content", testCategory)));
+        when(guidelineRepository.findAll()).thenReturn(List.of(
+                new DisposalGuideline(3L, "Battery Disposal", "Instructions", testCategory)));
+        service.rebuild();
+
+        List<SuggestionDTO> suggestions = service.suggest("Rec", 10);
+
+        assertEquals(2, suggestions.size());
+        assertEquals(EntityType.CATEGORY, suggestions.get(0).getType());
+        assertEquals("Paper Recycling", suggestions.get(1).getText());
+        assertEquals(3L, service.suggest("disp", 10).get(0).getId());
+        assertTrue(service.suggest(" ", 10).isEmpty());
+    }
+
+    /**
+     * Verifies that renamed and deleted entities stop being suggested under their old title.
+     */
+    @Test
+    void testChangeEventsUpdateSuggestions() {
+        RecyclingTip tip = new RecyclingTip(4L, "Styrofoam Recycling", "Content", testCategory);
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, tip));
+        assertEquals(1, service.suggest("styro", 10).size());
+
+        tip.setTitle("Polystyrene Recycling");
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.UPDATED, tip));
+        assertTrue(service.suggest("styro", 10).isEmpty());
+        assertEquals("Polystyrene Recycling", service.suggest("poly", 10).get(0).getText());
+
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.DELETED, tip));
+        assertTrue(service.suggest("recycling", 10).isEmpty());
+    }
+
+    /**
+     * Verifies that the key set contains one suffix per word.
+     */
+    @Test
+    void testKeysStartAtWordBoundaries() {
+        assertEquals(List.of("car battery disposal", "battery disposal", "disposal"),
+                SuggestionService.keysFor("Car Battery Disposal "));
+    }
+
+    /**
+     * Verifies that a rebuild does not bring back a title deleted after it
+     * read the row.
+     */
+    @Test
+    void testRebuildKeepsDeletesMadeWhileItRuns() {
+        RecyclingTip tip = new RecyclingTip(5L, "Glass Jars", "Rinse glass jars", testCategory);
+        service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, tip));
+        when(categoryRepository.findAll()).thenReturn(List.of(testCategory));
+        when(tipRepository.findAll()).thenAnswer(invocation -> {
+            service.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.DELETED, tip));
+            return List.of(tip);
+        });
+        when(guidelineRepository.findAll()).thenReturn(List.of());
+
+        service.rebuild();
+
+        assertTrue(service.suggest("glass", 10).isEmpty());
+        assertEquals(1, service.suggest("recyclable", 10).size());
+    }
+}
@@ -0,0 +1,174 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.SyncResponseDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.CatalogChangeEvent;
+import com.enviro.assessment.grad001.amosmaganyane.events.ChangeOperation;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
+import com.enviro.assessment.grad001.amosmaganyane.models.ChangeLogEntry;
+import com.enviro.assessment.grad001.amosmaganyane.models.DisposalGuideline;
+import com.enviro.assessment.grad001.amosmaganyane.models.RecyclingTip;
+import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.ChangeLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SyncService.
+ * Verifies full and delta syncs, sync positions and paging.
+ */
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    @Mock
+    private ChangeLogRepository changeLog;
+
+    private final DataVersionService dataVersions = new DataVersionService();
+    private SyncService service;
+
+    @BeforeEach
+    void initializeService() {
+        CatalogReadModel readModel = new CatalogReadModel(null, null, null);
+        WasteCategory recyclable = new WasteCategory(1L, "Recyclable", "Description");
+        WasteCategory hazardous = new WasteCategory(2L, "Hazardous", "Description");
+        readModel.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, recyclable));
+        readModel.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED, hazardous));
+        readModel.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                new RecyclingTip(5L, "Paper Recycling", "Keep paper dry", recyclable)));
+        readModel.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                new RecyclingTip(7L, "Battery Recycling", "Tape the terminals", hazardous)));
+        readModel.onApplicationEvent(CatalogChangeEvent.of(this, ChangeOperation.CREATED,
+                new DisposalGuideline(9L, "Paint Disposal", "Take to a depot", hazardous)));
+        service = new SyncService(changeLog, readModel, dataVersions, 3);
+    }
+
+    /**
+     * Verifies that without a position the whole catalogue is returned
+     * with the latest version.
+     */
+    @Test
+    void testFullSync() {
+        when(changeLog.findLatestVersion()).thenReturn(12L);
+
+        SyncResponseDTO response = service.changesSince(null);
+
+        assertTrue(response.isFull());
+        assertFalse(response.isHasMore());
+        assertEquals(dataVersions.epoch() + "-12", response.getVersion());
+        assertEquals(2, response.getCategories().size());
+        assertEquals(2, response.getTips().size());
+        assertEquals(1, response.getGuidelines().size());
+        verify(changeLog, never()).findChangesSince(anyLong(), anyInt());
+    }
+
+    /**
+     * Verifies that each changed entity comes back once in its current
+     * state, with its category, and that deleted ones come back as IDs.
+     */
+    @Test
+    void testDeltaSync() {
+        when(changeLog.findLatestVersion()).thenReturn(13L);
+        when(changeLog.findChangesSince(10L, 4)).thenReturn(List.of(
+                entry(11L, EntityType.TIP, 5L, ChangeOperation.CREATED, 1L),
+                entry(12L, EntityType.TIP, 5L, ChangeOperation.UPDATED, 1L),
+                entry(13L, EntityType.TIP, 6L, ChangeOperation.DELETED, 1L)));
+
+        SyncResponseDTO response = service.changesSince(dataVersions.epoch() + "-10");
+
+        assertFalse(response.isFull());
+        assertFalse(response.isHasMore());
+        assertEquals(dataVersions.epoch() + "-13", response.getVersion());
+        assertEquals(List.of(5L), response.getTips().stream().map(RecyclingTipDTO::getId).toList());
+        assertEquals(List.of(6L), response.getDeletedTipIds());
+        assertEquals(1L, response.getCategories().get(0).getId());
+        assertTrue(response.getGuidelines().isEmpty());
+    }
+
+    /**
+     * Verifies that a category update brings its tips and guidelines,
+     * which carry its name.
+     */
+    @Test
+    void testCategoryUpdateIncludesChildren() {
+        when(changeLog.findLatestVersion()).thenReturn(20L);
+        when(changeLog.findChangesSince(19L, 4)).thenReturn(List.of(
+                entry(20L, EntityType.CATEGORY, 2L, ChangeOperation.UPDATED, 2L)));
+
+        SyncResponseDTO response = service.changesSince(dataVersions.epoch() + "-19");
+
+        assertEquals(List.of(7L), response.getTips().stream().map(RecyclingTipDTO::getId).toList());
+        assertEquals(9L, response.getGuidelines().get(0).getId());
+    }
+
+    /**
+     * Verifies that at most the page size of entries is read per call,
+     * and the position is that of the last one read.
+     */
+    @Test
+    void testPaging() {
+        when(changeLog.findLatestVersion()).thenReturn(30L);
+        when(changeLog.findChangesSince(0L, 4)).thenReturn(List.of(
+                entry(1L, EntityType.CATEGORY, 1L, ChangeOperation.CREATED, 1L),
+                entry(2L, EntityType.CATEGORY, 2L, ChangeOperation.CREATED, 2L),
+                entry(3L, EntityType.CATEGORY, 3L, ChangeOperation.CREATED, 3L),
+                entry(4L, EntityType.TIP, 5L, ChangeOperation.CREATED, 1L)));
+
+        SyncResponseDTO response = service.changesSince(dataVersions.epoch() + "-0");
+
+        assertTrue(response.isHasMore());
+        assertEquals(dataVersions.epoch() + "-3", response.getVersion());
+        assertEquals(2, response.getCategories().size());
+        assertEquals(List.of(3L), response.getDeletedCategoryIds());
+        assertTrue(response.getTips().isEmpty());
+    }
+
+    /**
+     * Verifies that a position from another run, or ahead of the log,
+     * gets the whole catalogue, and a malformed one is refused.
+     */
+    @Test
+    void testUnusablePositions() {
+        when(changeLog.findLatestVersion()).thenReturn(5L);
+
+        assertTrue(service.changesSince("oldrun-3").isFull());
+        assertTrue(service.changesSince(dataVersions.epoch() + "-6").isFull());
+        assertThrows(IllegalArgumentException.class, () -> service.changesSince("12"));
+        assertThrows(IllegalArgumentException.class, () -> service.changesSince(dataVersions.epoch() + "-x"));
+        verify(changeLog, never()).findChangesSince(anyLong(), anyInt());
+    }
+
+    /**
+     * Verifies that a position older than the oldest entry kept gets the
+     * whole catalogue, since the changes after it were pruned.
+     */
+    @Test
+    void testPrunedPositionGetsFullSync() {
+        when(changeLog.findLatestVersion()).thenReturn(30L);
+        when(changeLog.findChangesSince(10L, 4)).thenReturn(List.of(
+                entry(25L, EntityType.TIP, 5L, ChangeOperation.UPDATED, 1L)));
+        when(changeLog.findOldestVersion()).thenReturn(25L);
+
+        SyncResponseDTO response = service.changesSince(dataVersions.epoch() + "-10");
+
+        assertTrue(response.isFull());
+        assertEquals(dataVersions.epoch() + "-30", response.getVersion());
+        assertEquals(2, response.getTips().size());
+        assertFalse(service.changesSince(dataVersions.epoch() + "-24").isFull());
+    }
+
+    private static ChangeLogEntry entry(Long version, EntityType type, Long id,
+                                        ChangeOperation operation, Long categoryId) {
+        return new ChangeLogEntry(version, type, id, operation, categoryId, Instant.now());
+    }
+}
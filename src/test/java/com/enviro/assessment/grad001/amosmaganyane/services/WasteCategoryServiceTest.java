@@ -1,12 +1,17 @@
 package com.enviro.assessment.grad001.amosmaganyane.services;
 
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
+import com.enviro.assessment.grad001.amosmaganyane.dto.WasteCategoryDTO;
+import com.enviro.assessment.grad001.amosmaganyane.events.EntityType;
 import com.enviro.assessment.grad001.amosmaganyane.models.WasteCategory;
+import com.enviro.assessment.grad001.amosmaganyane.repositories.FieldProjectionRepository;
 import com.enviro.assessment.grad001.amosmaganyane.repositories.WasteCategoryRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 
 import java.util.List;
@@ -14,6 +19,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -28,12 +35,26 @@ class WasteCategoryServiceTest {
     @Mock
     private WasteCategoryRepository wasteCategoryRepository;
 
+    @Mock
+    private SearchIndexService searchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private LiveIdFilter liveIds;
+
+    @Mock
+    private FieldProjectionRepository projections;
+
     /**
      * Initializes the service with a mocked repository before each test.
      */
     @BeforeEach
     void initializeService(){
-        service = new WasteCategoryServiceImpl(wasteCategoryRepository);
+        service = new WasteCategoryServiceImpl(wasteCategoryRepository,
+                searchIndex, eventPublisher, liveIds, projections);
+        lenient().when(liveIds.mightExist(any(), any())).thenReturn(true);
     }
 
     /**
@@ -114,8 +135,7 @@ class WasteCategoryServiceTest {
     @Test
     void shouldHandleEmptySearchResults() {
         String nonExistentKeyword = "NonExistent";
-        when(wasteCategoryRepository.findByNameContainingIgnoreCase(nonExistentKeyword))
-                .thenReturn(List.of());
+        when(searchIndex.findIds(EntityType.CATEGORY, nonExistentKeyword)).thenReturn(List.of());
 
         List<WasteCategory> results = service.searchCategories(nonExistentKeyword);
 
@@ -189,4 +209,50 @@ class WasteCategoryServiceTest {
         assertEquals(2, result.size());
         verify(wasteCategoryRepository).findTopCategoriesByGuidelineCount(limit);
     }
+
+    /**
+     * Tests fuzzy search with a misspelled keyword.
+     * Verifies that the categories come from the fuzzy index.
+     */
+    @Test
+    void testFuzzySearchCategories() {
+        String keyword = "recyclabel";
+        List<WasteCategory> expected = List.of(
+                new WasteCategory(1L, "Recyclable", "Description"));
+        when(searchIndex.findIdsFuzzy(EntityType.CATEGORY, keyword)).thenReturn(List.of(1L));
+        when(wasteCategoryRepository.findAllById(List.of(1L))).thenReturn(expected);
+
+        List<WasteCategory> results = service.fuzzySearchCategories(keyword);
+
+        assertEquals(expected, results);
+    }
+
+    /**
+     * Verifies that a category known not to exist is reported missing without a query.
+     */
+    @Test
+    void testMissingCategorySkipsRepository() {
+        when(liveIds.mightExist(EntityType.CATEGORY, 99L)).thenReturn(false);
+
+        assertTrue(service.getCategoryById(99L).isEmpty());
+        assertThrows(IllegalStateException.class,
+                () -> service.updateCategory(99L, new WasteCategory(99L, "Metal", "Cans")));
+
+        verify(wasteCategoryRepository, never()).findById(any());
+    }
+
+    /**
+     * Verifies that a search for some fields loads only those fields
+     * for the IDs the index matched, without loading entities.
+     */
+    @Test
+    void testSearchCategoriesWithFields() {
+        FieldSet fields = FieldSet.parse("id,name", WasteCategoryDTO.class);
+        List<WasteCategoryDTO> expected = List.of(new WasteCategoryDTO());
+        when(searchIndex.findIds(EntityType.CATEGORY, "plastic")).thenReturn(List.of(1L));
+        when(projections.findCategories(List.of(1L), fields)).thenReturn(expected);
+
+        assertEquals(expected, service.searchCategories("plastic", false, fields));
+        verify(wasteCategoryRepository, never()).findAllById(any());
+    }
 }
@@ -0,0 +1,145 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import com.enviro.assessment.grad001.amosmaganyane.dto.FieldSet;
+import com.enviro.assessment.grad001.amosmaganyane.dto.RecyclingTipDTO;
+import com.enviro.assessment.grad001.amosmaganyane.dto.WireFormatStatsDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WireFormatCodec.
+ * Verifies that every format round-trips the DTOs and how it compares with JSON.
+ */
+class WireFormatCodecTest {
+
+    private WireFormatCodec codec;
+    private List<RecyclingTipDTO> tips;
+
+    @BeforeEach
+    void initializeCodec() {
+        codec = new WireFormatCodec(new ObjectMapper());
+        tips = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            tips.add(new RecyclingTipDTO(id, "Paper Recycling " + id,
+                    "Separate paper by type and keep it dry", 1L, "Recyclable"));
+        }
+    }
+
+    /**
+     * Verifies that a list decodes to the same DTOs in every format.
+     */
+    @Test
+    void testListRoundTrip() throws IOException {
+        for (WireFormat format : WireFormat.values()) {
+            List<RecyclingTipDTO> decoded =
+                    codec.readList(format, codec.write(format, tips), RecyclingTipDTO.class);
+
+            assertEquals(tips.size(), decoded.size(), format.name());
+            assertEquals("Paper Recycling 7", decoded.get(6).getTitle(), format.name());
+            assertEquals(7L, decoded.get(6).getId(), format.name());
+            assertEquals("Recyclable", decoded.get(19).getCategoryName(), format.name());
+        }
+    }
+
+    /**
+     * Verifies that CBOR and Smile bind properties with the settings of the
+     * application's object mapper, as JSON does.
+     */
+    @Test
+    void testBinaryFormatsShareMapperSettings() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        WireFormatCodec configured = new WireFormatCodec(objectMapper);
+        RecyclingTipDTO tip = new RecyclingTipDTO(1L, "Paper Recycling", "Keep it dry", 1L, null);
+
+        for (WireFormat format : List.of(WireFormat.JSON, WireFormat.CBOR, WireFormat.SMILE)) {
+            Map<?, ?> properties = configured.read(format,
+                    new ByteArrayInputStream(configured.write(format, tip)), Map.class);
+
+            assertEquals(1, properties.get("category_id"), format.name());
+            assertFalse(properties.containsKey("category_name"), format.name());
+        }
+    }
+
+    /**
+     * Verifies that a single DTO round-trips through protobuf.
+     */
+    @Test
+    void testSingleProtobufRoundTrip() throws IOException {
+        byte[] bytes = codec.write(WireFormat.PROTOBUF, tips.get(0));
+
+        RecyclingTipDTO decoded = codec.read(WireFormat.PROTOBUF, new ByteArrayInputStream(bytes),
+                RecyclingTipDTO.class);
+
+        assertEquals(1L, decoded.getId());
+        assertEquals("Separate paper by type and keep it dry", decoded.getContent());
+    }
+
+    /**
+     * Verifies that an empty list is the empty protobuf message.
+     */
+    @Test
+    void testEmptyProtobufList() throws IOException {
+        assertEquals(0, codec.write(WireFormat.PROTOBUF, List.of()).length);
+        assertTrue(codec.readList(WireFormat.PROTOBUF, new byte[0], RecyclingTipDTO.class).isEmpty());
+    }
+
+    /**
+     * Verifies that the schema is generated from the DTO class.
+     */
+    @Test
+    void testProtoSchema() {
+        String schema = codec.protoSchema(RecyclingTipDTO.class);
+
+        assertTrue(schema.contains("message RecyclingTipDTO"));
+        assertTrue(schema.contains("categoryName"));
+        assertTrue(schema.contains("repeated RecyclingTipDTO items"));
+    }
+
+    /**
+     * Verifies that the comparison covers every format and the binary ones are smaller than JSON.
+     */
+    @Test
+    void testCompare() {
+        List<WireFormatStatsDTO> stats = codec.compare(tips, RecyclingTipDTO.class, 5);
+
+        assertEquals(WireFormat.values().length, stats.size());
+        assertEquals("JSON", stats.get(0).getFormat());
+        assertEquals(1.0, stats.get(0).getRelativeSize());
+        for (WireFormatStatsDTO format : stats.subList(1, stats.size())) {
+            assertTrue(format.getBytes() < stats.get(0).getBytes(), format.getFormat());
+            assertTrue(format.getEncodesPerSecond() > 0, format.getFormat());
+        }
+        assertThrows(IllegalArgumentException.class, () -> codec.compare(tips, RecyclingTipDTO.class, 0));
+    }
+
+    /**
+     * Verifies that projecting keeps only the requested properties, in
+     * declaration order, and leaves the body alone when all are requested.
+     */
+    @Test
+    void testProject() throws IOException {
+        FieldSet fields = FieldSet.parse("title,id", RecyclingTipDTO.class);
+
+        List<?> projected = (List<?>) codec.project(tips, fields, WireFormat.JSON);
+        assertEquals(List.of("id", "title"), List.copyOf(((Map<?, ?>) projected.get(0)).keySet()));
+        assertSame(tips, codec.project(tips, FieldSet.all(), WireFormat.JSON));
+
+        byte[] bytes = codec.write(WireFormat.PROTOBUF, codec.project(tips, fields, WireFormat.PROTOBUF));
+        RecyclingTipDTO decoded = codec.readList(WireFormat.PROTOBUF, bytes, RecyclingTipDTO.class).get(0);
+        assertEquals("Paper Recycling 1", decoded.getTitle());
+        assertNull(decoded.getContent());
+    }
+}
@@ -0,0 +1,45 @@
+package com.enviro.assessment.grad001.amosmaganyane.services;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WireFormat.
+ * Verifies how the Accept header selects the format of a response.
+ */
+class WireFormatTest {
+
+    /**
+     * Verifies that JSON is sent unless a binary format is asked for.
+     */
+    @Test
+    void testJsonByDefault() {
+        assertEquals(WireFormat.JSON, WireFormat.negotiate(null));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("*/*"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("application/*"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("text/html"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("application/json, application/cbor"));
+    }
+
+    /**
+     * Verifies that a binary format is picked when named.
+     */
+    @Test
+    void testBinaryFormats() {
+        assertEquals(WireFormat.CBOR, WireFormat.negotiate("application/cbor"));
+        assertEquals(WireFormat.SMILE, WireFormat.negotiate("Application/X-Jackson-Smile"));
+        assertEquals(WireFormat.PROTOBUF, WireFormat.negotiate("application/x-protobuf, */*;q=0.1"));
+    }
+
+    /**
+     * Verifies that quality values rank the formats and q=0 refuses one.
+     */
+    @Test
+    void testQualityValues() {
+        assertEquals(WireFormat.CBOR,
+                WireFormat.negotiate("application/json;q=0.5, application/cbor;q=0.9"));
+        assertEquals(WireFormat.CBOR, WireFormat.negotiate("application/json;q=0, */*"));
+        assertEquals(WireFormat.JSON, WireFormat.negotiate("application/cbor;q=0, application/*;q=0.2"));
+    }
+}